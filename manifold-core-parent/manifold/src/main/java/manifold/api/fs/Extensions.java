@@ -23,6 +23,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.jar.Attributes;
 import java.util.jar.Manifest;
+import manifold.api.fs.jar.JarFileDirectoryImpl;
 import manifold.api.host.IModule;
 import manifold.rt.api.util.ManStringUtil;
 
@@ -42,12 +43,42 @@ public final class Extensions
 
   public static boolean containsManifest( IDirectory dir )
   {
+    if( dir instanceof JarFileDirectoryImpl )
+    {
+      // avoid enumerating the jar's entries
+      try
+      {
+        return ((JarFileDirectoryImpl)dir).getManifest() != null;
+      }
+      catch( IOException e )
+      {
+        return false;
+      }
+    }
     IFile manifestFile = dir.file( "META-INF/MANIFEST.MF" );
     return manifestFile != null && manifestFile.exists();
   }
 
   public static void getExtensions( Collection<String> result, IDirectory dir, String headerName )
   {
+    if( dir instanceof JarFileDirectoryImpl )
+    {
+      // avoid enumerating the jar's entries
+      try
+      {
+        Manifest manifest = ((JarFileDirectoryImpl)dir).getManifest();
+        if( manifest != null )
+        {
+          scanManifest( result, manifest, headerName );
+        }
+      }
+      catch( Exception e )
+      {
+        reportUnreadableManifest( dir );
+      }
+      return;
+    }
+
     IFile manifestFile = dir.file( "META-INF/MANIFEST.MF" );
     if( manifestFile == null || !manifestFile.exists() )
     {
@@ -62,10 +93,7 @@ public final class Extensions
     }
     catch( Exception e )
     {
-      // FIXME: For some reason, WebSphere changes JARs in WEB-INF/lib, breaking signatures. So ignore errors.
-      ResourcePath path = dir.getPath();
-      String str = path != null ? path.getFileSystemPathString() : dir.toString();
-      System.err.println( "Cannot read manifest from jar " + str + ", ignoring" );
+      reportUnreadableManifest( dir );
     }
     finally
     {
@@ -83,6 +111,14 @@ public final class Extensions
     }
   }
 
+  private static void reportUnreadableManifest( IDirectory dir )
+  {
+    // FIXME: For some reason, WebSphere changes JARs in WEB-INF/lib, breaking signatures. So ignore errors.
+    ResourcePath path = dir.getPath();
+    String str = path != null ? path.getFileSystemPathString() : dir.toString();
+    System.err.println( "Cannot read manifest from jar " + str + ", ignoring" );
+  }
+
   private static void scanManifest( Collection<String> result, Manifest manifest, String headerName )
   {
     Attributes mainAttributes = manifest.getMainAttributes();
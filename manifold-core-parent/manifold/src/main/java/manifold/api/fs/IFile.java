@@ -20,7 +20,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.MalformedURLException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.nio.file.Path;
+import manifold.rt.api.util.StreamUtil;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 public interface IFile extends IResource
 {
@@ -40,6 +45,24 @@ public interface IFile extends IResource
 
   InputStream openInputStream() throws IOException;
 
+  /**
+   * The content of the file as bytes, read in full. Depending on the file system the buffer may be memory-mapped or
+   * shared with a cache, thus it is read-only. Each call returns a separate buffer positioned at zero.
+   */
+  default ByteBuffer getByteContent() throws IOException
+  {
+    return ByteBuffer.wrap( StreamUtil.getContent( openInputStream() ) ).asReadOnlyBuffer();
+  }
+
+  /**
+   * The content of the file as UTF-8 decoded chars. Parsers consuming the buffer directly avoid copying the content to
+   * a String. Malformed input is replaced, as with an {@link java.io.InputStreamReader}.
+   */
+  default CharBuffer getCharContent() throws IOException
+  {
+    return UTF_8.decode( getByteContent() );
+  }
+
   OutputStream openOutputStream() throws IOException;
 
   OutputStream openOutputStreamForAppend() throws IOException;
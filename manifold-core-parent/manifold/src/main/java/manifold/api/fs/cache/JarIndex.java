@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2023 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.api.fs.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import manifold.util.concurrent.LocklessLazyVar;
+
+/**
+ * A persistent index of which jars on the path contain source or resource files, enabled with the
+ * {@code manifold.path.index} system property naming the index file:
+ * <pre>
+ *   -Dmanifold.path.index=/var/cache/my-app/manifold-path.idx
+ * </pre>
+ * {@link PathCache} consults the index before reading a jar's manifest, so jars without sources are not opened at all
+ * in subsequent runs. An entry is keyed by the jar's path, timestamp, and size, a changed jar is checked again.
+ */
+public class JarIndex
+{
+  public static final String PROPERTY = "manifold.path.index";
+  private static final int VERSION = 1;
+
+  private static final LocklessLazyVar<JarIndex> INSTANCE = LocklessLazyVar.make( () -> {
+    String file = System.getProperty( PROPERTY );
+    return file == null || file.isEmpty() ? null : new JarIndex( new File( file ) );
+  } );
+
+  private final File _file;
+  private final Map<String, Entry> _entries;
+  private volatile boolean _dirty;
+
+  /**
+   * @return The jar index, or null if the index is not enabled
+   */
+  public static JarIndex instance()
+  {
+    return INSTANCE.get();
+  }
+
+  JarIndex( File file )
+  {
+    _file = file;
+    _entries = new ConcurrentHashMap<>();
+    load();
+  }
+
+  /**
+   * @return Whether {@code jar} has source files as recorded in the index, or null if the jar is not indexed or has
+   * changed since it was indexed
+   */
+  public Boolean hasSourceFiles( File jar )
+  {
+    Entry entry = _entries.get( jar.getAbsolutePath() );
+    if( entry == null || entry._timestamp != jar.lastModified() || entry._size != jar.length() )
+    {
+      return null;
+    }
+    return entry._hasSourceFiles;
+  }
+
+  public void put( File jar, boolean hasSourceFiles )
+  {
+    _entries.put( jar.getAbsolutePath(), new Entry( jar.lastModified(), jar.length(), hasSourceFiles ) );
+    _dirty = true;
+  }
+
+  /**
+   * Writes the index file if entries were added since it was loaded.
+   */
+  public void save()
+  {
+    if( !_dirty )
+    {
+      return;
+    }
+    _dirty = false;
+
+    try
+    {
+      File dir = _file.getAbsoluteFile().getParentFile();
+      //noinspection ResultOfMethodCallIgnored
+      dir.mkdirs();
+      // write to a temp file and move it in place, so a concurrent or aborted run never reads a partial index
+      File temp = File.createTempFile( _file.getName(), ".tmp", dir );
+      try
+      {
+        try( DataOutputStream out = new DataOutputStream( new BufferedOutputStream( new FileOutputStream( temp ) ) ) )
+        {
+          out.writeInt( VERSION );
+          out.writeInt( _entries.size() );
+          for( Map.Entry<String, Entry> e: _entries.entrySet() )
+          {
+            Entry entry = e.getValue();
+            out.writeUTF( e.getKey() );
+            out.writeLong( entry._timestamp );
+            out.writeLong( entry._size );
+            out.writeBoolean( entry._hasSourceFiles );
+          }
+        }
+        Files.move( temp.toPath(), _file.toPath(), StandardCopyOption.REPLACE_EXISTING );
+      }
+      finally
+      {
+        // no-op after a successful move
+        //noinspection ResultOfMethodCallIgnored
+        temp.delete();
+      }
+    }
+    catch( IOException ignore )
+    {
+      // the index is an optimization, the jars are checked again next time
+    }
+  }
+
+  private void load()
+  {
+    if( !_file.isFile() )
+    {
+      return;
+    }
+    try( DataInputStream in = new DataInputStream( new BufferedInputStream( new FileInputStream( _file ) ) ) )
+    {
+      if( in.readInt() != VERSION )
+      {
+        return;
+      }
+      for( int count = in.readInt(); count > 0; count-- )
+      {
+        String path = in.readUTF();
+        _entries.put( path, new Entry( in.readLong(), in.readLong(), in.readBoolean() ) );
+      }
+    }
+    catch( IOException e )
+    {
+      // treat as an empty index
+      _entries.clear();
+    }
+  }
+
+  private static class Entry
+  {
+    private final long _timestamp;
+    private final long _size;
+    private final boolean _hasSourceFiles;
+
+    private Entry( long timestamp, long size, boolean hasSourceFiles )
+    {
+      _timestamp = timestamp;
+      _size = size;
+      _hasSourceFiles = hasSourceFiles;
+    }
+  }
+}
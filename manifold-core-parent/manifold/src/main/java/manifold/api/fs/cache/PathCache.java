@@ -16,22 +16,32 @@
 
 package manifold.api.fs.cache;
 
+import java.io.File;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import manifold.api.fs.IDirectory;
 import manifold.api.fs.IFile;
 import manifold.api.fs.IFileUtil;
+import manifold.api.fs.jar.JarFileDirectoryImpl;
 import manifold.api.host.AbstractTypeSystemListener;
 import manifold.api.host.IModule;
 import manifold.api.host.RefreshRequest;
 import manifold.rt.api.util.ManIdentifierUtil;
 import manifold.rt.api.util.ManClassUtil;
+import manifold.rt.api.util.Pair;
+import manifold.api.util.PerfReport;
 import manifold.api.util.cache.FqnCache;
 import manifold.util.concurrent.ConcurrentHashSet;
 
@@ -46,6 +56,7 @@ public class PathCache
   private final Runnable _clearHandler;
   private Map<IFile, Set<String>> _reverseMap;
   private Map<String, FqnCache<IFile>> _filesByExtension;
+  private Map<String, Set<IFile>> _filesByFqn;
 
   public PathCache( IModule module, Supplier<Collection<IDirectory>> pathSupplier, Runnable clearHandler )
   {
@@ -57,35 +68,78 @@ public class PathCache
     _module.getHost().addTypeSystemListenerAsWeakRef( module, _clearer = new CacheClearer() );
   }
 
+  /**
+   * Scans the path roots in parallel, each root into its own list of files, then indexes the files in path order so
+   * the first file found for a name wins, as with a sequential scan. Jars that do not declare sources are not opened,
+   * see {@link JarIndex}.
+   */
   private void init()
   {
+    Stream<IDirectory> roots = new ArrayList<>( _pathSupplier.get() ).stream();
+    Lock fsLock = _module.getHost().getFileSystem().getLock();
+    if( fsLock instanceof ReentrantLock && !((ReentrantLock)fsLock).isHeldByCurrentThread() )
+    {
+      // the directories list their files under the file system lock, scanning in parallel while holding it would
+      // deadlock. Scan sequentially if it is not known whether the lock is held.
+      roots = roots.parallel();
+    }
+    List<List<Pair<String, IFile>>> filesByRoot = roots
+      .map( sourceEntry -> {
+        List<Pair<String, IFile>> files = new ArrayList<>();
+        if( hasSourceFiles( sourceEntry ) )
+        {
+          addTypesForFiles( "", sourceEntry, files );
+        }
+        return files;
+      } )
+      .collect( Collectors.toList() );
+
+    JarIndex jarIndex = JarIndex.instance();
+    if( jarIndex != null )
+    {
+      jarIndex.save();
+    }
+
     Map<String, FqnCache<IFile>> filesByExtension = new ConcurrentHashMap<>();
-    for( IDirectory sourceEntry : _pathSupplier.get() )
+    Map<String, Set<IFile>> filesByFqn = new ConcurrentHashMap<>();
+    for( List<Pair<String, IFile>> files : filesByRoot )
     {
-      if( IFileUtil.hasSourceFiles( sourceEntry ) )
+      for( Pair<String, IFile> pair : files )
       {
-        addTypesForFiles( "", sourceEntry, filesByExtension );
+        String fqn = pair.getFirst();
+        IFile file = pair.getSecond();
+        addToExtension( fqn, file, filesByExtension, filesByFqn );
+        addToReverseMap( file, fqn );
       }
     }
     _filesByExtension = filesByExtension;
+    _filesByFqn = filesByFqn;
   }
 
-  @SuppressWarnings("unused")
-  public Set<IFile> findFiles( String fqn )
+  private boolean hasSourceFiles( IDirectory root )
   {
-    Set<IFile> result = Collections.emptySet();
-    for( String ext : _filesByExtension.keySet() )
+    JarIndex jarIndex = JarIndex.instance();
+    if( jarIndex == null || !(root instanceof JarFileDirectoryImpl) )
     {
-      IFile file = _filesByExtension.get( ext ).get( fqn );
-      if( file != null )
-      {
-        if( result.isEmpty() )
-        {
-          result = new HashSet<>( 2 );
-        }
-        result.add( file );
-      }
+      return IFileUtil.hasSourceFiles( root );
+    }
+
+    File jar = root.toJavaFile();
+    Boolean hasSourceFiles = jarIndex.hasSourceFiles( jar );
+    if( hasSourceFiles == null )
+    {
+      hasSourceFiles = IFileUtil.hasSourceFiles( root );
+      jarIndex.put( jar, hasSourceFiles );
     }
+    return hasSourceFiles;
+  }
+
+  @SuppressWarnings("unused")
+  public Set<IFile> findFiles( String fqn )
+  {
+    Set<IFile> files = _filesByFqn.get( fqn );
+    Set<IFile> result = files == null || files.isEmpty() ? Collections.emptySet() : new HashSet<>( files );
+    PerfReport.lookup( "pathCache", !result.isEmpty() );
     return result;
   }
 
@@ -106,25 +160,26 @@ public class PathCache
 
   public Set<String> getFqnForFile( IFile file )
   {
-    return _reverseMap.get( file );
+    Set<String> fqns = _reverseMap.get( file );
+    PerfReport.lookup( "pathCache", fqns != null );
+    return fqns;
   }
 
-  private void addTypesForFiles( String pkg, IDirectory dir, Map<String, FqnCache<IFile>> filesByExtension )
+  private void addTypesForFiles( String pkg, IDirectory dir, List<Pair<String, IFile>> files )
   {
     if( !_module.getHost().isPathIgnored( pkg ) )
     {
       for( IFile file : dir.listFiles() )
       {
         String fqn = qualifyName( pkg, file.getName() );
-        addToExtension( fqn, file, filesByExtension );
-        addToReverseMap( file, fqn );
+        files.add( new Pair<>( fqn, file ) );
       }
       for( IDirectory subdir : dir.listDirs() )
       {
         if( isValidPackage( subdir ) )
         {
           String fqn = qualifyName( pkg, subdir.getName() );
-          addTypesForFiles( fqn, subdir, filesByExtension );
+          addTypesForFiles( fqn, subdir, files );
         }
       }
     }
@@ -137,7 +192,8 @@ public class PathCache
     return ManClassUtil.isJavaIdentifier( subdir.getName() );
   }
 
-  private void addToExtension( String fqn, IFile file, Map<String, FqnCache<IFile>> filesByExtension )
+  private void addToExtension( String fqn, IFile file, Map<String, FqnCache<IFile>> filesByExtension,
+                               Map<String, Set<IFile>> filesByFqn )
   {
     String ext = file.getExtension().toLowerCase();
     FqnCache<IFile> cache = filesByExtension.get( ext );
@@ -149,16 +205,24 @@ public class PathCache
     {
       // add only if absent; respect class/sourcepath order
       cache.add( fqn, file );
+      filesByFqn.computeIfAbsent( fqn, __ -> new ConcurrentHashSet<>() ).add( file );
     }
   }
 
-  private void removeFromExtension( String fqn, IFile file, Map<String, FqnCache<IFile>> filesByExtension )
+  private void removeFromExtension( String fqn, IFile file, Map<String, FqnCache<IFile>> filesByExtension,
+                                    Map<String, Set<IFile>> filesByFqn )
   {
     String ext = file.getExtension().toLowerCase();
     FqnCache<IFile> cache = filesByExtension.get( ext );
     if( cache != null )
     {
+      IFile removed = cache.get( fqn );
       cache.remove( fqn );
+      Set<IFile> files = filesByFqn.get( fqn );
+      if( files != null && removed != null )
+      {
+        files.remove( removed );
+      }
     }
   }
 
@@ -200,6 +264,7 @@ public class PathCache
   public void clear()
   {
     _filesByExtension.clear();
+    _filesByFqn.clear();
     _reverseMap = new ConcurrentHashMap<>();
   }
 
@@ -235,7 +300,7 @@ public class PathCache
             fqn ->
             {
               addToReverseMap( request.file, fqn );
-              addToExtension( fqn, request.file, _filesByExtension );
+              addToExtension( fqn, request.file, _filesByExtension, _filesByFqn );
             } );
           break;
         }
@@ -246,7 +311,7 @@ public class PathCache
             fqn ->
             {
               removeFromReverseMap( request.file, fqn );
-              removeFromExtension( fqn, request.file, _filesByExtension );
+              removeFromExtension( fqn, request.file, _filesByExtension, _filesByFqn );
             } );
           break;
         }
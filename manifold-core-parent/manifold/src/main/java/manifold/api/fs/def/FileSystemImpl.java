@@ -23,9 +23,9 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantLock;
 import manifold.api.fs.IDirectory;
 import manifold.api.fs.IFile;
@@ -40,7 +40,7 @@ import manifold.rt.api.util.ManStringUtil;
 public class FileSystemImpl extends BaseService implements IFileSystem
 {
   private final IManifoldHost _host;
-  private Map<File, IDirectory> _cachedDirInfo;
+  private final Map<File, IDirectory> _cachedDirInfo;
   private CachingMode _cachingMode;
 
   private FileSystemImpl.IDirectoryResourceExtractor _iDirectoryResourceExtractor;
@@ -51,7 +51,7 @@ public class FileSystemImpl extends BaseService implements IFileSystem
   public FileSystemImpl( IManifoldHost host, CachingMode cachingMode )
   {
     _host = host;
-    _cachedDirInfo = new HashMap<>();
+    _cachedDirInfo = new ConcurrentHashMap<>();
     _cachingMode = cachingMode;
     _iDirectoryResourceExtractor = new IDirectoryResourceExtractor();
     _iFileResourceExtractor = new IFileResourceExtractor();
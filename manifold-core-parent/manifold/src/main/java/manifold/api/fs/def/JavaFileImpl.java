@@ -22,12 +22,17 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import manifold.api.fs.IFile;
 import manifold.api.fs.IFileSystem;
 import manifold.api.fs.IFileUtil;
 
 public class JavaFileImpl extends JavaResourceImpl implements IFile
 {
+  private static final int MAP_THRESHOLD = 64 * 1024;
+
   public JavaFileImpl( IFileSystem fs, File file )
   {
     super( fs, file );
@@ -39,6 +44,34 @@ public class JavaFileImpl extends JavaResourceImpl implements IFile
     return new FileInputStream( _file );
   }
 
+  /**
+   * Files of {@link #MAP_THRESHOLD} bytes or more are memory-mapped, smaller files are cheaper to read than to map.
+   * Files are not mapped on Windows, where a mapped file can't be changed or deleted until the mapping is collected.
+   */
+  @Override
+  public ByteBuffer getByteContent() throws IOException
+  {
+    try( FileChannel channel = FileChannel.open( _file.toPath(), StandardOpenOption.READ ) )
+    {
+      long size = channel.size();
+      if( size >= MAP_THRESHOLD && File.separatorChar == '/' )
+      {
+        return channel.map( FileChannel.MapMode.READ_ONLY, 0, size );
+      }
+
+      ByteBuffer buffer = ByteBuffer.allocate( (int)size );
+      while( buffer.hasRemaining() )
+      {
+        if( channel.read( buffer ) < 0 )
+        {
+          break;
+        }
+      }
+      buffer.flip();
+      return buffer.asReadOnlyBuffer();
+    }
+  }
+
   @Override
   public OutputStream openOutputStream() throws IOException
   {
@@ -16,14 +16,20 @@
 
 package manifold.api.fs.jar;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.lang.ref.SoftReference;
+import java.nio.ByteBuffer;
 import manifold.api.fs.IFile;
 import manifold.api.fs.IFileSystem;
+import manifold.rt.api.util.StreamUtil;
 
 public class JarEntryFileImpl extends JarEntryResourceImpl implements IFile
 {
+  /** The inflated content, kept as long as memory permits since jar entries don't change */
+  private volatile SoftReference<byte[]> _content;
 
   public JarEntryFileImpl( IFileSystem fs, String name, IJarFileDirectory parent, JarFileDirectoryImpl jarFile )
   {
@@ -37,7 +43,33 @@ public class JarEntryFileImpl extends JarEntryResourceImpl implements IFile
     {
       throw new IOException();
     }
-    return _jarFile.getInputStream( _entry );
+    byte[] content = getCachedContent();
+    return content != null ? new ByteArrayInputStream( content ) : _jarFile.getInputStream( _entry );
+  }
+
+  /**
+   * The entry is inflated once and cached, later calls share the cached bytes.
+   */
+  @Override
+  public ByteBuffer getByteContent() throws IOException
+  {
+    if( _entry == null )
+    {
+      throw new IOException();
+    }
+    byte[] content = getCachedContent();
+    if( content == null )
+    {
+      content = StreamUtil.getContent( _jarFile.getInputStream( _entry ) );
+      _content = new SoftReference<>( content );
+    }
+    return ByteBuffer.wrap( content ).asReadOnlyBuffer();
+  }
+
+  private byte[] getCachedContent()
+  {
+    SoftReference<byte[]> ref = _content;
+    return ref == null ? null : ref.get();
   }
 
   @Override
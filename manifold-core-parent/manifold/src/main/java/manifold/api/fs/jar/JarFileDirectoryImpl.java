@@ -27,6 +27,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
+import java.util.jar.Manifest;
 import manifold.api.fs.IDirectory;
 import manifold.api.fs.IDirectoryUtil;
 import manifold.api.fs.IFile;
@@ -46,6 +47,7 @@ public class JarFileDirectoryImpl implements IJarFileDirectory
   private IDirectory _parent;
   private URI _uri;
   private ResourcePath _path;
+  private volatile boolean _entriesLoaded;
 
   public JarFileDirectoryImpl( IFileSystem fileSystem, File file )
   {
@@ -54,24 +56,61 @@ public class JarFileDirectoryImpl implements IJarFileDirectory
     _childFiles = new ArrayList<>();
     _childDirs = new ArrayList<>();
     _file = file;
+  }
 
-    if( file.exists() )
+  /**
+   * The jar's entries are enumerated on first access, not on construction. Most jars on a path never have their
+   * entries accessed, only their manifest, see {@link #getManifest()}.
+   */
+  private void ensureEntriesLoaded()
+  {
+    if( !_entriesLoaded )
     {
-      try
+      synchronized( this )
       {
-        _jarFile = new JarFile( file );
-        Enumeration<JarEntry> entries = _jarFile.entries();
-        while( entries.hasMoreElements() )
+        if( !_entriesLoaded )
         {
-          JarEntry e = entries.nextElement();
-          processJarEntry( e );
+          JarFile jarFile = openJarFile();
+          if( jarFile != null )
+          {
+            Enumeration<JarEntry> entries = jarFile.entries();
+            while( entries.hasMoreElements() )
+            {
+              JarEntry e = entries.nextElement();
+              processJarEntry( e );
+            }
+          }
+          _entriesLoaded = true;
         }
       }
+    }
+  }
+
+  private synchronized JarFile openJarFile()
+  {
+    if( _jarFile == null && _file.exists() )
+    {
+      try
+      {
+        _jarFile = new JarFile( _file );
+      }
       catch( IOException e )
       {
         throw new RuntimeException( e );
       }
     }
+    return _jarFile;
+  }
+
+  /**
+   * Reads the manifest without enumerating the jar's entries.
+   *
+   * @return The jar's manifest or null if the jar has no manifest or does not exist
+   */
+  public Manifest getManifest() throws IOException
+  {
+    JarFile jarFile = openJarFile();
+    return jarFile == null ? null : jarFile.getManifest();
   }
 
   @Override
@@ -92,14 +131,14 @@ public class JarFileDirectoryImpl implements IJarFileDirectory
       String name = pathComponents.get( 0 );
       if( e.isDirectory() )
       {
-        JarEntryDirectoryImpl resource = getOrCreateDirectory( name );
+        JarEntryDirectoryImpl resource = _getOrCreateDirectory( name );
         resource.setEntry( e );
       }
       else
       {
         try
         {
-          JarEntryFileImpl resource = getOrCreateFile( name );
+          JarEntryFileImpl resource = _getOrCreateFile( name );
           resource.setEntry( e );
         }
         catch( UnsupportedOperationException uoe )
@@ -113,7 +152,7 @@ public class JarFileDirectoryImpl implements IJarFileDirectory
     }
     else
     {
-      JarEntryDirectoryImpl parentDirectory = getOrCreateDirectory( pathComponents.get( 0 ) );
+      JarEntryDirectoryImpl parentDirectory = _getOrCreateDirectory( pathComponents.get( 0 ) );
       for( int i = 1; i < pathComponents.size() - 1; i++ )
       {
         parentDirectory = parentDirectory.getOrCreateDirectory( pathComponents.get( i ) );
@@ -141,6 +180,12 @@ public class JarFileDirectoryImpl implements IJarFileDirectory
 
   @Override
   public JarEntryDirectoryImpl getOrCreateDirectory( String relativeName )
+  {
+    ensureEntriesLoaded();
+    return _getOrCreateDirectory( relativeName );
+  }
+
+  private JarEntryDirectoryImpl _getOrCreateDirectory( String relativeName )
   {
     IResource resource = _resources.get( relativeName );
     if( resource instanceof IFile )
@@ -159,6 +204,12 @@ public class JarFileDirectoryImpl implements IJarFileDirectory
 
   @Override
   public JarEntryFileImpl getOrCreateFile( String relativeName )
+  {
+    ensureEntriesLoaded();
+    return _getOrCreateFile( relativeName );
+  }
+
+  private JarEntryFileImpl _getOrCreateFile( String relativeName )
   {
     IResource resource = _resources.get( relativeName );
     if( resource instanceof IDirectory )
@@ -200,6 +251,7 @@ public class JarFileDirectoryImpl implements IJarFileDirectory
   @Override
   public List<? extends IDirectory> listDirs()
   {
+    ensureEntriesLoaded();
     List<IDirectory> results = new ArrayList<>();
     for( IDirectory child : _childDirs )
     {
@@ -214,6 +266,7 @@ public class JarFileDirectoryImpl implements IJarFileDirectory
   @Override
   public List<? extends IFile> listFiles()
   {
+    ensureEntriesLoaded();
     List<IFile> results = new ArrayList<>();
     for( IFile child : _childFiles )
     {
@@ -299,7 +352,7 @@ public class JarFileDirectoryImpl implements IJarFileDirectory
 
   public JarFile getJarFile()
   {
-    return _jarFile;
+    return openJarFile();
   }
 
   @Override
@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2023 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.api.type;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.tools.JavaFileManager;
+import manifold.api.fs.IFile;
+import manifold.api.util.fingerprint.Fingerprint;
+import manifold.internal.javac.JavacPlugin;
+import manifold.util.ReflectUtil;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A persistent cache of the sources {@link ResourceFileTypeManifold}s generate, enabled with the {@code source-cache}
+ * plugin argument. Sources are stored in a {@code manifold-cache} directory in the build directory, see {@link #cacheDir(File)}, and are
+ * served in subsequent builds, as long as the type's cache key still matches. The key is a {@link Fingerprint} of:
+ * <ul>
+ * <li>the type manifold's class and the jars containing it, to account for manifold upgrades</li>
+ * <li>the compiler options that can influence generated code, such as source level and plugin arguments</li>
+ * <li>the type's name, its module location, and whether stubs are generated</li>
+ * <li>the paths and contents of the files the type depends on, see {@link ResourceFileTypeManifold#getCacheDependencies(String)}</li>
+ * </ul>
+ * There is one cache file per type and kind, a stale file is overwritten when its type is regenerated.
+ */
+class GeneratedSourceCache
+{
+  private static final String CACHE_DIR = "manifold-cache";
+  private static final String HEADER = "// manifold-cache ";
+  private static final Set<String> OPTIONS_WITH_VALUE = new HashSet<>( Arrays.asList(
+    "-source", "--source", "-target", "--target", "--release", "-encoding" ) );
+
+  private static volatile GeneratedSourceCache INSTANCE;
+
+  private final WeakReference<JavacPlugin> _javacPlugin;
+  private final File _dir;
+  private final String _options;
+  private final Map<IFile, Long> _fileFingerprints;
+  private final Map<Class<?>, Long> _manifoldFingerprints;
+
+  /**
+   * @return The cache for the current compilation, or null if the cache is not enabled.
+   */
+  static GeneratedSourceCache instance()
+  {
+    JavacPlugin javacPlugin = JavacPlugin.instance();
+    if( javacPlugin == null || !javacPlugin.isSourceCache() )
+    {
+      return null;
+    }
+
+    // a build daemon may run several compilations in the same VM, each has its own output directory and options
+    GeneratedSourceCache cache = INSTANCE;
+    if( cache == null || cache._javacPlugin.get() != javacPlugin )
+    {
+      String classOutput = javacPlugin.getClassOutputPath();
+      File outputDir = classOutput == null || classOutput.isEmpty() ? null : new File( classOutput );
+      if( outputDir == null || outputDir.getParentFile() == null )
+      {
+        // no physical output directory e.g., compiling in memory
+        return null;
+      }
+      INSTANCE = cache = new GeneratedSourceCache( javacPlugin, cacheDir( outputDir ), compilerOptions( javacPlugin ) );
+    }
+    return cache;
+  }
+
+  /**
+   * The cache directory must be outside the class output directory and the directories derived from it, which
+   * {@link JavacPlugin} adds to the output path. For a Gradle output directory such as {@code build/classes/java/main}
+   * the cache is {@code build/manifold-cache/classes/java/main}, for Maven's {@code target/classes} it is
+   * {@code target/manifold-cache/classes}.
+   */
+  static File cacheDir( File outputDir )
+  {
+    File dir = outputDir.getAbsoluteFile();
+    File classesDir = dir;
+    // look for the classes directory among the immediate parents
+    for( int i = 0; i < 3 && classesDir.getParentFile() != null; i++, classesDir = classesDir.getParentFile() )
+    {
+      if( classesDir.getName().equals( "classes" ) )
+      {
+        File buildDir = classesDir.getParentFile();
+        return new File( new File( buildDir, CACHE_DIR ), buildDir.toPath().relativize( dir.toPath() ).toString() );
+      }
+    }
+    return new File( new File( dir.getParentFile(), CACHE_DIR ), dir.getName() );
+  }
+
+  GeneratedSourceCache( JavacPlugin javacPlugin, File dir, String options )
+  {
+    _javacPlugin = new WeakReference<>( javacPlugin );
+    _dir = dir;
+    _options = options;
+    _fileFingerprints = new ConcurrentHashMap<>();
+    _manifoldFingerprints = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * @return The cache key for the source of {@code fqn}, or null if the key can't be made e.g., a dependency is not
+   * readable.
+   */
+  String makeKey( ITypeManifold tm, JavaFileManager.Location location, String fqn, boolean genStubs,
+                  Collection<IFile> dependencies )
+  {
+    Fingerprint fp = new Fingerprint( tm.getClass().getName() );
+    fp.extend( _manifoldFingerprints.computeIfAbsent( tm.getClass(), GeneratedSourceCache::fingerprintCodeSources ) );
+    fp.extend( _options );
+    fp.extend( location == null ? "" : location.getName() );
+    fp.extend( fqn );
+    fp.extend( genStubs ? 1 : 0 );
+
+    List<IFile> files = new ArrayList<>( dependencies );
+    files.sort( Comparator.comparing( f -> f.getPath().getFileSystemPathString() ) );
+    for( IFile file: files )
+    {
+      Long fileFp = _fileFingerprints.computeIfAbsent( file, GeneratedSourceCache::fingerprintFile );
+      if( fileFp == 0 )
+      {
+        return null;
+      }
+      fp.extend( file.getPath().getFileSystemPathString() );
+      fp.extend( fileFp );
+    }
+    return fp.toHexString();
+  }
+
+  /**
+   * @return The cached source of {@code fqn} if its key matches {@code key}, otherwise null
+   */
+  String get( String fqn, boolean genStubs, String key )
+  {
+    File file = getFile( fqn, genStubs );
+    if( !file.isFile() )
+    {
+      return null;
+    }
+    try
+    {
+      String content = new String( Files.readAllBytes( file.toPath() ), UTF_8 );
+      String header = HEADER + key + '\n';
+      return content.startsWith( header ) ? content.substring( header.length() ) : null;
+    }
+    catch( IOException e )
+    {
+      // treat as a cache miss
+      return null;
+    }
+  }
+
+  void put( String fqn, boolean genStubs, String key, String source )
+  {
+    File file = getFile( fqn, genStubs );
+    try
+    {
+      //noinspection ResultOfMethodCallIgnored
+      _dir.mkdirs();
+      // write to a temp file and move it in place, so a concurrent or aborted build never reads a partial source
+      File temp = File.createTempFile( fqn, ".tmp", _dir );
+      Files.write( temp.toPath(), (HEADER + key + '\n' + source).getBytes( UTF_8 ) );
+      Files.move( temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING );
+    }
+    catch( IOException ignore )
+    {
+      // the cache is an optimization, the source is regenerated next time
+    }
+  }
+
+  private File getFile( String fqn, boolean genStubs )
+  {
+    return new File( _dir, fqn + (genStubs ? ".stub.java" : ".java") );
+  }
+
+  private static long fingerprintFile( IFile file )
+  {
+    try( InputStream stream = file.openInputStream() )
+    {
+      return new Fingerprint( stream ).getRawFingerprint();
+    }
+    catch( IOException e )
+    {
+      return 0;
+    }
+  }
+
+  /**
+   * Fingerprints the locations, sizes, and timestamps of the jars or directories containing the type manifold and
+   * manifold core, which changes when either is upgraded or rebuilt.
+   */
+  private static long fingerprintCodeSources( Class<?> tmClass )
+  {
+    Fingerprint fp = new Fingerprint();
+    for( Class<?> cls: new Class<?>[]{tmClass, ResourceFileTypeManifold.class} )
+    {
+      CodeSource codeSource = cls.getProtectionDomain().getCodeSource();
+      URL location = codeSource == null ? null : codeSource.getLocation();
+      if( location != null )
+      {
+        fp.extend( location.toString() );
+        if( "file".equals( location.getProtocol() ) )
+        {
+          File file = new File( location.getPath() );
+          fp.extend( file.length() );
+          fp.extend( file.lastModified() );
+        }
+      }
+    }
+    return fp.getRawFingerprint();
+  }
+
+  private static String compilerOptions( JavacPlugin javacPlugin )
+  {
+    StringBuilder sb = new StringBuilder( System.getProperty( "java.version" ) );
+    try
+    {
+      String[] args = (String[])ReflectUtil.field( javacPlugin.getJavacTask(), "args" ).get();
+      for( int i = 0; i < args.length; i++ )
+      {
+        String arg = args[i];
+        if( arg == null )
+        {
+          continue;
+        }
+        if( OPTIONS_WITH_VALUE.contains( arg ) && i + 1 < args.length )
+        {
+          sb.append( ' ' ).append( arg ).append( ' ' ).append( args[++i] );
+        }
+        else if( arg.startsWith( "-Xplugin" ) || arg.startsWith( "--release=" ) || arg.startsWith( "-A" ) )
+        {
+          sb.append( ' ' ).append( arg );
+        }
+      }
+    }
+    catch( Exception ignore )
+    {
+    }
+    return sb.toString();
+  }
+}
@@ -133,4 +133,15 @@ public interface ITypeManifold extends IFileConnected, ISelfCompiled
   default void enterPostJavaCompilation()
   {
   }
+
+  /**
+   * Can this type manifold contribute source on a thread other than javac's, concurrently with other types? If so,
+   * with the {@code parallel-gen} plugin argument the compiler generates the sources of this type manifold's types on a
+   * fork-join pool before javac asks for them. A parallel safe type manifold must not access javac's state while
+   * contributing, and its source must depend only on resource files and the location passed to {@link #contribute}.
+   */
+  default boolean isParallelSafe()
+  {
+    return false;
+  }
 }
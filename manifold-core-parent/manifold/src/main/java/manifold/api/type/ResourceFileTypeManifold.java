@@ -16,8 +16,7 @@
 
 package manifold.api.type;
 
-import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.nio.CharBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -39,15 +38,12 @@ import manifold.api.host.RefreshRequest;
 import manifold.api.service.BaseService;
 import manifold.rt.api.Array;
 import manifold.rt.api.util.ManClassUtil;
-import manifold.rt.api.util.StreamUtil;
+import manifold.api.util.PerfReport;
 import manifold.api.util.cache.FqnCache;
 import manifold.api.util.cache.IllegalTypeNameException;
 import manifold.util.concurrent.ConcurrentHashSet;
 import manifold.util.concurrent.LocklessLazyVar;
 
-
-import static java.nio.charset.StandardCharsets.UTF_8;
-
 /**
  * A base class for a type manifold that is based on a resource file type, typically discernible by the file extension.
  *
@@ -58,6 +54,7 @@ public abstract class ResourceFileTypeManifold<M extends IModel> extends BaseSer
   private IModule _module;
   private LocklessLazyVar<FqnCache<LocklessLazyVar<M>>> _fqnToModel;
   private BiFunction<String, Set<IFile>, M> _modelMapper;
+  private volatile Map<String, Set<IFile>> _fqnToFiles = Collections.emptyMap();
   @SuppressWarnings("all")
   private CacheClearer _cacheClearer;
 
@@ -94,6 +91,7 @@ public abstract class ResourceFileTypeManifold<M extends IModel> extends BaseSer
   {
     FqnCache<LocklessLazyVar<M>> fqnToModel = new FqnCache<>();
     Map<String, Set<IFile>> primaryFqnToFiles = buildPrimaryFqnToFilesMap();
+    Map<String, Set<IFile>> fqnToFiles = new HashMap<>();
 
     for( Map.Entry<String, Set<IFile>> entry: primaryFqnToFiles.entrySet() )
     {
@@ -105,8 +103,9 @@ public abstract class ResourceFileTypeManifold<M extends IModel> extends BaseSer
       // Map primary type to model
       if( primaryFqn.charAt( 0 ) != '-' )
       {
-        model = LocklessLazyVar.make( () -> _modelMapper.apply( primaryFqn, files ) );
+        model = LocklessLazyVar.make( () -> makeModel( primaryFqn, files ) );
         fqnToModel.add( primaryFqn, model );
+        fqnToFiles.put( primaryFqn, files );
         primaryFqnNoMinus = primaryFqn;
       }
       else
@@ -121,12 +120,14 @@ public abstract class ResourceFileTypeManifold<M extends IModel> extends BaseSer
         {
           if( model == null )
           {
-            model = LocklessLazyVar.make( () -> _modelMapper.apply( primaryFqnNoMinus, files ) );
+            model = LocklessLazyVar.make( () -> makeModel( primaryFqnNoMinus, files ) );
           }
           fqnToModel.add( addFqn, model ); // use same model as base fqn
+          fqnToFiles.put( addFqn, files );
         }
       }
     }
+    _fqnToFiles = fqnToFiles;
 
     // Add peripheral (global) types having separate model scheme
     Map<String, LocklessLazyVar<M>> peripheralTypes = getPeripheralTypes();
@@ -144,6 +145,19 @@ public abstract class ResourceFileTypeManifold<M extends IModel> extends BaseSer
     return fqnToModel;
   }
 
+  private M makeModel( String fqn, Set<IFile> files )
+  {
+    long before = PerfReport.startTimer();
+    try
+    {
+      return _modelMapper.apply( fqn, files );
+    }
+    finally
+    {
+      PerfReport.record( PerfReport.PHASE_MODEL, getClass(), fqn, before );
+    }
+  }
+
   private Map<String, Set<IFile>> buildPrimaryFqnToFilesMap()
   {
     Map<String, Set<IFile>> primaryFqnToFiles = new HashMap<>();
@@ -420,14 +434,67 @@ public abstract class ResourceFileTypeManifold<M extends IModel> extends BaseSer
     return ManClassUtil.getPackage( topLevel );
   }
 
+  /**
+   * The files the source generated for {@code topLevelFqn} depends on, the persistent source cache serves the source
+   * from a previous build only if none of the files has changed (see the {@code source-cache} plugin argument).
+   * Override to return the type's files and any other files it depends on if the type's source is otherwise
+   * independent of external state, such as a database or a URL.
+   *
+   * @return The files the type's source depends on, or null if the source must not be cached. By default, null.
+   */
+  protected Collection<IFile> getCacheDependencies( String topLevelFqn )
+  {
+    return null;
+  }
+
+  /**
+   * @return The resource files backing the top-level type, or null if it is not backed by resource files
+   */
+  protected Set<IFile> getFilesForType( String topLevelFqn )
+  {
+    _fqnToModel.get();
+    return _fqnToFiles.get( topLevelFqn );
+  }
+
   @Override
   public String contribute( JavaFileManager.Location location, String fqn, boolean genStubs, String existing, DiagnosticListener<JavaFileObject> errorHandler )
   {
     String topLevel = findTopLevelFqn( fqn );
+
+    // a clean source is cached only if diagnostics are observable and the source does not depend on other manifolds
+    GeneratedSourceCache cache = errorHandler != null && (existing == null || existing.isEmpty())
+      ? GeneratedSourceCache.instance()
+      : null;
+    Collection<IFile> dependencies = cache == null ? null : getCacheDependencies( topLevel );
+    String key = dependencies == null ? null : cache.makeKey( this, location, fqn, genStubs, dependencies );
+    if( key != null )
+    {
+      String source = cache.get( fqn, genStubs, key );
+      PerfReport.lookup( "sourceCache", source != null );
+      if( source != null )
+      {
+        // the model is not needed, so the resource is neither parsed nor rendered
+        return source;
+      }
+    }
+
     LocklessLazyVar<M> lazyModel = _fqnToModel.get().get( topLevel );
 
     M model = lazyModel.get();
-    String source = contribute( location, fqn, genStubs, existing, model, errorHandler );
+    boolean[] reported = {false};
+    long before = PerfReport.startTimer();
+    String source = contribute( location, fqn, genStubs, existing, model, key == null ? errorHandler
+      : diagnostic -> {
+        reported[0] = true;
+        errorHandler.report( diagnostic );
+      } );
+    PerfReport.record( PerfReport.PHASE_CODEGEN, getClass(), fqn, before );
+
+    if( key != null && !reported[0] && source != null )
+    {
+      // only cache clean sources, a cache hit would not report the diagnostics
+      cache.put( fqn, genStubs, key, source );
+    }
 
     if( !model.isProcessing( fqn ) )
     {
@@ -480,12 +547,22 @@ public abstract class ResourceFileTypeManifold<M extends IModel> extends BaseSer
   }
 
   public static String getContent( IFile file )
+  {
+    CharBuffer content = getCharContent( file );
+    return content == null ? null : content.toString(); //.replace( "\r\n", "\n" );
+  }
+
+  /**
+   * The content of {@code file} as chars, see {@link IFile#getCharContent()}. Parsers that accept a {@link CharBuffer}
+   * should use this instead of {@link #getContent(IFile)} to avoid copying the content to a String.
+   */
+  public static CharBuffer getCharContent( IFile file )
   {
     if( file != null )
     {
-      try( InputStream inputStream = file.openInputStream() )
+      try
       {
-        return StreamUtil.getContent( new InputStreamReader( inputStream, UTF_8 ) ); //.replace( "\r\n", "\n" );
+        return file.getCharContent();
       }
       catch( Exception e )
       {
@@ -593,7 +670,7 @@ public abstract class ResourceFileTypeManifold<M extends IModel> extends BaseSer
       }
       else
       {
-        _fqnToModel.get().add( type, LocklessLazyVar.make( () -> _modelMapper.apply( type, files ) ) );
+        _fqnToModel.get().add( type, LocklessLazyVar.make( () -> makeModel( type, files ) ) );
       }
     }
 
@@ -609,7 +686,7 @@ public abstract class ResourceFileTypeManifold<M extends IModel> extends BaseSer
       }
       else
       {
-        _fqnToModel.get().add( type, LocklessLazyVar.make( () -> _modelMapper.apply( type, files ) ) );
+        _fqnToModel.get().add( type, LocklessLazyVar.make( () -> makeModel( type, files ) ) );
       }
     }
   }
@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) 2023 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.api.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Records where a compilation spends its time in type manifolds and how well manifold's caches perform, and writes the
+ * results as a JSON report at the end of compilation. Recording is enabled with the {@code manifold.perf.report}
+ * option naming the report file, either as a javac {@code -A} option or as a system property:
+ * <pre>
+ *   -Amanifold.perf.report=build/manifold-perf.json
+ * </pre>
+ * Timings are recorded per phase, see {@link #PHASE_MODEL}, {@link #PHASE_CODEGEN}, and {@link #PHASE_ANALYZE}, and are
+ * summed per type manifold and per type. Cache lookups are counted as hits and misses per cache. Recording is thread
+ * safe, when not enabled the recording methods return immediately.
+ */
+public class PerfReport
+{
+  public static final String OPTION = "manifold.perf.report";
+
+  /** parsing a type's resource files and building the type manifold's model */
+  public static final String PHASE_MODEL = "model";
+  /** generating the type's source from the model */
+  public static final String PHASE_CODEGEN = "codegen";
+  /** javac attributing and flow analyzing the type's generated source */
+  public static final String PHASE_ANALYZE = "analyze";
+
+  private static volatile PerfReport INSTANCE;
+
+  private final File _file;
+  private final long _started;
+  private final Map<String, Map<String, Timing>> _manifoldPhases;
+  private final Map<String, TypeTimings> _types;
+  private final Map<String, CacheCounts> _caches;
+
+  /**
+   * Starts recording for a new compilation, or stops recording if {@code file} is null.
+   */
+  public static void start( File file )
+  {
+    INSTANCE = file == null ? null : new PerfReport( file );
+  }
+
+  public static boolean isRecording()
+  {
+    return INSTANCE != null;
+  }
+
+  /**
+   * @return The start time to pass to {@link #record}, or zero if not recording
+   */
+  public static long startTimer()
+  {
+    return INSTANCE == null ? 0 : System.nanoTime();
+  }
+
+  /**
+   * Records the time elapsed since {@code nanosBefore} for a phase of producing a type.
+   *
+   * @param phase        One of the {@code PHASE_} constants
+   * @param typeManifold The class of the type manifold producing the type
+   * @param fqn          The qualified name of the type
+   * @param nanosBefore  The value of {@link #startTimer()} at the start of the phase
+   */
+  public static void record( String phase, Class<?> typeManifold, String fqn, long nanosBefore )
+  {
+    PerfReport report = INSTANCE;
+    if( report == null || nanosBefore == 0 )
+    {
+      return;
+    }
+
+    long nanos = System.nanoTime() - nanosBefore;
+    String tmName = typeManifold.getTypeName();
+    report._manifoldPhases.computeIfAbsent( tmName, key -> new ConcurrentHashMap<>() )
+      .computeIfAbsent( phase, key -> new Timing() ).add( nanos );
+    report._types.computeIfAbsent( fqn, key -> new TypeTimings( tmName ) )._phases
+      .computeIfAbsent( phase, key -> new LongAdder() ).add( nanos );
+  }
+
+  /**
+   * Counts a lookup in the named cache.
+   */
+  public static void lookup( String cache, boolean hit )
+  {
+    PerfReport report = INSTANCE;
+    if( report == null )
+    {
+      return;
+    }
+
+    CacheCounts counts = report._caches.computeIfAbsent( cache, key -> new CacheCounts() );
+    (hit ? counts._hits : counts._misses).increment();
+  }
+
+  /**
+   * Writes the report, if recording. May be called more than once in a compilation, the last call wins.
+   */
+  public static void write()
+  {
+    PerfReport report = INSTANCE;
+    if( report == null )
+    {
+      return;
+    }
+
+    try
+    {
+      File parent = report._file.getAbsoluteFile().getParentFile();
+      if( parent != null )
+      {
+        //noinspection ResultOfMethodCallIgnored
+        parent.mkdirs();
+      }
+      Files.write( report._file.toPath(), report.toJson().getBytes( UTF_8 ) );
+    }
+    catch( IOException e )
+    {
+      System.err.println( "Failed to write " + OPTION + " to " + report._file + ": " + e.getMessage() );
+    }
+  }
+
+  private PerfReport( File file )
+  {
+    _file = file;
+    _started = System.nanoTime();
+    _manifoldPhases = new ConcurrentHashMap<>();
+    _types = new ConcurrentHashMap<>();
+    _caches = new ConcurrentHashMap<>();
+  }
+
+  String toJson()
+  {
+    StringBuilder sb = new StringBuilder( "{\n" );
+    sb.append( "  \"elapsedMillis\": " ).append( millis( System.nanoTime() - _started ) ).append( ",\n" );
+
+    // totals per phase
+    Map<String, Timing> totals = new TreeMap<>();
+    _manifoldPhases.values().forEach( phases -> phases.forEach(
+      ( phase, timing ) -> totals.computeIfAbsent( phase, key -> new Timing() ).add( timing ) ) );
+    sb.append( "  \"phases\": {" );
+    appendTimings( sb, totals, "    " );
+    sb.append( "},\n" );
+
+    sb.append( "  \"typeManifolds\": {" );
+    String sep = "\n";
+    for( Map.Entry<String, Map<String, Timing>> entry: new TreeMap<>( _manifoldPhases ).entrySet() )
+    {
+      sb.append( sep ).append( "    " ).append( quote( entry.getKey() ) ).append( ": {" );
+      appendTimings( sb, new TreeMap<>( entry.getValue() ), "      " );
+      sb.append( "}" );
+      sep = ",\n";
+    }
+    sb.append( "\n  },\n" );
+
+    sb.append( "  \"types\": {" );
+    sep = "\n";
+    for( Map.Entry<String, TypeTimings> entry: new TreeMap<>( _types ).entrySet() )
+    {
+      TypeTimings type = entry.getValue();
+      sb.append( sep ).append( "    " ).append( quote( entry.getKey() ) )
+        .append( ": {\"typeManifold\": " ).append( quote( type._typeManifold ) );
+      for( Map.Entry<String, LongAdder> phase: new TreeMap<>( type._phases ).entrySet() )
+      {
+        sb.append( ", " ).append( quote( phase.getKey() + "Millis" ) ).append( ": " )
+          .append( millis( phase.getValue().sum() ) );
+      }
+      sb.append( "}" );
+      sep = ",\n";
+    }
+    sb.append( "\n  },\n" );
+
+    sb.append( "  \"caches\": {" );
+    sep = "\n";
+    for( Map.Entry<String, CacheCounts> entry: new TreeMap<>( _caches ).entrySet() )
+    {
+      long hits = entry.getValue()._hits.sum();
+      long misses = entry.getValue()._misses.sum();
+      sb.append( sep ).append( "    " ).append( quote( entry.getKey() ) )
+        .append( ": {\"hits\": " ).append( hits )
+        .append( ", \"misses\": " ).append( misses )
+        .append( ", \"hitRate\": " ).append( hits + misses == 0 ? "0" : String.format( Locale.ROOT, "%.3f", (double)hits / (hits + misses) ) )
+        .append( "}" );
+      sep = ",\n";
+    }
+    sb.append( "\n  }\n" );
+
+    return sb.append( "}\n" ).toString();
+  }
+
+  private static void appendTimings( StringBuilder sb, Map<String, Timing> timings, String indent )
+  {
+    String sep = "\n";
+    for( Map.Entry<String, Timing> entry: timings.entrySet() )
+    {
+      Timing timing = entry.getValue();
+      sb.append( sep ).append( indent ).append( quote( entry.getKey() ) )
+        .append( ": {\"count\": " ).append( timing._count.sum() )
+        .append( ", \"millis\": " ).append( millis( timing._nanos.sum() ) )
+        .append( ", \"maxMillis\": " ).append( millis( timing._max.get() ) )
+        .append( "}" );
+      sep = ",\n";
+    }
+    if( !timings.isEmpty() )
+    {
+      sb.append( '\n' ).append( indent, 0, indent.length() - 2 );
+    }
+  }
+
+  private static String millis( long nanos )
+  {
+    return String.format( Locale.ROOT, "%.3f", nanos / 1_000_000.0 );
+  }
+
+  private static String quote( String value )
+  {
+    return '"' + value.replace( "\\", "\\\\" ).replace( "\"", "\\\"" ) + '"';
+  }
+
+  private static class Timing
+  {
+    private final LongAdder _count = new LongAdder();
+    private final LongAdder _nanos = new LongAdder();
+    private final LongAccumulator _max = new LongAccumulator( Math::max, 0 );
+
+    private void add( long nanos )
+    {
+      _count.increment();
+      _nanos.add( nanos );
+      _max.accumulate( nanos );
+    }
+
+    private void add( Timing timing )
+    {
+      _count.add( timing._count.sum() );
+      _nanos.add( timing._nanos.sum() );
+      _max.accumulate( timing._max.get() );
+    }
+  }
+
+  private static class TypeTimings
+  {
+    private final String _typeManifold;
+    private final Map<String, LongAdder> _phases = new ConcurrentHashMap<>();
+
+    private TypeTimings( String typeManifold )
+    {
+      _typeManifold = typeManifold;
+    }
+  }
+
+  private static class CacheCounts
+  {
+    private final LongAdder _hits = new LongAdder();
+    private final LongAdder _misses = new LongAdder();
+  }
+}
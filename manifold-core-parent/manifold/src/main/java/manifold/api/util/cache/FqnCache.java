@@ -21,6 +21,7 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import manifold.api.util.DynamicArray;
+import manifold.api.util.PerfReport;
 import manifold.util.concurrent.Cache;
 
 public class FqnCache<T> extends FqnCacheNode<T> implements IFqnCache<T>
@@ -72,7 +73,9 @@ public class FqnCache<T> extends FqnCacheNode<T> implements IFqnCache<T>
   public final T get( String fqn )
   {
     FqnCacheNode<T> n = getNode( fqn );
-    return n == null ? null : n.getUserData();
+    T userData = n == null ? null : n.getUserData();
+    PerfReport.lookup( "fqnCache", userData != null );
+    return userData;
   }
 
   @Override
@@ -19,6 +19,7 @@ package manifold.internal.host;
 import java.io.File;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
@@ -26,10 +27,13 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import manifold.api.fs.IDirectory;
 import manifold.api.host.IRuntimeManifoldHost;
+import manifold.internal.runtime.ClassCache;
 import manifold.internal.runtime.UrlClassLoaderWrapper;
+import manifold.internal.runtime.protocols.ManClassesUrlConnection;
 import manifold.api.util.SourcePathUtil;
 import manifold.util.concurrent.LockingLazyVar;
 
@@ -99,6 +103,24 @@ public class RuntimeManifoldHost extends SingleModuleManifoldHost implements IRu
     get().bootstrap( Collections.emptyList(), Collections.emptyList() );
   }
 
+  /**
+   * Compiles the given types ahead of their first use in dynamic mode, so loading them does not compile them one at a
+   * time. The types are compiled in a single javac task on a background thread, in parallel with the application's
+   * startup. With the {@link ClassCache} enabled, types whose classes are cached from a previous run are not compiled.
+   * <p/>
+   * Call after bootstrapping, for instance at the start of {@code main()}:
+   * <pre>
+   *   RuntimeManifoldHost.warmUp( Arrays.asList( "com.example.Person", "com.example.Address" ) );
+   * </pre>
+   *
+   * @param fqns Qualified names of types to compile
+   * @return A future completing when the types are compiled
+   */
+  public static CompletableFuture<Void> warmUp( Collection<String> fqns )
+  {
+    return CompletableFuture.runAsync( () -> ManClassesUrlConnection.compileAhead( fqns ) );
+  }
+
   @Override
   public boolean isBootstrapped()
   {
@@ -23,6 +23,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.SortedSet;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import javax.tools.Diagnostic;
 import javax.tools.DiagnosticListener;
@@ -58,6 +59,7 @@ public abstract class SimpleModule implements IModule
   private List<IDirectory> _outputPath;
   private SortedSet<ITypeManifold> _typeManifolds;
   private LocklessLazyVar<PathCache> _pathCache;
+  private final SourcePregenerator _pregenerator;
 
   public SimpleModule( IManifoldHost host, List<IDirectory> classpath, List<IDirectory> sourcePath, List<IDirectory> outputPath )
   {
@@ -66,6 +68,7 @@ public abstract class SimpleModule implements IModule
     _sourcePath = sourcePath;
     _outputPath = outputPath;
     _pathCache = LocklessLazyVar.make( this::makePathCache );
+    _pregenerator = new SourcePregenerator( this );
   }
 
   @Override
@@ -136,10 +139,39 @@ public abstract class SimpleModule implements IModule
   {
     //noinspection unchecked
     Set<ITypeManifold> sps = findTypeManifoldsFor( fqn );
-    return sps.isEmpty() ? null : new GeneratedJavaStubFileObject( fqn, new SourceSupplier( fqn, sps, () -> compoundProduce( location, sps, fqn, errorHandler ) ) );
+    return sps.isEmpty() ? null : new GeneratedJavaStubFileObject( fqn, new SourceSupplier( fqn, sps, () -> {
+      String source = _pregenerator.take( fqn, location, errorHandler );
+      return source != null ? source : compoundProduce( location, sps, fqn, errorHandler );
+    } ) );
   }
 
-  private String compoundProduce( JavaFileManager.Location location, Set<ITypeManifold> sps, String fqn, DiagnosticListener<JavaFileObject> errorHandler )
+  /**
+   * Generates the sources of {@code fqns} for {@code location} in parallel, ahead of javac asking for them. Only types
+   * produced exclusively by {@link ITypeManifold#isParallelSafe()} type manifolds are generated, the rest are generated
+   * on demand as usual. Must be called on javac's thread.
+   */
+  public void pregenerate( JavaFileManager.Location location, Collection<String> fqns )
+  {
+    _pregenerator.pregenerate( location, fqns );
+  }
+
+  /**
+   * Drops the pregenerated sources javac did not ask for, see {@link #pregenerate(JavaFileManager.Location, Collection)}.
+   */
+  public void clearPregenerated()
+  {
+    _pregenerator.clear();
+  }
+
+  @Override
+  public Set<ITypeManifold> findTypeManifoldsFor( String fqn, Predicate<ITypeManifold> predicate )
+  {
+    Set<ITypeManifold> tms = IModule.super.findTypeManifoldsFor( fqn, predicate );
+    SourcePregenerator.checkParallelSafe( tms );
+    return tms;
+  }
+
+  String compoundProduce( JavaFileManager.Location location, Set<ITypeManifold> sps, String fqn, DiagnosticListener<JavaFileObject> errorHandler )
   {
     ITypeManifold found = null;
     String result = "";
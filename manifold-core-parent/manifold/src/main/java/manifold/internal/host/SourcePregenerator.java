@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2023 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.internal.host;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticListener;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import manifold.api.type.ITypeManifold;
+
+/**
+ * Generates the sources of resource types in parallel on the common fork-join pool, ahead of javac asking for them on
+ * its own thread. Only types whose type manifolds are all {@link ITypeManifold#isParallelSafe()} are generated.
+ * Sources are generated for a given location and are served only when javac asks for the same location.
+ * <p/>
+ * Diagnostics reported during generation are buffered and replayed to javac's error handler when javac takes the
+ * source. A source is dropped once taken, sources not taken are dropped when the compilation is finished. If generation
+ * involves a type manifold that is not parallel safe, for instance an extension class supplementing an inner type, or
+ * if it fails, the source is generated serially as before.
+ */
+class SourcePregenerator
+{
+  private static final ForkJoinTask<Pregenerated> TAKEN = ForkJoinTask.adapt( () -> null );
+  private static final ThreadLocal<Boolean> GENERATING = new ThreadLocal<>();
+
+  private final SimpleModule _module;
+  private final Map<String, ForkJoinTask<Pregenerated>> _tasks;
+
+  SourcePregenerator( SimpleModule module )
+  {
+    _module = module;
+    _tasks = new ConcurrentHashMap<>();
+  }
+
+  void pregenerate( JavaFileManager.Location location, Collection<String> fqns )
+  {
+    for( String fqn: fqns )
+    {
+      // note the type manifolds are found on javac's thread, which also builds their type name caches
+      Set<ITypeManifold> tms = _module.findTypeManifoldsFor( fqn );
+      if( tms.isEmpty() || !tms.stream().allMatch( ITypeManifold::isParallelSafe ) )
+      {
+        continue;
+      }
+      _tasks.computeIfAbsent( key( location, fqn ),
+        key -> ForkJoinPool.commonPool().submit( () -> generate( location, tms, fqn ) ) );
+    }
+  }
+
+  private static String key( JavaFileManager.Location location, String fqn )
+  {
+    return location.getName() + ':' + fqn;
+  }
+
+  private Pregenerated generate( JavaFileManager.Location location, Set<ITypeManifold> tms, String fqn )
+  {
+    List<Diagnostic<? extends JavaFileObject>> diagnostics = new ArrayList<>();
+    GENERATING.set( true );
+    try
+    {
+      String source = _module.compoundProduce( location, tms, fqn, diagnostics::add );
+      return new Pregenerated( source, diagnostics );
+    }
+    finally
+    {
+      GENERATING.remove();
+    }
+  }
+
+  /**
+   * @return The source of {@code fqn} pregenerated for {@code location} after replaying its diagnostics to
+   * {@code errorHandler}, or null if the source must be generated serially
+   */
+  String take( String fqn, JavaFileManager.Location location, DiagnosticListener<JavaFileObject> errorHandler )
+  {
+    if( location == null )
+    {
+      return null;
+    }
+    ForkJoinTask<Pregenerated> task = _tasks.replace( key( location, fqn ), TAKEN );
+    if( task == null || task == TAKEN )
+    {
+      return null;
+    }
+
+    Pregenerated result;
+    try
+    {
+      result = task.join();
+    }
+    catch( RuntimeException e )
+    {
+      return null;
+    }
+
+    if( errorHandler != null )
+    {
+      result._diagnostics.forEach( errorHandler::report );
+    }
+    return result._source;
+  }
+
+  /**
+   * Drops the sources javac has not taken, called when the compilation is finished.
+   */
+  void clear()
+  {
+    _tasks.values().forEach( task -> task.cancel( false ) );
+    _tasks.clear();
+  }
+
+  /**
+   * Called when the type manifolds contributing to a type are found, throws if a generating thread finds one that is
+   * not parallel safe.
+   */
+  static void checkParallelSafe( Set<ITypeManifold> tms )
+  {
+    if( GENERATING.get() != null && !tms.stream().allMatch( ITypeManifold::isParallelSafe ) )
+    {
+      throw new NotParallelSafeException();
+    }
+  }
+
+  private static class Pregenerated
+  {
+    private final String _source;
+    private final List<Diagnostic<? extends JavaFileObject>> _diagnostics;
+
+    private Pregenerated( String source, List<Diagnostic<? extends JavaFileObject>> diagnostics )
+    {
+      _source = source;
+      _diagnostics = diagnostics;
+    }
+  }
+
+  private static class NotParallelSafeException extends RuntimeException
+  {
+    private NotParallelSafeException()
+    {
+      super( null, null, false, false );
+    }
+  }
+}
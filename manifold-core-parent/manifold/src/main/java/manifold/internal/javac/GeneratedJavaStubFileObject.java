@@ -26,6 +26,7 @@ import javax.tools.SimpleJavaFileObject;
 import manifold.api.fs.IFile;
 import manifold.api.fs.IFileFragment;
 import manifold.api.type.ISelfCompiledFile;
+import manifold.api.type.ITypeManifold;
 import manifold.util.concurrent.LocklessLazyVar;
 
 import static manifold.api.type.ITypeManifold.ARG_DUMP_SOURCE;
@@ -181,6 +182,14 @@ public class GeneratedJavaStubFileObject extends SimpleJavaFileObject implements
       .findFirst().orElse( null );
   }
 
+  /**
+   * The type manifold primarily responsible for creating the type, or null if no type manifold is involved.
+   */
+  public ITypeManifold getPrimaryTypeManifold()
+  {
+    return _sourceSupplier.getPrimaryTypeManifold();
+  }
+
   /**
    * Resource files from which the type is created.
    */
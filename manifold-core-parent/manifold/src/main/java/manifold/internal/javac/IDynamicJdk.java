@@ -18,6 +18,7 @@ package manifold.internal.javac;
 
 import com.sun.tools.javac.code.Symbol;
 import com.sun.tools.javac.code.Type;
+import com.sun.tools.javac.jvm.ClassFile;
 import com.sun.tools.javac.tree.JCTree;
 import com.sun.tools.javac.tree.TreeMaker;
 import com.sun.tools.javac.util.Context;
@@ -31,6 +32,7 @@ import manifold.api.util.PerfLogUtil;
 import manifold.util.ReflectUtil;
 import manifold.util.concurrent.LocklessLazyVar;
 
+import java.lang.reflect.Array;
 import java.util.function.Predicate;
 
 /**
@@ -82,6 +84,39 @@ public interface IDynamicJdk
           .invoke( expr, sym );
   }
 
+  /**
+   * Makes the symbol for an {@code invokedynamic} call site bootstrapped by the static method {@code bsm}. The symbol's
+   * constructor changed in Java 13, hence the reflection.
+   *
+   * @param owner The owner of the symbol, typically {@code Symtab#noSymbol}
+   * @param name The name of the call site, passed to the bootstrap method
+   * @param bsm A static bootstrap method
+   * @param type The method type of the call site
+   * @param staticArgs String constants passed to the bootstrap method following the standard arguments
+   */
+  default Symbol.MethodSymbol makeDynamicMethodSymbol( Symbol owner, Name name, Symbol.MethodSymbol bsm, Type type,
+                                                       String... staticArgs )
+  {
+    String dynamicMethodSymbol = "com.sun.tools.javac.code.Symbol$DynamicMethodSymbol";
+    if( JreUtil.isJava13orLater() )
+    {
+      Class<?> methodHandleSymbol = ReflectUtil.type( "com.sun.tools.javac.code.Symbol$MethodHandleSymbol" );
+      Class<?> loadableConstant = ReflectUtil.type( "com.sun.tools.javac.jvm.PoolConstant$LoadableConstant" );
+      Object args = Array.newInstance( loadableConstant, staticArgs.length );
+      for( int i = 0; i < staticArgs.length; i++ )
+      {
+        Array.set( args, i, ReflectUtil.method( loadableConstant, "String", String.class ).invokeStatic( staticArgs[i] ) );
+      }
+      Object bsmHandle = ReflectUtil.constructor( methodHandleSymbol, Symbol.class ).newInstance( bsm );
+      return (Symbol.MethodSymbol)ReflectUtil.constructor( dynamicMethodSymbol,
+        Name.class, Symbol.class, methodHandleSymbol, Type.class, args.getClass() )
+        .newInstance( name, owner, bsmHandle, type, args );
+    }
+    return (Symbol.MethodSymbol)ReflectUtil.constructor( dynamicMethodSymbol,
+      Name.class, Symbol.class, int.class, Symbol.MethodSymbol.class, Type.class, Object[].class )
+      .newInstance( name, owner, ClassFile.REF_invokeStatic, bsm, type, staticArgs );
+  }
+
   class Instance
   {
     private static boolean INITIALIZING = false;
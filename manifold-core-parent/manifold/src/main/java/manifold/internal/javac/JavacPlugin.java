@@ -76,7 +76,9 @@ import manifold.api.fs.def.FileFragmentImpl;
 import manifold.api.type.ICompilerComponent;
 import manifold.api.type.ITypeManifold;
 import manifold.api.util.JavacUtil;
+import manifold.api.util.PerfReport;
 import manifold.internal.host.JavacManifoldHost;
+import manifold.internal.host.SimpleModule;
 import manifold.api.util.IssueMsg;
 import manifold.api.util.JavacDiagnostic;
 import manifold.rt.api.util.ServiceUtil;
@@ -87,6 +89,7 @@ import manifold.util.NecessaryEvilUtil;
 import manifold.rt.api.util.Pair;
 import manifold.util.ReflectUtil;
 import manifold.rt.api.util.StreamUtil;
+import manifold.util.concurrent.LocklessLazyVar;
 
 
 import static manifold.api.type.ContributorKind.Supplemental;
@@ -99,11 +102,23 @@ public class JavacPlugin implements Plugin, TaskListener
   public static final String ARG_DYNAMIC = "dynamic";
   /** disables &lt;clinit&gt; bootstap */
   public static final String ARG_NO_BOOTSTRAP = "no-bootstrap";
+  /** compiles @Jailbreak member access to invokedynamic instead of reflection */
+  public static final String ARG_JAILBREAK_INDY = "jailbreak-indy";
+  /** compiles structural interface calls to invokedynamic instead of proxy construction per call */
+  public static final String ARG_STRUCTURAL_INDY = "structural-indy";
+  /** caches sources generated from resource files beside the class output directory for use in subsequent builds */
+  public static final String ARG_SOURCE_CACHE = "source-cache";
+  /** generates sources of resource types in parallel before javac asks for them */
+  public static final String ARG_PARALLEL_GEN = "parallel-gen";
   /** all plugin args */
   public static final String[] ARGS =
   {
     ARG_NO_BOOTSTRAP,
     ARG_DYNAMIC,
+    ARG_JAILBREAK_INDY,
+    ARG_STRUCTURAL_INDY,
+    ARG_SOURCE_CACHE,
+    ARG_PARALLEL_GEN,
   };
 
   /** javac command line arguments for static compilation */
@@ -148,9 +163,12 @@ public class JavacPlugin implements Plugin, TaskListener
   private boolean _initialized;
   private Map<Context, Set<Symbol>> _seenModules;
   private Map<String, Boolean> _argPresent;
+  private final LocklessLazyVar<String> _classOutputPath = LocklessLazyVar.make( this::deriveClassOutputPath );
   private ArrayList<FileFragmentResource> _fileFragmentResources;
   private Set<String> _javaSourcePath;
   private Set<URI> _dumpedSourceFiles;
+  private Map<JavaFileObject, Long> _analyzeStarts;
+  private Set<String> _referencedTypeNames;
   private List<String> _manifoldSourcePath;
   private String _bootclasspath;
   private boolean _isIncremental;
@@ -193,6 +211,8 @@ public class JavacPlugin implements Plugin, TaskListener
     _fileFragmentResources = new ArrayList<>();
     _javaSourcePath = Collections.emptySet();
     _dumpedSourceFiles = new HashSet<>();
+    _analyzeStarts = new HashMap<>();
+    _referencedTypeNames = new HashSet<>();
     assignBootclasspath();
     hijackJavacFileManager();
     overrideJavacToolEnter();
@@ -562,7 +582,8 @@ public class JavacPlugin implements Plugin, TaskListener
       //noinspection ConstantConditions
       for( File file : javaDir.listFiles() )
       {
-        if( file.isDirectory() )
+        // exclude a source cache directory left here by older versions, see GeneratedSourceCache
+        if( file.isDirectory() && !file.getName().equals( "manifold-cache" ) )
         {
           paths.add( file.getAbsolutePath() );
         }
@@ -987,6 +1008,17 @@ public class JavacPlugin implements Plugin, TaskListener
     }
     return otherSourceFiles;
   }
+
+  private String getOptionOrProperty( String name )
+  {
+    String value = JavacProcessingEnvironment.instance( getContext() ).getOptions().get( name );
+    if( value == null )
+    {
+      value = System.getProperty( name );
+    }
+    return value;
+  }
+
   private String getOtherSourceListProperty( Map<String, String> options )
   {
     String otherSourceList = options.get( OTHER_SOURCE_LIST );
@@ -1006,11 +1038,26 @@ public class JavacPlugin implements Plugin, TaskListener
       // Must perform shenanigans early
       NecessaryEvilUtil.bypassJava9Security();
 
+      // Record a profile of this compilation if a report file is specified
+      String perfReport = getOptionOrProperty( PerfReport.OPTION );
+      PerfReport.start( perfReport == null || perfReport.isEmpty() ? null : new File( perfReport ) );
+
       // Initialize the Javac host environment
       getHost().initialize( deriveSourcePath(), deriveClasspath(), deriveOutputPath() );
 
       // Override javac's ClassFinder and Resolve so that we can safely load class symbols corresponding with extension classes
       tailorJavaCompiler( e );
+
+      if( isParallelGen() )
+      {
+        // Generate sources of the resource types the Java sources refer to while javac enters and attributes them
+        pregenerateSources( getHost().getSingleModule().getTypeManifolds().stream()
+          .filter( ITypeManifold::isParallelSafe )
+          .flatMap( tm -> tm.getAllTypeNames().stream() )
+          .filter( _referencedTypeNames::contains )
+          .collect( Collectors.toSet() ) );
+      }
+      _referencedTypeNames.clear();
     }
     else if( _javacTask.getContext() != _ctx )
     {
@@ -1049,10 +1096,34 @@ public class JavacPlugin implements Plugin, TaskListener
         initialize( e );
         // Add extension methods to javac's array type
         extendArrayType( e );
+        startAnalyzeTimer( e );
         break;
     }
   }
 
+  private void startAnalyzeTimer( TaskEvent e )
+  {
+    if( PerfReport.isRecording() && e.getSourceFile() instanceof GeneratedJavaStubFileObject )
+    {
+      _analyzeStarts.put( e.getSourceFile(), PerfReport.startTimer() );
+    }
+  }
+
+  private void recordAnalyzeTime( TaskEvent e )
+  {
+    Long before = e.getSourceFile() == null ? null : _analyzeStarts.remove( e.getSourceFile() );
+    if( before == null )
+    {
+      return;
+    }
+
+    ITypeManifold tm = ((GeneratedJavaStubFileObject)e.getSourceFile()).getPrimaryTypeManifold();
+    if( tm != null && e.getTypeElement() != null )
+    {
+      PerfReport.record( PerfReport.PHASE_ANALYZE, tm.getClass(), e.getTypeElement().getQualifiedName().toString(), before );
+    }
+  }
+
   public void extendArrayType( TaskEvent e )
   {
     try
@@ -1074,6 +1145,7 @@ public class JavacPlugin implements Plugin, TaskListener
       case PARSE:
         addInputFile( e );
         processParse( e );
+        collectReferencedTypeNames( e );
         break;
 
       case ENTER:
@@ -1082,6 +1154,7 @@ public class JavacPlugin implements Plugin, TaskListener
         break;
 
       case ANALYZE:
+        recordAnalyzeTime( e );
         closeStuff();
         break;
 
@@ -1099,6 +1172,14 @@ public class JavacPlugin implements Plugin, TaskListener
       return;
     }
 
+    PerfReport.write();
+
+    if( isParallelGen() && _initialized )
+    {
+      // drop sources javac did not ask for
+      ((SimpleModule)getHost().getSingleModule()).clearPregenerated();
+    }
+
     try
     {
       Set<IFinishedCompilingListener> registered = new HashSet<>();
@@ -1114,6 +1195,14 @@ public class JavacPlugin implements Plugin, TaskListener
     }
   }
 
+  private void collectReferencedTypeNames( TaskEvent e )
+  {
+    if( !_initialized && isParallelGen() )
+    {
+      ReferencedTypeNames.collect( e.getCompilationUnit(), _referencedTypeNames );
+    }
+  }
+
   private void addInputFile( TaskEvent e )
   {
     if( !_initialized )
@@ -1344,6 +1433,55 @@ public class JavacPlugin implements Plugin, TaskListener
     return _argPresent.get( ARG_NO_BOOTSTRAP );
   }
 
+  public boolean isJailbreakIndy()
+  {
+    return _argPresent.get( ARG_JAILBREAK_INDY );
+  }
+
+  public boolean isStructuralIndy()
+  {
+    return _argPresent.get( ARG_STRUCTURAL_INDY );
+  }
+
+  public boolean isSourceCache()
+  {
+    return _argPresent.get( ARG_SOURCE_CACHE );
+  }
+
+  public boolean isParallelGen()
+  {
+    return _argPresent.get( ARG_PARALLEL_GEN );
+  }
+
+  /**
+   * Generates the sources of {@code fqns} in parallel with the {@code parallel-gen} plugin argument, otherwise does
+   * nothing. Sources are generated only for static compilation, a dynamic compilation generates types as they load.
+   */
+  void pregenerateSources( Collection<String> fqns )
+  {
+    if( !isParallelGen() || !isStaticCompile() || fqns.isEmpty() )
+    {
+      return;
+    }
+
+    // derive the output path here, javac's file manager is not used from the generating threads
+    getClassOutputPath();
+
+    // javac finds sources in the source path if there is one, otherwise in the class path, see ClassFinder
+    JavaFileManager.Location location = getJavaFileManager().hasLocation( StandardLocation.SOURCE_PATH )
+      ? StandardLocation.SOURCE_PATH
+      : StandardLocation.CLASS_PATH;
+    ((SimpleModule)getHost().getSingleModule()).pregenerate( location, fqns );
+  }
+
+  /**
+   * @return The class output directory, or an empty string if class files are not written to the file system
+   */
+  public String getClassOutputPath()
+  {
+    return _classOutputPath.get();
+  }
+
   public void registerType( JavaFileObject sourceFile, String scope, int offset, String name, String ext, HostKind hostKind, String content )
   {
     _fileFragmentResources.add( new FileFragmentResource( sourceFile, scope, offset, name, ext, hostKind, content ) );
@@ -50,6 +50,7 @@ import manifold.rt.api.util.Stack;
 import manifold.util.JreUtil;
 import manifold.rt.api.util.ManClassUtil;
 import manifold.util.ReflectUtil;
+import manifold.api.util.PerfReport;
 import manifold.api.util.cache.FqnCache;
 import manifold.api.util.cache.FqnCacheNode;
 
@@ -365,9 +366,11 @@ class ManifoldJavaFileManager extends JavacFileManagerBridge<JavaFileManager> im
       // note userdata can be null in the case where an innerclass is loaded before the enclosing
       if( fo != null )
       {
+        PerfReport.lookup( "generatedFiles", true );
         return fo == MISS_FO ? null : fo;
       }
     }
+    PerfReport.lookup( "generatedFiles", false );
 
     if( isFilteredFromIncrementalCompilation( fqn ) )
     {
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2023 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.internal.javac;
+
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.IdentifierTree;
+import com.sun.source.tree.ImportTree;
+import com.sun.source.tree.MemberSelectTree;
+import com.sun.source.util.TreeScanner;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Collects the qualified names a parsed compilation unit may refer to as types. Names are not resolved, a simple or
+ * partially qualified name is qualified with the package, the imports, and the on-demand imports of the compilation
+ * unit, so the result includes the types the compilation unit references along with names that are not types at all.
+ */
+class ReferencedTypeNames extends TreeScanner<Void, Void>
+{
+  private final Set<String> _names = new HashSet<>();
+  private final Map<String, String> _imports = new HashMap<>();
+  private final List<String> _onDemandImports = new ArrayList<>();
+
+  static void collect( CompilationUnitTree compilationUnit, Set<String> result )
+  {
+    ReferencedTypeNames scanner = new ReferencedTypeNames();
+    compilationUnit.accept( scanner, null );
+
+    ExpressionTree pkg = compilationUnit.getPackageName();
+    String packageQualifier = pkg == null ? "" : (pkg.toString() + '.');
+    for( String name: scanner._names )
+    {
+      result.add( name );
+      result.add( packageQualifier + name );
+      int iDot = name.indexOf( '.' );
+      String importedName = scanner._imports.get( iDot < 0 ? name : name.substring( 0, iDot ) );
+      if( importedName != null )
+      {
+        result.add( iDot < 0 ? importedName : importedName + name.substring( iDot ) );
+      }
+      for( String onDemand: scanner._onDemandImports )
+      {
+        result.add( onDemand + '.' + name );
+      }
+    }
+  }
+
+  @Override
+  public Void visitImport( ImportTree tree, Void v )
+  {
+    if( !tree.isStatic() && tree.getQualifiedIdentifier() instanceof MemberSelectTree )
+    {
+      MemberSelectTree qualifiedId = (MemberSelectTree)tree.getQualifiedIdentifier();
+      String name = qualifiedId.getIdentifier().toString();
+      if( name.equals( "*" ) )
+      {
+        _onDemandImports.add( qualifiedId.getExpression().toString() );
+      }
+      else
+      {
+        _imports.put( name, qualifiedId.toString() );
+        _names.add( qualifiedId.toString() );
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public Void visitIdentifier( IdentifierTree tree, Void v )
+  {
+    _names.add( tree.getName().toString() );
+    return null;
+  }
+
+  @Override
+  public Void visitMemberSelect( MemberSelectTree tree, Void v )
+  {
+    // record qualified names such as abc.Foo and Foo.Bar, the qualifiers are recorded as the scan descends
+    if( isQualifiedName( tree.getExpression() ) )
+    {
+      _names.add( tree.toString() );
+    }
+    return super.visitMemberSelect( tree, v );
+  }
+
+  private boolean isQualifiedName( ExpressionTree tree )
+  {
+    return tree instanceof IdentifierTree ||
+           tree instanceof MemberSelectTree && isQualifiedName( ((MemberSelectTree)tree).getExpression() );
+  }
+}
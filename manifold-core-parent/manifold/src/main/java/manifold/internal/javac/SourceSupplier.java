@@ -83,6 +83,17 @@ public class SourceSupplier
       .compile( fqn );
   }
 
+  /**
+   * The type manifold primarily responsible for producing the source, or null if no type manifold is involved.
+   */
+  public ITypeManifold getPrimaryTypeManifold()
+  {
+    return _sps == null ? null :
+           _sps.stream().filter( e -> e.getContributorKind() == ContributorKind.Primary ||
+                                      e.getContributorKind() == ContributorKind.Partial )
+             .findFirst().orElse( _sps.stream().findFirst().orElse( null ) );
+  }
+
   public Set<IFile> getResourceFiles()
   {
     return _sps.stream().flatMap( tm -> tm.findFilesForType( _fqn ).stream() ).collect( Collectors.toSet() );
@@ -47,6 +47,7 @@ import java.io.PrintWriter;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 import static manifold.api.type.ContributorKind.Supplemental;
 
@@ -100,12 +101,13 @@ public class StaticCompiler
       JavacManifoldHost host = JavacPlugin.instance().getHost();
       IFileSystem fs = host.getFileSystem();
       Context ctx = JavacPlugin.instance().getContext();
+      IModule module = host.getSingleModule();
+      List<List<String>> typesByFile = new ArrayList<>();
       for( String path : others )
       {
         IFile file = fs.getIFile( new File( path ) );
         if( file.exists() )
         {
-          IModule module = host.getSingleModule();
           Set<ITypeManifold> tms = module.findTypeManifoldsFor( file,
             tm -> tm.getContributorKind() != Supplemental );
           if( tms.isEmpty() )
@@ -123,11 +125,21 @@ public class StaticCompiler
 
           tm.enterPostJavaCompilation();
 
-          // Cause the types to compile by entering ClassSymbols into javac's "todos"
-          if( !enterClassSymbols( module, ctx, Arrays.asList( types ) ) )
-          {
-            return;
-          }
+          typesByFile.add( Arrays.asList( types ) );
+        }
+      }
+
+      // generate the sources in parallel, before javac asks for them one at a time
+      JavacPlugin.instance().pregenerateSources( typesByFile.stream()
+        .flatMap( Collection::stream )
+        .collect( Collectors.toSet() ) );
+
+      for( List<String> types : typesByFile )
+      {
+        // Cause the types to compile by entering ClassSymbols into javac's "todos"
+        if( !enterClassSymbols( module, ctx, types ) )
+        {
+          return;
         }
       }
 
@@ -167,6 +179,7 @@ public class StaticCompiler
 
       IModule module = JavacPlugin.instance().getHost().getSingleModule();
       Context ctx = JavacPlugin.instance().getContext();
+      List<Collection<String>> typesByManifold = new ArrayList<>();
       for( Map.Entry<ITypeManifold, Set<String>> mapping : classToRegex.entrySet() )
       {
         ITypeManifold tm = mapping.getKey();
@@ -180,6 +193,16 @@ public class StaticCompiler
         // signal the type manifold for post Java compilation
         tm.enterPostJavaCompilation();
 
+        typesByManifold.add( types );
+      }
+
+      // generate the sources in parallel, before javac asks for them one at a time
+      JavacPlugin.instance().pregenerateSources( typesByManifold.stream()
+        .flatMap( Collection::stream )
+        .collect( Collectors.toSet() ) );
+
+      for( Collection<String> types : typesByManifold )
+      {
         // Cause the types to compile by entering ClassSymbols into javac's "todos"
         if( !enterClassSymbols( module, ctx, types ) )
         {
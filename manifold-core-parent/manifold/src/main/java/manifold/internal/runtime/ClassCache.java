@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2023 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.internal.runtime;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import manifold.api.host.IModule;
+import manifold.api.type.ITypeManifold;
+import manifold.api.util.fingerprint.Fingerprint;
+import manifold.internal.host.RuntimeManifoldHost;
+import manifold.util.concurrent.LocklessLazyVar;
+
+/**
+ * A persistent cache of the class files compiled in dynamic mode, enabled with the {@code manifold.class.cache} system
+ * property naming the cache directory:
+ * <pre>
+ *   java -Dmanifold.class.cache=/var/cache/my-app/manifold ...
+ * </pre>
+ * A class compiled from a type's source is stored in the directory and is loaded from there in subsequent runs, as
+ * long as its cache key still matches. The key is a {@link Fingerprint} of:
+ * <ul>
+ * <li>the class name and the Java source it is compiled from</li>
+ * <li>the Java version, the class path, and the sizes and timestamps of its entries</li>
+ * <li>the locations, sizes, and timestamps of the jars containing manifold and the type manifolds</li>
+ * </ul>
+ * There is one cache file per class, a stale file is overwritten when its class is recompiled. A class is compiled
+ * by one thread at a time, other threads loading the same class wait for it and read the result from the cache.
+ */
+public class ClassCache
+{
+  public static final String PROPERTY = "manifold.class.cache";
+
+  private static final LocklessLazyVar<ClassCache> INSTANCE = LocklessLazyVar.make( () -> {
+    String dir = System.getProperty( PROPERTY );
+    return dir == null || dir.isEmpty() ? null : new ClassCache( new File( dir ) );
+  } );
+
+  private final File _dir;
+  private final LocklessLazyVar<Long> _environment;
+  private final Map<String, Object> _locks;
+
+  /**
+   * @return The class cache, or null if the cache is not enabled
+   */
+  public static ClassCache instance()
+  {
+    return INSTANCE.get();
+  }
+
+  ClassCache( File dir )
+  {
+    _dir = dir;
+    _environment = LocklessLazyVar.make( ClassCache::fingerprintEnvironment );
+    _locks = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * @return The cached bytecode of {@code fqn} if {@code source} is unchanged, otherwise the bytecode {@code compiler}
+   * produces, which is cached
+   */
+  public byte[] getOrCompile( String fqn, CharSequence source, Supplier<byte[]> compiler )
+  {
+    String key = makeKey( fqn, source );
+    Object lock = _locks.computeIfAbsent( fqn, __ -> new Object() );
+    try
+    {
+      synchronized( lock )
+      {
+        byte[] bytes = get( fqn, key );
+        if( bytes == null )
+        {
+          bytes = compiler.get();
+          put( fqn, key, bytes );
+        }
+        return bytes;
+      }
+    }
+    finally
+    {
+      // a thread arriving after this may compile the class again, that is harmless since the file is replaced atomically
+      _locks.remove( fqn, lock );
+    }
+  }
+
+  public String makeKey( String fqn, CharSequence source )
+  {
+    Fingerprint fp = new Fingerprint( fqn );
+    fp.extend( _environment.get() );
+    fp.extend( source.toString() );
+    return fp.toHexString();
+  }
+
+  /**
+   * @return The cached bytecode of {@code fqn} if its key matches {@code key}, otherwise null
+   */
+  public byte[] get( String fqn, String key )
+  {
+    File file = getFile( fqn );
+    if( !file.isFile() )
+    {
+      return null;
+    }
+    try( DataInputStream in = new DataInputStream( new FileInputStream( file ) ) )
+    {
+      if( !key.equals( in.readUTF() ) )
+      {
+        return null;
+      }
+      byte[] bytes = new byte[in.readInt()];
+      in.readFully( bytes );
+      return bytes;
+    }
+    catch( IOException e )
+    {
+      // treat as a cache miss
+      return null;
+    }
+  }
+
+  public void put( String fqn, String key, byte[] bytes )
+  {
+    try
+    {
+      //noinspection ResultOfMethodCallIgnored
+      _dir.mkdirs();
+      // write to a temp file and move it in place, so a concurrent or aborted run never reads a partial class
+      File temp = File.createTempFile( fqn, ".tmp", _dir );
+      try( DataOutputStream out = new DataOutputStream( new FileOutputStream( temp ) ) )
+      {
+        out.writeUTF( key );
+        out.writeInt( bytes.length );
+        out.write( bytes );
+      }
+      Files.move( temp.toPath(), getFile( fqn ).toPath(), StandardCopyOption.REPLACE_EXISTING );
+    }
+    catch( IOException ignore )
+    {
+      // the cache is an optimization, the class is recompiled next time
+    }
+  }
+
+  private File getFile( String fqn )
+  {
+    return new File( _dir, fqn + ".class" );
+  }
+
+  private static long fingerprintEnvironment()
+  {
+    Fingerprint fp = new Fingerprint( System.getProperty( "java.version" ) );
+    for( String entry: System.getProperty( "java.class.path", "" ).split( File.pathSeparator ) )
+    {
+      fingerprintFile( fp, new File( entry ) );
+    }
+
+    Set<Class<?>> classes = new LinkedHashSet<>();
+    classes.add( ClassCache.class );
+    IModule module = RuntimeManifoldHost.get().getSingleModule();
+    if( module != null )
+    {
+      for( ITypeManifold tm: module.getTypeManifolds() )
+      {
+        classes.add( tm.getClass() );
+      }
+    }
+    for( Class<?> cls: classes )
+    {
+      CodeSource codeSource = cls.getProtectionDomain().getCodeSource();
+      URL location = codeSource == null ? null : codeSource.getLocation();
+      if( location != null )
+      {
+        if( "file".equals( location.getProtocol() ) )
+        {
+          fingerprintFile( fp, new File( location.getPath() ) );
+        }
+        else
+        {
+          fp.extend( location.toString() );
+        }
+      }
+    }
+    return fp.getRawFingerprint();
+  }
+
+  private static void fingerprintFile( Fingerprint fp, File file )
+  {
+    fp.extend( file.getPath() );
+    fp.extend( file.length() );
+    fp.extend( file.lastModified() );
+  }
+}
@@ -21,13 +21,20 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.ref.SoftReference;
 import java.net.URL;
 import java.net.URLConnection;
 import java.net.URLDecoder;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import javax.tools.DiagnosticCollector;
 import javax.tools.JavaFileObject;
@@ -36,6 +43,8 @@ import manifold.api.type.ITypeManifold;
 import manifold.internal.host.RuntimeManifoldHost;
 import manifold.internal.javac.InMemoryClassJavaFileObject;
 import manifold.internal.javac.JavaCompileIssuesException;
+import manifold.internal.javac.JavaParser;
+import manifold.internal.runtime.ClassCache;
 import manifold.internal.javac.StringJavaFileObject;
 import manifold.rt.api.util.Pair;
 import manifold.api.util.PerfLogUtil;
@@ -50,6 +59,15 @@ public class ManClassesUrlConnection extends URLConnection
     "java/", "javax/", "sun/"
   };
   private static final String META_INF_MANIFEST_MF = "META-INF/MANIFEST.MF";
+  private static final List<String> COMPILE_OPTIONS =
+    Arrays.asList( "-source", "8", "-g", "-nowarn", "-Xlint:none", "-proc:none", "-parameters" );
+  /**
+   * Classes compiled by {@link #compileAhead(Collection)} while the {@link ClassCache} is disabled, taken by the thread
+   * loading them. Each thread has its own {@link JavaParser}, so the classes compiled on the warm-up thread are not
+   * otherwise visible to the loading thread. The bytecode is softly referenced, a warmed-up type that never loads does
+   * not hold on to it.
+   */
+  private static final Map<String, SoftReference<byte[]>> PRECOMPILED = new ConcurrentHashMap<>();
   private static final ThreadLocal<Map<String, Supplier<String>>> _proxySupplierByFqn = ThreadLocal.withInitial( HashMap::new );
 
   public static Supplier<String> getProxySupplier( String fqnProxy )
@@ -67,6 +85,86 @@ public class ManClassesUrlConnection extends URLConnection
     _proxySupplierByFqn.get().remove( fqnProxy );
   }
 
+  /**
+   * Compiles the given types in a single javac task ahead of loading them, see {@link RuntimeManifoldHost#warmUp}.
+   * Types already in the {@link ClassCache} are skipped, the compiled classes are stored there if it is enabled. Errors
+   * are not reported here, a type failing to compile is compiled again when it loads, which reports the errors.
+   */
+  public static void compileAhead( Collection<String> fqns )
+  {
+    PRECOMPILED.values().removeIf( ref -> ref.get() == null );
+
+    ClassCache cache = ClassCache.instance();
+    JavaParser javaParser = RuntimeManifoldHost.get().getJavaParser();
+    Set<JavaFileObject> files = new LinkedHashSet<>();
+    Map<String, CharSequence> sourceByFqn = new LinkedHashMap<>();
+    for( String fqn : fqns )
+    {
+      Pair<JavaFileObject, String> pair = javaParser.findJavaSource( fqn, new DiagnosticCollector<>() );
+      if( pair == null || (pair.getFirst() instanceof ISelfCompiledFile &&
+                           ((ISelfCompiledFile)pair.getFirst()).isSelfCompile( pair.getSecond() )) )
+      {
+        continue;
+      }
+      JavaFileObject file = pair.getFirst();
+      CharSequence source = cache == null ? null : getSource( file );
+      if( cache != null && cache.get( fqn, cache.makeKey( fqn, source ) ) != null )
+      {
+        continue;
+      }
+      if( files.add( file ) )
+      {
+        sourceByFqn.put( pair.getSecond(), source );
+      }
+    }
+
+    if( !files.isEmpty() )
+    {
+      long before = System.nanoTime();
+      for( InMemoryClassJavaFileObject cls : javaParser.compile( files, COMPILE_OPTIONS, new DiagnosticCollector<>() ) )
+      {
+        // the file manager also holds classes compiled earlier on this thread, keep the ones compiled here
+        String fqn = cls.getClassName().replace( '$', '.' );
+        sourceByFqn.entrySet().stream()
+          .filter( e -> fqn.equals( e.getKey() ) || fqn.startsWith( e.getKey() + '.' ) )
+          .findFirst()
+          .ifPresent( e -> {
+            if( cache == null )
+            {
+              PRECOMPILED.put( fqn, new SoftReference<>( cls.getBytes() ) );
+            }
+            else
+            {
+              cache.put( fqn, cache.makeKey( fqn, e.getValue() ), cls.getBytes() );
+            }
+          } );
+      }
+      PerfLogUtil.log( "compileAhead() " + files.size() + " files", before );
+    }
+  }
+
+  /**
+   * @return The bytecode of {@code fqn} compiled by {@link #compileAhead(Collection)}, or null if it was not compiled
+   * ahead or is already taken
+   */
+  static byte[] takePrecompiled( String fqn )
+  {
+    SoftReference<byte[]> ref = PRECOMPILED.remove( fqn );
+    return ref == null ? null : ref.get();
+  }
+
+  private static CharSequence getSource( JavaFileObject file )
+  {
+    try
+    {
+      return file.getCharContent( true );
+    }
+    catch( IOException e )
+    {
+      throw new UncheckedIOException( e );
+    }
+  }
+
   private JavaFileObject _javaSrcFile;
   private Supplier<String> _proxySupplier;
   private String _javaFqn;
@@ -307,14 +405,21 @@ public class ManClassesUrlConnection extends URLConnection
         }
         else
         {
-          DiagnosticCollector<JavaFileObject> errorHandler = new DiagnosticCollector<>();
-          InMemoryClassJavaFileObject cls = RuntimeManifoldHost.get().getJavaParser().compile( _javaFqn,
-            Arrays.asList( "-source", "8", "-g", "-nowarn", "-Xlint:none", "-proc:none", "-parameters" ), errorHandler );
-          if( cls != null )
-          {
-            return cls.getBytes();
-          }
-          throw new JavaCompileIssuesException( _javaFqn, errorHandler );
+          return compileCached( () -> getSource( _javaSrcFile ), () -> {
+            byte[] precompiled = takePrecompiled( _javaFqn );
+            if( precompiled != null )
+            {
+              return precompiled;
+            }
+            DiagnosticCollector<JavaFileObject> errorHandler = new DiagnosticCollector<>();
+            InMemoryClassJavaFileObject cls = RuntimeManifoldHost.get().getJavaParser().compile( _javaFqn,
+              COMPILE_OPTIONS, errorHandler );
+            if( cls != null )
+            {
+              return cls.getBytes();
+            }
+            throw new JavaCompileIssuesException( _javaFqn, errorHandler );
+          } );
         }
       }
       catch( Throwable t )
@@ -333,15 +438,17 @@ public class ManClassesUrlConnection extends URLConnection
       long before = System.nanoTime();
       try
       {
-        DiagnosticCollector<JavaFileObject> errorHandler = new DiagnosticCollector<>();
-        StringJavaFileObject fileObj = new StringJavaFileObject( _javaFqn, source );
-        InMemoryClassJavaFileObject cls = RuntimeManifoldHost.get().getJavaParser().compile( fileObj, _javaFqn,
-          Arrays.asList( "-source", "8", "-g", "-nowarn", "-Xlint:none", "-proc:none", "-parameters" ), errorHandler );
-        if( cls != null )
-        {
-          return cls.getBytes();
-        }
-        throw new JavaCompileIssuesException( _javaFqn, errorHandler );
+        return compileCached( () -> source, () -> {
+          DiagnosticCollector<JavaFileObject> errorHandler = new DiagnosticCollector<>();
+          StringJavaFileObject fileObj = new StringJavaFileObject( _javaFqn, source );
+          InMemoryClassJavaFileObject cls = RuntimeManifoldHost.get().getJavaParser().compile( fileObj, _javaFqn,
+            COMPILE_OPTIONS, errorHandler );
+          if( cls != null )
+          {
+            return cls.getBytes();
+          }
+          throw new JavaCompileIssuesException( _javaFqn, errorHandler );
+        } );
       }
       finally
       {
@@ -349,6 +456,15 @@ public class ManClassesUrlConnection extends URLConnection
       }
     }
 
+    /**
+     * Loads the class from the {@link ClassCache} if its source is unchanged, otherwise compiles and caches it.
+     */
+    private byte[] compileCached( Supplier<CharSequence> source, Supplier<byte[]> compiler )
+    {
+      ClassCache cache = ClassCache.instance();
+      return cache == null ? compiler.get() : cache.getOrCompile( _javaFqn, source.get(), compiler );
+    }
+
     public int read()
     {
       init();
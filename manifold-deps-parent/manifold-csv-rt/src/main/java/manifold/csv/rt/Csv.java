@@ -20,6 +20,7 @@ import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.Reader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.LocalDate;
@@ -34,6 +35,7 @@ import java.util.stream.Collectors;
 
 import manifold.csv.rt.parser.*;
 import manifold.json.rt.api.DataBindings;
+import manifold.json.rt.api.JsonStream;
 import manifold.json.rt.parser.Token;
 import manifold.json.rt.parser.TokenType;
 import manifold.rt.api.util.Pair;
@@ -228,6 +230,61 @@ public class Csv
     }
   }
 
+  /**
+   * Parses CSV records from {@code reader} one at a time as they are iterated, each record is a {@link DataBindings}
+   * keyed by the header names, or "Field1", "Field2", etc. if the content does not have a header. Closing the stream
+   * closes {@code reader}.
+   */
+  public static <E> JsonStream<E> fromCsvStream( Reader reader )
+  {
+    return fromCsvStream( reader, CsvTokenizer.DEFAULT_SAMPLE_ROWS );
+  }
+
+  /**
+   * Same as {@link #fromCsvStream(Reader)}, where {@code sampleRows} is the number of leading rows sampled to infer the
+   * header and the field types.
+   */
+  public static <E> JsonStream<E> fromCsvStream( Reader reader, int sampleRows )
+  {
+    CsvRecordStream records = CsvParser.stream( reader, sampleRows );
+    CsvHeader header = records.getHeader();
+    Iterator<DataBindings> values = new Iterator<DataBindings>()
+    {
+      private List<String> _names = header == null
+        ? null
+        : header.getFields().stream().map( f -> f.getToken().getData() ).collect( Collectors.toList() );
+
+      @Override
+      public boolean hasNext()
+      {
+        return records.hasNext();
+      }
+
+      @Override
+      public DataBindings next()
+      {
+        CsvRecord record = records.next();
+        if( _names == null )
+        {
+          List<String> labels = new ArrayList<>();
+          for( int i = 0; i < record.getSize(); i++ )
+          {
+            labels.add( "Field" + (i + 1) );
+          }
+          _names = labels;
+        }
+        DataBindings bindings = new DataBindings();
+        List<CsvField> fields = record.getFields();
+        for( int fieldNum = 0; fieldNum < fields.size(); fieldNum++ )
+        {
+          bindings.put( _names.get( fieldNum ), fields.get( fieldNum ).getToken().getData() );
+        }
+        return bindings;
+      }
+    };
+    return new JsonStream<>( values, records );
+  }
+
   private static List<?> transformData( CsvDataSet dataSet )
   {
     CsvHeader header = dataSet.getHeader();
@@ -16,9 +16,12 @@
 
 package manifold.csv.rt;
 
-import manifold.json.rt.api.IJsonBindingsTranslator;
+import manifold.json.rt.api.IJsonBindingsStreamTranslator;
+import manifold.json.rt.api.JsonStream;
 
-public class CsvBindingsTranslator implements IJsonBindingsTranslator
+import java.io.Reader;
+
+public class CsvBindingsTranslator implements IJsonBindingsStreamTranslator
 {
   @Override
   public String getName()
@@ -61,4 +64,10 @@ public class CsvBindingsTranslator implements IJsonBindingsTranslator
   {
     return Csv.fromCsv( translation, withTokens );
   }
+
+  @Override
+  public <E> JsonStream<E> toBindingsStream( Reader reader )
+  {
+    return Csv.fromCsvStream( reader );
+  }
 }
@@ -19,6 +19,7 @@ package manifold.csv.rt.parser;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Reader;
 import java.util.ArrayList;
 import java.util.List;
 import manifold.rt.api.util.StreamUtil;
@@ -35,6 +36,24 @@ public class CsvParser
     return new CsvParser( inputStream ).parse();
   }
 
+  /**
+   * Parses records from {@code reader} on demand, see {@link CsvRecordStream}.
+   */
+  public static CsvRecordStream stream( Reader reader )
+  {
+    return stream( reader, CsvTokenizer.DEFAULT_SAMPLE_ROWS );
+  }
+
+  /**
+   * Parses records from {@code reader} on demand, see {@link CsvRecordStream}.
+   *
+   * @param sampleRows The number of leading rows sampled to infer the header and the field types
+   */
+  public static CsvRecordStream stream( Reader reader, int sampleRows )
+  {
+    return new CsvRecordStream( reader, sampleRows );
+  }
+
   private CsvParser( InputStream inputStream )
   {
     try
@@ -56,22 +75,13 @@ public class CsvParser
   private List<CsvRecord> parseRecords()
   {
     List<CsvRecord> records = new ArrayList<>();
-    List<CsvField> fields = new ArrayList<>();
     while( true )
     {
-      CsvToken token = _tokenizer.nextToken();
-      fields.add( new CsvField( token ) );
-      if( token.isLastInRecord() )
+      CsvRecord record = parseRecord( _tokenizer );
+      records.add( record );
+      if( record.getFields().get( record.getFields().size() - 1 ).getToken().isEof() )
       {
-        records.add( new CsvRecord( fields ) );
-        if( token.isEof() )
-        {
-          break;
-        }
-        else
-        {
-          fields = new ArrayList<>();
-        }
+        break;
       }
     }
     return records;
@@ -79,19 +89,32 @@ public class CsvParser
 
   private CsvHeader parseHeader()
   {
-    if( _tokenizer.hasHeader() )
+    return parseHeader( _tokenizer );
+  }
+
+  /**
+   * Parses the next record from {@code tokenizer}. The last field of the record is at EOF if the record is the last one.
+   */
+  static CsvRecord parseRecord( CsvTokenizer tokenizer )
+  {
+    List<CsvField> fields = new ArrayList<>();
+    while( true )
     {
-      List<CsvField> fields = new ArrayList<>();
-      while( true )
+      CsvToken token = tokenizer.nextToken();
+      fields.add( new CsvField( token ) );
+      if( token.isLastInRecord() )
       {
-        CsvToken token = _tokenizer.nextToken();
-        fields.add( new CsvField( token ) );
-        if( token.isLastInRecord() )
-        {
-          return new CsvHeader( fields );
-        }
+        return new CsvRecord( fields );
       }
     }
+  }
+
+  static CsvHeader parseHeader( CsvTokenizer tokenizer )
+  {
+    if( tokenizer.hasHeader() )
+    {
+      return new CsvHeader( parseRecord( tokenizer ).getFields() );
+    }
     return null;
   }
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2023 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.csv.rt.parser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+/**
+ * A window over content read from a {@code Reader}. Chars are read as the window is indexed, and content preceding the
+ * window is dropped via {@link #shift(int)}, thereby bounding the memory used to tokenize content of any size.
+ */
+final class CsvReaderContent implements CharSequence
+{
+  private static final int INITIAL_CAPACITY = 64 * 1024;
+
+  private final Reader _reader;
+  private char[] _buf;
+  private int _count;
+  private boolean _eof;
+
+  CsvReaderContent( Reader reader )
+  {
+    _reader = reader;
+    _buf = new char[INITIAL_CAPACITY];
+  }
+
+  /**
+   * Reads content until {@code index} is in the window.
+   *
+   * @return False if the content ends before {@code index}
+   */
+  boolean fill( int index )
+  {
+    while( index >= _count )
+    {
+      if( _eof )
+      {
+        return false;
+      }
+      if( _count == _buf.length )
+      {
+        // the window grows only when a single record, or the sampled rows, exceed it
+        _buf = Arrays.copyOf( _buf, _buf.length * 2 );
+      }
+      int read;
+      try
+      {
+        read = _reader.read( _buf, _count, _buf.length - _count );
+      }
+      catch( IOException e )
+      {
+        throw new UncheckedIOException( e );
+      }
+      if( read < 0 )
+      {
+        _eof = true;
+        return false;
+      }
+      _count += read;
+    }
+    return true;
+  }
+
+  /**
+   * Drops the content preceding {@code index}, thereafter {@code index} is index zero.
+   */
+  void shift( int index )
+  {
+    System.arraycopy( _buf, index, _buf, 0, _count - index );
+    _count -= index;
+  }
+
+  int getCapacity()
+  {
+    return _buf.length;
+  }
+
+  /**
+   * @return The number of chars read into the window so far
+   */
+  @Override
+  public int length()
+  {
+    return _count;
+  }
+
+  @Override
+  public char charAt( int index )
+  {
+    if( !fill( index ) )
+    {
+      throw new IndexOutOfBoundsException( "index: " + index + ", length: " + _count );
+    }
+    return _buf[index];
+  }
+
+  @Override
+  public CharSequence subSequence( int start, int end )
+  {
+    fill( end - 1 );
+    return new String( _buf, start, end - start );
+  }
+
+  @Override
+  public String toString()
+  {
+    return new String( _buf, 0, _count );
+  }
+}
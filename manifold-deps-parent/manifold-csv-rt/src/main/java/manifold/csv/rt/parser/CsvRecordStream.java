@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2023 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.csv.rt.parser;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Parses CSV records on demand from a {@code Reader}. Unlike {@link CsvParser#parse}, records are not collected into a
+ * {@link CsvDataSet}, only the records being parsed and the sampled rows are held in memory, making it suitable for
+ * content of any size.
+ * <p/>
+ * The header and the field types are inferred from a leading sample of rows, see {@link CsvParser#stream(Reader, int)}.
+ * Token offsets are relative to the tokenizer's window over the content, they are not absolute.
+ */
+public class CsvRecordStream implements Iterator<CsvRecord>, Closeable
+{
+  private final Reader _reader;
+  private final CsvTokenizer _tokenizer;
+  private final CsvHeader _header;
+  private boolean _done;
+
+  CsvRecordStream( Reader reader, int sampleRows )
+  {
+    _reader = reader;
+    CsvTokenizer tokenizer = new CsvTokenizer( reader, null, sampleRows );
+    _tokenizer = tokenizer;
+    _header = CsvParser.parseHeader( tokenizer );
+    _done = _header != null && _header.getFields().get( _header.getSize() - 1 ).getToken().isEof();
+  }
+
+  /**
+   * @return The header record, or null if the content does not have a header
+   */
+  public CsvHeader getHeader()
+  {
+    return _header;
+  }
+
+  public List<Class> getTypes()
+  {
+    return _tokenizer.getTypes();
+  }
+
+  @Override
+  public boolean hasNext()
+  {
+    return !_done;
+  }
+
+  @Override
+  public CsvRecord next()
+  {
+    if( _done )
+    {
+      throw new NoSuchElementException();
+    }
+    CsvRecord record = CsvParser.parseRecord( _tokenizer );
+    _done = record.getFields().get( record.getSize() - 1 ).getToken().isEof();
+    return record;
+  }
+
+  @Override
+  public void close() throws IOException
+  {
+    _done = true;
+    _reader.close();
+  }
+}
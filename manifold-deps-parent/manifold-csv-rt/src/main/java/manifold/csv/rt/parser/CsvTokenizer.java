@@ -16,6 +16,7 @@
 
 package manifold.csv.rt.parser;
 
+import java.io.Reader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.LocalDate;
@@ -36,8 +37,11 @@ import static manifold.csv.rt.parser.CsvToken.Type.Quoted;
 public class CsvTokenizer
 {
   private static final char[] SEPARATORS = {',', ';', ':', '|', '\t'};
+  public static final int DEFAULT_SAMPLE_ROWS = 1000;
 
   private CharSequence _content;
+  private final CsvReaderContent _readerContent;
+  private final int _sampleRows;
   private Boolean _hasHeader;
   private char _separator;
   private boolean _indented;
@@ -58,7 +62,25 @@ public class CsvTokenizer
   public CsvTokenizer( CharSequence content, Boolean header )
   {
     _content = content;
+    _readerContent = null;
     _length = content.length();
+    _sampleRows = DEFAULT_SAMPLE_ROWS;
+    _hasHeader = header;
+    resetPos();
+    sample();
+  }
+
+  /**
+   * Tokenizes content from {@code reader} as it is consumed, only a window of the content is held in memory. Note the
+   * first {@code sampleRows} rows are held while sampling to infer the separator, header, and data types.
+   * <p/>
+   * Token offsets are relative to the window, not the content as a whole.
+   */
+  public CsvTokenizer( Reader reader, Boolean header, int sampleRows )
+  {
+    _readerContent = new CsvReaderContent( reader );
+    _content = _readerContent;
+    _sampleRows = sampleRows;
     _hasHeader = header;
     resetPos();
     sample();
@@ -78,6 +100,13 @@ public class CsvTokenizer
 
   public CsvToken nextToken()
   {
+    if( _readerContent != null && !_sampling && _pos > _readerContent.getCapacity() / 2 )
+    {
+      // drop content preceding the current char, the end of the previous token
+      _readerContent.shift( _pos );
+      _pos = 0;
+    }
+
     char c = nextChar();
 
     // skip whitespace
@@ -364,7 +393,7 @@ public class CsvTokenizer
     List<Class> types = new ArrayList<>();
     int row = 0;
     int i = 0;
-    while( row < 1000 )
+    while( row < _sampleRows )
     {
       if( row > 0 && i == types.size() )
       {
@@ -764,14 +793,23 @@ public class CsvTokenizer
     }
     if( _content.charAt( _pos ) == '\r' )
     {
-      return _length-1 == _pos || _content.charAt( _pos+1 ) != '\n';
+      return isEnd( _pos + 1 ) || _content.charAt( _pos+1 ) != '\n';
     }
     return false;
   }
 
   public boolean isEof()
   {
-    return _pos == _content.length();
+    return isEnd( _pos );
+  }
+
+  private boolean isEnd( int pos )
+  {
+    if( _readerContent != null )
+    {
+      return !_readerContent.fill( pos );
+    }
+    return pos >= _length;
   }
 
   private int sampleSeparator( char separator )
@@ -838,21 +876,16 @@ public class CsvTokenizer
 
   private char _rawNextChar()
   {
-    if( _pos < _length )
+    if( !isEnd( _pos ) )
     {
       _pos++;
     }
 
-    if( _pos == _length )
+    if( isEnd( _pos ) )
     {
       return '\0'; // EOF
     }
 
-    if( _pos > _length )
-    {
-      throw new IllegalStateException( "position > length" );
-    }
-
     return _content.charAt( _pos );
   }
 
@@ -35,6 +35,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 
+import manifold.json.rt.api.JsonStream;
 import org.junit.Test;
 
 
@@ -55,6 +56,23 @@ public class CsvTest
     }
   }
 
+  @Test
+  public void testStreamCsvManifold()
+  {
+    int count = 0;
+    try( JsonStream<insurance_sample_commaItem> items = insurance_sample_commaItem.load()
+      .fromCsvStream( CsvTest.class.getResourceAsStream( "/abc/csv/insurance_sample_comma.csv" ) ) )
+    {
+      for( insurance_sample_commaItem item: items )
+      {
+        assertNotNull( item.getPolicyID() );
+        assertNotNull( item.getTiv_2012() );
+        count++;
+      }
+    }
+    assertEquals( 17, count );
+  }
+
   @Test
   public void testAdvancedFormat() throws IOException, URISyntaxException
   {
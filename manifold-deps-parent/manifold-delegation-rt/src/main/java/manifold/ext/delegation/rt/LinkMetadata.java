@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2023 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.ext.delegation.rt;
+
+import manifold.ext.delegation.rt.api.link;
+import manifold.util.ReflectUtil;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static manifold.ext.delegation.rt.RuntimeMethods.COVERED_FIELD;
+import static manifold.ext.delegation.rt.RuntimeMethods.SELF_FIELD;
+import static manifold.rt.api.util.ManClassUtil.getAllInterfaces;
+
+/**
+ * The linking facts of a class, computed once per class and cached. Linking a part to its delegating class is then a
+ * handful of field stores with accessible fields, instead of finding the wiring fields by name, computing interface
+ * sets, and scanning for {@code @link} fields on every construction.
+ */
+final class LinkMetadata
+{
+  private static final ClassValue<LinkMetadata> CACHE = new ClassValue<LinkMetadata>()
+  {
+    @Override
+    protected LinkMetadata computeValue( Class<?> cls )
+    {
+      return new LinkMetadata( cls );
+    }
+  };
+
+  /** The {@code $theSelf} fields of the class and its superclasses, empty if the class is not a part class */
+  private final Field[] _selfFields;
+  /** The {@code $interfacesFullyCovered} field, null if the class is not a part class */
+  private final Field _coveredField;
+  /** The non-static {@code @link} fields of the class and its superclasses */
+  private final LinkField[] _linkFields;
+  /** Whether a delegating class links all the interfaces of the class */
+  private final ClassValue<Boolean> _coveredBy;
+
+  static LinkMetadata get( Class<?> cls )
+  {
+    return CACHE.get( cls );
+  }
+
+  private LinkMetadata( Class<?> cls )
+  {
+    _selfFields = findSelfFields( cls );
+    _coveredField = _selfFields.length == 0 ? null : findField( cls, COVERED_FIELD );
+    _linkFields = findLinkFields( cls );
+    _coveredBy = new ClassValue<Boolean>()
+    {
+      @Override
+      protected Boolean computeValue( Class<?> delegatingClass )
+      {
+        Set<Class> partInterfaces = getAllInterfaces( cls );
+        int partInterfaceCount = partInterfaces.size();
+        partInterfaces.retainAll( getAllInterfaces( delegatingClass ) );
+        return partInterfaces.size() == partInterfaceCount;
+      }
+    };
+  }
+
+  boolean isPart()
+  {
+    return _selfFields.length > 0;
+  }
+
+  Field[] getSelfFields()
+  {
+    return _selfFields;
+  }
+
+  Field getCoveredField()
+  {
+    return _coveredField;
+  }
+
+  LinkField[] getLinkFields()
+  {
+    return _linkFields;
+  }
+
+  boolean isCoveredBy( Class<?> delegatingClass )
+  {
+    return _coveredBy.get( delegatingClass );
+  }
+
+  private static Field[] findSelfFields( Class<?> cls )
+  {
+    Field self = findField( cls, SELF_FIELD );
+    if( self == null )
+    {
+      return new Field[0];
+    }
+
+    Set<Field> selfFields = new LinkedHashSet<>();
+    selfFields.add( self );
+    for( Class<?> superclass = cls.getSuperclass(); superclass != null; superclass = superclass.getSuperclass() )
+    {
+      if( superclass == Object.class )
+      {
+        break;
+      }
+      Field superSelf = findField( superclass, SELF_FIELD );
+      if( superSelf == null )
+      {
+        throw new IllegalStateException( "Missing field '" + SELF_FIELD + "' in superclass '" +
+          superclass.getTypeName() + "' of part class '" + cls.getTypeName() + "'" );
+      }
+      selfFields.add( superSelf );
+    }
+    return selfFields.toArray( new Field[0] );
+  }
+
+  private static LinkField[] findLinkFields( Class<?> cls )
+  {
+    // names resolve to the most derived field, as with ReflectUtil#field
+    Set<Field> fields = new LinkedHashSet<>();
+    for( Class<?> c = cls; c != null && c != Object.class; c = c.getSuperclass() )
+    {
+      for( Field f : c.getDeclaredFields() )
+      {
+        if( !Modifier.isStatic( f.getModifiers() ) )
+        {
+          Field field = findField( cls, f.getName() );
+          if( field != null && !Modifier.isStatic( field.getModifiers() ) )
+          {
+            fields.add( field );
+          }
+        }
+      }
+    }
+
+    List<LinkField> linkFields = new ArrayList<>();
+    for( Field field : fields )
+    {
+      link linkAnno = field.getAnnotation( link.class );
+      if( linkAnno != null )
+      {
+        linkFields.add( new LinkField( field, linkAnno.value() ) );
+      }
+    }
+    return linkFields.toArray( new LinkField[0] );
+  }
+
+  private static Field findField( Class<?> cls, String name )
+  {
+    ReflectUtil.FieldRef ref = ReflectUtil.field( cls, name );
+    return ref == null ? null : ref.getField();
+  }
+
+  /**
+   * A {@code @link} field and the interfaces it links.
+   */
+  static final class LinkField
+  {
+    private final Field _field;
+    private final Class<?>[] _linkedTypes;
+
+    private LinkField( Field field, Class<?>[] annoTypes )
+    {
+      _field = field;
+      _linkedTypes = annoTypes != null && annoTypes.length > 0 ? annoTypes : new Class<?>[] {field.getType()};
+    }
+
+    Object get( Object receiver )
+    {
+      try
+      {
+        return _field.get( receiver );
+      }
+      catch( IllegalAccessException e )
+      {
+        throw new IllegalStateException( e );
+      }
+    }
+
+    /**
+     * @return True if this field links {@code iface}, either by the interfaces listed in its {@code @link} annotation
+     * or, if none are listed, by its declared type.
+     */
+    boolean links( Class<?> iface )
+    {
+      for( Class<?> type : _linkedTypes )
+      {
+        if( iface.isAssignableFrom( type ) )
+        {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+}
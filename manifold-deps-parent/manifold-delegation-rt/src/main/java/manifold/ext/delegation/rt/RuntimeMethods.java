@@ -16,12 +16,9 @@
 
 package manifold.ext.delegation.rt;
 
-import manifold.ext.delegation.rt.api.link;
 import manifold.util.ReflectUtil;
 
-import java.util.*;
-
-import static manifold.rt.api.util.ManClassUtil.getAllInterfaces;
+import java.lang.reflect.Field;
 
 public class RuntimeMethods
 {
@@ -52,46 +49,37 @@ public class RuntimeMethods
 
   private static void linkPartToSelf( Object delegatingClass, Object part )
   {
-    ReflectUtil.LiveFieldRef self = ReflectUtil.WithNull.field( part, SELF_FIELD );
-    if( self == null )
+    LinkMetadata metadata = LinkMetadata.get( part.getClass() );
+    if( !metadata.isPart() )
     {
       return;
     }
 
-    if( areAllPartInterfacesLinked( delegatingClass, part ) )
+    try
     {
-      ReflectUtil.LiveFieldRef covered = ReflectUtil.WithNull.field( part, COVERED_FIELD );
-      if( covered == null )
+      if( metadata.isCoveredBy( delegatingClass.getClass() ) )
       {
-        return;
+        metadata.getCoveredField().setBoolean( part, true );
       }
-      covered.set( true );
-    }
 
-    self.set( delegatingClass );
-
-    for( Class<?> superclass = part.getClass().getSuperclass(); superclass != null; superclass = superclass.getSuperclass() )
-    {
-      if( superclass == Object.class )
+      for( Field self : metadata.getSelfFields() )
       {
-        break;
+        self.set( part, delegatingClass );
       }
-      ReflectUtil.field( superclass, SELF_FIELD ).set( part, delegatingClass );
+    }
+    catch( IllegalAccessException e )
+    {
+      throw new IllegalStateException( e );
     }
 
-    ReflectUtil.fields( part, f -> !f.isStatic() && f.getField().getAnnotation( link.class ) != null )
-      .forEach( delegateField -> {
-        Object partDelegate = delegateField.get();
+    for( LinkMetadata.LinkField linkField : metadata.getLinkFields() )
+    {
+      Object partDelegate = linkField.get( part );
+      if( partDelegate != null )
+      {
         linkPartToSelf( delegatingClass, partDelegate );
-      } );
-  }
-
-  private static boolean areAllPartInterfacesLinked( Object delegatingClass, Object part )
-  {
-    Set<Class> partInterfaces = getAllInterfaces( part.getClass() );
-    int partInterfaceCount = partInterfaces.size();
-    partInterfaces.retainAll( getAllInterfaces( delegatingClass.getClass() ) );
-    return partInterfaces.size() == partInterfaceCount;
+      }
+    }
   }
 
   /**
@@ -133,9 +121,17 @@ public class RuntimeMethods
   @SuppressWarnings( "unused" )
   public static boolean linksInterfaceTo( Class<?> iface, Object from, Object to )
   {
-    if( (boolean)ReflectUtil.field( to, COVERED_FIELD ).get() )
+    Field covered = LinkMetadata.get( to.getClass() ).getCoveredField();
+    try
+    {
+      if( covered != null && covered.getBoolean( to ) )
+      {
+        return true;
+      }
+    }
+    catch( IllegalAccessException e )
     {
-      return true;
+      throw new IllegalStateException( e );
     }
     return _linksInterfaceTo( iface, from, to );
   }
@@ -146,41 +142,22 @@ public class RuntimeMethods
       return false;
     }
 
-    for( ReflectUtil.LiveFieldRef f : ReflectUtil.fields( from, f -> !f.isStatic() ) )
+    for( LinkMetadata.LinkField linkField : LinkMetadata.get( from.getClass() ).getLinkFields() )
     {
-      link linkAnno = f.getField().getAnnotation( link.class );
-      if( linkAnno == null )
+      if( !linkField.links( iface ) )
       {
         continue;
       }
 
-      Object value = f.get();
+      Object value = linkField.get( from );
       if( !iface.isInstance( value ) )
       {
         continue;
       }
 
-      Class<?>[] annoTypes = linkAnno.value();
-      if( annoTypes != null && annoTypes.length > 0 )
-      {
-        if( Arrays.stream( annoTypes ).anyMatch( t -> iface.isAssignableFrom( t ) ) )
-        {
-          if( value == to || linksInterfaceTo( iface, value, to ) )
-          {
-            return true;
-          }
-        }
-      }
-      else
+      if( value == to || linksInterfaceTo( iface, value, to ) )
       {
-        Class<?> type = f.getField().getType();
-        if( iface.isAssignableFrom( type ) )
-        {
-          if( value == to || linksInterfaceTo( iface, value, to ) )
-          {
-            return true;
-          }
-        }
+        return true;
       }
     }
     return false;
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2023 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.ext.delegation.parts.linking;
+
+import junit.framework.TestCase;
+import manifold.ext.delegation.rt.api.link;
+import manifold.ext.delegation.rt.api.part;
+
+/**
+ * Exercises linking a part's own parts to the delegating class.
+ */
+public class LinkingTest extends TestCase
+{
+  public void testMultiLevelPart()
+  {
+    // MyOuter -> OuterPart -> InnerPart, InnerPart's self calls dispatch to MyOuter
+    MyOuter outer = new MyOuter( new InnerPart() );
+    assertEquals( "outer:inner:MyOuter", outer.outer() );
+    assertEquals( "inner:MyOuter", outer.inner() );
+  }
+
+  public void testSuperclassSelfChain()
+  {
+    // the inherited inner() uses InnerPart's $theSelf, which must be linked too
+    MyOuter outer = new MyOuter( new SubInnerPart() );
+    assertEquals( "outer:inner:MyOuter", outer.outer() );
+    assertEquals( "sub", outer.sub() );
+  }
+
+  public void testNullLinkFieldIsSkipped()
+  {
+    // OuterPart's _inner is never assigned
+    MyOuter outer = new MyOuter( null );
+    assertEquals( "outer", outer.outer() );
+  }
+
+  interface Inner
+  {
+    String inner();
+    String innerName();
+  }
+
+  interface Outer extends Inner
+  {
+    String outer();
+    String sub();
+  }
+
+  static @part class InnerPart implements Inner
+  {
+    @Override
+    public String inner()
+    {
+      return "inner:" + innerName();
+    }
+
+    @Override
+    public String innerName()
+    {
+      return "InnerPart";
+    }
+  }
+
+  static @part class SubInnerPart extends InnerPart
+  {
+  }
+
+  static @part class OuterPart implements Outer
+  {
+    @link Inner _inner;
+
+    OuterPart( Inner inner )
+    {
+      if( inner != null )
+      {
+        _inner = inner;
+      }
+    }
+
+    @Override
+    public String outer()
+    {
+      return _inner == null ? "outer" : "outer:" + inner();
+    }
+
+    @Override
+    public String sub()
+    {
+      return _inner instanceof SubInnerPart ? "sub" : "";
+    }
+  }
+
+  static class MyOuter implements Outer
+  {
+    @link Outer _outer;
+
+    MyOuter( Inner inner )
+    {
+      _outer = new OuterPart( inner );
+    }
+
+    @Override
+    public String innerName()
+    {
+      return "MyOuter";
+    }
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2023 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.ext.indy;
+
+import junit.framework.TestCase;
+import manifold.ext.JailbreakTest;
+import manifold.ext.indy.stuff.Secrets;
+import manifold.ext.rt.api.Jailbreak;
+import manifold.rt.api.util.StreamUtil;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Verifies the tests shared with manifold-ext-test are compiled to invokedynamic call sites in this module. The tests
+ * themselves verify the call sites behave the same as the reflective calls they replace.
+ */
+public class IndyCallSitesTest extends TestCase
+{
+  public void testJailbreakCallSites() throws IOException
+  {
+    String classFile = classFileText( JailbreakTest.class );
+    assertTrue( classFile.contains( "manifold/ext/rt/JailbreakBootstrap" ) );
+    assertFalse( classFile.contains( "manifold/ext/rt/ReflectionRuntimeMethods" ) );
+  }
+
+  public void testJailbreakMembersDifferingOnlyByName()
+  {
+    @Jailbreak Secrets secrets = new Secrets();
+    assertEquals( "first", secrets._first );
+    assertEquals( "second", secrets._second );
+    secrets._second = "changed";
+    assertEquals( "first", secrets._first );
+    assertEquals( "changed", secrets._second );
+    assertEquals( "hello bob", secrets.hello( "bob" ) );
+    assertEquals( "goodbye bob", secrets.goodbye( "bob" ) );
+
+    @Jailbreak Secrets statics = null;
+    assertEquals( 1, statics._one );
+    assertEquals( 2, statics._two );
+  }
+
+  /**
+   * Class names in the constant pool are stored as (modified) UTF-8, a Latin-1 decoding of the class file is enough to
+   * check for references to a class.
+   */
+  static String classFileText( Class<?> cls ) throws IOException
+  {
+    try( InputStream in = cls.getResourceAsStream( '/' + cls.getName().replace( '.', '/' ) + ".class" ) )
+    {
+      return new String( StreamUtil.getContent( in ), StandardCharsets.ISO_8859_1 );
+    }
+  }
+}
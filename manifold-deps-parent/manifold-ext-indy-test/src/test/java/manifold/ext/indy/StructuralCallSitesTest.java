@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2023 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.ext.indy;
+
+import junit.framework.TestCase;
+import manifold.ext.indy.stuff.Location;
+import manifold.ext.structural.Coordinate;
+import manifold.ext.structural.StructuralTypeTest;
+
+import java.awt.*;
+import java.awt.geom.Point2D;
+import java.io.IOException;
+
+import static manifold.ext.indy.IndyCallSitesTest.classFileText;
+
+/**
+ * Exercises a single structural call site with more receiver classes than it links before going megamorphic.
+ */
+public class StructuralCallSitesTest extends TestCase
+{
+  public void testStructuralCallSites() throws IOException
+  {
+    String classFile = classFileText( StructuralTypeTest.class );
+    assertTrue( classFile.contains( "manifold/ext/rt/StructuralBootstrap" ) );
+    assertFalse( classFile.contains( "constructProxy" ) );
+  }
+
+  public void testMonomorphic()
+  {
+    Coordinate coord = (Coordinate)new Point( 1, 2 );
+    for( int i = 0; i < 3; i++ )
+    {
+      assertEquals( 1d, x( coord ) );
+      assertEquals( 2d, y( coord ) );
+    }
+  }
+
+  public void testPolymorphicAndMegamorphic()
+  {
+    // a structural array would fail the array store check, the receivers are cast at the call site
+    Object[] coords = {
+      new Point( 1, 2 ),            // direct call to a public method
+      new Rectangle( 3, 4, 5, 6 ),  // direct call to an inherited method
+      new Point2D.Double( 5, 6 ),
+      new Point2D.Float( 7, 8 ),    // the call site is full after this one
+      new Location( 9, 10 ),        // call through the interface
+      new IntCoordinate( 11, 12 ),  // call through a proxy, the methods return int
+    };
+    // the second round is dispatched by the megamorphic call site, including receivers linked in the first round
+    for( int round = 0; round < 2; round++ )
+    {
+      for( int i = 0; i < coords.length; i++ )
+      {
+        assertEquals( 2d * i + 1, x( (Coordinate)coords[i] ) );
+        assertEquals( 2d * i + 2, y( (Coordinate)coords[i] ) );
+      }
+    }
+  }
+
+  public void testNullReceiver()
+  {
+    try
+    {
+      x( null );
+      fail();
+    }
+    catch( NullPointerException expected )
+    {
+    }
+  }
+
+  private static double x( Coordinate coord )
+  {
+    return coord.getX();
+  }
+
+  private static double y( Coordinate coord )
+  {
+    return coord.getY();
+  }
+
+  public static class IntCoordinate
+  {
+    private final int _x;
+    private final int _y;
+
+    public IntCoordinate( int x, int y )
+    {
+      _x = x;
+      _y = y;
+    }
+
+    public int getX()
+    {
+      return _x;
+    }
+
+    public int getY()
+    {
+      return _y;
+    }
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2023 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.ext.indy.stuff;
+
+import manifold.ext.structural.Coordinate;
+
+/**
+ * Implements the structural interface nominally, a call site calls it directly through the interface.
+ */
+public class Location implements Coordinate
+{
+  private final double _x;
+  private final double _y;
+
+  public Location( double x, double y )
+  {
+    _x = x;
+    _y = y;
+  }
+
+  @Override
+  public double getX()
+  {
+    return _x;
+  }
+
+  @Override
+  public double getY()
+  {
+    return _y;
+  }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2023 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.ext.indy.stuff;
+
+/**
+ * Private members having the same types, their call sites differ only by name.
+ */
+public class Secrets
+{
+  private String _first = "first";
+  private String _second = "second";
+  private static int _one = 1;
+  private static int _two = 2;
+
+  private String hello( String name )
+  {
+    return "hello " + name;
+  }
+
+  private String goodbye( String name )
+  {
+    return "goodbye " + name;
+  }
+}
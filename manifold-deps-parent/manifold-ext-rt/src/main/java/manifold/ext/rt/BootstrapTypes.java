@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2023 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.ext.rt;
+
+import manifold.util.ReflectUtil;
+
+/**
+ * Resolves the type names passed as static arguments to {@link JailbreakBootstrap} and {@link StructuralBootstrap}.
+ */
+class BootstrapTypes
+{
+  /**
+   * @param paramTypes Comma separated qualified names of parameter types, empty if there are none
+   */
+  static Class<?>[] parseParamTypes( String paramTypes, ClassLoader cl ) throws ClassNotFoundException
+  {
+    if( paramTypes.isEmpty() )
+    {
+      return new Class<?>[0];
+    }
+    String[] names = paramTypes.split( "," );
+    Class<?>[] params = new Class<?>[names.length];
+    for( int i = 0; i < names.length; i++ )
+    {
+      params[i] = type( names[i], cl );
+    }
+    return params;
+  }
+
+  static Class<?> type( String fqn, ClassLoader cl ) throws ClassNotFoundException
+  {
+    Class<?> cls = ReflectUtil.type( fqn, cl );
+    if( cls == null )
+    {
+      throw new ClassNotFoundException( fqn );
+    }
+    return cls;
+  }
+}
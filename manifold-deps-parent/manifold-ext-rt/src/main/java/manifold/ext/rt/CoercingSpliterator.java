@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2023 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.ext.rt;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A view of a spliterator over raw values, such as the bindings values of a JSON list, that coerces each value as it is
+ * traversed. Splitting splits the raw spliterator, so parallel streams split over the backing list, and short-circuiting
+ * operations coerce only the values they touch.
+ */
+public final class CoercingSpliterator<T> implements Spliterator<T>
+{
+  private final Spliterator<?> _raw;
+  private final Function<Object, T> _coercer;
+
+  public CoercingSpliterator( Spliterator<?> raw, Function<Object, T> coercer )
+  {
+    _raw = raw;
+    _coercer = coercer;
+  }
+
+  @Override
+  public boolean tryAdvance( Consumer<? super T> action )
+  {
+    return _raw.tryAdvance( e -> action.accept( _coercer.apply( e ) ) );
+  }
+
+  @Override
+  public void forEachRemaining( Consumer<? super T> action )
+  {
+    _raw.forEachRemaining( e -> action.accept( _coercer.apply( e ) ) );
+  }
+
+  @Override
+  public Spliterator<T> trySplit()
+  {
+    Spliterator<?> prefix = _raw.trySplit();
+    return prefix == null ? null : new CoercingSpliterator<>( prefix, _coercer );
+  }
+
+  @Override
+  public long estimateSize()
+  {
+    return _raw.estimateSize();
+  }
+
+  /**
+   * Coercion preserves the order and size of the raw values, but not their sorting, distinctness, or non-nullness.
+   */
+  @Override
+  public int characteristics()
+  {
+    return _raw.characteristics() & ~(SORTED | DISTINCT | NONNULL);
+  }
+}
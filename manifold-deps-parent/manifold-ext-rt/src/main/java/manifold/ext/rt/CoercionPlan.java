@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2023 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *   
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.ext.rt;
+
+import manifold.ext.rt.api.ICallHandler;
+import manifold.ext.rt.api.ICoercionProvider;
+import manifold.rt.api.util.ManClassUtil;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The resolved coercion of values of a given class to a given type, see {@link RuntimeMethods#coerce(Object, Type)}.
+ * A plan is made once per value class and target type. It determines whether values are assignable as-is and which
+ * {@link ICoercionProvider}s may handle the coercion, so that coercing a value calls only those providers. Plans are
+ * cached per value class with a {@link ClassValue}, so a cached plan does not keep the value class's loader alive.
+ */
+public final class CoercionPlan
+{
+  private static volatile ClassValue<Map<Type, CoercionPlan>> _plans = makePlans();
+  private static final LongAdder HITS = new LongAdder();
+  private static final LongAdder MISSES = new LongAdder();
+  private static final ICoercionProvider[] NO_PROVIDERS = {};
+
+  private final Class<?> _type;
+  private final boolean _assignable;
+  private final ICoercionProvider[] _providers;
+
+  static CoercionPlan get( Class<?> valueClass, Type type )
+  {
+    Map<Type, CoercionPlan> plans = _plans.get( valueClass );
+    CoercionPlan plan = plans.get( type );
+    if( plan != null )
+    {
+      HITS.increment();
+      return plan;
+    }
+    MISSES.increment();
+    return plans.computeIfAbsent( type, __ -> new CoercionPlan( valueClass, type ) );
+  }
+
+  private static ClassValue<Map<Type, CoercionPlan>> makePlans()
+  {
+    return new ClassValue<Map<Type, CoercionPlan>>()
+    {
+      @Override
+      protected Map<Type, CoercionPlan> computeValue( Class<?> valueClass )
+      {
+        return new ConcurrentHashMap<>();
+      }
+    };
+  }
+
+  private CoercionPlan( Class<?> valueClass, Type t )
+  {
+    Class<?> type = t instanceof ParameterizedType ? (Class<?>)((ParameterizedType)t).getRawType() : (Class<?>)t;
+    if( type.isPrimitive() )
+    {
+      type = ManClassUtil.box( type );
+    }
+    _type = type;
+    _assignable = valueClass == type || type.isAssignableFrom( valueClass );
+
+    List<ICoercionProvider> providers = new ArrayList<>();
+    for( ICoercionProvider coercer: CoercionProviders.get() )
+    {
+      if( coercer.canCoerce( valueClass, t ) )
+      {
+        providers.add( coercer );
+      }
+    }
+    _providers = providers.isEmpty() ? NO_PROVIDERS : providers.toArray( NO_PROVIDERS );
+  }
+
+  /**
+   * The raw target type, boxed if primitive.
+   */
+  Class<?> getType()
+  {
+    return _type;
+  }
+
+  /**
+   * True if values are assignable to the target type without coercion.
+   */
+  boolean isAssignable()
+  {
+    return _assignable;
+  }
+
+  Object callCoercionProviders( Object value, Type type )
+  {
+    for( ICoercionProvider coercer: _providers )
+    {
+      Object coercedValue = coercer.coerce( value, type );
+      if( coercedValue != ICallHandler.UNHANDLED )
+      {
+        return coercedValue;
+      }
+    }
+    return ICallHandler.UNHANDLED;
+  }
+
+  /**
+   * @return The number of coercions using an existing plan.
+   */
+  public static long getHits()
+  {
+    return HITS.sum();
+  }
+
+  /**
+   * @return The number of coercions requiring a new plan.
+   */
+  public static long getMisses()
+  {
+    return MISSES.sum();
+  }
+
+  /**
+   * Discards all plans and resets the counters.
+   */
+  public static void clear()
+  {
+    _plans = makePlans();
+    HITS.reset();
+    MISSES.reset();
+  }
+}
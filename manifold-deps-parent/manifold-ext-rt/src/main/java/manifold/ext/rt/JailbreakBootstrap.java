@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2023 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.ext.rt;
+
+import manifold.util.ReflectUtil;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.ConstantCallSite;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import static java.lang.invoke.MethodType.methodType;
+import static manifold.ext.rt.BootstrapTypes.parseParamTypes;
+import static manifold.ext.rt.BootstrapTypes.type;
+
+/**
+ * Bootstrap method for {@code invokedynamic} call sites the compiler emits for {@code @Jailbreak} member access when the
+ * {@code jailbreak-indy} plugin argument is present. The member is resolved once when the call site is first executed
+ * and the call site is then permanently linked to a direct {@code MethodHandle}, thereby avoiding the per call lookup,
+ * argument boxing, and {@code Method.invoke()} of {@link ReflectionRuntimeMethods}.
+ * <p/>
+ * If a direct handle can't be made, for instance when setting a final field, the call site is linked to the
+ * corresponding {@link ReflectionRuntimeMethods} method instead.
+ */
+@SuppressWarnings( "unused" )
+public class JailbreakBootstrap
+{
+  public static final String INVOKE = "invoke";
+  public static final String INVOKE_STATIC = "invokeStatic";
+  public static final String GET_FIELD = "getField";
+  public static final String GET_FIELD_STATIC = "getFieldStatic";
+  public static final String SET_FIELD = "setField";
+  public static final String SET_FIELD_STATIC = "setFieldStatic";
+  public static final String CONSTRUCT = "construct";
+
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+  /**
+   * @param caller     The class containing the call site
+   * @param siteName   The name of the call site, same as {@code name}
+   * @param type       The call site type, the receiver (if any) and reference types are erased to {@code Object}
+   * @param kind       One of the kind constants declared here e.g., {@link #INVOKE}
+   * @param owner      The qualified name of the class declaring the member
+   * @param name       The name of the method or field, ignored for constructors. Passed as a static argument because
+   *                   call sites differing only in name share the same constant pool entry
+   * @param paramTypes Comma separated qualified names of the member's parameter types, empty for fields
+   */
+  public static CallSite bootstrap( MethodHandles.Lookup caller, String siteName, MethodType type,
+                                    String kind, String owner, String name, String paramTypes )
+    throws ReflectiveOperationException
+  {
+    ClassLoader cl = caller.lookupClass().getClassLoader();
+    Class<?> ownerClass = type( owner, cl );
+    Class<?>[] params = parseParamTypes( paramTypes, cl );
+
+    MethodHandle target;
+    try
+    {
+      target = makeDirect( kind, ownerClass, name, params );
+    }
+    catch( IllegalAccessException e )
+    {
+      target = makeReflective( kind, ownerClass, name, params );
+    }
+    return new ConstantCallSite( target.asType( type ) );
+  }
+
+  private static MethodHandle makeDirect( String kind, Class<?> ownerClass, String name, Class<?>[] params )
+    throws ReflectiveOperationException
+  {
+    switch( kind )
+    {
+      case INVOKE:
+      case INVOKE_STATIC:
+      {
+        ReflectUtil.MethodRef ref = ReflectUtil.method( ownerClass, name, params );
+        if( ref == null )
+        {
+          throw new NoSuchMethodException( ownerClass.getTypeName() + "#" + name );
+        }
+        return ref.getHandle();
+      }
+      case GET_FIELD:
+      case GET_FIELD_STATIC:
+        return findField( ownerClass, name ).getGetter();
+      case SET_FIELD:
+      case SET_FIELD_STATIC:
+      {
+        // the assignment expression's value is the assigned value: (receiver, value) -> value
+        ReflectUtil.FieldRef ref = findField( ownerClass, name );
+        Field field = ref.getField();
+        MethodHandle setter = ref.getSetter();
+        MethodHandle value = MethodHandles.identity( field.getType() );
+        if( !Modifier.isStatic( field.getModifiers() ) )
+        {
+          value = MethodHandles.dropArguments( value, 0, field.getDeclaringClass() );
+        }
+        return MethodHandles.foldArguments( value, setter );
+      }
+      case CONSTRUCT:
+      {
+        ReflectUtil.ConstructorRef ref = ReflectUtil.constructor( ownerClass, params );
+        if( ref == null )
+        {
+          throw new NoSuchMethodException( ownerClass.getTypeName() + "#<init>" );
+        }
+        return ref.getHandle();
+      }
+      default:
+        throw new IllegalArgumentException( "Unexpected kind: " + kind );
+    }
+  }
+
+  private static MethodHandle makeReflective( String kind, Class<?> ownerClass, String name, Class<?>[] params )
+    throws ReflectiveOperationException
+  {
+    Class<?> rm = ReflectionRuntimeMethods.class;
+    switch( kind )
+    {
+      case INVOKE:
+        return MethodHandles.insertArguments( LOOKUP.findStatic( rm, "invoke_Object",
+          methodType( Object.class, Object.class, String.class, Class[].class, Object[].class ) ), 1, name, params )
+          .asCollector( Object[].class, params.length );
+      case INVOKE_STATIC:
+        return MethodHandles.insertArguments( LOOKUP.findStatic( rm, "invokeStatic_Object",
+          methodType( Object.class, Class.class, String.class, Class[].class, Object[].class ) ), 0, ownerClass, name, params )
+          .asCollector( Object[].class, params.length );
+      case GET_FIELD:
+        return MethodHandles.insertArguments( LOOKUP.findStatic( rm, "getField_Object",
+          methodType( Object.class, Object.class, String.class ) ), 1, name );
+      case GET_FIELD_STATIC:
+        return MethodHandles.insertArguments( LOOKUP.findStatic( rm, "getFieldStatic_Object",
+          methodType( Object.class, Class.class, String.class ) ), 0, ownerClass, name );
+      case SET_FIELD:
+        return MethodHandles.insertArguments( LOOKUP.findStatic( rm, "setField_Object",
+          methodType( Object.class, Object.class, String.class, Object.class ) ), 1, name );
+      case SET_FIELD_STATIC:
+        return MethodHandles.insertArguments( LOOKUP.findStatic( rm, "setFieldStatic_Object",
+          methodType( Object.class, Class.class, String.class, Object.class ) ), 0, ownerClass, name );
+      case CONSTRUCT:
+        return MethodHandles.insertArguments( LOOKUP.findStatic( rm, "construct",
+          methodType( Object.class, Class.class, Class[].class, Object[].class ) ), 0, ownerClass, params )
+          .asCollector( Object[].class, params.length );
+      default:
+        throw new IllegalArgumentException( "Unexpected kind: " + kind );
+    }
+  }
+
+  private static ReflectUtil.FieldRef findField( Class<?> ownerClass, String name ) throws NoSuchFieldException
+  {
+    ReflectUtil.FieldRef ref = ReflectUtil.field( ownerClass, name );
+    if( ref == null )
+    {
+      throw new NoSuchFieldException( ownerClass.getTypeName() + "#" + name );
+    }
+    return ref;
+  }
+}
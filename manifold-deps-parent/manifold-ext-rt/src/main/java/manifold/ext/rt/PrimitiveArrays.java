@@ -0,0 +1,408 @@
+/*
+ * Copyright (c) 2023 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.ext.rt;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * Primitive-specialized support for the array extension methods, see {@code ManArrayExt}. The list views and
+ * spliterators read and write primitive arrays directly, without reflection and without copying. Elements are boxed
+ * only as they are accessed through the {@code List} or {@code Spliterator} API.
+ */
+public final class PrimitiveArrays
+{
+  private PrimitiveArrays()
+  {
+  }
+
+  /**
+   * @return A fixed-size list view of the primitive {@code array}, changes to the list write through to the array
+   */
+  public static List<?> asList( Object array )
+  {
+    switch( array.getClass().getComponentType().getTypeName() )
+    {
+      case "byte":
+        return new ByteList( (byte[])array );
+      case "short":
+        return new ShortList( (short[])array );
+      case "int":
+        return new IntList( (int[])array );
+      case "long":
+        return new LongList( (long[])array );
+      case "float":
+        return new FloatList( (float[])array );
+      case "double":
+        return new DoubleList( (double[])array );
+      case "char":
+        return new CharList( (char[])array );
+      case "boolean":
+        return new BooleanList( (boolean[])array );
+      default:
+        throw new IllegalArgumentException( array + " does not have a primitive component type" );
+    }
+  }
+
+  /**
+   * @return A spliterator over the primitive {@code array}, a {@link Spliterator.OfInt}, {@link Spliterator.OfLong}, or
+   * {@link Spliterator.OfDouble} for {@code int[]}, {@code long[]}, and {@code double[]}
+   */
+  public static Spliterator<?> spliterator( Object array, int characteristics )
+  {
+    switch( array.getClass().getComponentType().getTypeName() )
+    {
+      case "int":
+        return Spliterators.spliterator( (int[])array, characteristics );
+      case "long":
+        return Spliterators.spliterator( (long[])array, characteristics );
+      case "double":
+        return Spliterators.spliterator( (double[])array, characteristics );
+      default:
+        return Spliterators.spliterator( asList( array ), characteristics );
+    }
+  }
+
+  private static abstract class PrimitiveList<E> extends AbstractList<E> implements RandomAccess, Serializable
+  {
+    @Override
+    public void forEach( Consumer<? super E> action )
+    {
+      Objects.requireNonNull( action );
+      for( int i = 0, size = size(); i < size; i++ )
+      {
+        action.accept( get( i ) );
+      }
+    }
+  }
+
+  private static final class IntList extends PrimitiveList<Integer>
+  {
+    private final int[] _array;
+
+    private IntList( int[] array )
+    {
+      _array = array;
+    }
+
+    @Override
+    public Integer get( int index )
+    {
+      return _array[index];
+    }
+
+    @Override
+    public Integer set( int index, Integer element )
+    {
+      int old = _array[index];
+      _array[index] = element;
+      return old;
+    }
+
+    @Override
+    public int size()
+    {
+      return _array.length;
+    }
+
+    @Override
+    public int indexOf( Object o )
+    {
+      if( o instanceof Integer )
+      {
+        int value = (Integer)o;
+        for( int i = 0; i < _array.length; i++ )
+        {
+          if( _array[i] == value )
+          {
+            return i;
+          }
+        }
+      }
+      return -1;
+    }
+
+    @Override
+    public Spliterator<Integer> spliterator()
+    {
+      return Spliterators.spliterator( _array, Spliterator.ORDERED );
+    }
+  }
+
+  private static final class LongList extends PrimitiveList<Long>
+  {
+    private final long[] _array;
+
+    private LongList( long[] array )
+    {
+      _array = array;
+    }
+
+    @Override
+    public Long get( int index )
+    {
+      return _array[index];
+    }
+
+    @Override
+    public Long set( int index, Long element )
+    {
+      long old = _array[index];
+      _array[index] = element;
+      return old;
+    }
+
+    @Override
+    public int size()
+    {
+      return _array.length;
+    }
+
+    @Override
+    public int indexOf( Object o )
+    {
+      if( o instanceof Long )
+      {
+        long value = (Long)o;
+        for( int i = 0; i < _array.length; i++ )
+        {
+          if( _array[i] == value )
+          {
+            return i;
+          }
+        }
+      }
+      return -1;
+    }
+
+    @Override
+    public Spliterator<Long> spliterator()
+    {
+      return Spliterators.spliterator( _array, Spliterator.ORDERED );
+    }
+  }
+
+  private static final class DoubleList extends PrimitiveList<Double>
+  {
+    private final double[] _array;
+
+    private DoubleList( double[] array )
+    {
+      _array = array;
+    }
+
+    @Override
+    public Double get( int index )
+    {
+      return _array[index];
+    }
+
+    @Override
+    public Double set( int index, Double element )
+    {
+      double old = _array[index];
+      _array[index] = element;
+      return old;
+    }
+
+    @Override
+    public int size()
+    {
+      return _array.length;
+    }
+
+    @Override
+    public int indexOf( Object o )
+    {
+      if( o instanceof Double )
+      {
+        // same as Double#equals()
+        long bits = Double.doubleToLongBits( (Double)o );
+        for( int i = 0; i < _array.length; i++ )
+        {
+          if( Double.doubleToLongBits( _array[i] ) == bits )
+          {
+            return i;
+          }
+        }
+      }
+      return -1;
+    }
+
+    @Override
+    public Spliterator<Double> spliterator()
+    {
+      return Spliterators.spliterator( _array, Spliterator.ORDERED );
+    }
+  }
+
+  private static final class ByteList extends PrimitiveList<Byte>
+  {
+    private final byte[] _array;
+
+    private ByteList( byte[] array )
+    {
+      _array = array;
+    }
+
+    @Override
+    public Byte get( int index )
+    {
+      return _array[index];
+    }
+
+    @Override
+    public Byte set( int index, Byte element )
+    {
+      byte old = _array[index];
+      _array[index] = element;
+      return old;
+    }
+
+    @Override
+    public int size()
+    {
+      return _array.length;
+    }
+  }
+
+  private static final class ShortList extends PrimitiveList<Short>
+  {
+    private final short[] _array;
+
+    private ShortList( short[] array )
+    {
+      _array = array;
+    }
+
+    @Override
+    public Short get( int index )
+    {
+      return _array[index];
+    }
+
+    @Override
+    public Short set( int index, Short element )
+    {
+      short old = _array[index];
+      _array[index] = element;
+      return old;
+    }
+
+    @Override
+    public int size()
+    {
+      return _array.length;
+    }
+  }
+
+  private static final class FloatList extends PrimitiveList<Float>
+  {
+    private final float[] _array;
+
+    private FloatList( float[] array )
+    {
+      _array = array;
+    }
+
+    @Override
+    public Float get( int index )
+    {
+      return _array[index];
+    }
+
+    @Override
+    public Float set( int index, Float element )
+    {
+      float old = _array[index];
+      _array[index] = element;
+      return old;
+    }
+
+    @Override
+    public int size()
+    {
+      return _array.length;
+    }
+  }
+
+  private static final class CharList extends PrimitiveList<Character>
+  {
+    private final char[] _array;
+
+    private CharList( char[] array )
+    {
+      _array = array;
+    }
+
+    @Override
+    public Character get( int index )
+    {
+      return _array[index];
+    }
+
+    @Override
+    public Character set( int index, Character element )
+    {
+      char old = _array[index];
+      _array[index] = element;
+      return old;
+    }
+
+    @Override
+    public int size()
+    {
+      return _array.length;
+    }
+  }
+
+  private static final class BooleanList extends PrimitiveList<Boolean>
+  {
+    private final boolean[] _array;
+
+    private BooleanList( boolean[] array )
+    {
+      _array = array;
+    }
+
+    @Override
+    public Boolean get( int index )
+    {
+      return _array[index];
+    }
+
+    @Override
+    public Boolean set( int index, Boolean element )
+    {
+      boolean old = _array[index];
+      _array[index] = element;
+      return old;
+    }
+
+    @Override
+    public int size()
+    {
+      return _array.length;
+    }
+  }
+}
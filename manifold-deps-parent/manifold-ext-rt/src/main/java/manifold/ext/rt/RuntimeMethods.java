@@ -84,9 +84,9 @@ public class RuntimeMethods
    */
   public static Object coerce( Object value, Type t )
   {
-    Class<?> type = t instanceof ParameterizedType ? (Class<?>)((ParameterizedType)t).getRawType() : (Class)t;
     if( value == null )
     {
+      Class<?> type = t instanceof ParameterizedType ? (Class<?>)((ParameterizedType)t).getRawType() : (Class)t;
       if( type.isPrimitive() )
       {
         return defaultPrimitiveValue( type );
@@ -94,9 +94,12 @@ public class RuntimeMethods
       return null;
     }
 
+    Class<?> valueClass = value.getClass();
+    CoercionPlan plan = CoercionPlan.get( valueClass, t );
+
     if( value instanceof List )
     {
-      Object result = callCoercionProviders( value, t );
+      Object result = plan.callCoercionProviders( value, t );
       if( result != ICallHandler.UNHANDLED )
       {
         return result;
@@ -104,23 +107,18 @@ public class RuntimeMethods
       return value;
     }
 
-    if( type.isPrimitive() )
-    {
-      type = ManClassUtil.box( type );
-    }
-
-    Class<?> valueClass = value.getClass();
-    if( valueClass == type || type.isAssignableFrom( valueClass ) )
+    if( plan.isAssignable() )
     {
       return value;
     }
 
-    Object result = callCoercionProviders( value, t );
+    Object result = plan.callCoercionProviders( value, t );
     if( result != ICallHandler.UNHANDLED )
     {
       return result;
     }
 
+    Class<?> type = plan.getType();
     if( value instanceof String && ((String)value).isEmpty() && type != String.class )
     {
       // empty string is null e.g., CSV empty values are empty strings
@@ -322,19 +320,6 @@ public class RuntimeMethods
     return null;
   }
 
-  private static Object callCoercionProviders( Object value, Type type )
-  {
-    for( ICoercionProvider coercer: CoercionProviders.get() )
-    {
-      Object coercedValue = coercer.coerce( value, type );
-      if( coercedValue != ICallHandler.UNHANDLED )
-      {
-        return coercedValue;
-      }
-    }
-    return ICallHandler.UNHANDLED;
-  }
-
   private static Method findMethod( Class<?> iface, String name, Class[] paramTypes )
   {
     try
@@ -376,17 +361,7 @@ public class RuntimeMethods
       return root;
     }
 
-    Map<Class, IProxyFactory<?,?>> proxyByClass = PROXY_CACHE.get( iface );
-    if( proxyByClass == null )
-    {
-      PROXY_CACHE.put( iface, proxyByClass = new ConcurrentHashMap<>() );
-    }
-    IProxyFactory proxyFactory = proxyByClass.get( rootClass );
-    if( proxyFactory == null )
-    {
-      proxyFactory = createProxy( iface, rootClass );
-      proxyByClass.put( rootClass, proxyFactory );
-    }
+    IProxyFactory proxyFactory = findProxyFactory( iface, rootClass );
     try
     {
       // in Java 9+ in modular mode the proxy class belongs to the owner's module,
@@ -401,6 +376,25 @@ public class RuntimeMethods
     }
   }
 
+  /**
+   * Finds the proxy factory for {@code iface} over {@code rootClass}, the factory is created and cached on first use.
+   */
+  static IProxyFactory findProxyFactory( Class<?> iface, Class<?> rootClass )
+  {
+    Map<Class, IProxyFactory<?,?>> proxyByClass = PROXY_CACHE.get( iface );
+    if( proxyByClass == null )
+    {
+      PROXY_CACHE.put( iface, proxyByClass = new ConcurrentHashMap<>() );
+    }
+    IProxyFactory proxyFactory = proxyByClass.get( rootClass );
+    if( proxyFactory == null )
+    {
+      proxyFactory = createProxy( iface, rootClass );
+      proxyByClass.put( rootClass, proxyFactory );
+    }
+    return proxyFactory;
+  }
+
   private static IProxyFactory createProxy( Class iface, Class rootClass )
   {
     IProxyFactory proxyFactory = maybeSelfProxyClass( rootClass, iface );
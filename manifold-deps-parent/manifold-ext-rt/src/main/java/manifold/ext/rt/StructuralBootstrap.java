@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2023 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.ext.rt;
+
+import manifold.ext.rt.api.IProxyFactory;
+import manifold.util.ReflectUtil;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.MutableCallSite;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import static java.lang.invoke.MethodType.methodType;
+import static manifold.ext.rt.BootstrapTypes.parseParamTypes;
+import static manifold.ext.rt.BootstrapTypes.type;
+
+/**
+ * Bootstrap method for {@code invokedynamic} call sites the compiler emits for structural interface method calls when
+ * the {@code structural-indy} plugin argument is present. Otherwise a structural call compiles to
+ * {@link RuntimeMethods#constructProxy(Object, Class)}, which looks up the proxy factory and allocates a proxy per call.
+ * <p/>
+ * Each call site is a polymorphic inline cache, it remembers a target for each of the last {@link #MAX_DEPTH} receiver
+ * classes it encounters, after which it goes megamorphic and dispatches through a per call site {@link ClassValue}.
+ * A target calls the receiver directly, without a proxy, if the receiver's class implements the interface or declares
+ * a public method having the same signature as the interface method. Otherwise the target calls through a proxy made
+ * from the cached {@link IProxyFactory}.
+ */
+@SuppressWarnings( "unused" )
+public class StructuralBootstrap
+{
+  /** the number of receiver classes a call site links before it goes megamorphic */
+  static final int MAX_DEPTH = 4;
+
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+  private static final MethodHandle IS_CLASS;
+  private static final MethodHandle PROXY;
+  private static final MethodHandle RELINK;
+  private static final MethodHandle DISPATCH;
+  private static final MethodHandle TO_INTERFACE;
+  static
+  {
+    try
+    {
+      IS_CLASS = LOOKUP.findStatic( StructuralBootstrap.class, "isClass",
+        methodType( boolean.class, Class.class, Object.class ) );
+      PROXY = LOOKUP.findVirtual( IProxyFactory.class, "proxy",
+        methodType( Object.class, Object.class, Class.class ) );
+      RELINK = LOOKUP.findVirtual( InlineCache.class, "relink",
+        methodType( MethodHandle.class, Object.class ) );
+      DISPATCH = LOOKUP.findVirtual( InlineCache.class, "dispatch",
+        methodType( MethodHandle.class, Object.class ) );
+      TO_INTERFACE = LOOKUP.findStatic( StructuralBootstrap.class, "toInterface",
+        methodType( Object.class, Class.class, Object.class ) );
+    }
+    catch( ReflectiveOperationException e )
+    {
+      throw new ExceptionInInitializerError( e );
+    }
+  }
+
+  /**
+   * @param caller     The class containing the call site
+   * @param siteName   The name of the call site, same as {@code name}
+   * @param type       The call site type, the receiver and reference types are erased to {@code Object}
+   * @param iface      The qualified name of the structural interface
+   * @param name       The name of the interface method. Passed as a static argument because call sites differing only
+   *                   in name share the same constant pool entry
+   * @param paramTypes Comma separated qualified names of the interface method's erased parameter types
+   */
+  public static CallSite bootstrap( MethodHandles.Lookup caller, String siteName, MethodType type,
+                                    String iface, String name, String paramTypes ) throws ReflectiveOperationException
+  {
+    ClassLoader cl = caller.lookupClass().getClassLoader();
+    Class<?> ifaceClass = type( iface, cl );
+    Class<?>[] params = parseParamTypes( paramTypes, cl );
+    ReflectUtil.MethodRef ref = ReflectUtil.method( ifaceClass, name, params );
+    if( ref == null )
+    {
+      throw new NoSuchMethodException( ifaceClass.getTypeName() + "#" + name );
+    }
+    return new InlineCache( type, ifaceClass, ref );
+  }
+
+  private static boolean isClass( Class<?> cls, Object receiver )
+  {
+    return receiver != null && receiver.getClass() == cls;
+  }
+
+  /**
+   * A structurally typed argument need not implement its interface, a proxy makes it assignable to the parameter.
+   */
+  private static Object toInterface( Class<?> iface, Object arg )
+  {
+    return arg == null || iface.isInstance( arg ) ? arg : RuntimeMethods.constructProxy( arg, iface );
+  }
+
+  private static class InlineCache extends MutableCallSite
+  {
+    private final Class<?> _iface;
+    private final Method _method;
+    private final MethodHandle _ifaceHandle;
+    private final ClassValue<MethodHandle> _targets;
+    private int _depth;
+
+    InlineCache( MethodType type, Class<?> iface, ReflectUtil.MethodRef ref )
+    {
+      super( type );
+      _iface = iface;
+      _method = ref.getMethod();
+      _ifaceHandle = ref.getHandle();
+      _targets = new ClassValue<MethodHandle>()
+      {
+        @Override
+        protected MethodHandle computeValue( Class<?> rootClass )
+        {
+          return makeTarget( rootClass );
+        }
+      };
+      setTarget( select( RELINK ) );
+    }
+
+    /**
+     * (root, args...) -> selector(root).invokeExact(root, args...)
+     */
+    private MethodHandle select( MethodHandle selector )
+    {
+      MethodHandle targetFor = selector.bindTo( this )
+        .asType( methodType( MethodHandle.class, type().parameterType( 0 ) ) );
+      return MethodHandles.foldArguments( MethodHandles.exactInvoker( type() ), targetFor );
+    }
+
+    /**
+     * Links the receiver's class in front of the classes already linked, or goes megamorphic if the call site is full.
+     *
+     * @return The target for the receiver's class
+     */
+    MethodHandle relink( Object root )
+    {
+      Class<?> rootClass = rootClass( root );
+      MethodHandle target = _targets.get( rootClass );
+      synchronized( this )
+      {
+        if( _depth < MAX_DEPTH )
+        {
+          MethodHandle test = IS_CLASS.bindTo( rootClass );
+          setTarget( MethodHandles.guardWithTest( test, target, getTarget() ) );
+          _depth++;
+        }
+        else if( _depth == MAX_DEPTH )
+        {
+          setTarget( select( DISPATCH ) );
+          _depth++;
+        }
+      }
+      return target;
+    }
+
+    MethodHandle dispatch( Object root )
+    {
+      return _targets.get( rootClass( root ) );
+    }
+
+    private Class<?> rootClass( Object root )
+    {
+      if( root == null )
+      {
+        // same as calling a method on the null result of constructProxy()
+        throw new NullPointerException();
+      }
+      return root.getClass();
+    }
+
+    private MethodHandle makeTarget( Class<?> rootClass )
+    {
+      MethodHandle target = null;
+      if( _iface.isAssignableFrom( rootClass ) )
+      {
+        target = _ifaceHandle;
+      }
+      else if( RuntimeMethods.maybeSelfProxyClass( rootClass, _iface ) == null )
+      {
+        // only bypass the proxy if a proxy factory isn't specifically provided for the root class
+        target = findDirect( rootClass );
+      }
+
+      if( target == null )
+      {
+        // (root, args...) -> factory.proxy(root, iface).method(args...)
+        IProxyFactory factory = RuntimeMethods.findProxyFactory( _iface, rootClass );
+        MethodHandle proxy = MethodHandles.insertArguments( PROXY.bindTo( factory ), 1, _iface )
+          .asType( methodType( _iface, Object.class ) );
+        target = MethodHandles.filterArguments( _ifaceHandle, 0, proxy );
+      }
+      return filterInterfaceArgs( target ).asType( type() );
+    }
+
+    /**
+     * Bytecode passes a value of an interface type without a cast, but a method handle casts it. Adapts the arguments
+     * of interface types so a structurally typed argument is passed as it is with the proxy.
+     */
+    private MethodHandle filterInterfaceArgs( MethodHandle target )
+    {
+      Class<?>[] params = _method.getParameterTypes();
+      for( int i = 0; i < params.length; i++ )
+      {
+        Class<?> param = params[i];
+        if( param.isInterface() )
+        {
+          MethodHandle filter = TO_INTERFACE.bindTo( param ).asType( methodType( param, Object.class ) );
+          target = MethodHandles.filterArguments( target, i + 1, filter );
+        }
+      }
+      return target;
+    }
+
+    /**
+     * Finds a public method on {@code rootClass} having the same signature as the interface method, calling it directly
+     * is the same as calling it through a proxy.
+     */
+    private MethodHandle findDirect( Class<?> rootClass )
+    {
+      Method method;
+      try
+      {
+        method = rootClass.getMethod( _method.getName(), _method.getParameterTypes() );
+      }
+      catch( NoSuchMethodException e )
+      {
+        return null;
+      }
+
+      Class<?> returnType = _method.getReturnType();
+      if( Modifier.isStatic( method.getModifiers() ) ||
+        (returnType.isPrimitive()
+         ? returnType != method.getReturnType()
+         : !returnType.isAssignableFrom( method.getReturnType() )) )
+      {
+        return null;
+      }
+
+      try
+      {
+        return LOOKUP.unreflect( method );
+      }
+      catch( IllegalAccessException e )
+      {
+        // e.g., the method is declared in a non-public class
+        return null;
+      }
+    }
+  }
+}
@@ -38,6 +38,19 @@ public interface ICoercionProvider
    */
   Object coerce( Object value, Type type );
 
+  /**
+   * Coercions are planned once per value class and target type, a plan calls only the providers returning true here.
+   * Return false only if {@link #coerce(Object, Type)} returns {@link ICallHandler#UNHANDLED} for <i>every</i> value of
+   * {@code valueClass} and {@code type}. The default returns true, which is always correct.
+   * @param valueClass The class of the values to coerce.
+   * @param type The type to convert to.
+   * @return False if this provider never coerces values of {@code valueClass} to {@code type}.
+   */
+  default boolean canCoerce( Class<?> valueClass, Type type )
+  {
+    return true;
+  }
+
   /**
    * Coerce {@code value} parameter to a value suitable for a {@link manifold.rt.api.Bindings} e.g., a JSON bindings.
    * It is imperative that this method coerces only between the JSON types and Java types it explicitly
@@ -16,6 +16,7 @@
 
 package manifold.ext.rt.api;
 
+import manifold.ext.rt.CoercingSpliterator;
 import manifold.ext.rt.RuntimeMethods;
 
 import java.lang.reflect.ParameterizedType;
@@ -26,11 +27,14 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Spliterator;
+import java.util.Objects;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A {@link Structural} interface with only list methods can extend this interface and provide default
@@ -94,11 +98,34 @@ public interface IListBacked<T> extends List<T>
 
   default List<T> coerceListToComplexValues()
   {
-    return (List) getList().stream()
-      .map( e -> coerce( e, getFinalComponentType() ) )
+    return getList().stream()
+      .map( coercer() )
       .collect( Collectors.toList() );
   }
-  
+
+  /**
+   * Returns a function coercing raw values of the list to the component type, for coercing values lazily as they are
+   * accessed. The component type is resolved on first use.
+   */
+  default Function<Object, T> coercer()
+  {
+    return new Function<Object, T>()
+    {
+      private Class<?> _type;
+
+      @Override
+      public T apply( Object e )
+      {
+        if( _type == null )
+        {
+          _type = getFinalComponentType();
+        }
+        //noinspection unchecked
+        return (T)coerce( e, _type );
+      }
+    };
+  }
+
   default Object coerce( Object value, Class type )
   {
     return RuntimeMethods.coerceFromBindingsValue( value, type );
@@ -122,42 +149,39 @@ public interface IListBacked<T> extends List<T>
     }
   }
 
+  /**
+   * Coerces values lazily as they are traversed and splits over the backing list, see {@link CoercingSpliterator}.
+   */
   @Override
   default Spliterator<T> spliterator()
   {
-    return coerceListToComplexValues().spliterator();
+    return new CoercingSpliterator<>( getList().spliterator(), coercer() );
   }
 
   @Override
   default boolean removeIf( Predicate<? super T> filter )
   {
-    List<T> cList = coerceListToComplexValues();
-    boolean result = cList.removeIf( filter );
-    if( result )
-    {
-      List<Object> bList = toBindings( cList );
-      getList().clear();
-      getList().addAll( bList );
-    }
-    return result;
+    Function<Object, T> coercer = coercer();
+    return getList().removeIf( e -> filter.test( coercer.apply( e ) ) );
   }
 
   @Override
   default Stream<T> stream()
   {
-    return coerceListToComplexValues().stream();
+    return StreamSupport.stream( spliterator(), false );
   }
 
   @Override
   default Stream<T> parallelStream()
   {
-    return coerceListToComplexValues().parallelStream();
+    return StreamSupport.stream( spliterator(), true );
   }
 
   @Override
   default void forEach( Consumer<? super T> action )
   {
-    coerceListToComplexValues().forEach( action );
+    Function<Object, T> coercer = coercer();
+    getList().forEach( e -> action.accept( coercer.apply( e ) ) );
   }
 
   @Override
@@ -175,7 +199,15 @@ public interface IListBacked<T> extends List<T>
   @Override
   default boolean contains( Object o )
   {
-    return coerceListToComplexValues().contains( o );
+    Function<Object, T> coercer = coercer();
+    for( Object e: getList() )
+    {
+      if( Objects.equals( o, coercer.apply( e ) ) )
+      {
+        return true;
+      }
+    }
+    return false;
   }
 
   @Override
@@ -183,20 +215,19 @@ public interface IListBacked<T> extends List<T>
   {
     return new Iterator<T>() {
 
-      Iterator<T> _delegate = coerceListToComplexValues().iterator();
+      Function<Object, T> _coercer = coercer();
       Iterator _actual = getList().iterator();
 
       @Override
       public boolean hasNext()
       {
-        return _delegate.hasNext();
+        return _actual.hasNext();
       }
 
       @Override
       public T next()
       {
-        _actual.next();
-        return _delegate.next();
+        return _coercer.apply( _actual.next() );
       }
 
       @Override
@@ -481,8 +512,8 @@ public interface IListBacked<T> extends List<T>
   @Override
   default List<T> subList( int fromIndex, int toIndex )
   {
-    return (List<T>) getList().subList( fromIndex, toIndex ).stream()
-      .map( e -> coerce( e, getFinalComponentType() ) )
+    return getList().subList( fromIndex, toIndex ).stream()
+      .map( coercer() )
       .collect( Collectors.toList() );
   }
 }
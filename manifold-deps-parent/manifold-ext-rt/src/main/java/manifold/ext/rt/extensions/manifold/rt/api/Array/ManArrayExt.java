@@ -17,6 +17,7 @@
 package manifold.ext.rt.extensions.manifold.rt.api.Array;
 
 
+import manifold.ext.rt.PrimitiveArrays;
 import manifold.ext.rt.api.Extension;
 import manifold.ext.rt.api.IndexedConsumer;
 import manifold.ext.rt.api.Self;
@@ -25,6 +26,7 @@ import manifold.ext.rt.api.This;
 import java.lang.reflect.Array;
 import java.util.*;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Adds convenience methods to Java's array type. Uses @{@link Self} to enforce type-safety with both the array type and
@@ -38,7 +40,8 @@ public class ManArrayExt
    * the returned list "write through" to the array.)  This method acts
    * as bridge between array-based and collection-based APIs, in
    * combination with {@link Collection#toArray}.  The returned list is
-   * serializable and implements {@link RandomAccess}.
+   * serializable and implements {@link RandomAccess}. A primitive array is not copied, its elements are boxed as they
+   * are accessed.
    *
    * @return a list view of the specified array
    */
@@ -46,13 +49,8 @@ public class ManArrayExt
   {
     if( array.getClass().getComponentType().isPrimitive() )
     {
-      int len = Array.getLength( array );
-      List<Object> list = new ArrayList<Object>( len );
-      for( int i = 0; i < len; i++ )
-      {
-        list.add( Array.get( array, i ) );
-      }
-      return list;
+      //noinspection unchecked
+      return (List<Object>)PrimitiveArrays.asList( array );
     }
     return Arrays.asList( (Object[])array );
   }
@@ -159,20 +157,29 @@ public class ManArrayExt
 
   /**
    * Returns a sequential {@link Stream} with this array as its source. Note, this array is assumed to be unmodified
-   * during use
+   * during use. The stream of an {@code int[]}, {@code long[]}, or {@code double[]} is backed by the primitive
+   * spliterator of the array, its elements are boxed as they are consumed.
    *
    * @return A {@code Stream} for the array
    */
   public static Stream<@Self(true) Object> stream( @This Object array )
   {
-    primitiveCheck( array );
+    if( array.getClass().getComponentType().isPrimitive() )
+    {
+      return StreamSupport.stream( spliterator( array ), false );
+    }
     return Arrays.stream( (Object[])array, 0, Array.getLength( array ) );
   }
 
   public static void forEach( @This Object array, IndexedConsumer<? super @Self(true) Object> action )
   {
-    primitiveCheck( array );
     Objects.requireNonNull( action );
+    Class<?> componentType = array.getClass().getComponentType();
+    if( componentType.isPrimitive() )
+    {
+      forEachPrimitive( array, componentType, action );
+      return;
+    }
     Object[] objects = (Object[])array;
     for( int i = 0; i < objects.length; i++ )
     {
@@ -181,20 +188,61 @@ public class ManArrayExt
     }
   }
 
-  public static Spliterator<@Self(true) Object> spliterator( @This Object array )
+  private static void forEachPrimitive( Object array, Class<?> componentType, IndexedConsumer<Object> action )
   {
-    primitiveCheck( array );
-    return Spliterators.spliterator( (Object[])array, Spliterator.ORDERED | Spliterator.IMMUTABLE );
+    switch( componentType.getTypeName() )
+    {
+      case "int":
+      {
+        int[] ints = (int[])array;
+        for( int i = 0; i < ints.length; i++ )
+        {
+          action.accept( i, ints[i] );
+        }
+        break;
+      }
+      case "long":
+      {
+        long[] longs = (long[])array;
+        for( int i = 0; i < longs.length; i++ )
+        {
+          action.accept( i, longs[i] );
+        }
+        break;
+      }
+      case "double":
+      {
+        double[] doubles = (double[])array;
+        for( int i = 0; i < doubles.length; i++ )
+        {
+          action.accept( i, doubles[i] );
+        }
+        break;
+      }
+      default:
+      {
+        List<?> list = PrimitiveArrays.asList( array );
+        for( int i = 0; i < list.size(); i++ )
+        {
+          action.accept( i, list.get( i ) );
+        }
+      }
+    }
   }
 
-  private static void primitiveCheck( Object array )
+  /**
+   * Returns a {@link Spliterator} over this array. The spliterator of an {@code int[]}, {@code long[]}, or
+   * {@code double[]} is a {@link Spliterator.OfInt}, {@link Spliterator.OfLong}, or {@link Spliterator.OfDouble},
+   * which traverses the array without boxing when used with a primitive consumer.
+   */
+  public static Spliterator<@Self(true) Object> spliterator( @This Object array )
   {
-    Class<?> componentType = array.getClass().getComponentType();
-    if( componentType.isPrimitive() )
+    if( array.getClass().getComponentType().isPrimitive() )
     {
-      throw new IllegalArgumentException(
-        array + " has a primitive component type: " + array.getClass().getComponentType().getSimpleName() );
+      //noinspection unchecked
+      return (Spliterator<Object>)PrimitiveArrays.spliterator( array, Spliterator.ORDERED | Spliterator.IMMUTABLE );
     }
+    return Spliterators.spliterator( (Object[])array, Spliterator.ORDERED | Spliterator.IMMUTABLE );
   }
 
   public static int binarySearch( @This Object array, @Self(true) Object key )
@@ -0,0 +1,48 @@
+package manifold.ext;
+
+import junit.framework.TestCase;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+import static java.lang.invoke.MethodType.methodType;
+import static manifold.ext.rt.JailbreakBootstrap.*;
+
+public class JailbreakBootstrapTest extends TestCase
+{
+  public void testConstructAndFields() throws Throwable
+  {
+    Object param = link( "construct", methodType( Object.class ), CONSTRUCT, "manifold.ext.stuff.SecretParam", "" )
+      .invoke();
+    assertEquals( 9, (int)link( "_foo", methodType( int.class, Object.class, int.class ), SET_FIELD,
+      "manifold.ext.stuff.SecretParam", "" ).invokeExact( param, 9 ) );
+    assertEquals( 9, (int)link( "_foo", methodType( int.class, Object.class ), GET_FIELD,
+      "manifold.ext.stuff.SecretParam", "" ).invokeExact( param ) );
+
+    Object secret = link( "construct", methodType( Object.class, Object.class ), CONSTRUCT,
+      "manifold.ext.stuff.SecretClass", "manifold.ext.stuff.SecretParam" ).invoke( param );
+    assertSame( param, link( "getParam", methodType( Object.class, Object.class ), INVOKE,
+      "manifold.ext.stuff.SecretClass", "" ).invoke( secret ) );
+
+    // final field, links to the reflective fallback if a direct setter is not allowed
+    Object other = link( "construct", methodType( Object.class ), CONSTRUCT, "manifold.ext.stuff.SecretParam", "" )
+      .invoke();
+    link( "_param", methodType( Object.class, Object.class, Object.class ), SET_FIELD,
+      "manifold.ext.stuff.SecretClass", "" ).invoke( secret, other );
+    assertSame( other, link( "_param", methodType( Object.class, Object.class ), GET_FIELD,
+      "manifold.ext.stuff.SecretClass", "" ).invoke( secret ) );
+  }
+
+  public void testStaticMethod() throws Throwable
+  {
+    assertEquals( "3", (Object)link( "valueOf", methodType( Object.class, int.class ), INVOKE_STATIC,
+      "java.lang.String", "int" ).invokeExact( 3 ) );
+  }
+
+  private static MethodHandle link( String name, MethodType type, String kind, String owner, String paramTypes )
+    throws Throwable
+  {
+    return bootstrap( MethodHandles.lookup(), name, type, kind, owner, name, paramTypes ).dynamicInvoker();
+  }
+}
@@ -86,6 +86,12 @@ public class ManArrayExtTest extends TestCase
     int[] iArray = {1, 2, 3};
     List<Integer> iList = iArray.toList();
     assertEquals( new ArrayList<Integer>() {{add(1); add(2); add(3);}}, iList );
+    assertEquals( 2, iList.indexOf( 3 ) );
+    iList.set( 0, 5 );
+    assertEquals( 5, iArray[0] ); // writes through
+
+    double[] dArray = {1.5, Double.NaN};
+    assertTrue( dArray.toList().contains( Double.NaN ) );
 
     String[] strArray = {"a", "b", "c", "d"};
     List<String> strList = strArray.toList();
@@ -151,14 +157,9 @@ public class ManArrayExtTest extends TestCase
   public void testStream()
   {
     int[] iArray = {1, 2, 3, 4};
-    try
-    {
-      iArray.stream();
-      fail(); // primitives not support with stream()
-    }
-    catch( IllegalArgumentException ignore )
-    {
-    }
+    assertEquals( Arrays.asList( 2, 4 ), iArray.stream().filter( e -> e % 2 == 0 ).collect( Collectors.toList() ) );
+    char[] cArray = {'a', 'b'};
+    assertEquals( Arrays.asList( 'a', 'b' ), cArray.stream().collect( Collectors.toList() ) );
 
     String[] strArray = {"a", "b", "c", "d"};
     List<String> result = strArray.stream().map( e -> e + e ).collect( Collectors.toList() );
@@ -168,14 +169,8 @@ public class ManArrayExtTest extends TestCase
   public void testForEach()
   {
     int[] iArray = {1, 2, 3, 4};
-    try
-    {
-      iArray.forEach( (i, e) -> {} );
-      fail(); // primitives not support with forEach()
-    }
-    catch( IllegalArgumentException ignore )
-    {
-    }
+    iArray.forEach( (i, e) -> {iArray[i] = e * 2;} );
+    assertArrayEquals( new int[] {2, 4, 6, 8}, iArray );
 
     String[] strArray = {"a", "b", "c", "d"};
     strArray.forEach( (i, e) -> {strArray[i] = e + e;} );
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2023 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.ext.structural;
+
+import junit.framework.TestCase;
+
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.geom.Point2D;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+
+import static java.lang.invoke.MethodType.methodType;
+import static manifold.ext.rt.StructuralBootstrap.bootstrap;
+
+public class StructuralBootstrapTest extends TestCase
+{
+  public void testPolymorphicCallSite() throws Throwable
+  {
+    MethodHandle getX = bootstrap( MethodHandles.lookup(), "getX", methodType( double.class, Object.class ),
+      Coordinate.class.getTypeName(), "getX", "" ).dynamicInvoker();
+
+    // more receiver classes than the inline cache holds, the call site goes megamorphic
+    Object[] roots = {
+      new Point( 1, 2 ), new Rectangle( 3, 4, 5, 6 ), new Point2D.Double( 7, 8 ), new Point2D.Float( 9, 10 ),
+      new HiddenCoordinate( 11 ), new Point( 12, 13 ), new HiddenCoordinate( 14 )};
+    double[] expected = {1, 3, 7, 9, 11, 12, 14};
+    for( int i = 0; i < roots.length; i++ )
+    {
+      assertEquals( expected[i], (double)getX.invokeExact( roots[i] ), 0 );
+    }
+  }
+
+  public void testNullReceiver() throws Throwable
+  {
+    MethodHandle getY = bootstrap( MethodHandles.lookup(), "getY", methodType( double.class, Object.class ),
+      Coordinate.class.getTypeName(), "getY", "" ).dynamicInvoker();
+    assertEquals( 2.0, (double)getY.invokeExact( (Object)new Point( 1, 2 ) ), 0 );
+    try
+    {
+      double y = (double)getY.invokeExact( (Object)null );
+      fail();
+    }
+    catch( NullPointerException ignore )
+    {
+    }
+  }
+
+  // not public, calls through a proxy
+  static class HiddenCoordinate
+  {
+    private final double _x;
+
+    HiddenCoordinate( double x )
+    {
+      _x = x;
+    }
+
+    public double getX()
+    {
+      return _x;
+    }
+
+    public double getY()
+    {
+      return 0;
+    }
+  }
+}
@@ -39,8 +39,10 @@ import manifold.api.host.IManifoldHost;
 import manifold.api.type.ContributorKind;
 import manifold.api.type.ITypeManifold;
 import manifold.ext.rt.ExtensionMethod;
+import manifold.ext.rt.JailbreakBootstrap;
 import manifold.ext.rt.ReflectionRuntimeMethods;
 import manifold.ext.rt.RuntimeMethods;
+import manifold.ext.rt.StructuralBootstrap;
 import manifold.ext.rt.api.*;
 import manifold.internal.javac.*;
 import manifold.rt.api.Array;
@@ -2516,6 +2518,12 @@ public class ExtensionTransformer extends TreeTranslator
     JCExpression methodSelect = theCall.getMethodSelect();
     if( methodSelect instanceof JCTree.JCFieldAccess )
     {
+      if( isStructuralIndy() && theCall.varargsElement == null &&
+        ((JCTree.JCFieldAccess)methodSelect).sym instanceof Symbol.MethodSymbol )
+      {
+        return makeStructuralIndy( theCall );
+      }
+
       int pos = theCall.pos;
 
       Symtab symbols = _tp.getSymtab();
@@ -2562,6 +2570,32 @@ public class ExtensionTransformer extends TreeTranslator
     return null;
   }
 
+  private boolean isStructuralIndy()
+  {
+    // trees processed during GENERATE are past TransTypes and Lower, keep those on the proxy path
+    JavacPlugin javacPlugin = JavacPlugin.instance();
+    return javacPlugin != null && javacPlugin.isStructuralIndy() && !_tp.isGenerate();
+  }
+
+  /**
+   * Replaces the structural call with an {@code invokedynamic} call site linked by {@link StructuralBootstrap}, which
+   * caches the call's targets per receiver class and calls the receiver directly where a proxy is not necessary.
+   */
+  private JCTree.JCMethodInvocation makeStructuralIndy( JCTree.JCMethodInvocation theCall )
+  {
+    JCTree.JCFieldAccess m = (JCTree.JCFieldAccess)theCall.getMethodSelect();
+    Symbol.MethodSymbol methodSym = (Symbol.MethodSymbol)m.sym;
+    Types types = _tp.getTypes();
+    List<Type> paramTypes = paramTypes( methodSym.getParameters() );
+    String paramNames = paramTypes.stream()
+      .map( t -> makeLiteralName( types.erasure( t ) ) )
+      .collect( Collectors.joining( "," ) );
+    String iface = makeLiteralName( types.erasure( m.selected.type ) );
+    String name = methodSym.flatName().toString();
+    return makeIndy( theCall, StructuralBootstrap.class, name, m.selected,
+      theCall.getArguments(), paramTypes, methodSym.getReturnType(), theCall.type, iface, name, paramNames );
+  }
+
   private JCTypeCast makeCast( JCExpression expression, Type type )
   {
     TreeMaker make = _tp.getTreeMaker();
@@ -2693,9 +2727,17 @@ public class ExtensionTransformer extends TreeTranslator
         return tree;
       }
       Type returnType = ((Symbol.MethodSymbol)m.sym).getReturnType();
+      List<Symbol.VarSymbol> parameters = ((Symbol.MethodSymbol)m.sym).getParameters();
+      if( isJailbreakIndy() && tree.varargsElement == null )
+      {
+        List<Type> paramTypes = paramTypes( parameters );
+        return makeJailbreakIndy( tree, isStatic ? JailbreakBootstrap.INVOKE_STATIC : JailbreakBootstrap.INVOKE,
+          m.sym.flatName().toString(), m.sym.owner, paramTypes, isStatic ? null : m.selected,
+          tree.getArguments(), paramTypes, returnType, returnType );
+      }
+
       Symbol.MethodSymbol reflectMethodSym = findReflectUtilMethod( tree, returnType, isStatic );
 
-      List<Symbol.VarSymbol> parameters = ((Symbol.MethodSymbol)m.sym).getParameters();
       ArrayList<JCExpression> paramTypes = new ArrayList<>();
       for( Symbol.VarSymbol param : parameters )
       {
@@ -2776,6 +2818,13 @@ public class ExtensionTransformer extends TreeTranslator
       return tree;
     }
 
+    if( isJailbreakIndy() )
+    {
+      return makeJailbreakIndy( tree, isStatic ? JailbreakBootstrap.GET_FIELD_STATIC : JailbreakBootstrap.GET_FIELD,
+        tree.sym.flatName().toString(), tree.sym.owner, List.nil(), isStatic ? null : tree.selected,
+        List.nil(), List.nil(), type, type );
+    }
+
     Symbol.MethodSymbol reflectMethodSym = findFieldAccessReflectUtilMethod( tree, type, isStatic, false );
 
     ArrayList<JCExpression> newArgs = new ArrayList<>();
@@ -2813,6 +2862,13 @@ public class ExtensionTransformer extends TreeTranslator
     }
 
     Type type = tree.sym.type;
+    if( isJailbreakIndy() )
+    {
+      return makeJailbreakIndy( tree, isStatic ? JailbreakBootstrap.SET_FIELD_STATIC : JailbreakBootstrap.SET_FIELD,
+        tree.sym.flatName().toString(), tree.sym.owner, List.nil(), isStatic ? null : tree.selected,
+        List.of( assignTree.rhs ), List.of( type ), type, type );
+    }
+
     Symbol.MethodSymbol reflectMethodSym = findFieldAccessReflectUtilMethod( tree, type, isStatic, true );
 
     ArrayList<JCExpression> newArgs = new ArrayList<>();
@@ -2856,6 +2912,15 @@ public class ExtensionTransformer extends TreeTranslator
     }
 
     List<Symbol.VarSymbol> parameters = ((Symbol.MethodSymbol)tree.constructor).getParameters();
+    if( isJailbreakIndy() && tree.varargsElement == null && tree.encl == null && tree.def == null &&
+      !(type.getEnclosingType() instanceof Type.ClassType) )
+    {
+      // inner classes are excluded since the outer instance is not a parameter until Lower
+      List<Type> paramTypes = paramTypes( parameters );
+      return makeJailbreakIndy( tree, JailbreakBootstrap.CONSTRUCT, "construct", type.tsym, paramTypes, null,
+        tree.getArguments(), paramTypes, type, type );
+    }
+
     ArrayList<JCExpression> paramTypes = new ArrayList<>();
     for( Symbol.VarSymbol param : parameters )
     {
@@ -2894,6 +2959,102 @@ public class ExtensionTransformer extends TreeTranslator
     return reflectCall;
   }
 
+  private boolean isJailbreakIndy()
+  {
+    // trees processed during GENERATE are past TransTypes and Lower, keep those on the reflection path
+    JavacPlugin javacPlugin = JavacPlugin.instance();
+    return javacPlugin != null && javacPlugin.isJailbreakIndy() && !_tp.isGenerate();
+  }
+
+  private List<Type> paramTypes( List<Symbol.VarSymbol> parameters )
+  {
+    ArrayList<Type> paramTypes = new ArrayList<>();
+    for( Symbol.VarSymbol param : parameters )
+    {
+      paramTypes.add( param.type );
+    }
+    return List.from( paramTypes );
+  }
+
+  /**
+   * Makes an {@code invokedynamic} call site for @Jailbreak member access, linked once by {@link JailbreakBootstrap}.
+   * Reference types are erased to Object in the call site's type because the member's types may not be accessible from
+   * the call site.
+   *
+   * @param kind One of the kind constants in {@link JailbreakBootstrap}
+   * @param memberParams The parameter types of the method or constructor, used to resolve the member
+   * @param receiver The receiver of instance member access, otherwise null
+   * @param argTypes The declared types of {@code args}
+   * @param returnType The member's return type, or its type if a field
+   * @param exprType The type of the resulting expression
+   */
+  private JCTree.JCMethodInvocation makeJailbreakIndy( JCTree tree, String kind, String name, Symbol owner,
+                                                       List<Type> memberParams, JCExpression receiver,
+                                                       List<JCExpression> args, List<Type> argTypes,
+                                                       Type returnType, Type exprType )
+  {
+    Types types = _tp.getTypes();
+    String paramNames = memberParams.stream()
+      .map( t -> makeLiteralName( types.erasure( t ) ) )
+      .collect( Collectors.joining( "," ) );
+    return makeIndy( tree, JailbreakBootstrap.class, name, receiver, args, argTypes, returnType, exprType,
+      kind, makeLiteralName( types.erasure( owner.type ) ), name, paramNames );
+  }
+
+  /**
+   * Makes an {@code invokedynamic} call site linked by the {@code bootstrap} method of {@code bootstrapClass}. The
+   * receiver and reference types are erased to Object in the call site's type.
+   *
+   * @param staticArgs String constants passed to the bootstrap method following the call site type. These must
+   *   include the member's name: javac shares a constant pool entry between call sites having the same bootstrap
+   *   method, static arguments, and type, regardless of the call sites' names.
+   */
+  private JCTree.JCMethodInvocation makeIndy( JCTree tree, Class<?> bootstrapClass, String name, JCExpression receiver,
+                                              List<JCExpression> args, List<Type> argTypes,
+                                              Type returnType, Type exprType, String... staticArgs )
+  {
+    TreeMaker make = _tp.getTreeMaker();
+    Symtab symTab = _tp.getSymtab();
+    Names names = Names.instance( _tp.getContext() );
+
+    ArrayList<Type> siteParams = new ArrayList<>();
+    ArrayList<JCExpression> siteArgs = new ArrayList<>();
+    if( receiver != null )
+    {
+      siteParams.add( symTab.objectType );
+      siteArgs.add( receiver );
+    }
+    for( Type argType : argTypes )
+    {
+      siteParams.add( eraseForIndy( argType ) );
+    }
+    siteArgs.addAll( args );
+    Type siteReturn = returnType.hasTag( VOID ) ? symTab.voidType : eraseForIndy( returnType );
+    Type.MethodType siteType = new Type.MethodType( List.from( siteParams ), siteReturn, List.nil(), symTab.methodClass );
+
+    Symbol.ClassSymbol bootstrapClassSym =
+      IDynamicJdk.instance().getTypeElement( _tp.getContext(), _tp.getCompilationUnit(), bootstrapClass.getName() );
+    Symbol.MethodSymbol bsm = (Symbol.MethodSymbol)IDynamicJdk.instance()
+      .getMembersByName( bootstrapClassSym, names.fromString( "bootstrap" ) ).iterator().next();
+    Symbol.MethodSymbol dynSym = IDynamicJdk.instance().makeDynamicMethodSymbol(
+      symTab.noSymbol, names.fromString( name ), bsm, siteType, staticArgs );
+
+    JCTree.JCFieldAccess meth = make.Select( make.QualIdent( bootstrapClassSym ), dynSym.name );
+    meth.sym = dynSym;
+    meth.type = siteType;
+    meth.pos = tree.pos;
+    JCTree.JCMethodInvocation indyCall = make.Apply( List.nil(), meth, List.from( siteArgs ) );
+    indyCall.setPos( tree.pos );
+    indyCall.type = exprType;
+    return indyCall;
+  }
+
+  private Type eraseForIndy( Type type )
+  {
+    type = _tp.getTypes().erasure( type );
+    return type.isPrimitive() ? type : _tp.getSymtab().objectType;
+  }
+
   private JCExpression makeClassExpr( JCTree tree, Type type )
   {
     BasicJavacTask javacTask = (BasicJavacTask)_tp.getJavacTask();
@@ -20,8 +20,11 @@ import graphql.language.Definition;
 import graphql.language.Node;
 import graphql.language.OperationDefinition;
 import graphql.language.TypeDefinition;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.StringTokenizer;
 import java.util.function.Function;
@@ -29,8 +32,10 @@ import java.util.stream.Stream;
 import javax.tools.DiagnosticListener;
 import javax.tools.JavaFileManager;
 import javax.tools.JavaFileObject;
+import manifold.api.fs.IFile;
 import manifold.api.host.IModule;
 import manifold.api.type.JavaTypeManifold;
+import manifold.api.util.cache.FqnCache;
 
 public class GqlManifold extends JavaTypeManifold<GqlModel>
 {
@@ -122,6 +127,29 @@ public class GqlManifold extends JavaTypeManifold<GqlModel>
     return super.getModel( fqn );
   }
 
+  /**
+   * A type's source may depend on definitions in any schema file in its scope, and scopes are configured in
+   * .graphqlconfig files, so the dependencies are all GraphQL and .graphqlconfig files in the module.
+   */
+  @Override
+  protected Collection<IFile> getCacheDependencies( String topLevelFqn )
+  {
+    List<IFile> files = new ArrayList<>();
+    Map<String, FqnCache<IFile>> extensionCaches = getModule().getPathCache().getExtensionCaches();
+    for( Map.Entry<String, FqnCache<IFile>> entry: extensionCaches.entrySet() )
+    {
+      if( EXTS.contains( entry.getKey() ) || entry.getKey().equals( GqlScopeFinder.GRAPHQLCONFIG_EXT ) )
+      {
+        FqnCache<IFile> fileCache = entry.getValue();
+        fileCache.getFqns().stream()
+          .map( fileCache::get )
+          .filter( Objects::nonNull )
+          .forEach( files::add );
+      }
+    }
+    return files;
+  }
+
   @Override
   protected String contribute( JavaFileManager.Location location, String topLevelFqn, boolean genStubs, String existing, GqlModel model, DiagnosticListener<JavaFileObject> errorHandler )
   {
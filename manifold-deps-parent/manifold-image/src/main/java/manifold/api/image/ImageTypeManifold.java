@@ -61,6 +61,12 @@ public class ImageTypeManifold extends JavaTypeManifold<Model>
     return false;
   }
 
+  @Override
+  public boolean isParallelSafe()
+  {
+    return true;
+  }
+
   @Override
   protected String contribute( JavaFileManager.Location location, String topLevelFqn, boolean genStubs, String existing, Model model, DiagnosticListener<JavaFileObject> errorHandler )
   {
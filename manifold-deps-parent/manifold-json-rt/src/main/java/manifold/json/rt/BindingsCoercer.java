@@ -65,6 +65,18 @@ public class BindingsCoercer implements ICoercionProvider
     return ICallHandler.UNHANDLED;
   }
 
+  @Override
+  public boolean canCoerce( Class<?> valueClass, Type ifaceToProxyType )
+  {
+    Class<?> ifaceToProxy = ifaceToProxyType instanceof ParameterizedType
+      ? (Class)((ParameterizedType)ifaceToProxyType).getRawType()
+      : (Class)ifaceToProxyType;
+    return ifaceToProxy.isInterface() &&
+      Bindings.class.isAssignableFrom( valueClass ) &&
+      IBindingsBacked.class.isAssignableFrom( ifaceToProxy ) &&
+      ifaceToProxy.getAnnotation( Structural.class ) != null;
+  }
+
   @Override
   public Object toBindingValue( Object value )
   {
@@ -156,6 +156,19 @@ public class DefaultCoercer implements IJsonFormatTypeCoercer
     return UNHANDLED;
   }
 
+  @Override
+  public boolean canCoerce( Class<?> valueClass, Type type )
+  {
+    Class rawType = type instanceof ParameterizedType ? (Class)((ParameterizedType)type).getRawType() : (Class)type;
+    return rawType.isEnum() ||
+      type == LocalDateTime.class || type == LocalDate.class || type == LocalTime.class || type == Instant.class ||
+      type == Long.class || type == long.class ||
+      (valueClass == LocalDateTime.class || valueClass == LocalDate.class || valueClass == LocalTime.class) &&
+        type == String.class ||
+      valueClass == Instant.class && (Number.class.isAssignableFrom( rawType ) || type == String.class) ||
+      valueClass == Long.class && type == String.class;
+  }
+
   @Override
   public Object toBindingValue( Object value )
   {
@@ -24,6 +24,10 @@ import manifold.rt.api.util.Pair;
 import manifold.util.concurrent.LocklessLazyVar;
 
 import manifold.rt.api.ScriptException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
 import java.util.Iterator;
 import java.util.Map;
 
@@ -81,41 +85,46 @@ public class Json
    * Serializes this Map instance into a JSON formatted StringBuilder with the specified indent of spaces
    */
   public static void toJson( Map thisMap, StringBuilder sb, int indent )
+  {
+    toJson( thisMap, new Out( sb ), indent );
+  }
+
+  private static void toJson( Map thisMap, Out out, int indent )
   {
     int iKey = 0;
-    if( isNewLine( sb ) )
+    if( out.isNewLine() )
     {
-      indent( sb, indent );
+      indent( out, indent );
     }
-    sb.append( "{\n" );
+    out.append( "{\n" );
     if( thisMap.size() > 0 )
     {
       for( Object key : thisMap.keySet() )
       {
-        indent( sb, indent + 2 );
-        sb.append( '\"' ).append( key ).append( '\"' ).append( ": " );
+        indent( out, indent + 2 );
+        out.append( '\"' ).append( String.valueOf( key ) ).append( '\"' ).append( ": " );
         Object value = thisMap.get( key );
 
         value = toBindings( value );
 
         if( value instanceof Map )
         {
-          toJson( (Map)value, sb, indent + 2 );
+          toJson( (Map)value, out, indent + 2 );
         }
         else if( value instanceof Iterable )
         {
-          listToJson( sb, indent + 2, (Iterable)value );
+          listToJson( out, indent + 2, (Iterable)value );
         }
         else
         {
-          appendValue( sb, value );
+          appendValue( out, value );
         }
-        appendCommaNewLine( sb, iKey < thisMap.size() - 1 );
+        appendCommaNewLine( out, iKey < thisMap.size() - 1 );
         iKey++;
       }
     }
-    indent( sb, indent );
-    sb.append( "}" );
+    indent( out, indent );
+    out.append( "}" );
   }
 
   public static Object toBindings( Object value )
@@ -141,13 +150,29 @@ public class Json
     }
   }
 
+  private static void indent( Out out, int indent )
+  {
+    int i = 0;
+    while( i < indent )
+    {
+      out.append( ' ' );
+      i++;
+    }
+  }
+
   public static StringBuilder appendValue( StringBuilder sb, Object comp )
+  {
+    appendValue( new Out( sb ), comp );
+    return sb;
+  }
+
+  private static void appendValue( Out out, Object comp )
   {
     if( comp instanceof String )
     {
-      sb.append( '\"' );
-      sb.append( ManEscapeUtil.escapeForJavaStringLiteral( (String)comp ) );
-      sb.append( '\"' );
+      out.append( '\"' );
+      out.append( ManEscapeUtil.escapeForJavaStringLiteral( (String)comp ) );
+      out.append( '\"' );
     }
     else if( comp instanceof Integer ||
       comp instanceof Long ||
@@ -158,17 +183,16 @@ public class Json
       comp instanceof Byte ||
       comp instanceof Boolean )
     {
-      sb.append( comp );
+      out.append( String.valueOf( comp ) );
     }
     else if( comp == null )
     {
-      sb.append( "null" );
+      out.append( "null" );
     }
     else
     {
       throw new IllegalStateException( "Unsupported expando type: " + comp.getClass() );
     }
-    return sb;
   }
 
   /**
@@ -196,6 +220,29 @@ public class Json
    * </lu>
    */
   public static void toJson( StringBuilder target, int margin, Object value )
+  {
+    toJson( new Out( target ), margin, value );
+  }
+
+  /**
+   * Write JSON text for the specified {@code value} directly to {@code target}. Unlike {@link #toJson(Object)} the JSON
+   * text is never held in memory as a whole, which is preferable when writing large values to a file or socket. Note
+   * {@code target} is neither flushed nor closed.
+   * <p/>
+   * The {@code value} must be a valid JSON value:
+   * <lu>
+   *   <li>primitive, boxed primitive, or {@code String}</li>
+   *   <li>{@code Iterable} of JSON values</li>
+   *   <li>{@code Map} of JSON values</li>
+   * </lu>
+   * @throws UncheckedIOException if writing to {@code target} fails
+   */
+  public static void toJson( Appendable target, Object value )
+  {
+    toJson( new Out( target ), 0, value );
+  }
+
+  private static void toJson( Out out, int margin, Object value )
   {
     value = toBindings( value );
 
@@ -208,55 +255,55 @@ public class Json
 
     if( value instanceof Map )
     {
-      toJson( ((Map)value), target, margin );
+      toJson( ((Map)value), out, margin );
     }
     else if( value instanceof Iterable )
     {
-      listToJson( target, margin, (Iterable)value );
+      listToJson( out, margin, (Iterable)value );
     }
     else
     {
-      appendValue( target, value );
+      appendValue( out, value );
     }
   }
 
-  private static boolean isNewLine( StringBuilder sb )
+  public static void listToJson( StringBuilder sb, int indent, Iterable value )
   {
-    return sb.length() > 0 && sb.charAt( sb.length() - 1 ) == '\n';
+    listToJson( new Out( sb ), indent, value );
   }
 
-  public static void listToJson( StringBuilder sb, int indent, Iterable value )
+  private static void listToJson( Out out, int indent, Iterable value )
   {
-    sb.append( '[' );
+    out.append( '[' );
     int i = 0;
     for( Iterator iter = value.iterator(); iter.hasNext(); )
     {
       Object comp = iter.next();
       if( i == 0 )
       {
-        sb.append( "\n" );
+        out.append( "\n" );
       }
 
       comp = toBindings( comp );
 
       if( comp instanceof Map )
       {
-        toJson( (Map)comp, sb, indent + 2 );
+        toJson( (Map)comp, out, indent + 2 );
       }
       else if( comp instanceof Iterable )
       {
-        listToJson( sb, indent + 2, (Iterable)comp );
+        listToJson( out, indent + 2, (Iterable)comp );
       }
       else
       {
-        indent( sb, indent + 2 );
-        appendValue( sb, comp );
+        indent( out, indent + 2 );
+        appendValue( out, comp );
       }
-      appendCommaNewLine( sb, iter.hasNext() );
+      appendCommaNewLine( out, iter.hasNext() );
       i++;
     }
-    indent( sb, indent );
-    sb.append( "]" );
+    indent( out, indent );
+    out.append( "]" );
   }
 
   /**
@@ -270,13 +317,71 @@ public class Json
   }
 
 
-  private static void appendCommaNewLine( StringBuilder sb, boolean bComma )
+  private static void appendCommaNewLine( Out out, boolean bComma )
   {
     if( bComma )
     {
-      sb.append( ',' );
+      out.append( ',' );
+    }
+    out.append( "\n" );
+  }
+
+  /**
+   * The serialization target. Remembers the last character written so that output can be streamed to any
+   * {@code Appendable} while still knowing whether the current position is at the start of a line.
+   */
+  private static final class Out
+  {
+    private final Appendable _target;
+    private char _last;
+
+    Out( StringBuilder target )
+    {
+      _target = target;
+      _last = target.length() > 0 ? target.charAt( target.length() - 1 ) : 0;
+    }
+
+    Out( Appendable target )
+    {
+      _target = target;
+    }
+
+    Out append( char c )
+    {
+      try
+      {
+        _target.append( c );
+      }
+      catch( IOException e )
+      {
+        throw new UncheckedIOException( e );
+      }
+      _last = c;
+      return this;
+    }
+
+    Out append( String s )
+    {
+      if( s.isEmpty() )
+      {
+        return this;
+      }
+      try
+      {
+        _target.append( s );
+      }
+      catch( IOException e )
+      {
+        throw new UncheckedIOException( e );
+      }
+      _last = s.charAt( s.length() - 1 );
+      return this;
+    }
+
+    boolean isNewLine()
+    {
+      return _last == '\n';
     }
-    sb.append( "\n" );
   }
 
   /**
@@ -302,4 +407,21 @@ public class Json
       throw new RuntimeException( e );
     }
   }
+
+  /**
+   * Parse JSON text from a char buffer, such as the content of a resource file, without copying it to a String.
+   *
+   * @see #fromJson(String, boolean, boolean)
+   */
+  public static Object fromJson( CharBuffer json, boolean withBigNumbers, boolean withTokens )
+  {
+    try
+    {
+      return PARSER.get().parseJson( json, withBigNumbers, withTokens );
+    }
+    catch( ScriptException e )
+    {
+      throw new RuntimeException( e );
+    }
+  }
 }
@@ -64,6 +64,15 @@ public class ListCoercer implements ICoercionProvider
     return ICallHandler.UNHANDLED;
   }
 
+  @Override
+  public boolean canCoerce( Class<?> valueClass, Type toType )
+  {
+    Class<?> toClass = toType instanceof ParameterizedType
+      ? (Class)((ParameterizedType)toType).getRawType()
+      : (Class)toType;
+    return toClass.isInterface() && List.class.isAssignableFrom( valueClass );
+  }
+
   @Override
   public Object toBindingValue( Object value )
   {
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2023 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.json.rt.api;
+
+import java.io.Reader;
+
+/**
+ * Implemented by a {@link IJsonBindingsTranslator} whose format consists of independent records, such as CSV, so the
+ * records can be translated one at a time as they are read.
+ */
+public interface IJsonBindingsStreamTranslator extends IJsonBindingsTranslator
+{
+  /**
+   * Translates the content of {@code reader} to a stream of bindings values produced on demand, one per record.
+   * Closing the stream closes {@code reader}.
+   */
+  <E> JsonStream<E> toBindingsStream( Reader reader );
+}
@@ -20,6 +20,8 @@ import manifold.json.rt.parser.DefaultParser;
 
 import manifold.rt.api.ScriptException;
 
+import java.nio.CharBuffer;
+
 /**
  */
 public interface IJsonParser
@@ -38,6 +40,17 @@ public interface IJsonParser
    */
   Object parseJson( String jsonText, boolean withBigNumbers, boolean withTokens ) throws ScriptException;
 
+  /**
+   * Parse Json text from a char buffer, such as the content of a resource file. The default implementation parses the
+   * buffer's content as a String, parsers that can scan the buffer in place should override this method.
+   *
+   * @see #parseJson(String, boolean, boolean)
+   */
+  default Object parseJson( CharBuffer jsonText, boolean withBigNumbers, boolean withTokens ) throws ScriptException
+  {
+    return parseJson( jsonText.toString(), withBigNumbers, withTokens );
+  }
+
   static IJsonParser getDefaultParser()
   {
     return DefaultParser.instance();
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2023 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.json.rt.api;
+
+import manifold.json.rt.parser.JsonStreamParser;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * JSON values parsed one at a time as they are iterated, see {@link Loader#fromJsonArrayStream(java.io.Reader)} and
+ * {@link Loader#fromJsonLines(java.io.Reader)}. Always close a JSON stream, preferably with try-with-resources:
+ * <pre><code>
+ * try( JsonStream&lt;Person&gt; persons = Person.load().fromJsonArrayStream( reader ) )
+ * {
+ *   for( Person person: persons )
+ *   {
+ *     ...
+ *   }
+ * }
+ * </code></pre>
+ * A JSON stream can be iterated only once.
+ *
+ * @param <E> The sub-interface extending {@link IJsonBindingsBacked} or {@link IJsonList}
+ */
+public class JsonStream<E> implements Iterable<E>, AutoCloseable
+{
+  private final Iterator<?> _values;
+  private final Closeable _resource;
+  private boolean _iterated;
+
+  public JsonStream( JsonStreamParser parser )
+  {
+    this( parser, parser );
+  }
+
+  /**
+   * @param values Bindings values produced on demand, for instance from a non-JSON format such as CSV
+   * @param resource Closed when this stream is closed
+   */
+  public JsonStream( Iterator<?> values, Closeable resource )
+  {
+    _values = values;
+    _resource = resource;
+  }
+
+  @Override
+  public Iterator<E> iterator()
+  {
+    if( _iterated )
+    {
+      throw new IllegalStateException( "JSON stream can be iterated only once." );
+    }
+    _iterated = true;
+    return new Iterator<E>()
+    {
+      @Override
+      public boolean hasNext()
+      {
+        return _values.hasNext();
+      }
+
+      @Override
+      public E next()
+      {
+        //noinspection unchecked
+        return (E)_values.next();
+      }
+    };
+  }
+
+  /**
+   * Provides a sequential {@code Stream} over the values. Closing the returned stream closes this JSON stream.
+   */
+  public Stream<E> stream()
+  {
+    return StreamSupport.stream( Spliterators.spliteratorUnknownSize( iterator(), Spliterator.ORDERED ), false )
+      .onClose( this::close );
+  }
+
+  /**
+   * Closes the underlying reader or resource.
+   */
+  @Override
+  public void close()
+  {
+    try
+    {
+      _resource.close();
+    }
+    catch( IOException e )
+    {
+      throw new RuntimeException( e );
+    }
+  }
+}
@@ -16,11 +16,15 @@
 
 package manifold.json.rt.api;
 
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 
 import manifold.json.rt.Json;
 import manifold.json.rt.extensions.java.net.URL.ManUrlExt;
+import manifold.json.rt.parser.JsonStreamParser;
 import manifold.rt.api.util.StreamUtil;
 
 /**
@@ -90,6 +94,43 @@ public class Loader<E>
     }
   }
 
+  //
+  // Streaming JSON methods
+  //
+
+  /**
+   * Parses the elements of the top-level JSON array in {@code reader} one at a time as they are iterated, the array as a
+   * whole is never held in memory. Here {@code E} is the type of the elements, not the array e.g.,
+   * {@code Person.load().fromJsonArrayStream(reader)}. Closing the resulting stream closes {@code reader}.
+   */
+  public JsonStream<E> fromJsonArrayStream( Reader reader )
+  {
+    return new JsonStream<>( JsonStreamParser.arrayElements( reader, false ) );
+  }
+  /**
+   * Same as {@link #fromJsonArrayStream(Reader)}, where {@code input} is UTF-8 encoded.
+   */
+  public JsonStream<E> fromJsonArrayStream( InputStream input )
+  {
+    return fromJsonArrayStream( new InputStreamReader( input, StandardCharsets.UTF_8 ) );
+  }
+
+  /**
+   * Parses a sequence of top-level JSON values, such as JSON Lines, in {@code reader} one at a time as they are iterated.
+   * Closing the resulting stream closes {@code reader}.
+   */
+  public JsonStream<E> fromJsonLines( Reader reader )
+  {
+    return new JsonStream<>( JsonStreamParser.values( reader, false ) );
+  }
+  /**
+   * Same as {@link #fromJsonLines(Reader)}, where {@code input} is UTF-8 encoded.
+   */
+  public JsonStream<E> fromJsonLines( InputStream input )
+  {
+    return fromJsonLines( new InputStreamReader( input, StandardCharsets.UTF_8 ) );
+  }
+
 
   //
   // YAML methods
@@ -266,4 +307,27 @@ public class Loader<E>
       throw new RuntimeException( e );
     }
   }
+
+  /**
+   * Parses CSV records in {@code reader} one at a time as they are iterated, the content as a whole is never held in
+   * memory. Here {@code E} is the type of the records, not the list e.g.,
+   * {@code Person.load().fromCsvStream(reader)}. Closing the resulting stream closes {@code reader}.
+   */
+  public JsonStream<E> fromCsvStream( Reader reader )
+  {
+    IJsonBindingsTranslator csv = IJsonBindingsTranslator.get( "CSV" );
+    if( !(csv instanceof IJsonBindingsStreamTranslator) )
+    {
+      throw new UnsupportedOperationException( "CSV bindings translator does not support streaming" );
+    }
+    return ((IJsonBindingsStreamTranslator)csv).toBindingsStream( reader );
+  }
+
+  /**
+   * Same as {@link #fromCsvStream(Reader)}, where {@code input} is UTF-8 encoded.
+   */
+  public JsonStream<E> fromCsvStream( InputStream input )
+  {
+    return fromCsvStream( new InputStreamReader( input, StandardCharsets.UTF_8 ) );
+  }
 }
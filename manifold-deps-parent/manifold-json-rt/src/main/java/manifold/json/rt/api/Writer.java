@@ -18,7 +18,11 @@ package manifold.json.rt.api;
 
 import manifold.json.rt.Json;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import manifold.rt.api.Bindings;
 
 /**
@@ -51,11 +55,27 @@ public class Writer
   {
     return Json.toJson( _value );
   }
+  /**
+   * Serializes this instance as JSON directly to {@code target}, the JSON text is not built in memory as a whole.
+   * Note {@code target} is neither flushed nor closed.
+   */
   public void toJson( Appendable target )
+  {
+    Json.toJson( target, _value );
+  }
+  /**
+   * Serializes this instance as UTF-8 encoded JSON directly to {@code target}, the JSON text is not built in memory as
+   * a whole. Note {@code target} is flushed, but not closed.
+   * <p/>
+   * Not named {@code toJson} because a {@code PrintStream} is both an {@code OutputStream} and an {@code Appendable}.
+   */
+  public void toJsonStream( OutputStream target )
   {
     try
     {
-      target.append( Json.toJson( _value ) );
+      BufferedWriter writer = new BufferedWriter( new OutputStreamWriter( target, StandardCharsets.UTF_8 ) );
+      Json.toJson( writer, _value );
+      writer.flush();
     }
     catch( IOException e )
     {
@@ -16,7 +16,7 @@
 
 package manifold.json.rt.parser;
 
-import java.io.StringReader;
+import java.nio.CharBuffer;
 import java.util.List;
 import manifold.rt.api.ScriptException;
 
@@ -35,17 +35,28 @@ public class DefaultParser implements IJsonParser
   @Override
   public Object parseJson( String jsonText, boolean withBigNumbers, boolean withTokens ) throws ScriptException
   {
-    SimpleParserImpl parser = new SimpleParserImpl( new Tokenizer( new StringReader( jsonText ) ), withBigNumbers );
+    return parse( new Tokenizer( jsonText ), withBigNumbers, withTokens );
+  }
+
+  @Override
+  public Object parseJson( CharBuffer jsonText, boolean withBigNumbers, boolean withTokens ) throws ScriptException
+  {
+    if( !jsonText.hasArray() )
+    {
+      return parseJson( jsonText.toString(), withBigNumbers, withTokens );
+    }
+    return parse( new Tokenizer( jsonText.array(), jsonText.arrayOffset() + jsonText.position(), jsonText.remaining() ),
+      withBigNumbers, withTokens );
+  }
+
+  private Object parse( Tokenizer tokenizer, boolean withBigNumbers, boolean withTokens ) throws ScriptException
+  {
+    SimpleParserImpl parser = new SimpleParserImpl( tokenizer, withBigNumbers );
     Object result = parser.parse( withTokens );
     List<String> errors = parser.getErrors();
     if( errors.size() != 0 )
     {
-      StringBuilder sb = new StringBuilder( "Found errors:\n" );
-      for( String err: errors )
-      {
-        sb.append( err ).append( "\n" );
-      }
-      throw new ScriptException( sb.toString() );
+      throw makeException( errors );
     }
     if( result instanceof Pair )
     {
@@ -53,4 +64,14 @@ public class DefaultParser implements IJsonParser
     }
     return result;
   }
+
+  static ScriptException makeException( List<String> errors )
+  {
+    StringBuilder sb = new StringBuilder( "Found errors:\n" );
+    for( String err: errors )
+    {
+      sb.append( err ).append( "\n" );
+    }
+    return new ScriptException( sb.toString() );
+  }
 }
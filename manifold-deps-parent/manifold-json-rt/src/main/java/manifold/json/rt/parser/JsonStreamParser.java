@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2023 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.json.rt.parser;
+
+import manifold.json.rt.api.IJsonParser;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Parses JSON text incrementally from a {@code Reader}. Parses either the elements of a top-level array or a sequence of
+ * top-level values such as JSON Lines, one value at a time. As a consequence the document as a whole is never held in
+ * memory, only the value most recently parsed. Values are the same as those produced by {@link IJsonParser#parseJson}.
+ * <p/>
+ * Closing the parser closes the reader.
+ */
+public final class JsonStreamParser implements Iterator<Object>, Closeable
+{
+  private final Reader _reader;
+  private final SimpleParserImpl _parser;
+  private final boolean _arrayElements;
+  private boolean _first;
+  private Boolean _hasNext;
+
+  /**
+   * Parses the elements of the top-level JSON array in {@code reader}.
+   */
+  public static JsonStreamParser arrayElements( Reader reader, boolean withBigNumbers )
+  {
+    return new JsonStreamParser( reader, withBigNumbers, true );
+  }
+
+  /**
+   * Parses a sequence of whitespace separated top-level JSON values in {@code reader}, such as JSON Lines.
+   */
+  public static JsonStreamParser values( Reader reader, boolean withBigNumbers )
+  {
+    return new JsonStreamParser( reader, withBigNumbers, false );
+  }
+
+  private JsonStreamParser( Reader reader, boolean withBigNumbers, boolean arrayElements )
+  {
+    _reader = reader;
+    _parser = new SimpleParserImpl( new Tokenizer( _reader ), withBigNumbers );
+    _arrayElements = arrayElements;
+    _first = true;
+    if( arrayElements )
+    {
+      _parser.beginArray();
+      checkErrors();
+    }
+  }
+
+  @Override
+  public boolean hasNext()
+  {
+    if( _hasNext == null )
+    {
+      _hasNext = _arrayElements ? _parser.nextElement( _first ) : !_parser.atEof();
+      _first = false;
+      checkErrors();
+    }
+    return _hasNext;
+  }
+
+  /**
+   * @return The next JSON value (primitive/boxed type, String, List of JSON values, or Bindings of String/JSON value)
+   * @throws RuntimeException wrapping a {@link manifold.rt.api.ScriptException} for parse errors
+   */
+  @Override
+  public Object next()
+  {
+    if( !hasNext() )
+    {
+      throw new NoSuchElementException();
+    }
+    _hasNext = null;
+    Object value = _parser.parse();
+    checkErrors();
+    return value;
+  }
+
+  private void checkErrors()
+  {
+    IOException ioe = _parser.getTokenizer().getIOException();
+    if( ioe != null )
+    {
+      throw new UncheckedIOException( ioe );
+    }
+    List<String> errors = _parser.getErrors();
+    if( !errors.isEmpty() )
+    {
+      throw new RuntimeException( DefaultParser.makeException( errors ) );
+    }
+  }
+
+  @Override
+  public void close() throws IOException
+  {
+    _reader.close();
+  }
+}
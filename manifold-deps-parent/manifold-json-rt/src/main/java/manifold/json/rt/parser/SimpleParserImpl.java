@@ -16,8 +16,6 @@
 
 package manifold.json.rt.parser;
 
-import java.math.BigDecimal;
-import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -49,7 +47,7 @@ import manifold.rt.api.util.Pair;
 final class SimpleParserImpl
 {
   private final Tokenizer _tokenizer;
-  private Token _token;
+  private TokenType _type;
   private final List<String> _errors;
   private boolean _useBig;
   private boolean _withTokens;
@@ -71,7 +69,7 @@ final class SimpleParserImpl
   {
     _withTokens = withTokens;
     Object val = null;
-    if( _token.isValueType() )
+    if( _type.isValueType() )
     {
       val = parseValue();
     }
@@ -82,9 +80,53 @@ final class SimpleParserImpl
     return val;
   }
 
+  //
+  // Incremental parsing, see JsonStreamParser
+  //
+
+  // array = "[" [ value { "," value } ] "]".
+  void beginArray()
+  {
+    check( TokenType.LSQUARE, "[" );
+  }
+
+  /**
+   * Steps over the separator preceding the next element of the array started with {@link #beginArray()}.
+   *
+   * @param first True if no elements have been parsed yet
+   * @return True if the array has another element, otherwise the closing bracket is consumed
+   */
+  boolean nextElement( boolean first )
+  {
+    if( first )
+    {
+      if( _type.isValueType() )
+      {
+        return true;
+      }
+    }
+    else if( _type == TokenType.COMMA )
+    {
+      advance();
+      return true;
+    }
+    checkAndSkip( TokenType.RSQUARE, "]" );
+    return false;
+  }
+
+  boolean atEof()
+  {
+    return _type == TokenType.EOF;
+  }
+
+  Tokenizer getTokenizer()
+  {
+    return _tokenizer;
+  }
+
   private void advance()
   {
-    _token = _tokenizer.next();
+    _type = _tokenizer.next();
   }
 
   // array = "[" [ value { "," value } ] "]".
@@ -92,10 +134,10 @@ final class SimpleParserImpl
   {
     ArrayList<Object> arr = new ArrayList<>();
     advance();
-    if( _token.isValueType() )
+    if( _type.isValueType() )
     {
       arr.add( parseValue() );
-      while( _token.getType() == TokenType.COMMA )
+      while( _type == TokenType.COMMA )
       {
         advance();
         arr.add( parseValue() );
@@ -112,10 +154,10 @@ final class SimpleParserImpl
     Bindings map = new DataBindings( new LinkedHashMap<>() );
 
     advance();
-    if( _token.getType() == TokenType.STRING )
+    if( _type == TokenType.STRING )
     {
       parseMember( map );
-      while( _token.getType() == TokenType.COMMA )
+      while( _type == TokenType.COMMA )
       {
         advance();
         parseMember( map );
@@ -128,11 +170,12 @@ final class SimpleParserImpl
   // member = string ":" value.
   private void parseMember( Bindings map )
   {
-    Token keyToken = _token;
-    String key = _token.getString();
+    // tokens are made only if requested, they are for tooling
+    Token keyToken = _withTokens ? _tokenizer.token() : null;
+    String key = _tokenizer.getString();
     check( TokenType.STRING, "a string" );
     check( TokenType.COLON, ":" );
-    Token valueToken = _token;
+    Token valueToken = _withTokens ? _tokenizer.token() : null;
     Object val = parseValue();
     map.put( key, _withTokens ? new Pair<>( new Token[] {keyToken, valueToken}, val ) : val );
   }
@@ -141,7 +184,7 @@ final class SimpleParserImpl
   private Object parseValue()
   {
     Object val;
-    switch( _token.getType() )
+    switch( _type )
     {
       case LCURLY:
         val = parseObject();
@@ -150,44 +193,15 @@ final class SimpleParserImpl
         val = parseArray();
         break;
       case INTEGER:
-        if( _useBig )
-        {
-          val = new BigInteger( _token.getString() );
-        }
-        else
-        {
-          try
-          {
-            val = Integer.parseInt( _token.getString() );
-          }
-          catch( NumberFormatException e0 )
-          {
-            // we have an overflow, the tokenizer guarantees the format is correct
-            try
-            {
-              val = Long.parseLong( _token.getString() );
-            }
-            catch( NumberFormatException e1 )
-            {
-              val = 0;
-            }
-          }
-        }
+        val = _tokenizer.getInteger( _useBig );
         advance();
         break;
       case DOUBLE:
-        if( _useBig )
-        {
-          val = new BigDecimal( _token.getString() );
-        }
-        else
-        {
-          val = Double.parseDouble( _token.getString() );
-        }
+        val = _tokenizer.getDouble( _useBig );
         advance();
         break;
       case STRING:
-        val = _token.getString();
+        val = _tokenizer.getString();
         advance();
         break;
       case TRUE:
@@ -211,26 +225,26 @@ final class SimpleParserImpl
   
   private void addError()
   {
-    _errors.add( "[" + _token.getLineNumber() + ":" + _token.getColumn() + "] Unexpected token '" + _token.getString() + "'" );
+    _errors.add( "[" + _tokenizer.getLineNumber() + ":" + _tokenizer.getColumn() + "] Unexpected token '" + _tokenizer.getString() + "'" );
     advance();
   }
 
   private void check( TokenType type, String s )
   {
-    if( _token.getType() != type )
+    if( _type != type )
     {
-      _errors.add( "[" + _token.getLineNumber() + ":" + _token.getColumn() + "] expecting '" + s + "', found '" + _token.getString() + "'" );
+      _errors.add( "[" + _tokenizer.getLineNumber() + ":" + _tokenizer.getColumn() + "] expecting '" + s + "', found '" + _tokenizer.getString() + "'" );
     }
     advance();
   }
 
   private void checkAndSkip( TokenType type, String s )
   {
-    if( _token.getType() != type )
+    if( _type != type )
     {
-      _errors.add( "[" + _token.getLineNumber() + ":" + _token.getColumn() + "] expecting '" + s + "', found '" + _token.getString() + "'" );
-      while( _token.getType() != TokenType.EOF &&
-             _token.getType() != type )
+      _errors.add( "[" + _tokenizer.getLineNumber() + ":" + _tokenizer.getColumn() + "] expecting '" + s + "', found '" + _tokenizer.getString() + "'" );
+      while( _type != TokenType.EOF &&
+             _type != type )
       {
         advance();
       }
@@ -16,14 +16,8 @@
 
 package manifold.json.rt.parser;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
-
 public final class Token
 {
-  static final Map<String, TokenType> Constants = initializeConstants();
-
   private final TokenType _type;
   private final String _string;
   private final int _offset;
@@ -39,15 +33,6 @@ public final class Token
     _column = column;
   }
 
-  private static Map<String, TokenType> initializeConstants()
-  {
-    HashMap<String, TokenType> map = new HashMap<>();
-    map.put( "true", TokenType.TRUE );
-    map.put( "false", TokenType.FALSE );
-    map.put( "null", TokenType.NULL );
-    return Collections.unmodifiableMap( map );
-  }
-
   public String getString()
   {
     return _string;
@@ -78,12 +63,4 @@ public final class Token
   {
     return _string + " : " + _type;
   }
-
-  boolean isValueType()
-  {
-    return _type == TokenType.LCURLY || _type == TokenType.LSQUARE ||
-           _type == TokenType.INTEGER || _type == TokenType.DOUBLE ||
-           _type == TokenType.STRING || _type == TokenType.TRUE ||
-           _type == TokenType.FALSE || _type == TokenType.NULL;
-  }
 }
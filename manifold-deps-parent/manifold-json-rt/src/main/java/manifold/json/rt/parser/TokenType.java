@@ -31,5 +31,13 @@ public enum TokenType
   FALSE,
   NULL,
   ERROR,
-  EOF
+  EOF;
+
+  boolean isValueType()
+  {
+    return this == LCURLY || this == LSQUARE ||
+           this == INTEGER || this == DOUBLE ||
+           this == STRING || this == TRUE ||
+           this == FALSE || this == NULL;
+  }
 }
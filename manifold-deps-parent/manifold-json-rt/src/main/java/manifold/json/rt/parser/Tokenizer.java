@@ -18,33 +18,94 @@ package manifold.json.rt.parser;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 
+/**
+ * Scans JSON text from a char buffer. Rather than producing a {@link Token} per lexeme, the tokenizer keeps the state of
+ * the current token, which the parser reads directly. Strings are materialized only for string tokens and numbers are
+ * parsed from their digits as they are scanned. A {@link Token} is created only on request via {@link #token()}.
+ */
 final class Tokenizer
 {
-  private Reader _source;
+  private static final int BUFFER_SIZE = 8192;
+  /** Strings up to this length are deduplicated, which covers most object keys and enum-like values */
+  private static final int MAX_SHARED_LENGTH = 32;
+  private static final int SHARED_SLOTS = 512;
+  /** Long values up to this limit can accept another digit without overflowing */
+  private static final long MAX_MANTISSA = (Long.MAX_VALUE - 9) / 10;
+  /** Powers of ten exactly representable as doubles */
+  private static final double[] POW10 = {
+    1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+    1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+  private final Reader _source;
+  private final char[] _buf;
+  private int _pos;
+  private int _limit;
   private char _ch;
   private int _line;
   private int _column;
   private int _offset;
+  private IOException _ioException;
+
+  // state of the current token
+  private TokenType _type;
+  private String _string;
+  private int _tokenOffset;
+  private int _tokenLine;
+  private int _tokenColumn;
+  private boolean _negative;
+  private long _mantissa;
+  private int _exponent;
+  private boolean _exact;
+
+  private final StringBuilder _sb = new StringBuilder();
+  private final String[] _shared = new String[SHARED_SLOTS];
 
   Tokenizer( Reader source )
   {
     _source = source;
+    _buf = new char[BUFFER_SIZE];
+    init();
+  }
+
+  Tokenizer( String source )
+  {
+    this( source.toCharArray(), 0, source.length() );
+  }
+
+  /**
+   * Tokenizes {@code length} chars of {@code source} beginning at {@code offset}. The array is scanned in place, not
+   * copied.
+   */
+  Tokenizer( char[] source, int offset, int length )
+  {
+    _source = null;
+    _buf = source;
+    _pos = offset;
+    _limit = offset + length;
+    init();
+  }
+
+  private void init()
+  {
     _offset = 0;
     _line = 1;
     _column = 0;
     nextChar();
   }
 
-  Token next()
+  TokenType next()
   {
-    Token T;
     eatWhiteSpace();
+    _string = null;
+    markToken( _offset, _line, _column );
     switch( _ch )
     {
       case '"':
       case '\'':
-        T = consumeString( _ch );
+        consumeString( _ch );
         break;
       case '-':
       case '0':
@@ -57,94 +118,149 @@ final class Tokenizer
       case '7':
       case '8':
       case '9':
-        T = consumeNumber();
+        consumeNumber();
         break;
       case '{':
-        T = new Token( TokenType.LCURLY, "{", _offset, _line, _column );
-        nextChar();
+        consumeChar( TokenType.LCURLY, "{" );
         break;
       case '}':
-        T = new Token( TokenType.RCURLY, "}", _offset, _line, _column );
-        nextChar();
+        consumeChar( TokenType.RCURLY, "}" );
         break;
       case '[':
-        T = new Token( TokenType.LSQUARE, "[", _offset, _line, _column );
-        nextChar();
+        consumeChar( TokenType.LSQUARE, "[" );
         break;
       case ']':
-        T = new Token( TokenType.RSQUARE, "]", _offset, _line, _column );
-        nextChar();
+        consumeChar( TokenType.RSQUARE, "]" );
         break;
       case ',':
-        T = new Token( TokenType.COMMA, ",", _offset, _line, _column );
-        nextChar();
+        consumeChar( TokenType.COMMA, "," );
         break;
       case ':':
-        T = new Token( TokenType.COLON, ":", _offset, _line, _column );
-        nextChar();
-        break;
-      case 'a':
-      case 'b':
-      case 'c':
-      case 'd':
-      case 'e':
-      case 'f':
-      case 'g':
-      case 'h':
-      case 'i':
-      case 'j':
-      case 'k':
-      case 'l':
-      case 'm':
-      case 'n':
-      case 'o':
-      case 'p':
-      case 'q':
-      case 'r':
-      case 's':
-      case 't':
-      case 'u':
-      case 'v':
-      case 'w':
-      case 'x':
-      case 'y':
-      case 'z':
-      case 'A':
-      case 'B':
-      case 'C':
-      case 'D':
-      case 'E':
-      case 'F':
-      case 'G':
-      case 'H':
-      case 'I':
-      case 'J':
-      case 'K':
-      case 'L':
-      case 'M':
-      case 'N':
-      case 'O':
-      case 'P':
-      case 'Q':
-      case 'R':
-      case 'S':
-      case 'T':
-      case 'U':
-      case 'V':
-      case 'W':
-      case 'X':
-      case 'Y':
-      case 'Z':
-        T = consumeConstant();
+        consumeChar( TokenType.COLON, ":" );
         break;
       case '\0':
-        T = new Token( TokenType.EOF, "EOF", _offset, _line, _column );
+        _type = TokenType.EOF;
+        _string = "EOF";
         break;
       default:
-        T = new Token( TokenType.ERROR, String.valueOf( _ch ), _offset, _line, _column );
-        nextChar();
+        if( isLetter( _ch ) )
+        {
+          consumeConstant();
+        }
+        else
+        {
+          consumeChar( TokenType.ERROR, String.valueOf( _ch ) );
+        }
+    }
+    return _type;
+  }
+
+  TokenType getType()
+  {
+    return _type;
+  }
+
+  /**
+   * The text of the current token. For a string token this is the string's value.
+   */
+  String getString()
+  {
+    if( _string == null )
+    {
+      _string = _sb.toString();
+    }
+    return _string;
+  }
+
+  int getLineNumber()
+  {
+    return _tokenLine;
+  }
+
+  int getColumn()
+  {
+    return _tokenColumn;
+  }
+
+  /**
+   * The value of the current {@link TokenType#INTEGER} token as an Integer, or a Long if it does not fit in an int.
+   */
+  Number getInteger( boolean useBig )
+  {
+    if( _exact )
+    {
+      long value = _negative ? -_mantissa : _mantissa;
+      if( useBig )
+      {
+        return BigInteger.valueOf( value );
+      }
+      if( value == (int)value )
+      {
+        return (int)value;
+      }
+      return value;
+    }
+
+    if( useBig )
+    {
+      return new BigInteger( getString() );
+    }
+    try
+    {
+      return Long.parseLong( getString() );
+    }
+    catch( NumberFormatException e )
+    {
+      // overflow, the format is correct
+      return 0;
+    }
+  }
+
+  /**
+   * The value of the current {@link TokenType#DOUBLE} token.
+   */
+  Number getDouble( boolean useBig )
+  {
+    if( useBig )
+    {
+      return new BigDecimal( getString() );
+    }
+    if( _exact && _mantissa < (1L << 53) && _exponent >= -22 && _exponent <= 22 )
+    {
+      // both operands are exact, so the result is correctly rounded
+      double value = _exponent < 0 ? _mantissa / POW10[-_exponent] : _mantissa * POW10[_exponent];
+      return _negative ? -value : value;
     }
-    return T;
+    return Double.parseDouble( getString() );
+  }
+
+  /**
+   * Makes a {@link Token} for the current token, only necessary when token positions are requested.
+   */
+  Token token()
+  {
+    return new Token( _type, getString(), _tokenOffset, _tokenLine, _tokenColumn );
+  }
+
+  private void markToken( int offset, int line, int column )
+  {
+    _tokenOffset = offset;
+    _tokenLine = line;
+    _tokenColumn = column;
+  }
+
+  private void consumeChar( TokenType type, String string )
+  {
+    _type = type;
+    _string = string;
+    nextChar();
+  }
+
+  private void error( String string )
+  {
+    _type = TokenType.ERROR;
+    _string = string;
+    markToken( _offset, _line, _column );
   }
 
   /*
@@ -152,13 +268,34 @@ final class Tokenizer
     char = unescaped | "\" ('"' | "\" | "/" | "b" | "f" | "n" | "r" | "t" | "u" hex hex hex hex).
     unescaped = any printable Unicode character except '"', "'" or "\".
   */
-  private Token consumeString( char quote )
+  private void consumeString( char quote )
   {
-    StringBuilder sb = new StringBuilder();
-    int line = _line;
-    int column = _column;
-    int offset = _offset;
-    Token T;
+    // fast path: the string is entirely in the buffer without escapes or line breaks, the current char is the opening
+    // quote at _pos - 1
+    int start = _pos;
+    for( int i = start; i < _limit; i++ )
+    {
+      char c = _buf[i];
+      if( c == quote )
+      {
+        int length = i - start;
+        _type = TokenType.STRING;
+        _string = makeString( start, length );
+        // skip to the closing quote
+        _pos = i + 1;
+        _offset += length + 1;
+        _column += length + 1;
+        nextChar();
+        return;
+      }
+      if( c == '\\' || c == '\n' || c == '\0' )
+      {
+        break;
+      }
+    }
+
+    StringBuilder sb = _sb;
+    sb.setLength( 0 );
     nextChar();
     while( moreChars() && _ch != quote )
     {
@@ -198,28 +335,22 @@ final class Tokenizer
             int u = 0;
             for( int i = 0; i < 4; i++ )
             {
-              if( isHexDigit( _ch ) )
+              int digit = Character.digit( _ch, 16 );
+              if( digit < 0 )
               {
-                u = u * 16 + _ch - '0';
-                if( _ch >= 'A' )
-                { // handle hex numbers: 'A' = 65, '0' = 48. 'A'-'0' = 17, 17 - 7 = 10
-                  u = u - 7;
-                }
-              }
-              else
-              {
-                T = new Token( TokenType.ERROR, sb.toString(), _offset, _line, _column );
+                error( sb.toString() );
                 nextChar();
-                return T;
+                return;
               }
+              u = u * 16 + digit;
               nextChar();
             }
             sb.append( (char)u );
             break;
           default:
-            T = new Token( TokenType.ERROR, sb.toString(), _offset, _line, _column );
+            error( sb.toString() );
             nextChar();
-            return T;
+            return;
         }
       }
       else
@@ -230,14 +361,49 @@ final class Tokenizer
     }
     if( _ch == quote )
     {
-      T = new Token( TokenType.STRING, sb.toString(), offset, line, column );
+      _type = TokenType.STRING;
+      _string = sb.toString();
     }
     else
     {
-      T = new Token( TokenType.ERROR, sb.toString(), _offset, _line, _column );
+      error( sb.toString() );
     }
     nextChar();
-    return T;
+  }
+
+  /**
+   * Short strings are shared, mostly to avoid a new String for each occurrence of an object key.
+   */
+  private String makeString( int start, int length )
+  {
+    char[] buf = _buf;
+    if( length > MAX_SHARED_LENGTH )
+    {
+      return new String( buf, start, length );
+    }
+
+    int hash = 0;
+    for( int i = start, end = start + length; i < end; i++ )
+    {
+      hash = 31 * hash + buf[i];
+    }
+    int slot = (hash ^ (hash >>> 16)) & (SHARED_SLOTS - 1);
+    String shared = _shared[slot];
+    if( shared != null && shared.length() == length )
+    {
+      int i = 0;
+      while( i < length && shared.charAt( i ) == buf[start + i] )
+      {
+        i++;
+      }
+      if( i == length )
+      {
+        return shared;
+      }
+    }
+    shared = new String( buf, start, length );
+    _shared[slot] = shared;
+    return shared;
   }
 
   /*
@@ -248,26 +414,27 @@ final class Tokenizer
     digit = "0" | "1" | ... | "9".
     digit19 = "1" | ... | "9".
   */
-  private Token consumeNumber()
+  private void consumeNumber()
   {
-    StringBuilder sb = new StringBuilder();
-    int line = _line;
-    int column = _column;
-    int offset = _offset;
-    Token T;
-    boolean err;
+    StringBuilder sb = _sb;
+    sb.setLength( 0 );
+    _negative = false;
+    _mantissa = 0;
+    _exponent = 0;
+    _exact = true;
     boolean isDouble = false;
     if( _ch == '-' )
     {
+      _negative = true;
       sb.append( _ch );
       nextChar();
     }
     if( _ch != '0' )
     {
-      err = consumeDigits( sb );
-      if( err )
+      if( !consumeDigits( false ) )
       {
-        return new Token( TokenType.ERROR, sb.toString(), _offset, _line, _column );
+        error( sb.toString() );
+        return;
       }
     }
     else
@@ -280,10 +447,10 @@ final class Tokenizer
       isDouble = true;
       sb.append( _ch );
       nextChar();
-      err = consumeDigits( sb );
-      if( err )
+      if( !consumeDigits( true ) )
       {
-        return new Token( TokenType.ERROR, sb.toString(), _offset, _line, _column );
+        error( sb.toString() );
+        return;
       }
     }
     if( _ch == 'E' || _ch == 'e' )
@@ -291,8 +458,10 @@ final class Tokenizer
       isDouble = true;
       sb.append( _ch );
       nextChar();
+      boolean negativeExp = false;
       if( _ch == '-' )
       {
+        negativeExp = true;
         sb.append( _ch );
         nextChar();
       }
@@ -301,39 +470,53 @@ final class Tokenizer
         sb.append( _ch );
         nextChar();
       }
-      err = consumeDigits( sb );
-      if( err )
+      if( !isDigit( _ch ) )
       {
-        return new Token( TokenType.ERROR, sb.toString(), _offset, _line, _column );
+        error( sb.toString() );
+        return;
       }
-    }
-    if( isDouble )
-    {
-      T = new Token( TokenType.DOUBLE, sb.toString(), offset, line, column );
-    }
-    else
-    {
-      T = new Token( TokenType.INTEGER, sb.toString(), offset, line, column );
-    }
-    return T;
-  }
-
-  private boolean consumeDigits( StringBuilder sb )
-  {
-    boolean err = false;
-    if( isDigit( _ch ) )
-    {
+      int exp = 0;
       while( moreChars() && isDigit( _ch ) )
       {
+        if( exp < 100_000 )
+        {
+          exp = exp * 10 + _ch - '0';
+        }
         sb.append( _ch );
         nextChar();
       }
+      _exponent += negativeExp ? -exp : exp;
     }
-    else
+    _type = isDouble ? TokenType.DOUBLE : TokenType.INTEGER;
+  }
+
+  /**
+   * Accumulates digits into the mantissa until it would overflow, thereafter the number is parsed from its text.
+   */
+  private boolean consumeDigits( boolean fraction )
+  {
+    if( !isDigit( _ch ) )
     {
-      err = true;
+      return false;
     }
-    return err;
+    while( moreChars() && isDigit( _ch ) )
+    {
+      if( _mantissa <= MAX_MANTISSA )
+      {
+        _mantissa = _mantissa * 10 + _ch - '0';
+        if( fraction )
+        {
+          _exponent--;
+        }
+      }
+      else
+      {
+        _exact = false;
+      }
+      _sb.append( _ch );
+      nextChar();
+    }
+    return true;
   }
 
   private boolean isDigit( char ch )
@@ -341,33 +524,42 @@ final class Tokenizer
     return ch >= '0' && ch <= '9';
   }
 
-  private boolean isHexDigit( char ch )
+  private boolean isLetter( char ch )
   {
-    return ch >= '0' && ch <= '9' || ch >= 'A' && ch <= 'F' || ch >= 'a' && ch <= 'f';
+    return ch >= 'a' && ch <= 'z' || ch >= 'A' && ch <= 'Z';
   }
 
-  private Token consumeConstant()
+  private void consumeConstant()
   {
-    StringBuilder sb = new StringBuilder();
-    Token T;
+    StringBuilder sb = _sb;
+    sb.setLength( 0 );
     int l = _line;
     int c = _column;
     do
     {
       sb.append( _ch );
       nextChar();
-    } while( moreChars() && (_ch >= 'a' && _ch <= 'z' || _ch >= 'A' && _ch <= 'Z') );
-    String str = sb.toString();
-    TokenType type = Token.Constants.get( str );
-    if( type == null )
+    } while( moreChars() && isLetter( _ch ) );
+    if( "true".contentEquals( sb ) )
+    {
+      _type = TokenType.TRUE;
+      _string = "true";
+    }
+    else if( "false".contentEquals( sb ) )
     {
-      T = new Token( TokenType.ERROR, str, _offset, l, c );
+      _type = TokenType.FALSE;
+      _string = "false";
+    }
+    else if( "null".contentEquals( sb ) )
+    {
+      _type = TokenType.NULL;
+      _string = "null";
     }
     else
     {
-      T = new Token( type, str, _offset, l, c );
+      _type = TokenType.ERROR;
     }
-    return T;
+    markToken( _offset, l, c );
   }
 
   private void eatWhiteSpace()
@@ -380,31 +572,56 @@ final class Tokenizer
 
   private void nextChar()
   {
-    int c;
-
-    try
+    _offset++;
+    if( _pos >= _limit && !fill() )
     {
-      c = _source.read();
-      _offset++;
-    }
-    catch( IOException e )
-    {
-      c = -1;
+      _ch = '\0';
+      return;
     }
+    char c = _buf[_pos++];
     if( c == '\n' )
     {
       _column = 0;
       _line++;
     }
-    else if( c != -1 )
+    else
     {
       _column++;
     }
-    else
+    _ch = c;
+  }
+
+  private boolean fill()
+  {
+    if( _source == null )
     {
-      c = '\0';
+      return false;
     }
-    _ch = (char)c;
+    int count;
+    try
+    {
+      count = _source.read( _buf, 0, _buf.length );
+    }
+    catch( IOException e )
+    {
+      _ioException = e;
+      return false;
+    }
+    if( count <= 0 )
+    {
+      return false;
+    }
+    _pos = 0;
+    _limit = count;
+    return true;
+  }
+
+  /**
+   * A read failure ends the token stream as if the end of input were reached, this is the cause, if any.
+   */
+  IOException getIOException()
+  {
+    return _ioException;
   }
 
   private boolean moreChars()
@@ -16,6 +16,9 @@
 
 package manifold.api.host;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.CharBuffer;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -85,6 +88,38 @@ public class ManBindingsExtTest extends TestCase
     assertEquals( sample, Json.fromJson( sample.toJson() ) );
   }
 
+  public void testFromJsonNumbersAndEscapes()
+  {
+    Map map = (Map)Json.fromJson(
+      "{\"int\": -2147483648, \"long\": 9223372036854775807, \"overflow\": 99999999999999999999, " +
+      "\"double\": 0.1, \"exp\": -2.5e-3, \"big\": 1.7976931348623157E308, \"esc\": \"\\u00e9\\u00C9\\t\"}" );
+    assertEquals( Integer.MIN_VALUE, map.get( "int" ) );
+    assertEquals( Long.MAX_VALUE, map.get( "long" ) );
+    assertEquals( 0, map.get( "overflow" ) );
+    assertEquals( 0.1, map.get( "double" ) );
+    assertEquals( -2.5e-3, map.get( "exp" ) );
+    assertEquals( Double.MAX_VALUE, map.get( "big" ) );
+    assertEquals( "\u00e9\u00c9\t", map.get( "esc" ) );
+
+    map = (Map)Json.fromJson( "{\"overflow\": 99999999999999999999, \"double\": 0.1}", true, false );
+    assertEquals( new BigInteger( "99999999999999999999" ), map.get( "overflow" ) );
+    assertEquals( new BigDecimal( "0.1" ), map.get( "double" ) );
+  }
+
+  public void testFromJsonCharBuffer()
+  {
+    DataBindings sample = makeSampleBindings();
+    assertEquals( sample, Json.fromJson( CharBuffer.wrap( sample.toJson() ), false, false ) );
+
+    // a slice of a larger array, as with a decoded resource file
+    CharBuffer buffer = CharBuffer.wrap( "xx{\"a\": [1, \"b\"]}yy".toCharArray() );
+    buffer.position( 2 );
+    buffer = buffer.slice();
+    buffer.limit( buffer.limit() - 2 );
+    Map map = (Map)Json.fromJson( buffer, false, false );
+    assertEquals( Arrays.asList( 1, "b" ), map.get( "a" ) );
+  }
+
   public void testToFromYaml()
   {
     DataBindings empty = new DataBindings();
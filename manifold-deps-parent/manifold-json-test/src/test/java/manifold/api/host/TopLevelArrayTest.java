@@ -19,6 +19,16 @@ package manifold.api.host;
 import junit.framework.TestCase;
 
 import abc.TopLevelArray;
+import manifold.json.rt.api.JsonStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
 public class TopLevelArrayTest extends TestCase
 {
@@ -60,6 +70,57 @@ public class TopLevelArrayTest extends TestCase
     assertEquals( makeYamlArray(), array.write().toYaml() );
   }
 
+  public void testStreamJsonArray()
+  {
+    List<String> foos = new ArrayList<>();
+    try( JsonStream<TopLevelArray.TopLevelArrayItem> items =
+           TopLevelArray.TopLevelArrayItem.load().fromJsonArrayStream( new StringReader( makeJsonArray() ) ) )
+    {
+      for( TopLevelArray.TopLevelArrayItem item : items )
+      {
+        foos.add( item.getFoo() );
+      }
+    }
+    assertEquals( Arrays.asList( "hi", "bye" ), foos );
+  }
+
+  public void testStreamJsonLines()
+  {
+    String jsonLines = "{\"foo\": \"hi\"}\n{\"foo\": \"bye\"}\n";
+    try( JsonStream<TopLevelArray.TopLevelArrayItem> items = TopLevelArray.TopLevelArrayItem.load()
+           .fromJsonLines( new ByteArrayInputStream( jsonLines.getBytes( StandardCharsets.UTF_8 ) ) ) )
+    {
+      assertEquals( Arrays.asList( "hi", "bye" ),
+        items.stream().map( item -> item.getFoo() ).collect( Collectors.toList() ) );
+    }
+  }
+
+  public void testListStreams()
+  {
+    TopLevelArray array = TopLevelArray.load().fromJson( makeJsonArray() );
+    assertEquals( "bye", array.stream().filter( item -> item.getFoo().startsWith( "b" ) ).findFirst().get().getFoo() );
+    assertEquals( Arrays.asList( "hi", "bye" ),
+      array.parallelStream().map( item -> item.getFoo() ).collect( Collectors.toList() ) );
+    assertTrue( array.contains( array.get( 1 ) ) );
+
+    assertTrue( array.removeIf( item -> item.getFoo().equals( "hi" ) ) );
+    assertEquals( 1, array.size() );
+    assertEquals( "bye", array.iterator().next().getFoo() );
+  }
+
+  public void testWriteJsonStream()
+  {
+    String jsonArray = makeJsonArray();
+    TopLevelArray array = TopLevelArray.load().fromJson( jsonArray );
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    array.write().toJsonStream( out );
+    assertEquals( jsonArray, new String( out.toByteArray(), StandardCharsets.UTF_8 ) );
+
+    StringBuilder sb = new StringBuilder();
+    array.write().toJson( sb );
+    assertEquals( jsonArray, sb.toString() );
+  }
+
   private String makeJsonArray()
   {
     return
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2023 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.api.json;
+
+import junit.framework.TestCase;
+import manifold.api.fs.IFile;
+import manifold.internal.host.RuntimeManifoldHost;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class CacheDependenciesTest extends TestCase
+{
+  private JsonTypeManifold _tm;
+
+  @Override
+  protected void setUp()
+  {
+    _tm = RuntimeManifoldHost.get().getSingleModule().getTypeManifolds().stream()
+      .filter( tm -> tm instanceof JsonTypeManifold )
+      .map( tm -> (JsonTypeManifold)tm )
+      .findFirst().orElseThrow( IllegalStateException::new );
+  }
+
+  public void testOwnFile()
+  {
+    assertEquals( set( "Dummy.json" ), jsonFiles( "abc.Dummy" ) );
+  }
+
+  public void testRefsToOtherFiles()
+  {
+    // "sub/SubTest1.json"
+    assertEquals( set( "Test1.json", "SubTest1.json" ), jsonFiles( "abc.Test1" ) );
+    // "../Test2.json"
+    assertEquals( set( "SubTest2.json", "Test2.json" ), jsonFiles( "abc.sub.SubTest2" ) );
+    // "#/$defs/Thing", "OtherDefs.json#/$defs/Stuff", "OtherDefs.json#stuff"
+    assertEquals( set( "UsesDefs.json", "OtherDefs.json" ), jsonFiles( "abc.UsesDefs" ) );
+  }
+
+  public void testFormatCoercersAreDependencies()
+  {
+    Collection<IFile> dependencies = _tm.getCacheDependencies( "abc.Dummy" );
+    assertTrue( dependencies.stream().anyMatch( file -> !file.getExtension().equals( "json" ) ) );
+  }
+
+  public void testSupplementedTypeIsNotCached()
+  {
+    // MyPersonExt extends abc.Person and abc.Person.Hobby
+    assertNull( _tm.getCacheDependencies( "abc.Person" ) );
+  }
+
+  private Set<String> jsonFiles( String fqn )
+  {
+    return _tm.getCacheDependencies( fqn ).stream()
+      .filter( file -> file.getExtension().equals( "json" ) )
+      .map( IFile::getName )
+      .collect( Collectors.toSet() );
+  }
+
+  private static Set<String> set( String... names )
+  {
+    return new HashSet<>( Arrays.asList( names ) );
+  }
+}
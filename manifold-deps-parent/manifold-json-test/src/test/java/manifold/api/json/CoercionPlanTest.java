@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2023 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.api.json;
+
+import manifold.ext.rt.CoercionPlan;
+import manifold.ext.rt.RuntimeMethods;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class CoercionPlanTest
+{
+  @Test
+  public void testPlannedCoercions()
+  {
+    // coercion providers and fallbacks still apply via plans
+    assertEquals( LocalDate.of( 2023, 11, 10 ), RuntimeMethods.coerce( "2023-11-10", LocalDate.class ) );
+    assertEquals( new BigDecimal( "1.5" ), RuntimeMethods.coerce( "1.5", BigDecimal.class ) );
+    assertEquals( 3, RuntimeMethods.coerce( 3L, int.class ) );
+    assertEquals( 3L, RuntimeMethods.coerce( "3", Long.class ) );
+    assertEquals( "x", RuntimeMethods.coerce( "x", String.class ) );
+    assertNull( RuntimeMethods.coerce( "", Integer.class ) );
+
+    long hits = CoercionPlan.getHits();
+    for( int i = 0; i < 10; i++ )
+    {
+      assertEquals( (double)i, RuntimeMethods.coerce( i, double.class ) );
+    }
+    assertTrue( CoercionPlan.getHits() - hits >= 9 );
+  }
+}
@@ -16,13 +16,28 @@
 
 package manifold.api.json;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.security.CodeSource;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import manifold.api.fs.IFile;
+import manifold.api.type.ContributorKind;
+import manifold.api.type.ITypeManifold;
 import manifold.rt.api.Bindings;
 import javax.tools.DiagnosticListener;
 import javax.tools.JavaFileManager;
@@ -38,6 +53,9 @@ import manifold.rt.api.util.ManIdentifierUtil;
 import manifold.json.rt.Json;
 import manifold.json.rt.api.*;
 import manifold.rt.api.util.ManClassUtil;
+import manifold.rt.api.util.StreamUtil;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 /**
  * A base class for a Type Manifold modeled with a {@link JsonModel} e.g., parses its resource to a {@link Bindings}.
@@ -48,6 +66,8 @@ public abstract class AbstractJsonTypeManifold<T extends JsonModel> extends Java
 {
   private static final Set<String> API_INNER_CLASS_NAMES =
     new HashSet<>( Arrays.asList( "Proxy", "ProxyFactory", "Builder", "Copier" ) );
+  /** the file part of a JSON or YAML {@code $ref}, e.g., {@code address.json} in {@code "$ref": "address.json#/Street"} */
+  private static final Pattern REF_FILE = Pattern.compile( "[\"']?[${'$'}]ref[\"']?\\s*:\\s*[\"']?([^\"'#\\s,}]*)" );
 
   @Override
   public boolean isInnerType( String topLevel, String relativeInner )
@@ -98,6 +118,123 @@ public abstract class AbstractJsonTypeManifold<T extends JsonModel> extends Java
     return API_INNER_CLASS_NAMES.contains( relativeInner );
   }
 
+  /**
+   * A source is generated from the type's resource files and the files its {@code $ref}s name, transformations of
+   * schemas referenced across files are cached per thread, see
+   * {@link manifold.api.json.codegen.schema.JsonSchemaTransformerSession}. An extension class supplementing an inner
+   * type is not parallel safe, the source of such a type is generated on javac's thread.
+   */
+  @Override
+  public boolean isParallelSafe()
+  {
+    return true;
+  }
+
+  /**
+   * A type's source depends on its files, on the files its {@code $ref}s name, transitively, and on the jars providing
+   * the {@link IJsonFormatTypeCoercer}s, which map a schema {@code format} to a Java type. The source is not cached if
+   * the type is supplemented, for instance by an extension class, since the source of a supplemented inner type
+   * depends on other type manifolds.
+   */
+  @Override
+  protected Collection<IFile> getCacheDependencies( String topLevelFqn )
+  {
+    Set<IFile> files = getFilesForType( topLevelFqn );
+    if( files == null || isSupplemented( topLevelFqn ) )
+    {
+      return null;
+    }
+
+    Set<IFile> dependencies = new LinkedHashSet<>();
+    for( IFile file: files )
+    {
+      if( !addRefDependencies( file, dependencies ) )
+      {
+        return null;
+      }
+    }
+    for( IJsonFormatTypeCoercer coercer: IJsonFormatTypeCoercer.get() )
+    {
+      CodeSource codeSource = coercer.getClass().getProtectionDomain().getCodeSource();
+      URL location = codeSource == null ? null : codeSource.getLocation();
+      if( location == null )
+      {
+        return null;
+      }
+      // a directory is not fingerprinted, which makes the source uncacheable
+      dependencies.add( getModule().getHost().getFileSystem().getIFile( location ) );
+    }
+    return dependencies;
+  }
+
+  private boolean isSupplemented( String topLevelFqn )
+  {
+    String prefix = topLevelFqn + '.';
+    for( ITypeManifold tm: getModule().getTypeManifolds() )
+    {
+      // an extension class of the top-level type may declare extensions of inner types as nested classes
+      if( tm.getContributorKind() == ContributorKind.Supplemental &&
+          tm.getAllTypeNames().stream().anyMatch( fqn -> fqn.equals( topLevelFqn ) || fqn.startsWith( prefix ) ) )
+      {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Adds {@code file} and the files its {@code $ref}s name to {@code dependencies}, the refs are resolved the same way
+   * as in {@link manifold.api.json.codegen.schema.JsonSchemaTransformer}.
+   *
+   * @return False if a file is not readable or a ref is not a file
+   */
+  private boolean addRefDependencies( IFile file, Set<IFile> dependencies )
+  {
+    if( !dependencies.add( file ) )
+    {
+      return true;
+    }
+
+    String content;
+    try( Reader reader = new InputStreamReader( file.openInputStream(), UTF_8 ) )
+    {
+      content = StreamUtil.getContent( reader );
+    }
+    catch( IOException e )
+    {
+      return false;
+    }
+
+    for( Matcher matcher = REF_FILE.matcher( content ); matcher.find(); )
+    {
+      String filePart = matcher.group( 1 );
+      if( filePart.isEmpty() )
+      {
+        // a ref local to the file
+        continue;
+      }
+      URL url;
+      try
+      {
+        String scheme = new URI( filePart ).getScheme();
+        if( scheme != null && !scheme.equalsIgnoreCase( "file" ) )
+        {
+          return false;
+        }
+        url = scheme != null ? new URL( filePart ) : new URL( file.toURI().toURL(), filePart );
+      }
+      catch( URISyntaxException | MalformedURLException e )
+      {
+        return false;
+      }
+      if( !addRefDependencies( getModule().getHost().getFileSystem().getIFile( url ), dependencies ) )
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
   @Override
   protected String contribute( JavaFileManager.Location location, String topLevelFqn, boolean genStubs, String existing,
                                T model, DiagnosticListener<JavaFileObject> errorHandler )
@@ -97,7 +97,7 @@ public class JsonModel extends AbstractSingleFileModel
 
   protected Object load()
   {
-    return Json.fromJson( ResourceFileTypeManifold.getContent( getFile() ), false, true );
+    return Json.fromJson( ResourceFileTypeManifold.getCharContent( getFile() ), false, true );
   }
 
   public IJsonParentType getType()
@@ -52,7 +52,7 @@ class Model extends AbstractSingleFileModel
     Object jsonValue;
     try
     {
-      jsonValue = Json.fromJson( ResourceFileTypeManifold.getContent( getFile() ) );
+      jsonValue = Json.fromJson( ResourceFileTypeManifold.getCharContent( getFile() ), false, false );
     }
     catch( Exception e )
     {
@@ -16,6 +16,7 @@
 
 package manifold.api.properties;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -65,6 +66,20 @@ public class PropertiesTypeManifold extends JavaTypeManifold<Model>
     return node != null && !node.isLeaf();
   }
 
+  @Override
+  public boolean isParallelSafe()
+  {
+    // sources are generated from the properties files alone
+    return true;
+  }
+
+  @Override
+  protected Collection<IFile> getCacheDependencies( String topLevelFqn )
+  {
+    // a properties type depends only on its own files, system properties are not cached
+    return getFilesForType( topLevelFqn );
+  }
+
   @Override
   protected String contribute( JavaFileManager.Location location, String topLevelFqn, boolean genStubs, String existing, Model model, DiagnosticListener<JavaFileObject> errorHandler )
   {
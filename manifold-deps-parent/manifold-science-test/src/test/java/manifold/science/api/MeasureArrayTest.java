@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2023 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.science.api;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import manifold.science.measures.Length;
+import manifold.science.measures.LengthUnit;
+import manifold.science.measures.Temperature;
+import manifold.science.measures.TemperatureUnit;
+import org.junit.Test;
+
+import static manifold.science.util.UnitConstants.*;
+import static org.junit.Assert.*;
+
+public class MeasureArrayTest
+{
+  @Test
+  public void testArithmetic()
+  {
+    MeasureArray<LengthUnit, Length> a = MeasureArray.of( m, 1, 2, 3 );
+    MeasureArray<LengthUnit, Length> b = MeasureArray.of( km, 1, 1, 1 );
+
+    assertArrayEquals( new double[] {1001, 1002, 1003}, (a + b).toArray(), 0 );
+    assertArrayEquals( new double[] {-999, -998, -997}, (a - b).toArray(), 0 );
+    assertArrayEquals( new double[] {3, 4, 5}, (a + 2 m).toArray(), 0 );
+    assertArrayEquals( new double[] {2, 4, 6}, (a * 2).toArray(), 0 );
+    assertArrayEquals( new double[] {.5, 1, 1.5}, (a / 2).toArray(), 0 );
+    assertArrayEquals( new double[] {-1, -2, -3}, (-a).toArray(), 0 );
+    assertEquals( m, (a + b).getDisplayUnit() );
+
+    try
+    {
+      a.plus( MeasureArray.of( m, 1 ) );
+      fail();
+    }
+    catch( IllegalArgumentException ignore )
+    {
+    }
+  }
+
+  @Test
+  public void testConversion()
+  {
+    MeasureArray<LengthUnit, Length> a = MeasureArray.of( km, 1, 2.5 );
+    assertArrayEquals( new double[] {1000, 2500}, a.toBaseArray(), 0 );
+    assertArrayEquals( new double[] {1000, 2500}, a.to( m ).toArray(), 0 );
+    assertArrayEquals( new double[] {1000, 2500}, a.toArray( m ), 0 );
+    assertEquals( 2.5 km, a.get( 1 ) );
+    assertEquals( km, a.get( 1 ).getDisplayUnit() );
+
+    MeasureArray<TemperatureUnit, Temperature> temps = MeasureArray.of( dC, 0, 100 );
+    assertArrayEquals( new double[] {32, 212}, temps.toArray( dF ), 1e-9 );
+
+    List<Length> lengths = new ArrayList<>();
+    a.forEach( lengths::add );
+    assertEquals( Arrays.asList( 1 km, 2.5 km ), lengths );
+    assertEquals( a, MeasureArray.of( km, lengths ) );
+  }
+
+  @Test
+  public void testAggregates()
+  {
+    MeasureArray<LengthUnit, Length> a = MeasureArray.of( m, 4, 1, 7 );
+    assertEquals( 12 m, a.sum() );
+    assertEquals( 4 m, a.mean() );
+    assertEquals( 1 m, a.min() );
+    assertEquals( 7 m, a.max() );
+    assertEquals( 0.004 km, a.to( km ).mean() );
+
+    MeasureArray<LengthUnit, Length> empty = MeasureArray.of( m );
+    assertEquals( 0 m, empty.sum() );
+    try
+    {
+      empty.mean();
+      fail();
+    }
+    catch( java.util.NoSuchElementException ignore )
+    {
+    }
+  }
+}
@@ -60,6 +60,30 @@ public class RationalTest
     }
   }
 
+  @Test
+  public void testLongOverflow()
+  {
+    BigInteger max = BigInteger.valueOf( Long.MAX_VALUE );
+    Rational big = Rational.get( Long.MAX_VALUE ) + 1r;
+    assertEquals( max.add( BigInteger.ONE ), big.getNumerator() );
+    assertEquals( Rational.get( Long.MAX_VALUE ), big - 1r );
+    assertEquals( Rational.get( max.multiply( max ) ), Rational.get( Long.MAX_VALUE ) * Long.MAX_VALUE );
+    assertEquals( "-9223372036854775808 / 1", (-big).toString() );
+    assertEquals( "9223372036854775808 / 1", (-Rational.get( Long.MIN_VALUE )).toString() );
+    assertEquals( Rational.get( 1, Long.MAX_VALUE ) * 2, Rational.get( 1, Long.MAX_VALUE ) + Rational.get( 1, Long.MAX_VALUE ) );
+    assertTrue( Rational.get( Long.MAX_VALUE - 2, Long.MAX_VALUE - 1 ) < Rational.get( Long.MAX_VALUE - 1, Long.MAX_VALUE ) );
+    assertEquals( (big / big).hashCode(), Rational.ONE.hashCode() );
+    assertEquals( Rational.get( 2, 3 ).hashCode(), Rational.get( 4, 6 ).hashCode() );
+  }
+
+  @Test
+  public void testSmallValueCache()
+  {
+    assertSame( Rational.get( 5 ), Rational.get( 10, 2 ).reduce() );
+    assertSame( Rational.ONE, (Rational.get( 3 ) / 3).reduce() );
+    assertSame( Rational.ZERO, Rational.get( 3 ) - 3 );
+  }
+
 //  @Test
 //  public void testSequence() {
 //    StringBuilder sb = new StringBuilder();
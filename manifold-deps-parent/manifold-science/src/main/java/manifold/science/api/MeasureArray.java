@@ -0,0 +1,409 @@
+/*
+ * Copyright (c) 2023 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.science.api;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import manifold.science.measures.Length;
+import manifold.science.util.Rational;
+
+/**
+ * A column of measures of the same dimension, such as a time series of {@link Length} readings. The magnitudes are
+ * stored in base units in a single {@code double[]} with one display unit shared by the column, rather than as one
+ * {@link AbstractMeasure} object per value. Arithmetic, unit conversion, and aggregation are performed over the whole
+ * column in simple loops the JIT can vectorize.
+ * <p/>
+ * Like measures, instances are immutable, operations return a separate instance. Arithmetic is performed using base
+ * units and supports operator overloading:
+ * <pre><code>
+ *   MeasureArray&lt;LengthUnit, Length&gt; readings = MeasureArray.of( ft, 5.2, 5.9, 6.1 );
+ *   MeasureArray&lt;LengthUnit, Length&gt; adjusted = readings + 1 in;
+ *   Length average = adjusted.to( cm ).mean();
+ * </code></pre>
+ * Note the magnitudes have {@code double} precision, not the arbitrary precision of {@link Rational}. Conversions
+ * between units assume a unit converts to base units linearly, with an optional offset as with temperature.
+ *
+ * @param <U> The unit type of the measures e.g., LengthUnit
+ * @param <T> The measure type e.g., Length
+ */
+public final class MeasureArray<U extends Unit<T, U>, T extends AbstractMeasure<U, T>> implements Iterable<T>, Serializable
+{
+  /** The magnitudes stored in Base units */
+  private final double[] _values;
+
+  /** A zero measure in the display unit, makes the elements */
+  private final T _zero;
+
+  /**
+   * @param unit   The unit of the {@code values} and the display unit of the result
+   * @param values Magnitudes in terms of {@code unit}
+   */
+  public static <U extends Unit<T, U>, T extends AbstractMeasure<U, T>> MeasureArray<U, T> of( U unit, double... values )
+  {
+    double[] baseValues = new double[values.length];
+    Conversion conversion = new Conversion( unit );
+    double scale = conversion._scale;
+    double offset = conversion._offset;
+    for( int i = 0; i < values.length; i++ )
+    {
+      baseValues[i] = values[i] * scale + offset;
+    }
+    return new MeasureArray<>( baseValues, unit.makeDimension( 0 ) );
+  }
+
+  /**
+   * @param displayUnit The display unit of the result
+   * @param baseValues  Magnitudes in terms of Base units, copied
+   */
+  public static <U extends Unit<T, U>, T extends AbstractMeasure<U, T>> MeasureArray<U, T> ofBaseValues( U displayUnit, double... baseValues )
+  {
+    return new MeasureArray<>( baseValues.clone(), displayUnit.makeDimension( 0 ) );
+  }
+
+  /**
+   * @param displayUnit The display unit of the result
+   * @param measures    The measures to store
+   */
+  public static <U extends Unit<T, U>, T extends AbstractMeasure<U, T>> MeasureArray<U, T> of( U displayUnit, Collection<T> measures )
+  {
+    double[] baseValues = new double[measures.size()];
+    int i = 0;
+    for( T measure: measures )
+    {
+      baseValues[i++] = measure.toBaseNumber().doubleValue();
+    }
+    return new MeasureArray<>( baseValues, displayUnit.makeDimension( 0 ) );
+  }
+
+  private MeasureArray( double[] values, T zero )
+  {
+    _values = values;
+    _zero = zero;
+  }
+
+  public int size()
+  {
+    return _values.length;
+  }
+
+  public boolean isEmpty()
+  {
+    return _values.length == 0;
+  }
+
+  /**
+   * @return The unit in which the measures display.
+   */
+  public U getDisplayUnit()
+  {
+    return _zero.getDisplayUnit();
+  }
+
+  /**
+   * @return The measure at {@code index}, in the display unit. Note this creates a measure object, use
+   * {@link #getBaseValue(int)} to avoid it.
+   */
+  public T get( int index )
+  {
+    return make( _values[index] );
+  }
+
+  /**
+   * @return The magnitude at {@code index} in terms of Base units.
+   */
+  public double getBaseValue( int index )
+  {
+    return _values[index];
+  }
+
+  /**
+   * @return The magnitudes in terms of Base units, as a separate array.
+   */
+  public double[] toBaseArray()
+  {
+    return _values.clone();
+  }
+
+  /**
+   * @return The magnitudes in terms of the display unit.
+   */
+  public double[] toArray()
+  {
+    return toArray( getDisplayUnit() );
+  }
+
+  /**
+   * @return The magnitudes in terms of {@code unit}.
+   */
+  public double[] toArray( U unit )
+  {
+    Conversion conversion = new Conversion( unit );
+    double scale = conversion._scale;
+    double offset = conversion._offset;
+    double[] result = new double[_values.length];
+    for( int i = 0; i < _values.length; i++ )
+    {
+      result[i] = (_values[i] - offset) / scale;
+    }
+    return result;
+  }
+
+  /**
+   * Copy this array using the specified {@code displayUnit}. The magnitudes are shared, not converted.
+   */
+  public MeasureArray<U, T> to( U displayUnit )
+  {
+    return new MeasureArray<>( _values, _zero.copy( displayUnit ) );
+  }
+
+  public MeasureArray<U, T> unaryMinus()
+  {
+    double[] result = new double[_values.length];
+    for( int i = 0; i < _values.length; i++ )
+    {
+      result[i] = -_values[i];
+    }
+    return new MeasureArray<>( result, _zero );
+  }
+
+  /**
+   * Adds the measures of {@code operand} element-wise.
+   */
+  public MeasureArray<U, T> plus( MeasureArray<U, T> operand )
+  {
+    double[] that = sameSize( operand );
+    double[] result = new double[_values.length];
+    for( int i = 0; i < _values.length; i++ )
+    {
+      result[i] = _values[i] + that[i];
+    }
+    return new MeasureArray<>( result, _zero );
+  }
+
+  /**
+   * Adds {@code operand} to each measure.
+   */
+  public MeasureArray<U, T> plus( T operand )
+  {
+    double value = operand.toBaseNumber().doubleValue();
+    double[] result = new double[_values.length];
+    for( int i = 0; i < _values.length; i++ )
+    {
+      result[i] = _values[i] + value;
+    }
+    return new MeasureArray<>( result, _zero );
+  }
+
+  /**
+   * Subtracts the measures of {@code operand} element-wise.
+   */
+  public MeasureArray<U, T> minus( MeasureArray<U, T> operand )
+  {
+    double[] that = sameSize( operand );
+    double[] result = new double[_values.length];
+    for( int i = 0; i < _values.length; i++ )
+    {
+      result[i] = _values[i] - that[i];
+    }
+    return new MeasureArray<>( result, _zero );
+  }
+
+  /**
+   * Subtracts {@code operand} from each measure.
+   */
+  public MeasureArray<U, T> minus( T operand )
+  {
+    return plus( operand.unaryMinus() );
+  }
+
+  public MeasureArray<U, T> times( Number operand )
+  {
+    double factor = operand.doubleValue();
+    double[] result = new double[_values.length];
+    for( int i = 0; i < _values.length; i++ )
+    {
+      result[i] = _values[i] * factor;
+    }
+    return new MeasureArray<>( result, _zero );
+  }
+
+  public MeasureArray<U, T> div( Number operand )
+  {
+    double divisor = operand.doubleValue();
+    double[] result = new double[_values.length];
+    for( int i = 0; i < _values.length; i++ )
+    {
+      result[i] = _values[i] / divisor;
+    }
+    return new MeasureArray<>( result, _zero );
+  }
+
+  /**
+   * @return The sum of the measures, in the display unit. Zero if this array is empty.
+   */
+  public T sum()
+  {
+    double sum = 0;
+    for( double value: _values )
+    {
+      sum += value;
+    }
+    return make( sum );
+  }
+
+  /**
+   * @return The mean of the measures, in the display unit.
+   * @throws NoSuchElementException if this array is empty
+   */
+  public T mean()
+  {
+    checkNotEmpty();
+    double sum = 0;
+    for( double value: _values )
+    {
+      sum += value;
+    }
+    return make( sum / _values.length );
+  }
+
+  /**
+   * @return The least of the measures, in the display unit.
+   * @throws NoSuchElementException if this array is empty
+   */
+  public T min()
+  {
+    checkNotEmpty();
+    double min = _values[0];
+    for( double value: _values )
+    {
+      min = Math.min( min, value );
+    }
+    return make( min );
+  }
+
+  /**
+   * @return The greatest of the measures, in the display unit.
+   * @throws NoSuchElementException if this array is empty
+   */
+  public T max()
+  {
+    checkNotEmpty();
+    double max = _values[0];
+    for( double value: _values )
+    {
+      max = Math.max( max, value );
+    }
+    return make( max );
+  }
+
+  /**
+   * Iterates the measures, creating a measure object per element.
+   */
+  @Override
+  public Iterator<T> iterator()
+  {
+    return new Iterator<T>()
+    {
+      private int _index;
+
+      @Override
+      public boolean hasNext()
+      {
+        return _index < _values.length;
+      }
+
+      @Override
+      public T next()
+      {
+        if( _index >= _values.length )
+        {
+          throw new NoSuchElementException();
+        }
+        return get( _index++ );
+      }
+    };
+  }
+
+  private T make( double baseValue )
+  {
+    return _zero.make( Rational.get( baseValue ), _zero.getBaseUnit(), _zero.getDisplayUnit() );
+  }
+
+  private double[] sameSize( MeasureArray<U, T> operand )
+  {
+    if( operand._values.length != _values.length )
+    {
+      throw new IllegalArgumentException( "Size mismatch: " + _values.length + " and " + operand._values.length );
+    }
+    return operand._values;
+  }
+
+  private void checkNotEmpty()
+  {
+    if( _values.length == 0 )
+    {
+      throw new NoSuchElementException( "Empty measure array" );
+    }
+  }
+
+  @Override
+  public String toString()
+  {
+    return Arrays.toString( toArray() ) + " " + getDisplayUnit().getSymbol();
+  }
+
+  @Override
+  public int hashCode()
+  {
+    return 31 * Arrays.hashCode( _values ) + getDisplayUnit().hashCode();
+  }
+
+  @Override
+  public boolean equals( Object o )
+  {
+    if( this == o )
+    {
+      return true;
+    }
+    if( !(o instanceof MeasureArray) )
+    {
+      return false;
+    }
+    MeasureArray<?, ?> that = (MeasureArray<?, ?>)o;
+    return Arrays.equals( _values, that._values ) &&
+           getDisplayUnit().equals( that.getDisplayUnit() );
+  }
+
+  /**
+   * The linear conversion of a unit to base units: {@code base = value * scale + offset}
+   */
+  private static class Conversion
+  {
+    private final double _scale;
+    private final double _offset;
+
+    private Conversion( Unit<?, ?> unit )
+    {
+      Rational offset = unit.toBaseUnits( Rational.ZERO );
+      _scale = unit.toBaseUnits( Rational.ONE ).minus( offset ).doubleValue();
+      _offset = offset.doubleValue();
+    }
+  }
+}
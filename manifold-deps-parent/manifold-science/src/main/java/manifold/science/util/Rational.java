@@ -29,10 +29,14 @@ import manifold.collections.api.range.Sequential;
 import manifold.science.measures.MetricScaleUnit;
 
 /**
- * Models rational numbers as an immutable fraction using {@link BigInteger} to maintain arbitrary precision. Note as a
- * performance measure this class does <i>not</i> maintain its value in reduced form. You must call {@link #reduce()}
- * to get a separate instance for the reduced form. Call {@link #isReduced()} to determine if an instance is in reduced
- * form.
+ * Models rational numbers as an immutable fraction with arbitrary precision. Note as a performance measure this class
+ * does <i>not</i> maintain its value in reduced form. You must call {@link #reduce()} to get a separate instance for the
+ * reduced form. Call {@link #isReduced()} to determine if an instance is in reduced form.
+ * <p/>
+ * Also as a performance measure, a fraction whose numerator and denominator fit in a {@code long} is stored as two
+ * {@code long}s and its arithmetic and comparisons use overflow-checked {@code long} operations, see
+ * {@link Math#multiplyExact(long, long)}. Only if an operation overflows is it performed with {@link BigInteger} and
+ * the result stored as such. Small integral values are cached, see {@link #get(long)}.
  * <p/>
  * This class implements arithmetic, negation, and relational operators via <i>operator overloading</i> provided by the
  * manifold-ext dependency.
@@ -54,33 +58,60 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
 {
   private static final int VERSION_1 = 1;
 
-  public static final Rational ZERO = new Rational( BigInteger.ZERO, BigInteger.ONE, true );
-  public static final Rational ONE = new Rational( BigInteger.ONE, BigInteger.ONE, true );
-  public static final Rational TEN = new Rational( BigInteger.valueOf( 10 ), BigInteger.ONE, true );
-  public static final Rational HALF = new Rational( BigInteger.ONE, BigInteger.valueOf( 2 ), true );
+  private static final int CACHE_LOW = -128;
+  private static final int CACHE_HIGH = 1024;
+
+  public static final Rational ZERO = new Rational( 0, 1, true );
+  public static final Rational ONE = new Rational( 1, 1, true );
+  public static final Rational TEN = new Rational( 10, 1, true );
+  public static final Rational HALF = new Rational( 1, 2, true );
 
-  private final BigInteger _numerator;
-  private final BigInteger _denominator;
+  private static final Rational[] CACHE = makeCache();
+
+  // the value as longs when _bigNumerator is null, which is the case iff the value fits (the representation is unique)
+  private final long _numerator;
+  private final long _denominator;
+  // the value as BigIntegers when it does not fit in longs, otherwise null
+  private final BigInteger _bigNumerator;
+  private final BigInteger _bigDenominator;
   private boolean _reduced;
 
+  private static Rational[] makeCache()
+  {
+    Rational[] cache = new Rational[CACHE_HIGH - CACHE_LOW + 1];
+    for( int i = CACHE_LOW; i <= CACHE_HIGH; i++ )
+    {
+      cache[i - CACHE_LOW] = i == 0 ? ZERO : i == 1 ? ONE : i == 10 ? TEN : new Rational( i, 1, true );
+    }
+    return cache;
+  }
+
   public static Rational get( int numerator )
   {
-    return get( BigInteger.valueOf( numerator ), BigInteger.ONE );
+    return get( (long)numerator );
   }
 
   public static Rational get( int numerator, int denominator )
   {
-    return get( BigInteger.valueOf( numerator ), BigInteger.valueOf( denominator ) );
+    return get( (long)numerator, (long)denominator, false );
   }
 
+  /**
+   * @return The integral {@code Rational} for {@code numerator}, a shared instance if {@code numerator} is between -128
+   * and 1024
+   */
   public static Rational get( long numerator )
   {
-    return get( BigInteger.valueOf( numerator ), BigInteger.ONE );
+    if( numerator >= CACHE_LOW && numerator <= CACHE_HIGH )
+    {
+      return CACHE[(int)numerator - CACHE_LOW];
+    }
+    return new Rational( numerator, 1, true );
   }
 
   public static Rational get( long numerator, long denominator )
   {
-    return get( BigInteger.valueOf( numerator ), BigInteger.valueOf( denominator ) );
+    return get( numerator, denominator, false );
   }
 
   public static Rational get( float f )
@@ -169,42 +200,84 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
 
   private static Rational get( BigInteger numerator, BigInteger denominator, boolean reduced )
   {
-    if( numerator.equals( BigInteger.ZERO ) )
+    if( numerator.signum() == 0 )
     {
       return ZERO;
     }
-    if( numerator.equals( BigInteger.ONE ) && denominator.equals( BigInteger.ONE ) )
+    if( denominator.signum() == 0 )
+    {
+      throw new ArithmeticException( "Divide by zero" );
+    }
+    if( denominator.signum() == -1 )
+    {
+      numerator = numerator.negate();
+      denominator = denominator.negate();
+    }
+    if( numerator.bitLength() < Long.SIZE && denominator.bitLength() < Long.SIZE )
     {
-      return ONE;
+      return get( numerator.longValue(), denominator.longValue(), reduced );
     }
     return new Rational( numerator, denominator, reduced );
   }
 
-  private Rational( BigInteger numerator, BigInteger denominator, boolean reduced )
+  private static Rational get( long numerator, long denominator, boolean reduced )
   {
-    if( denominator.signum() == 0 )
+    if( numerator == 0 )
     {
-      throw new ArithmeticException( "Divide by zero" );
+      return ZERO;
     }
-    if( numerator.signum() == 0 )
+    if( denominator == 0 )
     {
-      _numerator = BigInteger.ZERO;
-      _denominator = BigInteger.ONE;
+      throw new ArithmeticException( "Divide by zero" );
     }
-    else
+    if( denominator < 0 )
     {
-      if( denominator.signum() == -1 )
+      if( numerator == Long.MIN_VALUE || denominator == Long.MIN_VALUE )
       {
-        numerator = numerator.negate();
-        denominator = denominator.negate();
+        // negating overflows
+        return get( BigInteger.valueOf( numerator ), BigInteger.valueOf( denominator ), reduced );
       }
-
-      _numerator = numerator;
-      _denominator = denominator;
+      numerator = -numerator;
+      denominator = -denominator;
     }
+    if( denominator == 1 )
+    {
+      return get( numerator );
+    }
+    return new Rational( numerator, denominator, reduced );
+  }
+
+  /**
+   * @param numerator   Nonzero if {@code denominator} is not 1
+   * @param denominator Positive
+   */
+  private Rational( long numerator, long denominator, boolean reduced )
+  {
+    _numerator = numerator;
+    _denominator = denominator;
+    _bigNumerator = null;
+    _bigDenominator = null;
+    _reduced = reduced;
+  }
+
+  /**
+   * @param numerator   Nonzero, does not fit in a long if {@code denominator} does
+   * @param denominator Positive
+   */
+  private Rational( BigInteger numerator, BigInteger denominator, boolean reduced )
+  {
+    _numerator = 0;
+    _denominator = 0;
+    _bigNumerator = numerator;
+    _bigDenominator = denominator;
     _reduced = reduced;
   }
 
+  private boolean isLong()
+  {
+    return _bigNumerator == null;
+  }
+
   /**
    * @return {@code true} if this instance is in reduced form.
    */
@@ -222,51 +295,87 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
   {
     if( !_reduced )
     {
-      BigInteger gcd = _numerator.gcd( _denominator );
-      if( gcd.compareTo( BigInteger.ONE ) > 0 )
+      if( isLong() )
+      {
+        long gcd = gcd( _numerator, _denominator );
+        if( gcd > 1 )
+        {
+          return get( _numerator / gcd, _denominator / gcd, true );
+        }
+      }
+      else
       {
-        return get( _numerator.divide( gcd ), _denominator.divide( gcd ), true );
+        BigInteger gcd = _bigNumerator.gcd( _bigDenominator );
+        if( gcd.compareTo( BigInteger.ONE ) > 0 )
+        {
+          return get( _bigNumerator.divide( gcd ), _bigDenominator.divide( gcd ), true );
+        }
       }
       _reduced = true;
     }
     return this;
   }
 
+  /**
+   * @return The positive gcd of {@code a} and {@code b}, where {@code b} is positive
+   */
+  private static long gcd( long a, long b )
+  {
+    while( a != 0 )
+    {
+      long r = b % a;
+      b = a;
+      a = r;
+    }
+    return Math.abs( b );
+  }
+
   public BigInteger getNumerator()
   {
-    return _numerator;
+    return isLong() ? BigInteger.valueOf( _numerator ) : _bigNumerator;
   }
 
   public BigInteger getDenominator()
   {
-    return _denominator;
+    return isLong() ? BigInteger.valueOf( _denominator ) : _bigDenominator;
   }
 
   public BigInteger wholePart()
   {
-    return _numerator.divide( _denominator );
+    return isLong()
+           ? BigInteger.valueOf( _numerator / _denominator )
+           : _bigNumerator.divide( _bigDenominator );
   }
 
   public Rational fractionPart()
   {
-    BigInteger rem = _numerator.remainder( _denominator );
+    if( isLong() )
+    {
+      long rem = _numerator % _denominator;
+      return rem == 0 ? ZERO : get( rem, _denominator );
+    }
+    BigInteger rem = _bigNumerator.remainder( _bigDenominator );
     if( rem.signum() == 0 )
     {
       return ZERO;
     }
-    return Rational.get( rem, _denominator );
+    return Rational.get( rem, _bigDenominator );
   }
 
   @Override
   public int intValue()
   {
-    return _numerator.divide( _denominator ).intValue();
+    return isLong()
+           ? (int)(_numerator / _denominator)
+           : _bigNumerator.divide( _bigDenominator ).intValue();
   }
 
   @Override
   public long longValue()
   {
-    return _numerator.divide( _denominator ).longValue();
+    return isLong()
+           ? _numerator / _denominator
+           : _bigNumerator.divide( _bigDenominator ).longValue();
   }
 
   @Override
@@ -293,9 +402,13 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
 
   public BigDecimal toBigDecimal( MathContext mc )
   {
-    return equals( ZERO )
-           ? BigDecimal.ZERO
-           : new BigDecimal( _numerator ).divide( new BigDecimal( _denominator ), mc );
+    if( signum() == 0 )
+    {
+      return BigDecimal.ZERO;
+    }
+    return isLong()
+           ? BigDecimal.valueOf( _numerator ).divide( BigDecimal.valueOf( _denominator ), mc )
+           : new BigDecimal( _bigNumerator ).divide( new BigDecimal( _bigDenominator ), mc );
   }
 
   public Rational plus( int i )
@@ -331,7 +444,7 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
 
     return bg.equals( BigInteger.ZERO )
            ? this
-           : get( _numerator.add( _denominator.multiply( bg ) ), _denominator );
+           : get( getNumerator().add( getDenominator().multiply( bg ) ), getDenominator() );
   }
 
   public Rational plus( BigDecimal bd )
@@ -350,18 +463,38 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
       return rational;
     }
 
+    if( isLong() && rational.isLong() )
+    {
+      try
+      {
+        return _denominator == rational._denominator
+               ? get( Math.addExact( _numerator, rational._numerator ), _denominator )
+               : get( Math.addExact( Math.multiplyExact( _numerator, rational._denominator ),
+                                     Math.multiplyExact( rational._numerator, _denominator ) ),
+                      Math.multiplyExact( _denominator, rational._denominator ) );
+      }
+      catch( ArithmeticException overflow )
+      {
+        // fall back to BigInteger
+      }
+    }
+
+    BigInteger thisNumerator = getNumerator();
+    BigInteger thisDenominator = getDenominator();
+    BigInteger thatNumerator = rational.getNumerator();
+    BigInteger thatDenominator = rational.getDenominator();
     BigInteger numerator;
     BigInteger denominator;
 
-    if( _denominator.equals( rational._denominator ) )
+    if( thisDenominator.equals( thatDenominator ) )
     {
-      numerator = _numerator.add( rational._numerator );
-      denominator = _denominator;
+      numerator = thisNumerator.add( thatNumerator );
+      denominator = thisDenominator;
     }
     else
     {
-      numerator = (_numerator.multiply( rational._denominator )).add( (rational._numerator).multiply( _denominator ) );
-      denominator = _denominator.multiply( rational._denominator );
+      numerator = (thisNumerator.multiply( thatDenominator )).add( thatNumerator.multiply( thisDenominator ) );
+      denominator = thisDenominator.multiply( thatDenominator );
     }
 
     return numerator.signum() == 0
@@ -407,12 +540,12 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
 
   public Rational minus( int i )
   {
-    return minus( BigInteger.valueOf( i ) );
+    return minus( (long)i );
   }
 
   public Rational minus( long l )
   {
-    return minus( BigInteger.valueOf( l ) );
+    return l == 0 ? this : minus( get( l ) );
   }
 
   public Rational minus( float f )
@@ -435,7 +568,7 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
     {
       return get( bi.negate() );
     }
-    return get( _numerator.subtract( _denominator.multiply( bi ) ), _denominator );
+    return get( getNumerator().subtract( getDenominator().multiply( bi ) ), getDenominator() );
   }
 
   public Rational minus( BigDecimal bd )
@@ -454,17 +587,37 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
       return rational.unaryMinus();
     }
 
+    if( isLong() && rational.isLong() )
+    {
+      try
+      {
+        return _denominator == rational._denominator
+               ? get( Math.subtractExact( _numerator, rational._numerator ), _denominator )
+               : get( Math.subtractExact( Math.multiplyExact( _numerator, rational._denominator ),
+                                          Math.multiplyExact( rational._numerator, _denominator ) ),
+                      Math.multiplyExact( _denominator, rational._denominator ) );
+      }
+      catch( ArithmeticException overflow )
+      {
+        // fall back to BigInteger
+      }
+    }
+
+    BigInteger thisNumerator = getNumerator();
+    BigInteger thisDenominator = getDenominator();
+    BigInteger thatNumerator = rational.getNumerator();
+    BigInteger thatDenominator = rational.getDenominator();
     BigInteger numerator;
     BigInteger denominator;
-    if( _denominator.equals( rational._denominator ) )
+    if( thisDenominator.equals( thatDenominator ) )
     {
-      numerator = _numerator.subtract( rational._numerator );
-      denominator = _denominator;
+      numerator = thisNumerator.subtract( thatNumerator );
+      denominator = thisDenominator;
     }
     else
     {
-      numerator = (_numerator.multiply( rational._denominator )).subtract( (rational._numerator).multiply( _denominator ) );
-      denominator = _denominator.multiply( rational._denominator );
+      numerator = (thisNumerator.multiply( thatDenominator )).subtract( thatNumerator.multiply( thisDenominator ) );
+      denominator = thisDenominator.multiply( thatDenominator );
     }
     return numerator.signum() == 0
            ? ZERO
@@ -513,7 +666,7 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
     {
       return ZERO;
     }
-    return times( BigInteger.valueOf( i ) );
+    return times( (long)i );
   }
 
   public Rational times( long l )
@@ -522,6 +675,17 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
     {
       return ZERO;
     }
+    if( isLong() )
+    {
+      try
+      {
+        return get( Math.multiplyExact( _numerator, l ), _denominator );
+      }
+      catch( ArithmeticException overflow )
+      {
+        // fall back to BigInteger
+      }
+    }
     return times( BigInteger.valueOf( l ) );
   }
 
@@ -549,7 +713,7 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
     {
       return ZERO;
     }
-    return get( bi.multiply( _numerator ), _denominator );
+    return get( bi.multiply( getNumerator() ), getDenominator() );
   }
 
   public Rational times( BigDecimal bd )
@@ -567,8 +731,20 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
     {
       return ZERO;
     }
-    return get( _numerator.multiply( rational._numerator ),
-      _denominator.multiply( rational._denominator ) );
+    if( isLong() && rational.isLong() )
+    {
+      try
+      {
+        return get( Math.multiplyExact( _numerator, rational._numerator ),
+          Math.multiplyExact( _denominator, rational._denominator ) );
+      }
+      catch( ArithmeticException overflow )
+      {
+        // fall back to BigInteger
+      }
+    }
+    return get( getNumerator().multiply( rational.getNumerator() ),
+      getDenominator().multiply( rational.getDenominator() ) );
   }
 
   public Rational times( Number n )
@@ -609,11 +785,30 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
 
   public Rational div( int i )
   {
-    return div( BigInteger.valueOf( i ) );
+    return div( (long)i );
   }
 
   public Rational div( long l )
   {
+    if( l == 0 )
+    {
+      throw new ArithmeticException( "Divide by zero" );
+    }
+    if( signum() == 0 )
+    {
+      return ZERO;
+    }
+    if( isLong() )
+    {
+      try
+      {
+        return get( _numerator, Math.multiplyExact( _denominator, l ) );
+      }
+      catch( ArithmeticException overflow )
+      {
+        // fall back to BigInteger
+      }
+    }
     return div( BigInteger.valueOf( l ) );
   }
 
@@ -637,7 +832,7 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
     {
       return ZERO;
     }
-    return get( _numerator, _denominator.multiply( bi ) );
+    return get( getNumerator(), getDenominator().multiply( bi ) );
   }
 
   public Rational div( BigDecimal bd )
@@ -655,7 +850,7 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
 
   public Rational div( Rational rational )
   {
-    if( rational.equals( ZERO ) )
+    if( rational.signum() == 0 )
     {
       throw new ArithmeticException( "Divide by zero" );
     }
@@ -663,6 +858,18 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
     {
       return ZERO;
     }
+    if( isLong() && rational.isLong() )
+    {
+      try
+      {
+        return get( Math.multiplyExact( _numerator, rational._denominator ),
+          Math.multiplyExact( _denominator, rational._numerator ) );
+      }
+      catch( ArithmeticException overflow )
+      {
+        // fall back to BigInteger
+      }
+    }
     return times( rational.invert() );
   }
 
@@ -704,12 +911,16 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
 
   public Rational rem( int i )
   {
-    return rem( BigInteger.valueOf( i ) );
+    return rem( (long)i );
   }
 
   public Rational rem( long l )
   {
-    return rem( BigInteger.valueOf( l ) );
+    if( l == 0 )
+    {
+      throw new ArithmeticException( "Divide by zero" );
+    }
+    return rem( get( l ) );
   }
 
   public Rational rem( float f )
@@ -784,7 +995,11 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
 
   public Rational unaryMinus()
   {
-    return get( _numerator.negate(), _denominator );
+    if( isLong() && _numerator != Long.MIN_VALUE )
+    {
+      return get( -_numerator, _denominator );
+    }
+    return get( getNumerator().negate(), getDenominator() );
   }
 
   /**
@@ -805,7 +1020,9 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
 
   public Rational invert()
   {
-    return get( _denominator, _numerator );
+    return isLong()
+           ? get( _denominator, _numerator )
+           : get( _bigDenominator, _bigNumerator );
   }
 
   public Rational abs()
@@ -819,7 +1036,7 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
     {
       return exponent == 0 ? ONE : this;
     }
-    return Rational.get( _numerator.pow( exponent ), _denominator.pow( exponent ) );
+    return Rational.get( getNumerator().pow( exponent ), getDenominator().pow( exponent ) );
   }
 
   @Deprecated
@@ -831,7 +1048,7 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
 
   public boolean isInteger()
   {
-    return _denominator.equals( BigInteger.ONE );
+    return isLong() ? _denominator == 1 : _bigDenominator.equals( BigInteger.ONE );
   }
 
   @Override
@@ -864,7 +1081,7 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
 
   public int signum()
   {
-    return _numerator.signum();
+    return isLong() ? Long.signum( _numerator ) : _bigNumerator.signum();
   }
 
   @Override
@@ -888,8 +1105,24 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
     {
       return thisSign - thatSign;
     }
-    BigInteger crossNum = _numerator.multiply( that._denominator );
-    BigInteger crossDen = _denominator.multiply( that._numerator );
+    if( isLong() && that.isLong() )
+    {
+      if( _denominator == that._denominator )
+      {
+        return Long.compare( _numerator, that._numerator );
+      }
+      try
+      {
+        return Long.compare( Math.multiplyExact( _numerator, that._denominator ),
+          Math.multiplyExact( _denominator, that._numerator ) );
+      }
+      catch( ArithmeticException overflow )
+      {
+        // fall back to BigInteger
+      }
+    }
+    BigInteger crossNum = getNumerator().multiply( that.getDenominator() );
+    BigInteger crossDen = getDenominator().multiply( that.getNumerator() );
     return crossNum.compareTo( crossDen );
   }
 
@@ -916,19 +1149,26 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
 
     Rational me = reduce();
     Rational that = ((Rational)o).reduce();
-    if( !me._denominator.equals( that._denominator ) )
+    // the reduced form's representation is unique, a value fitting in longs is never stored as BigIntegers
+    if( me.isLong() )
     {
-      return false;
+      return that.isLong() && me._numerator == that._numerator && me._denominator == that._denominator;
     }
-    return me._numerator.equals( that._numerator );
+    return !that.isLong() &&
+           me._bigDenominator.equals( that._bigDenominator ) &&
+           me._bigNumerator.equals( that._bigNumerator );
   }
 
   @Override
   public int hashCode()
   {
-    reduce();
-    int result = _numerator.hashCode();
-    result = 31 * result + _denominator.hashCode();
+    Rational me = reduce();
+    if( me.isLong() )
+    {
+      return 31 * Long.hashCode( me._numerator ) + Long.hashCode( me._denominator );
+    }
+    int result = me._bigNumerator.hashCode();
+    result = 31 * result + me._bigDenominator.hashCode();
     return result;
   }
 
@@ -938,7 +1178,9 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
     {
       return reduce().toFractionString();
     }
-    return _numerator + "/" + _denominator;
+    return isLong()
+           ? _numerator + "/" + _denominator
+           : _bigNumerator + "/" + _bigDenominator;
   }
 
   public String toMixedString()
@@ -948,9 +1190,9 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
       return reduce().toMixedString();
     }
 
-    if( _denominator.equals( BigInteger.ONE ) )
+    if( isInteger() )
     {
-      return _numerator.toString();
+      return getNumerator().toString();
     }
     BigInteger whole = wholePart();
     if( whole.signum() == 0 )
@@ -987,7 +1229,9 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
   @Override
   public String toString()
   {
-    return _numerator + " / " + _denominator;
+    return isLong()
+           ? _numerator + " / " + _denominator
+           : _bigNumerator + " / " + _bigDenominator;
   }
 
   private Object writeReplace()
@@ -1012,8 +1256,8 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
     public void writeExternal( ObjectOutput out ) throws IOException
     {
       out.writeInt( VERSION_1 );
-      out.writeObject( _rational._numerator );
-      out.writeObject( _rational._denominator );
+      out.writeObject( _rational.getNumerator() );
+      out.writeObject( _rational.getDenominator() );
       out.writeBoolean( _rational._reduced );
     }
 
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2023 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.sql.rt.api;
+
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+import static manifold.sql.rt.api.RowPlan.MAX_SHAPES_PER_CLASS;
+import static org.junit.Assert.*;
+
+public class RowPlanTest
+{
+  @Test
+  public void testSameShapeReusesPlan() throws SQLException
+  {
+    RowPlan plan = RowPlan.get( Actor.class, null, metaData( "actor_id", "first_name" ) );
+    assertSame( plan, RowPlan.get( Actor.class, null, metaData( "actor_id", "first_name" ) ) );
+    assertNotSame( plan, RowPlan.get( Actor.class, null, metaData( "actor_id", "last_name" ) ) );
+    assertSame( plan, RowPlan.get( Actor.class, null, metaData( "actor_id", "first_name" ) ) );
+  }
+
+  @Test
+  public void testShapesAreCappedPerClass() throws SQLException
+  {
+    List<RowPlan> plans = new ArrayList<>();
+    for( int i = 0; i <= MAX_SHAPES_PER_CLASS; i++ )
+    {
+      plans.add( RowPlan.get( Film.class, null, metaData( shape( i ) ) ) );
+    }
+
+    // the most recently added shapes are reused
+    for( int i = MAX_SHAPES_PER_CLASS; i > 0; i-- )
+    {
+      assertSame( plans.get( i ), RowPlan.get( Film.class, null, metaData( shape( i ) ) ) );
+    }
+    // the first shape was evicted
+    assertNotSame( plans.get( 0 ), RowPlan.get( Film.class, null, metaData( shape( 0 ) ) ) );
+  }
+
+  @Test
+  public void testNullClassIsNotCached() throws SQLException
+  {
+    assertNotSame( RowPlan.get( null, null, metaData( "actor_id" ) ), RowPlan.get( null, null, metaData( "actor_id" ) ) );
+  }
+
+  private static String[] shape( int i )
+  {
+    String[] columns = new String[i + 1];
+    for( int c = 0; c <= i; c++ )
+    {
+      columns[c] = "col" + c;
+    }
+    return columns;
+  }
+
+  private static ResultSetMetaData metaData( String... columns )
+  {
+    return (ResultSetMetaData)Proxy.newProxyInstance( RowPlanTest.class.getClassLoader(),
+      new Class[] {ResultSetMetaData.class}, ( proxy, method, args ) -> {
+        switch( method.getName() )
+        {
+          case "getColumnCount":
+            return columns.length;
+          case "getColumnLabel":
+          case "getColumnName":
+            return columns[(int)args[0] - 1];
+          case "getColumnType":
+            return Types.VARCHAR;
+          case "getColumnTypeName":
+            return "VARCHAR";
+          case "getColumnClassName":
+            return String.class.getTypeName();
+          case "isNullable":
+            return ResultSetMetaData.columnNullable;
+          case "getPrecision":
+          case "getScale":
+            return 0;
+          default:
+            throw new UnsupportedOperationException( method.getName() );
+        }
+      } );
+  }
+
+  /** Stand-ins for schema table types */
+  private static class Actor {}
+  private static class Film {}
+}
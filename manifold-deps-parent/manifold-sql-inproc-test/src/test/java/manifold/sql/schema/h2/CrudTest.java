@@ -22,6 +22,10 @@ import manifold.sql.schema.h2.base.H2DdlServerTest;
 import org.junit.*;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import static org.junit.Assert.*;
 
@@ -88,4 +92,74 @@ public class CrudTest extends H2DdlServerTest
     Country fetchHi = Country.fetch( txScope, countryId );
     assertNull( fetchHi );
   }
+
+  @Test
+  public void testBatchedCreateUpdateDelete() throws SQLException
+  {
+    TxScope txScope = H2Sakila.newScope();
+    List<Country> countries = new ArrayList<>();
+    for( int i = 0; i < 25; i++ )
+    {
+      countries.add( Country.create( txScope, "batchcountry" + i ) );
+    }
+    txScope.commit();
+    Set<Long> ids = new HashSet<>();
+    for( Country country : countries )
+    {
+      // each row is assigned its own generated key
+      assertTrue( ids.add( country.getCountryId() ) );
+    }
+
+    for( int i = 0; i < countries.size(); i++ )
+    {
+      countries.get( i ).setCountry( "batchcountry_" + i );
+    }
+    txScope.commit();
+    for( int i = 0; i < countries.size(); i++ )
+    {
+      assertEquals( "batchcountry_" + i, Country.fetch( txScope, countries.get( i ).getCountryId() ).getCountry() );
+    }
+
+    for( Country country : countries )
+    {
+      country.delete( true );
+    }
+    txScope.commit();
+    for( long id : ids )
+    {
+      assertNull( Country.fetch( txScope, id ) );
+    }
+  }
+
+  @Test
+  public void testBatchedCreateWithForeignKeyDependency() throws SQLException
+  {
+    TxScope txScope = H2Sakila.newScope();
+    // the countries are batched, the cities need the countries' generated keys, so the countries are inserted first
+    List<Country> countries = new ArrayList<>();
+    for( int i = 0; i < 10; i++ )
+    {
+      countries.add( Country.create( txScope, "fkcountry" + i ) );
+    }
+    List<City> cities = new ArrayList<>();
+    for( int i = 0; i < countries.size(); i++ )
+    {
+      cities.add( City.create( txScope, "fkcity" + i, countries.get( i ) ) );
+    }
+    // alternating parent and child rows flush each run early
+    for( int i = 0; i < 5; i++ )
+    {
+      Country country = Country.create( txScope, "fkcountry_" + i );
+      countries.add( country );
+      cities.add( City.create( txScope, "fkcity_" + i, country ) );
+    }
+    txScope.commit();
+
+    for( int i = 0; i < cities.size(); i++ )
+    {
+      City city = City.fetch( txScope, cities.get( i ).getCityId() );
+      assertEquals( cities.get( i ).getCity(), city.getCity() );
+      assertEquals( (long)countries.get( i ).getCountryId(), (long)city.getCountryId() );
+    }
+  }
 }
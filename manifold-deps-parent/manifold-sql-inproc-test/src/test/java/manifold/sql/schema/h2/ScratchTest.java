@@ -19,6 +19,10 @@ package manifold.sql.schema.h2;
 import manifold.ext.rt.api.auto;
 import manifold.sql.schema.h2.base.H2SalesTest;
 import manifold.sql.queries.Foo;
+import manifold.sql.rt.api.Dependencies;
+import manifold.sql.rt.api.PoolStats;
+import manifold.sql.rt.api.ResultStream;
+import manifold.sql.rt.api.TimingStats;
 import org.junit.*;
 
 import manifold.sql.schema.simple.h2.H2Sales.*;
@@ -104,6 +108,66 @@ public class ScratchTest extends H2SalesTest
     assertEquals( expected, actual.toString() );
   }
 
+  @Test
+  public void testStreamQueryWithParameters()
+  {
+    auto query = "[.sql/] Select * From purchase_order Where customer_id = :c_id";
+    String expected =
+      "1,2,2023-11-10\n" +
+      "3,2,2023-09-08\n";
+
+    StringBuilder actual = new StringBuilder();
+    try( ResultStream<PurchaseOrder> rows = query.stream( 2L ) )
+    {
+      for( PurchaseOrder po : rows )
+      {
+        actual.append( po.getId() ).append( "," ).append( po.fetchCustomerRef().getId() ).append( "," ).append( po.getOrderDate() ).append( "\n" );
+      }
+    }
+    assertEquals( expected, actual.toString() );
+
+    try( ResultStream<PurchaseOrder> rows = query.stream( 2L ) )
+    {
+      assertEquals( 1L, (long)rows.stream().findFirst().get().getId() );
+    }
+  }
+
+  @Test
+  public void testFetchOne()
+  {
+    auto query = "[.sql/] Select * From purchase_order Where customer_id = :c_id";
+    assertNull( query.fetchOne( -1L ) );
+    try
+    {
+      query.fetchOne( 2L );
+      fail( "expected more than one row" );
+    }
+    catch( Exception e )
+    {
+      assertEquals( "Results contain more than one row.", e.getMessage() );
+    }
+  }
+
+  @Test
+  public void testExecutionMetrics()
+  {
+    auto query = "[.sql/] Select * From purchase_order Where customer_id = :c_id";
+    query.fetch( 2L );
+    query.fetch( 2L );
+
+    TimingStats stats = Dependencies.instance().getSqlMetrics().getExecutionStats( "H2Sales" ).entrySet().stream()
+      .filter( e -> e.getKey().startsWith( "Select * From purchase_order Where customer_id" ) )
+      .map( e -> e.getValue() ).findFirst().orElse( null );
+    assertNotNull( stats );
+    assertTrue( stats.getCount() >= 2 );
+    assertTrue( stats.getMaxNanos() > 0 );
+
+    PoolStats poolStats = Dependencies.instance().getConnectionProvider().getPoolStats( "H2Sales" );
+    assertNotNull( poolStats );
+    assertTrue( poolStats.getTotalConnections() > 0 );
+    assertTrue( poolStats.getAcquireTime().getCount() > 0 );
+  }
+
   @Test
   public void testStringWithUnhandledExtResolvesToPlainString()
   {
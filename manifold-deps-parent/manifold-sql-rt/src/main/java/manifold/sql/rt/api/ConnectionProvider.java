@@ -61,6 +61,19 @@ public interface ConnectionProvider
    */
   void closeDataSource( DbConfig dbconfig );
 
+  /**
+   * Provides utilization and connection acquisition statistics for the connection pool corresponding with
+   * {@code configName}.
+   *
+   * @param configName The name of the DbConfig.
+   * @return The pool's statistics, or null if there is no open pool for {@code configName} or if this provider does not
+   * pool connections.
+   */
+  default PoolStats getPoolStats( String configName )
+  {
+    return null;
+  }
+
   /**
    * Close all resources.
    */
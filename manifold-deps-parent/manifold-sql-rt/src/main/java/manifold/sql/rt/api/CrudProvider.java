@@ -26,4 +26,38 @@ public interface CrudProvider
   <T extends Entity> List<T> readMany( QueryContext<T> ctx );
   <T extends Entity> void update( Connection c, UpdateContext<T> ctx );
   <T extends Entity> void delete( Connection c, UpdateContext<T> ctx );
+
+  /**
+   * Inserts a run of rows belonging to the same table, in order. Implementations may execute rows sharing the same SQL
+   * as JDBC batches of up to {@code batchSize} rows. The default implementation inserts one row at a time.
+   */
+  default <T extends Entity> void createAll( Connection c, List<UpdateContext<T>> ctxs, int batchSize )
+  {
+    for( UpdateContext<T> ctx : ctxs )
+    {
+      create( c, ctx );
+    }
+  }
+
+  /**
+   * Updates a run of rows belonging to the same table, in order. See {@link #createAll(Connection, List, int)}.
+   */
+  default <T extends Entity> void updateAll( Connection c, List<UpdateContext<T>> ctxs, int batchSize )
+  {
+    for( UpdateContext<T> ctx : ctxs )
+    {
+      update( c, ctx );
+    }
+  }
+
+  /**
+   * Deletes a run of rows belonging to the same table, in order. See {@link #createAll(Connection, List, int)}.
+   */
+  default <T extends Entity> void deleteAll( Connection c, List<UpdateContext<T>> ctxs, int batchSize )
+  {
+    for( UpdateContext<T> ctx : ctxs )
+    {
+      delete( c, ctx );
+    }
+  }
 }
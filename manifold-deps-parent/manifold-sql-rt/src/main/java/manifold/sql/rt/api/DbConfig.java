@@ -30,6 +30,7 @@ import java.util.Properties;
 public interface DbConfig
 {
   String DEFAULT_SCHEMA_PKG = "sql.schema.types";
+  int DEFAULT_BATCH_SIZE = 1000;
 
   /**
    * (Provided) Name corresponding with the dbconfig file: MyDatabase.dbconfig -> "MyDatabase". This name will be the parent
@@ -126,6 +127,16 @@ public interface DbConfig
   /** (Optional) Return true if using the database and driver in-process (in-memory) e.g., jdbc:h2:mem or jdbc:sqlite::memory:. */
   boolean isInMemory();
 
+  /**
+   * (Optional) The maximum number of rows executed in a single JDBC batch when a {@link TxScope} commits. Consecutive
+   * inserts, updates, or deletes sharing the same table and SQL are batched. A value of 1 or less disables batching.
+   * Default is {@link #DEFAULT_BATCH_SIZE}.
+   */
+  default int getBatchSize()
+  {
+    return DEFAULT_BATCH_SIZE;
+  }
+
   /** Returns the build URL if provided, otherwise the runtime URL */
   default String getBuildUrlOtherwiseRuntimeUrl()
   {
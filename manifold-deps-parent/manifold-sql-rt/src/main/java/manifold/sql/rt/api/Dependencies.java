@@ -70,5 +70,7 @@ public interface Dependencies
   @SuppressWarnings( "unused" ) // used from generated code
   CustomEntityFactory getCustomEntityFactory();
 
+  SqlMetrics getSqlMetrics();
+
   <T> T fetch( Class<T> cls );
 }
@@ -52,7 +52,16 @@ public class Executor
     try( PreparedStatement ps = txConnextion.prepareStatement( _sqlCommand ) )
     {
       setParameters( ps );
-      return ps.executeUpdate();
+      long start = System.nanoTime();
+      try
+      {
+        return ps.executeUpdate();
+      }
+      finally
+      {
+        Dependencies.instance().getSqlMetrics().recordExecution(
+          _ctx.getTxScope().getDbConfig().getName(), _sqlCommand, System.nanoTime() - start );
+      }
     }
   }
 
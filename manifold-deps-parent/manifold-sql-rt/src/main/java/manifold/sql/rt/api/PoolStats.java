@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2023 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package manifold.sql.rt.api;
+
+/**
+ * A snapshot of a connection pool's utilization, see {@link ConnectionProvider#getPoolStats(String)}.
+ */
+public class PoolStats
+{
+  private final String _configName;
+  private final int _activeConnections;
+  private final int _idleConnections;
+  private final int _totalConnections;
+  private final int _pendingThreads;
+  private final long _timeouts;
+  private final TimingStats _acquireTime;
+
+  public PoolStats( String configName, int activeConnections, int idleConnections, int totalConnections,
+                    int pendingThreads, long timeouts, TimingStats acquireTime )
+  {
+    _configName = configName;
+    _activeConnections = activeConnections;
+    _idleConnections = idleConnections;
+    _totalConnections = totalConnections;
+    _pendingThreads = pendingThreads;
+    _timeouts = timeouts;
+    _acquireTime = acquireTime;
+  }
+
+  /** The name of the dbconfig corresponding with the pool */
+  public String getConfigName()
+  {
+    return _configName;
+  }
+
+  /** Connections currently borrowed from the pool */
+  public int getActiveConnections()
+  {
+    return _activeConnections;
+  }
+
+  /** Connections available in the pool */
+  public int getIdleConnections()
+  {
+    return _idleConnections;
+  }
+
+  /** Active plus idle connections */
+  public int getTotalConnections()
+  {
+    return _totalConnections;
+  }
+
+  /** Threads waiting to acquire a connection */
+  public int getPendingThreads()
+  {
+    return _pendingThreads;
+  }
+
+  /** The number of times a thread timed out waiting for a connection */
+  public long getTimeouts()
+  {
+    return _timeouts;
+  }
+
+  /** Time spent waiting to acquire connections, accumulated since the pool started. This is live, not a snapshot. */
+  public TimingStats getAcquireTime()
+  {
+    return _acquireTime;
+  }
+
+  @Override
+  public String toString()
+  {
+    return _configName + ": active: " + _activeConnections + ", idle: " + _idleConnections +
+      ", total: " + _totalConnections + ", pending: " + _pendingThreads + ", timeouts: " + _timeouts +
+      ", acquire time: (" + _acquireTime + ")";
+  }
+}
@@ -17,25 +17,21 @@
 package manifold.sql.rt.api;
 
 import manifold.ext.rt.api.IBindingsBacked;
-import manifold.json.rt.api.DataBindings;
 import manifold.rt.api.Bindings;
-import manifold.sql.rt.util.DbUtil;
 import manifold.util.ManExceptionUtil;
 
 import java.sql.ResultSet;
-import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.*;
 import java.util.function.Function;
 
-import static manifold.sql.rt.api.BasicTxBindings.TxKind.Update;
-
 /**
  * Fetches all rows from a provided {@code ResultSet} into a {@code List}. The list is indirectly accessible this
  * class' {@code Iterable} implementation. It is also directly accessible via the {@link #toList()} method.
  *
  * @param <R> the formal type of the result set. For instance, a SQL schema table type such as {@code Customer}, or a
  * {@code Row} of a SQL query type derived from .sql resource file or inlined .sql resource.
+ * @see ResultStream for reading rows on demand
  */
 public class Result<R extends IBindingsBacked> implements Iterable<R>
 {
@@ -44,43 +40,23 @@ public class Result<R extends IBindingsBacked> implements Iterable<R>
   public Result( QueryContext ctx, ResultSet resultSet )
   {
     _results = new ArrayList<>();
-    rip( ctx.getAllCols(), resultSet, rowBindings -> new BasicTxBindings( ctx.getTxScope(), Update, rowBindings ), ctx.getRowMaker() );
+    try
+    {
+      //noinspection unchecked
+      rip( resultSet, RowReader.make( ctx, resultSet ) );
+    }
+    catch( SQLException e )
+    {
+      throw ManExceptionUtil.unchecked( e );
+    }
   }
 
   public Result( Map<String, ColumnInfo> allCols, ResultSet resultSet, Function<Bindings, R> makeRow )
   {
     _results = new ArrayList<>();
-    rip( allCols, resultSet, rowBindings -> rowBindings, makeRow );
-  }
-
-  private <B extends Bindings> void rip( Map<String, ColumnInfo> allCols, ResultSet resultSet, Function<DataBindings, B> makeBindings, Function<B, R> makeRow )
-  {
     try
     {
-      ValueAccessorProvider accProvider = Dependencies.instance().getValueAccessorProvider();
-      ResultSetMetaData metaData = resultSet.getMetaData();
-      int columnCount = metaData.getColumnCount();
-      ValueAccessor[] accessors = buildAccessors( allCols, accProvider, metaData, columnCount );
-      for( boolean isOnRow = resultSet.next(); isOnRow; isOnRow = resultSet.next() )
-      {
-        DataBindings row = new DataBindings();
-        for( int i = 1; i <= columnCount; i++ )
-        {
-          String column = DbUtil.handleAnonQueryColumn( metaData.getColumnLabel( i ), i );
-          Object value = accessors[i-1].getRowValue( resultSet, new ResultColumn( metaData, i ) );
-          row.put( column, value );
-        }
-        R resultRow = makeRow.apply( makeBindings.apply( row ) );
-        if( resultRow instanceof Entity )
-        {
-          TxBindings bindings = ((Entity)resultRow).getBindings();
-          if( bindings instanceof OperableTxBindings )
-          {
-            ((OperableTxBindings)bindings).setOwner( (Entity)resultRow );
-          }
-        }
-        _results.add( resultRow );
-      }
+      rip( resultSet, new RowReader<Bindings, R>( allCols, resultSet, rowBindings -> rowBindings, makeRow ) );
     }
     catch( SQLException e )
     {
@@ -88,33 +64,33 @@ public class Result<R extends IBindingsBacked> implements Iterable<R>
     }
   }
 
-  private static ValueAccessor[] buildAccessors( Map<String, ColumnInfo> allCols, ValueAccessorProvider accProvider, ResultSetMetaData metaData, int columnCount ) throws SQLException
+  private void rip( ResultSet resultSet, RowReader<?, R> rowReader ) throws SQLException
   {
-    ValueAccessor[] accessors = new ValueAccessor[columnCount];
-    for( int i = 0; i < columnCount; i++ )
+    for( boolean isOnRow = resultSet.next(); isOnRow; isOnRow = resultSet.next() )
     {
-      Integer jdbcType = null;
-      if( allCols != null )
-      {
-        // prefer the schema table's declared type for the queried column,
-        // it is essential that the type is assignable to the corresponding property return / param types
-        String colName = metaData.getColumnName( i+1 );
-        if( colName != null )
-        {
-          ColumnInfo columnInfo = allCols.get( colName );
-          // can be null e.g., sqlite's "last_insert_rowid()" bullshit
-          jdbcType = columnInfo == null ? null : columnInfo.getJdbcType();
-        }
-      }
-
-      if( jdbcType == null )
-      {
-        jdbcType = metaData.getColumnType( i+1 );
-      }
+      _results.add( rowReader.read() );
+    }
+  }
 
-      accessors[i] = accProvider.get( jdbcType );
+  /**
+   * Reads the single row of {@code resultSet} without materializing any other rows. At most two rows are read: one to
+   * return and one to detect whether the results contain more than one row.
+   *
+   * @return The one row, or null if the result set is empty.
+   * @throws SQLException if the result set contains more than one row.
+   */
+  public static <R extends ResultRow> R one( QueryContext<R> ctx, ResultSet resultSet ) throws SQLException
+  {
+    if( !resultSet.next() )
+    {
+      return null;
+    }
+    R one = RowReader.make( ctx, resultSet ).read();
+    if( resultSet.next() )
+    {
+      throw new SQLException( "Results contain more than one row." );
     }
-    return accessors;
+    return one;
   }
 
   @Override
@@ -22,28 +22,37 @@ import manifold.util.ManExceptionUtil;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 
+/**
+ * A snapshot of a result set column's metadata. Since the snapshot does not refer to the {@code ResultSetMetaData} it
+ * was taken from, it can be reused across executions of the same query, see {@link RowPlan}.
+ */
 class ResultColumn implements BaseElement
 {
-  private final ResultSetMetaData _metaData;
   private final int _pos;
+  private final String _name;
+  private final int _jdbcType;
+  private final Attr<String> _sqlType;
+  private final Attr<String> _columnClassName;
+  private final Attr<Boolean> _nullable;
+  private final Attr<Integer> _size;
+  private final Attr<Integer> _scale;
 
-  public ResultColumn( ResultSetMetaData metaData, int pos )
+  public ResultColumn( ResultSetMetaData metaData, int pos ) throws SQLException
   {
-    _metaData = metaData;
     _pos = pos;
+    _name = DbUtil.handleAnonQueryColumn( metaData.getColumnLabel( pos ), pos );
+    _jdbcType = metaData.getColumnType( pos );
+    _sqlType = new Attr<>( () -> metaData.getColumnTypeName( pos ) );
+    _columnClassName = new Attr<>( () -> metaData.getColumnClassName( pos ) );
+    _nullable = new Attr<>( () -> metaData.isNullable( pos ) == ResultSetMetaData.columnNullable );
+    _size = new Attr<>( () -> metaData.getPrecision( pos ) );
+    _scale = new Attr<>( () -> metaData.getScale( pos ) );
   }
 
   @Override
   public String getName()
   {
-    try
-    {
-      return DbUtil.handleAnonQueryColumn( _metaData.getColumnLabel( _pos ), _pos );
-    }
-    catch( SQLException e )
-    {
-      throw ManExceptionUtil.unchecked( e );
-    }
+    return _name;
   }
 
   @Override
@@ -55,78 +64,77 @@ class ResultColumn implements BaseElement
   @Override
   public int getJdbcType()
   {
-    try
-    {
-      return _metaData.getColumnType( _pos );
-    }
-    catch( SQLException e )
-    {
-      throw ManExceptionUtil.unchecked( e );
-    }
+    return _jdbcType;
   }
 
   @Override
   public String getSqlType()
   {
-    try
-    {
-      return _metaData.getColumnTypeName( _pos );
-    }
-    catch( SQLException e )
-    {
-      throw ManExceptionUtil.unchecked( e );
-    }
+    return _sqlType.get();
   }
 
   @Override
   public String getColumnClassName()
   {
-    try
-    {
-      return _metaData.getColumnClassName( _pos );
-    }
-    catch( SQLException e )
-    {
-      throw ManExceptionUtil.unchecked( e );
-    }
+    return _columnClassName.get();
   }
 
   @Override
   public boolean isNullable()
   {
-    try
-    {
-      return _metaData.isNullable( _pos ) == ResultSetMetaData.columnNullable;
-    }
-    catch( SQLException e )
-    {
-      throw ManExceptionUtil.unchecked( e );
-    }
+    return _nullable.get();
   }
 
   @Override
   public int getSize()
   {
-    try
-    {
-      return _metaData.getPrecision( _pos );
-    }
-    catch( SQLException e )
-    {
-      throw ManExceptionUtil.unchecked( e );
-    }
+    return _size.get();
   }
 
   @Override
   public int getScale()
   {
-    try
+    return _scale.get();
+  }
+
+  /**
+   * Metadata attribute read while the metadata is available. Not all drivers support all attributes, so a failure is
+   * retained and thrown only if the attribute is accessed.
+   */
+  private static class Attr<V>
+  {
+    private final V _value;
+    private final SQLException _error;
+
+    Attr( MetaDataReader<V> reader )
     {
-      return _metaData.getScale( _pos );
+      V value = null;
+      SQLException error = null;
+      try
+      {
+        value = reader.read();
+      }
+      catch( SQLException e )
+      {
+        error = e;
+      }
+      _value = value;
+      _error = error;
     }
-    catch( SQLException e )
+
+    V get()
     {
-      throw ManExceptionUtil.unchecked( e );
+      if( _error != null )
+      {
+        throw ManExceptionUtil.unchecked( _error );
+      }
+      return _value;
     }
   }
+
+  @FunctionalInterface
+  private interface MetaDataReader<V>
+  {
+    V read() throws SQLException;
+  }
 }
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2023 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.sql.rt.api;
+
+import manifold.util.ManExceptionUtil;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads rows from a {@code ResultSet} on demand. Unlike {@link Result}, rows are not collected into a list, each row
+ * is built as it is iterated. As a consequence the connection, statement, and result set remain open until this stream
+ * is closed or all rows have been iterated.
+ * <p/>
+ * Always close a result stream, preferably with try-with-resources:
+ * <pre><code>
+ * try( ResultStream&lt;Film&gt; films = "[.sql/] select * from film".stream() )
+ * {
+ *   for( Film film: films )
+ *   {
+ *     ...
+ *   }
+ * }
+ * </code></pre>
+ * A result stream can be iterated only once.
+ *
+ * @param <R> the formal type of the result set. For instance, a SQL schema table type such as {@code Customer}, or a
+ * {@code Row} of a SQL query type derived from .sql resource file or inlined .sql resource.
+ */
+public class ResultStream<R extends ResultRow> implements Iterable<R>, AutoCloseable
+{
+  private final Connection _connection;
+  private final PreparedStatement _ps;
+  private final ResultSet _resultSet;
+  private final RowReader<TxBindings, R> _rowReader;
+  private boolean _iterated;
+  private boolean _closed;
+
+  ResultStream( QueryContext<R> ctx, Connection connection, PreparedStatement ps, ResultSet resultSet ) throws SQLException
+  {
+    _connection = connection;
+    _ps = ps;
+    _resultSet = resultSet;
+    _rowReader = RowReader.make( ctx, resultSet );
+  }
+
+  @Override
+  public Iterator<R> iterator()
+  {
+    if( _iterated )
+    {
+      throw new IllegalStateException( "Result stream can be iterated only once." );
+    }
+    _iterated = true;
+    return new RowIterator();
+  }
+
+  /**
+   * Provides a sequential {@code Stream} over the rows. Closing the returned stream closes this result stream.
+   */
+  public Stream<R> stream()
+  {
+    return StreamSupport.stream( Spliterators.spliteratorUnknownSize( iterator(),
+      Spliterator.ORDERED | Spliterator.NONNULL ), false )
+      .onClose( this::close );
+  }
+
+  /**
+   * Closes the result set, statement, and connection backing this stream. Calling this method more than once has no
+   * effect.
+   */
+  @Override
+  public void close()
+  {
+    if( _closed )
+    {
+      return;
+    }
+    _closed = true;
+
+    try( Connection c = _connection; PreparedStatement ps = _ps; ResultSet rs = _resultSet )
+    {
+      // closes resources in reverse order
+    }
+    catch( SQLException e )
+    {
+      throw ManExceptionUtil.unchecked( e );
+    }
+  }
+
+  private class RowIterator implements Iterator<R>
+  {
+    private Boolean _hasNext;
+
+    @Override
+    public boolean hasNext()
+    {
+      if( _hasNext == null )
+      {
+        try
+        {
+          _hasNext = !_closed && _resultSet.next();
+        }
+        catch( SQLException e )
+        {
+          close();
+          throw ManExceptionUtil.unchecked( e );
+        }
+        if( !_hasNext )
+        {
+          // release the connection as soon as the rows are exhausted
+          close();
+        }
+      }
+      return _hasNext;
+    }
+
+    @Override
+    public R next()
+    {
+      if( !hasNext() )
+      {
+        throw new NoSuchElementException();
+      }
+      _hasNext = null;
+      try
+      {
+        return _rowReader.read();
+      }
+      catch( SQLException e )
+      {
+        close();
+        throw ManExceptionUtil.unchecked( e );
+      }
+    }
+  }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2023 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package manifold.sql.rt.api;
+
+import manifold.json.rt.api.DataBindings;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Everything needed to materialize rows of a query's result set that does not change from row to row: column names,
+ * value accessors, and column descriptors. A plan is computed once per query type and result set shape, and reused
+ * across executions. Plans are cached per class with a {@link ClassValue}, so a cached plan does not keep its query
+ * type's class loader alive.
+ */
+class RowPlan
+{
+  /** A schema table type is read by selects of various columns, the most recently added shapes are kept */
+  static final int MAX_SHAPES_PER_CLASS = 8;
+
+  private static final ClassValue<Shapes> PLANS = new ClassValue<Shapes>()
+  {
+    @Override
+    protected Shapes computeValue( Class<?> type )
+    {
+      return new Shapes();
+    }
+  };
+
+  private final String[] _labels;
+  private final String[] _columnNames;
+  private final int[] _types;
+  private final String[] _names;
+  private final ResultColumn[] _columns;
+  private final ValueAccessor[] _accessors;
+  private final int _initialCapacity;
+
+  /**
+   * Provides the plan for {@code queryClass}, computing it if the query has not executed yet with a result set of the
+   * shape of {@code metaData}.
+   *
+   * @param queryClass The query type or schema table type the rows belong to. If null, the plan is not cached.
+   */
+  static RowPlan get( Class<?> queryClass, Map<String, ColumnInfo> allCols, ResultSetMetaData metaData ) throws SQLException
+  {
+    if( queryClass == null )
+    {
+      return new RowPlan( allCols, metaData );
+    }
+
+    Shapes shapes = PLANS.get( queryClass );
+    RowPlan plan = shapes.find( metaData );
+    if( plan == null )
+    {
+      plan = new RowPlan( allCols, metaData );
+      shapes.add( plan );
+    }
+    return plan;
+  }
+
+  private RowPlan( Map<String, ColumnInfo> allCols, ResultSetMetaData metaData ) throws SQLException
+  {
+    int columnCount = metaData.getColumnCount();
+    _labels = new String[columnCount];
+    _columnNames = new String[columnCount];
+    _types = new int[columnCount];
+    _names = new String[columnCount];
+    _columns = new ResultColumn[columnCount];
+    for( int i = 0; i < columnCount; i++ )
+    {
+      _labels[i] = metaData.getColumnLabel( i+1 );
+      _columnNames[i] = metaData.getColumnName( i+1 );
+      _types[i] = metaData.getColumnType( i+1 );
+      _columns[i] = new ResultColumn( metaData, i+1 );
+      _names[i] = _columns[i].getName();
+    }
+    _accessors = buildAccessors( allCols, Dependencies.instance().getValueAccessorProvider(), metaData, columnCount );
+    // sized so the bindings never rehash
+    _initialCapacity = (int)(columnCount / 0.75f) + 1;
+  }
+
+  /**
+   * The plan's accessors and columns derive from the column labels, names, and types, other inputs are fixed per query
+   * type. So a plan applies to any result set of the query type having the same labels, names, and types.
+   */
+  private boolean matches( ResultSetMetaData metaData ) throws SQLException
+  {
+    int columnCount = metaData.getColumnCount();
+    if( columnCount != _labels.length )
+    {
+      return false;
+    }
+    for( int i = 0; i < columnCount; i++ )
+    {
+      if( !_labels[i].equals( metaData.getColumnLabel( i+1 ) ) ||
+        _types[i] != metaData.getColumnType( i+1 ) ||
+        !Objects.equals( _columnNames[i], metaData.getColumnName( i+1 ) ) )
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Reads the row the result set is currently positioned on.
+   */
+  DataBindings readRow( ResultSet resultSet ) throws SQLException
+  {
+    Map<String, Object> row = new LinkedHashMap<>( _initialCapacity );
+    for( int i = 0; i < _accessors.length; i++ )
+    {
+      row.put( _names[i], _accessors[i].getRowValue( resultSet, _columns[i] ) );
+    }
+    return new DataBindings( row );
+  }
+
+  private static ValueAccessor[] buildAccessors( Map<String, ColumnInfo> allCols, ValueAccessorProvider accProvider, ResultSetMetaData metaData, int columnCount ) throws SQLException
+  {
+    ValueAccessor[] accessors = new ValueAccessor[columnCount];
+    for( int i = 0; i < columnCount; i++ )
+    {
+      Integer jdbcType = null;
+      if( allCols != null )
+      {
+        // prefer the schema table's declared type for the queried column,
+        // it is essential that the type is assignable to the corresponding property return / param types
+        String colName = metaData.getColumnName( i+1 );
+        if( colName != null )
+        {
+          ColumnInfo columnInfo = allCols.get( colName );
+          // can be null e.g., sqlite's "last_insert_rowid()" bullshit
+          jdbcType = columnInfo == null ? null : columnInfo.getJdbcType();
+        }
+      }
+
+      if( jdbcType == null )
+      {
+        jdbcType = metaData.getColumnType( i+1 );
+      }
+
+      accessors[i] = accProvider.get( jdbcType );
+    }
+    return accessors;
+  }
+
+  /**
+   * The plans of a query type, most recently added first. Replaced wholesale on add, so lookups need no locking.
+   */
+  private static class Shapes
+  {
+    private volatile RowPlan[] _plans = new RowPlan[0];
+
+    RowPlan find( ResultSetMetaData metaData ) throws SQLException
+    {
+      for( RowPlan plan : _plans )
+      {
+        if( plan.matches( metaData ) )
+        {
+          return plan;
+        }
+      }
+      return null;
+    }
+
+    synchronized void add( RowPlan plan )
+    {
+      RowPlan[] plans = _plans;
+      RowPlan[] newPlans = new RowPlan[Math.min( plans.length + 1, MAX_SHAPES_PER_CLASS )];
+      newPlans[0] = plan;
+      System.arraycopy( plans, 0, newPlans, 1, newPlans.length - 1 );
+      _plans = newPlans;
+    }
+  }
+}
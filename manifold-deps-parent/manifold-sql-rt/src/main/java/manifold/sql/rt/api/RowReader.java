@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2023 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.sql.rt.api;
+
+import manifold.ext.rt.api.IBindingsBacked;
+import manifold.json.rt.api.DataBindings;
+import manifold.rt.api.Bindings;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.function.Function;
+
+import static manifold.sql.rt.api.BasicTxBindings.TxKind.Update;
+
+/**
+ * Builds result rows from the current row of a {@code ResultSet}. Shared by {@link Result}, which reads all rows
+ * eagerly, and {@link ResultStream}, which reads rows on demand.
+ */
+class RowReader<B extends Bindings, R extends IBindingsBacked>
+{
+  private final ResultSet _resultSet;
+  private final RowPlan _plan;
+  private final Function<DataBindings, B> _makeBindings;
+  private final Function<B, R> _makeRow;
+
+  static <R extends ResultRow> RowReader<TxBindings, R> make( QueryContext<R> ctx, ResultSet resultSet ) throws SQLException
+  {
+    return new RowReader<>( RowPlan.get( ctx.getQueryClass(), ctx.getAllCols(), resultSet.getMetaData() ), resultSet,
+      rowBindings -> new BasicTxBindings( ctx.getTxScope(), Update, rowBindings ), ctx.getRowMaker() );
+  }
+
+  RowReader( Map<String, ColumnInfo> allCols, ResultSet resultSet,
+             Function<DataBindings, B> makeBindings, Function<B, R> makeRow ) throws SQLException
+  {
+    this( RowPlan.get( null, allCols, resultSet.getMetaData() ), resultSet, makeBindings, makeRow );
+  }
+
+  private RowReader( RowPlan plan, ResultSet resultSet, Function<DataBindings, B> makeBindings, Function<B, R> makeRow )
+  {
+    _resultSet = resultSet;
+    _plan = plan;
+    _makeBindings = makeBindings;
+    _makeRow = makeRow;
+  }
+
+  /**
+   * Builds a result row from the row the result set is currently positioned on.
+   */
+  R read() throws SQLException
+  {
+    DataBindings row = _plan.readRow( _resultSet );
+    R resultRow = _makeRow.apply( _makeBindings.apply( row ) );
+    if( resultRow instanceof Entity )
+    {
+      TxBindings bindings = ((Entity)resultRow).getBindings();
+      if( bindings instanceof OperableTxBindings )
+      {
+        ((OperableTxBindings)bindings).setOwner( (Entity)resultRow );
+      }
+    }
+    return resultRow;
+  }
+}
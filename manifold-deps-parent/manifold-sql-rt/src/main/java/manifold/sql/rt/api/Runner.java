@@ -19,7 +19,6 @@ package manifold.sql.rt.api;
 import manifold.util.ManExceptionUtil;
 
 import java.sql.*;
-import java.util.Iterator;
 
 public class Runner<T extends ResultRow>
 {
@@ -41,10 +40,15 @@ public class Runner<T extends ResultRow>
       try( PreparedStatement ps = c.prepareStatement( _sqlQuery ) )
       {
         setParameters( ps );
+        long start = System.nanoTime();
         try( ResultSet resultSet = ps.executeQuery() )
         {
           return new Result<>( _ctx, resultSet );
         }
+        finally
+        {
+          recordExecution( start );
+        }
       }
     }
     catch( SQLException e )
@@ -53,6 +57,62 @@ public class Runner<T extends ResultRow>
     }
   }
 
+  /**
+   * Executes the query and provides the results as a {@link ResultStream}, which builds rows as they are read from the
+   * result set. The connection remains open until the stream is closed or exhausted. Uses the driver's default fetch
+   * size.
+   */
+  @SuppressWarnings( "unused" )
+  public ResultStream<T> stream()
+  {
+    return stream( 0 );
+  }
+
+  /**
+   * Same as {@link #stream()}, but with a hint for the number of rows the driver should fetch from the database
+   * per round trip. Note, some drivers ignore the fetch size unless certain conditions are met e.g., Postgres requires
+   * the connection to be in manual commit mode.
+   *
+   * @param fetchSize The JDBC fetch size, or 0 to use the driver's default.
+   */
+  public ResultStream<T> stream( int fetchSize )
+  {
+    ConnectionProvider cp = Dependencies.instance().getConnectionProvider();
+    Connection c = cp.getConnection( _ctx.getConfigName(), _ctx.getQueryClass() );
+    PreparedStatement ps = null;
+    ResultSet resultSet = null;
+    try
+    {
+      ps = c.prepareStatement( _sqlQuery, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY );
+      ps.setFetchSize( fetchSize );
+      setParameters( ps );
+      long start = System.nanoTime();
+      resultSet = ps.executeQuery();
+      recordExecution( start );
+      return new ResultStream<>( _ctx, c, ps, resultSet );
+    }
+    catch( SQLException | RuntimeException e )
+    {
+      // the stream owns the resources only if it was created, otherwise release them here
+      try( Connection closeC = c; PreparedStatement closePs = ps; ResultSet closeRs = resultSet )
+      {
+        // release resources in reverse order
+      }
+      catch( SQLException | RuntimeException ce )
+      {
+        e.addSuppressed( ce );
+      }
+      throw ManExceptionUtil.unchecked( e );
+    }
+  }
+
+  /**
+   * Fetches the single row of the query's results. Reads at most two rows: one to return and one to detect
+   * whether the results contain more than one row, the remaining rows are never read.
+   *
+   * @return The one row, or null if there are no results.
+   * @throws SQLException (unchecked) if the results contain more than one row.
+   */
   @SuppressWarnings( "unused" )
   public T fetchOne()
   {
@@ -61,21 +121,18 @@ public class Runner<T extends ResultRow>
     {
       try( PreparedStatement ps = c.prepareStatement( _sqlQuery ) )
       {
+        // one row to return, one more to detect ambiguity
+        ps.setMaxRows( 2 );
+        ps.setFetchSize( 2 );
         setParameters( ps );
+        long start = System.nanoTime();
         try( ResultSet resultSet = ps.executeQuery() )
         {
-          Result<T> rs = new Result<>( _ctx, resultSet );
-          Iterator<T> iterator = rs.iterator();
-          if( !iterator.hasNext() )
-          {
-            return null;
-          }
-          T one = iterator.next();
-          if( iterator.hasNext() )
-          {
-            throw new SQLException( "Results contain more than one row." );
-          }
-          return one;
+          return Result.one( _ctx, resultSet );
+        }
+        finally
+        {
+          recordExecution( start );
         }
       }
     }
@@ -85,6 +142,12 @@ public class Runner<T extends ResultRow>
     }
   }
 
+  private void recordExecution( long start )
+  {
+    Dependencies.instance().getSqlMetrics()
+      .recordExecution( _ctx.getConfigName(), _sqlQuery, System.nanoTime() - start );
+  }
+
   private void setParameters( PreparedStatement ps ) throws SQLException
   {
     int i = 0;
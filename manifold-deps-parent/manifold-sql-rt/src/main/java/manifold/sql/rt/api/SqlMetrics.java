@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2023 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package manifold.sql.rt.api;
+
+import java.util.Map;
+
+/**
+ * Collects execution times of queries and commands run via {@link Runner} and {@link Executor}. Pool utilization and
+ * connection acquisition times are available from {@link ConnectionProvider#getPoolStats(String)}.
+ * <p/>
+ * This is a dependency, see {@link Dependencies#getSqlMetrics()}, which can be customized, for instance, to forward
+ * timings to a metrics library.
+ */
+public interface SqlMetrics
+{
+  /**
+   * Records the time taken to execute {@code sql}. For queries the time includes reading the result set, unless the
+   * results are streamed.
+   */
+  void recordExecution( String configName, String sql, long elapsedNanos );
+
+  /**
+   * @return Execution times for {@code configName} keyed by SQL statement. The map is live, not a snapshot.
+   */
+  Map<String, TimingStats> getExecutionStats( String configName );
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2023 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package manifold.sql.rt.api;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe accumulator of elapsed times, such as connection acquisition or query execution times. In addition to
+ * count, total, and max, times are tallied in a histogram of power-of-two microsecond buckets: bucket {@code i} counts
+ * times less than {@code 2^i} microseconds, and not counted in a lower bucket.
+ */
+public class TimingStats
+{
+  public static final int BUCKET_COUNT = 32;
+
+  private final LongAdder _count;
+  private final LongAdder _totalNanos;
+  private final AtomicLong _maxNanos;
+  private final AtomicLongArray _buckets;
+
+  public TimingStats()
+  {
+    _count = new LongAdder();
+    _totalNanos = new LongAdder();
+    _maxNanos = new AtomicLong();
+    _buckets = new AtomicLongArray( BUCKET_COUNT );
+  }
+
+  public void record( long elapsedNanos )
+  {
+    _count.increment();
+    _totalNanos.add( elapsedNanos );
+    _maxNanos.accumulateAndGet( elapsedNanos, Math::max );
+    _buckets.incrementAndGet( bucketIndex( elapsedNanos ) );
+  }
+
+  private static int bucketIndex( long elapsedNanos )
+  {
+    long micros = Math.max( 0, elapsedNanos / 1000 );
+    return Math.min( BUCKET_COUNT - 1, 64 - Long.numberOfLeadingZeros( micros ) );
+  }
+
+  /** The exclusive upper bound in nanoseconds of times counted in {@code bucket} */
+  public static long getBucketUpperBoundNanos( int bucket )
+  {
+    return (1L << bucket) * 1000;
+  }
+
+  public long getCount()
+  {
+    return _count.sum();
+  }
+
+  public long getTotalNanos()
+  {
+    return _totalNanos.sum();
+  }
+
+  public long getMaxNanos()
+  {
+    return _maxNanos.get();
+  }
+
+  public long getMeanNanos()
+  {
+    long count = getCount();
+    return count == 0 ? 0 : getTotalNanos() / count;
+  }
+
+  /** Histogram counts, see {@link #getBucketUpperBoundNanos(int)} */
+  public long[] getBucketCounts()
+  {
+    long[] counts = new long[BUCKET_COUNT];
+    for( int i = 0; i < BUCKET_COUNT; i++ )
+    {
+      counts[i] = _buckets.get( i );
+    }
+    return counts;
+  }
+
+  /**
+   * An upper bound estimate of the {@code percentile} time, based on the histogram.
+   *
+   * @param percentile A value between 0 and 100, for instance 99 for the 99th percentile.
+   */
+  public long getPercentileNanos( double percentile )
+  {
+    long[] counts = getBucketCounts();
+    long total = 0;
+    for( long count : counts )
+    {
+      total += count;
+    }
+    if( total == 0 )
+    {
+      return 0;
+    }
+
+    long threshold = (long)Math.ceil( total * percentile / 100 );
+    long sum = 0;
+    for( int i = 0; i < BUCKET_COUNT; i++ )
+    {
+      sum += counts[i];
+      if( sum >= threshold )
+      {
+        return Math.min( getBucketUpperBoundNanos( i ), getMaxNanos() );
+      }
+    }
+    return getMaxNanos();
+  }
+
+  public void reset()
+  {
+    _count.reset();
+    _totalNanos.reset();
+    _maxNanos.set( 0 );
+    for( int i = 0; i < BUCKET_COUNT; i++ )
+    {
+      _buckets.set( i, 0 );
+    }
+  }
+
+  @Override
+  public String toString()
+  {
+    return "count: " + getCount() + ", mean: " + getMeanNanos() / 1000 + "us, p99: " +
+      getPercentileNanos( 99 ) / 1000 + "us, max: " + getMaxNanos() / 1000 + "us";
+  }
+}
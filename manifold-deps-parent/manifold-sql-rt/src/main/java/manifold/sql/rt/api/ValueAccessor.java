@@ -16,6 +16,7 @@
 
 package manifold.sql.rt.api;
 
+import manifold.sql.rt.util.DriverInfo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -76,6 +77,17 @@ public interface ValueAccessor
     return "?";
   }
 
+  /**
+   * Same as {@link #getParameterExpression(DatabaseMetaData, Object, ColumnInfo)}, but with the {@code driver} already
+   * resolved from {@code metaData}. Callers making expressions for several columns should use this method to avoid
+   * looking up the driver per column. Implementations that consult the driver should override this method and have the
+   * other one delegate to it.
+   */
+  default String getParameterExpression( DriverInfo driver, DatabaseMetaData metaData, Object value, ColumnInfo ci )
+  {
+    return getParameterExpression( metaData, value, ci );
+  }
+
   /**
    * Use column class name
    */
@@ -83,6 +83,12 @@ public class DefaultDependencies implements Dependencies
     return new DefaultCustomEntityFactory();
   }
 
+  @Override
+  public SqlMetrics getSqlMetrics()
+  {
+    return fetch( BasicSqlMetrics.class );
+  }
+
   public <T> T fetch( Class<T> cls )
   {
     //noinspection unchecked
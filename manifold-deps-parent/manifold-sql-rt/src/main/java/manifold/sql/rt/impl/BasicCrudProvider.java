@@ -20,7 +20,6 @@ import manifold.ext.rt.api.IBindingsBacked;
 import manifold.json.rt.api.DataBindings;
 import manifold.rt.api.Bindings;
 import manifold.sql.rt.api.*;
-import manifold.sql.rt.util.DbUtil;
 import manifold.sql.rt.util.DriverInfo;
 import manifold.util.ManExceptionUtil;
 import org.slf4j.Logger;
@@ -66,14 +65,26 @@ public class BasicCrudProvider implements CrudProvider
    */
   private static <T extends Entity> PreparedStatement prepareStatement( Connection c, UpdateContext<T> ctx, String sql, int[] reflectedColumnCount ) throws SQLException
   {
-    String[] reflectedColumns = reflectedColumns( c, ctx, true );
+    CrudStatementCache cache = CrudStatementCache.get( ctx.getConfigName(), c.getMetaData() );
+    boolean allColumns = !cache.isColumnNamesUnsupported( ctx.getDdlTableName() );
+    String[] reflectedColumns = reflectedColumns( cache, ctx, allColumns );
     try
     {
+      if( !allColumns && reflectedColumns.length == 0 )
+      {
+        return c.prepareStatement( sql );
+      }
       return c.prepareStatement( sql, reflectedColumns );
     }
     catch( SQLException e )
     {
-      reflectedColumns = reflectedColumns( c, ctx, false );
+      if( !allColumns )
+      {
+        throw e;
+      }
+      // remember the driver can't handle all the columns, so we don't ask again
+      cache.setColumnNamesUnsupported( ctx.getDdlTableName() );
+      reflectedColumns = reflectedColumns( cache, ctx, false );
       if( reflectedColumns.length == 0 )
       {
         return c.prepareStatement( sql );
@@ -93,33 +104,34 @@ public class BasicCrudProvider implements CrudProvider
    * columns that should be returned from the inserted row</i>. Some (good) drivers adhere to this latter description and
    * return any and all columns asked for, others drivers vary in behavior here.
    */
-  private static <T extends Entity> String[] reflectedColumns( Connection c, UpdateContext<T> ctx, boolean allColumns ) throws SQLException
+  private static <T extends Entity> String[] reflectedColumns( CrudStatementCache cache, UpdateContext<T> ctx, boolean allColumns )
   {
-    String[] reflectedColumnNames = {};
-    if( allColumns && DriverInfo.lookup( c.getMetaData() ) != Oracle )
-    {
-      // ask for all columns since we want the entire record to include whatever generated data that was not included in the insert
-
-      reflectedColumnNames = ctx.getAllCols().keySet().toArray( new String[0] );
-    }
-    else
-    {
-      // ask for pk column, so we can query for the whole record
+    return cache.getReflectedColumns( (allColumns ? "all:" : "pk:") + ctx.getDdlTableName(), () -> {
+      String[] reflectedColumnNames = {};
+      if( allColumns && cache.getDriver() != Oracle )
+      {
+        // ask for all columns since we want the entire record to include whatever generated data that was not included in the insert
 
-      if( ctx.getPkCols().size() == 1 )
+        reflectedColumnNames = ctx.getAllCols().keySet().toArray( new String[0] );
+      }
+      else
       {
-        ColumnInfo pkColumnInfo = ctx.getAllCols().get( ctx.getPkCols().iterator().next() );
-        Boolean required = pkColumnInfo.isRequired();
-        if( required != null && !required )
+        // ask for pk column, so we can query for the whole record
+
+        if( ctx.getPkCols().size() == 1 )
         {
-          // some DBs (sql server) only reflect the pk column for getGeneratedKeys() and throw exception if we ask for more
-          // in this case we use the pk to make a separate query for the full record
-          reflectedColumnNames = ctx.getPkCols().toArray( new String[0] );
+          ColumnInfo pkColumnInfo = ctx.getAllCols().get( ctx.getPkCols().iterator().next() );
+          Boolean required = pkColumnInfo.isRequired();
+          if( required != null && !required )
+          {
+            // some DBs (sql server) only reflect the pk column for getGeneratedKeys() and throw exception if we ask for more
+            // in this case we use the pk to make a separate query for the full record
+            reflectedColumnNames = ctx.getPkCols().toArray( new String[0] );
+          }
         }
       }
-    }
-
-    return reflectedColumnNames;
+      return reflectedColumnNames;
+    } );
   }
 
   private <T extends Entity> void setInsertParameters( UpdateContext<T> ctx, PreparedStatement ps, Set<String> skipParams ) throws SQLException
@@ -167,38 +179,51 @@ public class BasicCrudProvider implements CrudProvider
 
   private <T extends Entity> String makeInsertStmt( DatabaseMetaData metaData, UpdateContext<T> ctx, Set<String> skipParams ) throws SQLException
   {
-    StringBuilder sql = new StringBuilder();
-    sql.append( "INSERT INTO " ).append( ctx.getDdlTableName() ).append( "(" );
-    int i = 0;
+    CrudStatementCache cache = CrudStatementCache.get( ctx.getConfigName(), metaData );
+    DriverInfo driver = cache.getDriver();
+    boolean inlinedValues = false;
     Set<Map.Entry<String, Object>> entries = ctx.getTable().getBindings().entrySet();
+    List<String> key = new ArrayList<>( entries.size() * 2 + 2 );
+    key.add( "INSERT" );
+    key.add( ctx.getDdlTableName() );
+    ValueAccessorProvider accProvider = Dependencies.instance().getValueAccessorProvider();
     for( Map.Entry<String, Object> entry: entries )
     {
-      String colName = entry.getKey();
-      if( i++ > 0 )
+      ColumnInfo columnInfo = ctx.getAllCols().get( entry.getKey() );
+      ValueAccessor accessor = accProvider.get( columnInfo.getJdbcType() );
+      String expr = accessor.getParameterExpression( driver, metaData, entry.getValue(), columnInfo );
+      if( !expr.contains( "?" ) )
       {
-        sql.append( ", " );
+        skipParams.add( entry.getKey() );
+        inlinedValues = true;
       }
-      sql.append( DbUtil.enquoteIdentifier( colName, metaData ) );
+      key.add( entry.getKey() );
+      key.add( expr );
     }
-    sql.append( ")" ).append( " VALUES (" );
-    ValueAccessorProvider accProvider = Dependencies.instance().getValueAccessorProvider();
-    i = 0;
-    for( Map.Entry<String, Object> entry: entries )
-    {
-      if( i++ > 0 )
+
+    return cache.getSql( key, !inlinedValues, () -> {
+      StringBuilder sql = new StringBuilder();
+      sql.append( "INSERT INTO " ).append( ctx.getDdlTableName() ).append( "(" );
+      for( int i = 2; i < key.size(); i += 2 )
       {
-        sql.append( "," );
+        if( i > 2 )
+        {
+          sql.append( ", " );
+        }
+        sql.append( cache.quote( key.get( i ) ) );
       }
-      ValueAccessor accessor = accProvider.get( ctx.getAllCols().get( entry.getKey() ).getJdbcType() );
-      String expr = accessor.getParameterExpression( metaData, entry.getValue(), ctx.getAllCols().get( entry.getKey() ) );
-      sql.append( expr );
-      if( !expr.contains( "?" ) )
+      sql.append( ")" ).append( " VALUES (" );
+      for( int i = 3; i < key.size(); i += 2 )
       {
-        skipParams.add( entry.getKey() );
+        if( i > 3 )
+        {
+          sql.append( "," );
+        }
+        sql.append( key.get( i ) );
       }
-    }
-    sql.append( ")" );
-    return sql.toString();
+      sql.append( ")" );
+      return sql.toString();
+    } );
   }
 
   @SuppressWarnings( "unused" )
@@ -213,22 +238,12 @@ public class BasicCrudProvider implements CrudProvider
       String sql = makeReadStatement( c.getMetaData(), ctx, skipParams );
       try( PreparedStatement ps = c.prepareStatement( sql ) )
       {
+        // one row to return, one more to detect ambiguity
+        ps.setMaxRows( 2 );
         setQueryParameters( ctx, ps, skipParams );
         try( ResultSet resultSet = ps.executeQuery() )
         {
-          Result<T> ts = new Result<>( ctx, resultSet );
-          Iterator<T> iterator = ts.iterator();
-          if( !iterator.hasNext() )
-          {
-            // not found
-            return null;
-          }
-          T result = iterator.next();
-          if( iterator.hasNext() )
-          {
-            throw new SQLException( "Results contain more than one row." );
-          }
-          return result;
+          return Result.one( ctx, resultSet );
         }
       }
     }
@@ -271,27 +286,42 @@ public class BasicCrudProvider implements CrudProvider
 
   private <T extends Entity> String makeReadStatement( DatabaseMetaData metaData, QueryContext<T> ctx, Set<String> skipParams ) throws SQLException
   {
+    CrudStatementCache cache = CrudStatementCache.get( ctx.getConfigName(), metaData );
+    DriverInfo driver = cache.getDriver();
+    boolean inlinedValues = false;
     ValueAccessorProvider accProvider = Dependencies.instance().getValueAccessorProvider();
-    StringBuilder sql = new StringBuilder();
-    sql.append( "SELECT * FROM " ).append( ctx.getDdlTableName() ).append( " WHERE " );
+    List<String> key = new ArrayList<>( ctx.getParams().size() * 2 + 2 );
+    key.add( "SELECT" );
+    key.add( ctx.getDdlTableName() );
     int i = 0;
     for( Map.Entry<String, Object> entry : ctx.getParams().entrySet() )
     {
-      if( i > 0 )
-      {
-        sql.append( " AND " );
-      }
       ColumnInfo paramInfo = ctx.getParamInfo()[i];
       ValueAccessor accessor = accProvider.get( paramInfo.getJdbcType() );
-      String expr = accessor.getParameterExpression( metaData, entry.getValue(), paramInfo );
-      sql.append( DbUtil.enquoteIdentifier( entry.getKey(), metaData ) ).append( " = " ).append( expr );
+      String expr = accessor.getParameterExpression( driver, metaData, entry.getValue(), paramInfo );
       i++;
       if( !expr.contains( "?" ) )
       {
         skipParams.add( entry.getKey() );
+        inlinedValues = true;
       }
+      key.add( entry.getKey() );
+      key.add( expr );
     }
-    return sql.toString();
+
+    return cache.getSql( key, !inlinedValues, () -> {
+      StringBuilder sql = new StringBuilder();
+      sql.append( "SELECT * FROM " ).append( ctx.getDdlTableName() ).append( " WHERE " );
+      for( int k = 2; k < key.size(); k += 2 )
+      {
+        if( k > 2 )
+        {
+          sql.append( " AND " );
+        }
+        sql.append( cache.quote( key.get( k ) ) ).append( " = " ).append( key.get( k + 1 ) );
+      }
+      return sql.toString();
+    } );
   }
 
   @SuppressWarnings( "unused" )
@@ -299,90 +329,116 @@ public class BasicCrudProvider implements CrudProvider
   {
     try
     {
-      StringBuilder sql = new StringBuilder();
-      sql.append( "UPDATE " ).append( ctx.getDdlTableName() ).append( " SET\n" );
-      int i = 0;
-      Map<String, Object> changeEntries = ctx.getBindings().uncommittedChangesEntrySet();
-      if( changeEntries.isEmpty() )
-      {
-        throw new SQLException( "Expecting changed entries." );
-      }
       Set<String> skipParams = new HashSet<>();
-      ValueAccessorProvider accProvider = Dependencies.instance().getValueAccessorProvider();
-      for( Map.Entry<String, Object> entry : changeEntries.entrySet() )
+      String sql = makeUpdateStmt( c.getMetaData(), ctx, skipParams );
+      int[] reflectedColumnCount = {0};
+      try( PreparedStatement ps = prepareStatement( c, ctx, sql, reflectedColumnCount ) )
       {
-        if( i > 0 )
-        {
-          sql.append( ",\n" );
-        }
-        String colName = entry.getKey();
-        ValueAccessor accessor = accProvider.get( ctx.getAllCols().get( colName ).getJdbcType() );
-        String expr = accessor.getParameterExpression( c.getMetaData(), entry.getValue(), ctx.getAllCols().get( colName ) );
-        String qcolName = DbUtil.enquoteIdentifier( colName, c.getMetaData() );
-        sql.append( "$qcolName = " ).append( expr );
-        i++;
-        if( !expr.contains( "?" ) )
-        {
-          skipParams.add( entry.getKey() );
-        }
+        setUpdateParameters( ctx, ps, skipParams );
+        executeAndFetchRow( c, ctx, ps, reflectedColumnCount[0] > 0 );
       }
-      sql.append( "\nWHERE " );
-
-      Set<String> allColNames = ctx.getAllCols().keySet();
+    }
+    catch( SQLException e )
+    {
+      throw ManExceptionUtil.unchecked( e );
+    }
+  }
 
-      Set<String> whereColumns;
-      if( !ctx.getPkCols().isEmpty() )
-      {
-        whereColumns = ctx.getPkCols();
-      }
-      else if( !ctx.getUkCols().isEmpty() )
+  private <T extends Entity> String makeUpdateStmt( DatabaseMetaData metaData, UpdateContext<T> ctx, Set<String> skipParams ) throws SQLException
+  {
+    CrudStatementCache cache = CrudStatementCache.get( ctx.getConfigName(), metaData );
+    DriverInfo driver = cache.getDriver();
+    boolean inlinedValues = false;
+    Map<String, Object> changeEntries = ctx.getBindings().uncommittedChangesEntrySet();
+    if( changeEntries.isEmpty() )
+    {
+      throw new SQLException( "Expecting changed entries." );
+    }
+    Set<String> whereColumns = whereColumns( ctx );
+    List<String> key = new ArrayList<>( (changeEntries.size() + whereColumns.size()) * 2 + 3 );
+    key.add( "UPDATE" );
+    key.add( ctx.getDdlTableName() );
+    ValueAccessorProvider accProvider = Dependencies.instance().getValueAccessorProvider();
+    for( Map.Entry<String, Object> entry : changeEntries.entrySet() )
+    {
+      String colName = entry.getKey();
+      ValueAccessor accessor = accProvider.get( ctx.getAllCols().get( colName ).getJdbcType() );
+      String expr = accessor.getParameterExpression( driver, metaData, entry.getValue(), ctx.getAllCols().get( colName ) );
+      if( !expr.contains( "?" ) )
       {
-        whereColumns = ctx.getUkCols();
+        skipParams.add( entry.getKey() );
+        inlinedValues = true;
       }
-      else
+      key.add( colName );
+      key.add( expr );
+    }
+    int whereIndex = key.size();
+    for( String whereCol: whereColumns )
+    {
+      ColumnInfo columnInfo = ctx.getAllCols().get( whereCol );
+      ValueAccessor accessor = accProvider.get( columnInfo.getJdbcType() );
+      String expr = accessor.getParameterExpression(
+        driver, metaData, ctx.getBindings().getPersistedStateValue( whereCol ), columnInfo );
+      if( !expr.contains( "?" ) )
       {
-        whereColumns = allColNames;
+        skipParams.add( whereCol );
+        inlinedValues = true;
       }
-      if( !whereColumns.isEmpty() )
+      key.add( whereCol );
+      key.add( expr );
+    }
+    // distinguishes SET columns from WHERE columns in the key
+    key.add( String.valueOf( whereIndex ) );
+
+    return cache.getSql( key, !inlinedValues, () -> {
+      StringBuilder sql = new StringBuilder();
+      sql.append( "UPDATE " ).append( ctx.getDdlTableName() ).append( " SET\n" );
+      for( int i = 2; i < whereIndex; i += 2 )
       {
-        i = 0;
-        for( String whereCol: whereColumns )
+        if( i > 2 )
         {
-          if( i++ > 0 )
-          {
-            sql.append( ", " );
-          }
-          ColumnInfo columnInfo = ctx.getAllCols().get( whereCol );
-          ValueAccessor accessor = accProvider.get( columnInfo.getJdbcType() );
-          String expr = accessor.getParameterExpression(
-            c.getMetaData(), ctx.getBindings().getPersistedStateValue( whereCol ), columnInfo );
-          String qwhereCol = DbUtil.enquoteIdentifier( whereCol, c.getMetaData() );
-          sql.append( "$qwhereCol = " ).append( expr );
-          if( !expr.contains( "?" ) )
-          {
-            skipParams.add( whereCol );
-          }
+          sql.append( ",\n" );
         }
+        String qcolName = cache.quote( key.get( i ) );
+        sql.append( "$qcolName = " ).append( key.get( i + 1 ) );
       }
-      else
+      sql.append( "\nWHERE " );
+      for( int i = whereIndex; i < key.size() - 1; i += 2 )
       {
-        throw new SQLException( "Expecting primary key, unique key, or provided columns for WHERE clause." );
+        if( i > whereIndex )
+        {
+          sql.append( ", " );
+        }
+        String qwhereCol = cache.quote( key.get( i ) );
+        sql.append( "$qwhereCol = " ).append( key.get( i + 1 ) );
       }
+      return sql.toString();
+    } );
+  }
 
-      int[] reflectedColumnCount = {0};
-      try( PreparedStatement ps = prepareStatement( c, ctx, sql.toString(), reflectedColumnCount ) )
-      {
-        setUpdateParameters( ctx, whereColumns, ps, skipParams );
-        executeAndFetchRow( c, ctx, ps, reflectedColumnCount[0] > 0 );
-      }
+  private static <T extends Entity> Set<String> whereColumns( UpdateContext<T> ctx ) throws SQLException
+  {
+    Set<String> whereColumns;
+    if( !ctx.getPkCols().isEmpty() )
+    {
+      whereColumns = ctx.getPkCols();
     }
-    catch( SQLException e )
+    else if( !ctx.getUkCols().isEmpty() )
     {
-      throw ManExceptionUtil.unchecked( e );
+      whereColumns = ctx.getUkCols();
+    }
+    else
+    {
+      whereColumns = ctx.getAllCols().keySet();
     }
+    if( whereColumns.isEmpty() )
+    {
+      throw new SQLException( "Expecting primary key, unique key, or provided columns for WHERE clause." );
+    }
+    return whereColumns;
   }
 
-  private <T extends Entity> void setUpdateParameters( UpdateContext<T> ctx, Set<String> whereColumns, PreparedStatement ps, Set<String> skipParams ) throws SQLException
+  private <T extends Entity> void setUpdateParameters( UpdateContext<T> ctx, PreparedStatement ps, Set<String> skipParams ) throws SQLException
   {
     Map<String, Object> changeEntries = ctx.getBindings().uncommittedChangesEntrySet();
     if( changeEntries.isEmpty() )
@@ -401,47 +457,32 @@ public class BasicCrudProvider implements CrudProvider
       Object value = entry.getValue();
       accessor.setParameter( ps, ++i, value );
     }
-    if( !whereColumns.isEmpty() )
+    for( String whereColumn : whereColumns( ctx ) )
     {
-      for( String whereColumn : whereColumns )
+      if( skipParams.contains( whereColumn ) )
       {
-        if( skipParams.contains( whereColumn ) )
-        {
-          continue;
-        }
-
-        ValueAccessor accessor = accProvider.get( ctx.getAllCols().get( whereColumn ).getJdbcType() );
-        Object value = ctx.getBindings().getPersistedStateValue( whereColumn );
-        accessor.setParameter( ps, ++i, value );
+        continue;
       }
-    }
-    else
-    {
-      throw new SQLException( "Expecting primary key, unique key, or provided columns for WHERE clause." );
-    }
 
+      ValueAccessor accessor = accProvider.get( ctx.getAllCols().get( whereColumn ).getJdbcType() );
+      Object value = ctx.getBindings().getPersistedStateValue( whereColumn );
+      accessor.setParameter( ps, ++i, value );
+    }
   }
 
-  private <T extends Entity> void setDeleteParameters( UpdateContext<T> ctx, Set<String> whereColumns, PreparedStatement ps, Set<String> skipParams ) throws SQLException
+  private <T extends Entity> void setDeleteParameters( UpdateContext<T> ctx, PreparedStatement ps, Set<String> skipParams ) throws SQLException
   {
     int i = 0;
-    if( !whereColumns.isEmpty() )
+    ValueAccessorProvider accProvider = Dependencies.instance().getValueAccessorProvider();
+    for( String whereColumn : whereColumns( ctx ) )
     {
-      ValueAccessorProvider accProvider = Dependencies.instance().getValueAccessorProvider();
-      for( String whereColumn : whereColumns )
+      if( skipParams.contains( whereColumn ) )
       {
-        ValueAccessor accessor = accProvider.get( ctx.getAllCols().get( whereColumn ).getJdbcType() );
-        Object value = ctx.getBindings().getPersistedStateValue( whereColumn );
-        if( skipParams.contains( whereColumn ) )
-        {
-          continue;
-        }
-        accessor.setParameter( ps, ++i, value );
+        continue;
       }
-    }
-    else
-    {
-      throw new SQLException( "Expecting primary key, unique key, or provided columns for WHERE clause." );
+      ValueAccessor accessor = accProvider.get( ctx.getAllCols().get( whereColumn ).getJdbcType() );
+      Object value = ctx.getBindings().getPersistedStateValue( whereColumn );
+      accessor.setParameter( ps, ++i, value );
     }
   }
 
@@ -459,26 +500,40 @@ public class BasicCrudProvider implements CrudProvider
     Bindings reflectedRow = DataBindings.EMPTY_BINDINGS;
     if( hasReflectedColumns )
     {
-      try( ResultSet resultSet = ps.getGeneratedKeys() )
+      List<Bindings> reflectedRows = fetchGeneratedKeys( ctx, ps );
+      if( !reflectedRows.isEmpty() )
       {
-        Result<IBindingsBacked> resultRow =
-          new Result<>( ctx.getAllCols(), resultSet, rowBindings -> () -> rowBindings );
-        Iterator<IBindingsBacked> iterator = resultRow.iterator();
-        if( iterator.hasNext() )
+        reflectedRow = reflectedRows.get( 0 );
+        if( reflectedRows.size() > 1 )
         {
-          reflectedRow = iterator.next().getBindings();
-          if( iterator.hasNext() )
-          {
-            throw new SQLException( "Expecting a single row, found more." );
-          }
+          throw new SQLException( "Expecting a single row, found more." );
         }
       }
-      catch( SQLFeatureNotSupportedException e )
+    }
+    reflectRow( c, ctx, reflectedRow );
+  }
+
+  private <T extends Entity> List<Bindings> fetchGeneratedKeys( UpdateContext<T> ctx, PreparedStatement ps ) throws SQLException
+  {
+    List<Bindings> reflectedRows = new ArrayList<>();
+    try( ResultSet resultSet = ps.getGeneratedKeys() )
+    {
+      Result<IBindingsBacked> resultRows =
+        new Result<>( ctx.getAllCols(), resultSet, rowBindings -> () -> rowBindings );
+      for( IBindingsBacked row : resultRows )
       {
-        LOGGER.warn( "getGeneratedKeys() is not supported, attempting to fetch updated row.", e );
+        reflectedRows.add( row.getBindings() );
       }
     }
+    catch( SQLFeatureNotSupportedException e )
+    {
+      LOGGER.warn( "getGeneratedKeys() is not supported, attempting to fetch updated row.", e );
+    }
+    return reflectedRows;
+  }
 
+  private <T extends Entity> void reflectRow( Connection c, UpdateContext<T> ctx, Bindings reflectedRow ) throws SQLException
+  {
     if( isReflectedRowEmpty( reflectedRow ) && ctx.getPkCols().isEmpty() )
     {
       // no pk means there's no way to fetch the inserted row
@@ -599,62 +654,119 @@ public class BasicCrudProvider implements CrudProvider
   }
 
   public <T extends Entity> void delete( Connection c, UpdateContext<T> ctx )
-  {  
+  {
     try
     {
-      StringBuilder sql = new StringBuilder();
-      sql.append( "DELETE FROM " ).append( ctx.getDdlTableName() ).append( " WHERE\n" );
+      Set<String> skipParams = new HashSet<>();
+      String sql = makeDeleteStmt( c.getMetaData(), ctx, skipParams );
+      try( PreparedStatement ps = c.prepareStatement( sql ) )
+      {
+        setDeleteParameters( ctx, ps, skipParams );
+        int result = ps.executeUpdate();
+        if( result != 1 )
+        {
+          throw new SQLException( "Expecting a single row result for Delete, got " + result );
+        }
+      }
+    }
+    catch( SQLException e )
+    {
+      throw ManExceptionUtil.unchecked( e );
+    }
+  }
 
-      Set<String> allColNames = ctx.getAllCols().keySet();
+  private <T extends Entity> String makeDeleteStmt( DatabaseMetaData metaData, UpdateContext<T> ctx, Set<String> skipParams ) throws SQLException
+  {
+    CrudStatementCache cache = CrudStatementCache.get( ctx.getConfigName(), metaData );
+    DriverInfo driver = cache.getDriver();
+    boolean inlinedValues = false;
+    Set<String> whereColumns = whereColumns( ctx );
+    List<String> key = new ArrayList<>( whereColumns.size() * 2 + 2 );
+    key.add( "DELETE" );
+    key.add( ctx.getDdlTableName() );
+    ValueAccessorProvider accProvider = Dependencies.instance().getValueAccessorProvider();
+    for( String whereCol: whereColumns )
+    {
+      ValueAccessor accessor = accProvider.get( ctx.getAllCols().get( whereCol ).getJdbcType() );
+      String expr = accessor.getParameterExpression(
+        driver, metaData, ctx.getBindings().getPersistedStateValue( whereCol ), ctx.getAllCols().get( whereCol ) );
+      if( !expr.contains( "?" ) )
+      {
+        skipParams.add( whereCol );
+        inlinedValues = true;
+      }
+      key.add( whereCol );
+      key.add( expr );
+    }
 
-      Set<String> whereColumns;
-      if( !ctx.getPkCols().isEmpty() )
+    return cache.getSql( key, !inlinedValues, () -> {
+      StringBuilder sql = new StringBuilder();
+      sql.append( "DELETE FROM " ).append( ctx.getDdlTableName() ).append( " WHERE\n" );
+      for( int i = 2; i < key.size(); i += 2 )
       {
-        whereColumns = ctx.getPkCols();
+        if( i > 2 )
+        {
+          sql.append( " AND " );
+        }
+        String qwhereCol = cache.quote( key.get( i ) );
+        sql.append( "$qwhereCol = " ).append( key.get( i + 1 ) );
       }
-      else if( !ctx.getUkCols().isEmpty() )
+      return sql.toString();
+    } );
+  }
+
+  @Override
+  public <T extends Entity> void createAll( Connection c, List<UpdateContext<T>> ctxs, int batchSize )
+  {
+    try
+    {
+      if( isBatchable( c, ctxs, batchSize, true ) )
       {
-        whereColumns = ctx.getUkCols();
+        executeBatches( c, ctxs, batchSize, this::makeInsertStmt, this::setInsertParameters, true, "Insert" );
       }
       else
       {
-        whereColumns = allColNames;
+        CrudProvider.super.createAll( c, ctxs, batchSize );
       }
-      Set<String> skipParams = new HashSet<>();
-      if( !whereColumns.isEmpty() )
+    }
+    catch( SQLException e )
+    {
+      throw ManExceptionUtil.unchecked( e );
+    }
+  }
+
+  @Override
+  public <T extends Entity> void updateAll( Connection c, List<UpdateContext<T>> ctxs, int batchSize )
+  {
+    try
+    {
+      if( isBatchable( c, ctxs, batchSize, true ) )
       {
-        ValueAccessorProvider accProvider = Dependencies.instance().getValueAccessorProvider();
-        int i = 0;
-        for( String whereCol: whereColumns )
-        {
-          if( i++ > 0 )
-          {
-            sql.append( " AND " );
-          }
-          ValueAccessor accessor = accProvider.get( ctx.getAllCols().get( whereCol ).getJdbcType() );
-          String expr = accessor.getParameterExpression(
-            c.getMetaData(), ctx.getBindings().getPersistedStateValue( whereCol ), ctx.getAllCols().get( whereCol ) );
-          String qwhereCol = DbUtil.enquoteIdentifier( whereCol, c.getMetaData() );
-          sql.append( "$qwhereCol = " ).append( expr );
-          if( !expr.contains( "?" ) )
-          {
-            skipParams.add( whereCol );
-          }
-        }
+        executeBatches( c, ctxs, batchSize, this::makeUpdateStmt, this::setUpdateParameters, true, "Update" );
       }
       else
       {
-        throw new SQLException( "Expecting primary key, unique key, or provided columns for WHERE clause." );
+        CrudProvider.super.updateAll( c, ctxs, batchSize );
       }
+    }
+    catch( SQLException e )
+    {
+      throw ManExceptionUtil.unchecked( e );
+    }
+  }
 
-      try( PreparedStatement ps = c.prepareStatement( sql.toString() ) )
+  @Override
+  public <T extends Entity> void deleteAll( Connection c, List<UpdateContext<T>> ctxs, int batchSize )
+  {
+    try
+    {
+      if( isBatchable( c, ctxs, batchSize, false ) )
       {
-        setDeleteParameters( ctx, whereColumns, ps, skipParams );
-        int result = ps.executeUpdate();
-        if( result != 1 )
-        {
-          throw new SQLException( "Expecting a single row result for Delete, got " + result );
-        }
+        executeBatches( c, ctxs, batchSize, this::makeDeleteStmt, this::setDeleteParameters, false, "Delete" );
+      }
+      else
+      {
+        CrudProvider.super.deleteAll( c, ctxs, batchSize );
       }
     }
     catch( SQLException e )
@@ -663,6 +775,106 @@ public class BasicCrudProvider implements CrudProvider
     }
   }
 
+  private static <T extends Entity> boolean isBatchable( Connection c, List<UpdateContext<T>> ctxs, int batchSize,
+                                                         boolean reflectsRows ) throws SQLException
+  {
+    if( batchSize <= 1 || ctxs.size() <= 1 )
+    {
+      return false;
+    }
+    CrudStatementCache cache = CrudStatementCache.get( ctxs.get( 0 ).getConfigName(), c.getMetaData() );
+    return cache.supportsBatchUpdates() &&
+      (!reflectsRows || cache.getDriver().batchedGeneratedKeys());
+  }
+
+  /**
+   * Executes consecutive rows having the same SQL as a JDBC batch of up to {@code batchSize} rows. Rows are executed in
+   * the order provided.
+   */
+  private <T extends Entity> void executeBatches( Connection c, List<UpdateContext<T>> ctxs, int batchSize,
+                                                  StmtMaker<T> stmtMaker, ParamSetter<T> paramSetter,
+                                                  boolean reflectsRows, String operation ) throws SQLException
+  {
+    DatabaseMetaData metaData = c.getMetaData();
+    List<UpdateContext<T>> batch = new ArrayList<>();
+    List<Set<String>> batchSkipParams = new ArrayList<>();
+    String batchSql = null;
+    for( UpdateContext<T> ctx : ctxs )
+    {
+      Set<String> skipParams = new HashSet<>();
+      String sql = stmtMaker.make( metaData, ctx, skipParams );
+      if( !batch.isEmpty() && (!sql.equals( batchSql ) || batch.size() >= batchSize) )
+      {
+        executeBatch( c, batchSql, batch, batchSkipParams, paramSetter, reflectsRows, operation );
+        batch.clear();
+        batchSkipParams.clear();
+      }
+      batchSql = sql;
+      batch.add( ctx );
+      batchSkipParams.add( skipParams );
+    }
+    if( !batch.isEmpty() )
+    {
+      executeBatch( c, batchSql, batch, batchSkipParams, paramSetter, reflectsRows, operation );
+    }
+  }
+
+  private <T extends Entity> void executeBatch( Connection c, String sql, List<UpdateContext<T>> batch,
+                                                List<Set<String>> batchSkipParams, ParamSetter<T> paramSetter,
+                                                boolean reflectsRows, String operation ) throws SQLException
+  {
+    int[] reflectedColumnCount = {0};
+    try( PreparedStatement ps = reflectsRows
+                                ? prepareStatement( c, batch.get( 0 ), sql, reflectedColumnCount )
+                                : c.prepareStatement( sql ) )
+    {
+      for( int i = 0; i < batch.size(); i++ )
+      {
+        paramSetter.set( batch.get( i ), ps, batchSkipParams.get( i ) );
+        ps.addBatch();
+      }
+      int[] results = ps.executeBatch();
+      for( int result : results )
+      {
+        if( result != 1 && result != Statement.SUCCESS_NO_INFO )
+        {
+          throw new SQLException( "Expecting a single row result for " + operation + ", got " + result );
+        }
+      }
+
+      if( !reflectsRows )
+      {
+        return;
+      }
+
+      List<Bindings> reflectedRows = reflectedColumnCount[0] > 0
+        ? fetchGeneratedKeys( batch.get( 0 ), ps )
+        : Collections.emptyList();
+      if( !reflectedRows.isEmpty() && reflectedRows.size() != batch.size() )
+      {
+        // can't match generated keys with rows, fall back to fetching rows by pk
+        LOGGER.warn( "Expecting " + batch.size() + " generated key rows, got " + reflectedRows.size() );
+        reflectedRows = Collections.emptyList();
+      }
+      for( int i = 0; i < batch.size(); i++ )
+      {
+        reflectRow( c, batch.get( i ), reflectedRows.isEmpty() ? DataBindings.EMPTY_BINDINGS : reflectedRows.get( i ) );
+      }
+    }
+  }
+
+  @FunctionalInterface
+  private interface StmtMaker<T extends Entity>
+  {
+    String make( DatabaseMetaData metaData, UpdateContext<T> ctx, Set<String> skipParams ) throws SQLException;
+  }
+
+  @FunctionalInterface
+  private interface ParamSetter<T extends Entity>
+  {
+    void set( UpdateContext<T> ctx, PreparedStatement ps, Set<String> skipParams ) throws SQLException;
+  }
+
   private <T extends Entity> void setQueryParameters( QueryContext<T> ctx, PreparedStatement ps, Set<String> skipParams ) throws SQLException
   {
     int i = 0;
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2023 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package manifold.sql.rt.impl;
+
+import manifold.sql.rt.api.SqlMetrics;
+import manifold.sql.rt.api.TimingStats;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class BasicSqlMetrics implements SqlMetrics
+{
+  private final Map<String, Map<String, TimingStats>> _executionStats = new ConcurrentHashMap<>();
+
+  @Override
+  public void recordExecution( String configName, String sql, long elapsedNanos )
+  {
+    if( configName == null )
+    {
+      return;
+    }
+    _executionStats.computeIfAbsent( configName, __ -> new ConcurrentHashMap<>() )
+      .computeIfAbsent( sql, __ -> new TimingStats() )
+      .record( elapsedNanos );
+  }
+
+  @Override
+  public Map<String, TimingStats> getExecutionStats( String configName )
+  {
+    Map<String, TimingStats> stats = configName == null ? null : _executionStats.get( configName );
+    return stats == null ? Collections.emptyMap() : Collections.unmodifiableMap( stats );
+  }
+}
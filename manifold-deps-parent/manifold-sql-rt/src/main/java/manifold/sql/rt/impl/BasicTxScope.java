@@ -155,10 +155,12 @@ class BasicTxScope implements OperableTxScope
           c.setAutoCommit( false );
 
           Set<Entity> visited = new HashSet<>();
+          PendingRun pending = new PendingRun( c );
           for( Entity row : _rows )
           {
-            doCrud( c, row, new LinkedHashMap<>(), visited );
+            doCrud( c, row, new LinkedHashMap<>(), visited, pending );
           }
+          pending.flush();
 
           for( ScopeConsumer rawChange : _rawChanges )
           {
@@ -231,7 +233,7 @@ class BasicTxScope implements OperableTxScope
     }
   }
 
-  private void doCrud( Connection c, Entity row, Map<Entity, Set<FkDep>> unresolvedDeps, Set<Entity> visited ) throws SQLException
+  private void doCrud( Connection c, Entity row, Map<Entity, Set<FkDep>> unresolvedDeps, Set<Entity> visited, PendingRun pending ) throws SQLException
   {
     if( visited.contains( row ) )
     {
@@ -239,9 +241,7 @@ class BasicTxScope implements OperableTxScope
     }
     visited.add( row );
 
-    doFkDependenciesFirst( c, row, unresolvedDeps, visited );
-
-    CrudProvider crud = Dependencies.instance().getCrudProvider();
+    doFkDependenciesFirst( c, row, unresolvedDeps, visited, pending );
 
     TableInfo ti = row.tableInfo();
     UpdateContext<Entity> ctx = new UpdateContext<>( this, row, ti.getDdlTableName(), _dbConfig.getName(),
@@ -249,21 +249,28 @@ class BasicTxScope implements OperableTxScope
 
     if( row.getBindings().isForInsert() )
     {
-      crud.create( c, ctx );
+      pending.add( ctx, CrudKind.Create );
     }
     else if( row.getBindings().isForUpdate() )
     {
-      crud.update( c, ctx );
+      pending.add( ctx, CrudKind.Update );
     }
     else if( row.getBindings().isForDelete() )
     {
-      crud.delete( c, ctx );
+      pending.add( ctx, CrudKind.Delete );
     }
     else
     {
       throw new SQLException( "Unexpected bindings kind, neither of insert/update/delete" );
     }
-    patchUnresolvedFkDeps( c, ctx, crud, unresolvedDeps.get( row ) );
+
+    Set<FkDep> unresolved = unresolvedDeps.get( row );
+    if( unresolved != null )
+    {
+      // the row's generated pk is needed now
+      pending.flush();
+      patchUnresolvedFkDeps( c, ctx, Dependencies.instance().getCrudProvider(), unresolved );
+    }
   }
 
   /**
@@ -304,7 +311,7 @@ class BasicTxScope implements OperableTxScope
     }
   }
 
-  private void doFkDependenciesFirst( Connection c, Entity row, Map<Entity, Set<FkDep>> unresolvedDeps, Set<Entity> visited ) throws SQLException
+  private void doFkDependenciesFirst( Connection c, Entity row, Map<Entity, Set<FkDep>> unresolvedDeps, Set<Entity> visited, PendingRun pending ) throws SQLException
   {
     for( Map.Entry<String, Object> entry : row.getBindings().entrySet() )
     {
@@ -315,7 +322,12 @@ class BasicTxScope implements OperableTxScope
         Entity pkEntity = ref.getRef();
         FkDep fkDep = new FkDep( row, entry.getKey(), pkEntity, ref.getKeyColName() );
 
-        doCrud( c, pkEntity, unresolvedDeps, visited );
+        doCrud( c, pkEntity, unresolvedDeps, visited, pending );
+        if( pending.contains( pkEntity ) )
+        {
+          // the fk value depends on the pk entity's generated key
+          pending.flush();
+        }
 
         // patch fk
         Object pkId = ((OperableTxBindings)pkEntity.getBindings()).getHeldValue( fkDep.pkName );
@@ -336,6 +348,79 @@ class BasicTxScope implements OperableTxScope
     }
   }
 
+  private enum CrudKind {Create, Update, Delete}
+
+  /**
+   * Consecutive rows sharing the same table and operation, not yet executed. Executing rows as a run enables the crud
+   * provider to use JDBC batches, see {@link CrudProvider#createAll}. The run is flushed when the next row's table or
+   * operation differs, when it reaches the dbconfig's batch size, or when a row's generated key is needed to resolve a
+   * foreign key. Thus, rows always execute in the same order as they would one at a time.
+   */
+  private class PendingRun
+  {
+    private final Connection _c;
+    private final int _batchSize;
+    private final List<UpdateContext<Entity>> _ctxs;
+    private final Set<Entity> _rows;
+    private CrudKind _kind;
+    private String _ddlTableName;
+
+    PendingRun( Connection c )
+    {
+      _c = c;
+      _batchSize = Math.max( 1, _dbConfig.getBatchSize() );
+      _ctxs = new ArrayList<>();
+      _rows = Collections.newSetFromMap( new IdentityHashMap<>() );
+    }
+
+    void add( UpdateContext<Entity> ctx, CrudKind kind ) throws SQLException
+    {
+      if( !_ctxs.isEmpty() && (kind != _kind || !ctx.getDdlTableName().equals( _ddlTableName )) )
+      {
+        flush();
+      }
+      _kind = kind;
+      _ddlTableName = ctx.getDdlTableName();
+      _ctxs.add( ctx );
+      _rows.add( ctx.getTable() );
+      if( _ctxs.size() >= _batchSize )
+      {
+        flush();
+      }
+    }
+
+    boolean contains( Entity row )
+    {
+      return _rows.contains( row );
+    }
+
+    void flush() throws SQLException
+    {
+      if( _ctxs.isEmpty() )
+      {
+        return;
+      }
+
+      CrudProvider crud = Dependencies.instance().getCrudProvider();
+      switch( _kind )
+      {
+        case Create:
+          crud.createAll( _c, _ctxs, _batchSize );
+          break;
+        case Update:
+          crud.updateAll( _c, _ctxs, _batchSize );
+          break;
+        case Delete:
+          crud.deleteAll( _c, _ctxs, _batchSize );
+          break;
+        default:
+          throw new SQLException( "Unexpected kind: " + _kind );
+      }
+      _ctxs.clear();
+      _rows.clear();
+    }
+  }
+
   private static class FkDep
   {
     final Entity fkRow;
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2023 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package manifold.sql.rt.impl;
+
+import manifold.sql.rt.util.DbUtil;
+import manifold.sql.rt.util.DriverInfo;
+import manifold.util.ManExceptionUtil;
+
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Per dbconfig cache for {@link BasicCrudProvider}. Driver capabilities are probed once from {@code DatabaseMetaData},
+ * and generated statement text, quoted identifiers, and the columns to reflect after insert/update are computed once per
+ * table, instead of once per CRUD call.
+ */
+class CrudStatementCache
+{
+  private static final Map<String, CrudStatementCache> CACHES = new ConcurrentHashMap<>();
+
+  /**
+   * Statement shapes are bounded by the tables and their column subsets, this limit guards against a pathological
+   * number of them. Beyond the limit statements are made without being cached.
+   */
+  static final int MAX_STATEMENTS = 4096;
+
+  private final DriverInfo _driver;
+  private final String _quoteString;
+  private final boolean _supportsBatchUpdates;
+  private final Map<String, String> _quotedIds;
+  private final Map<List<String>, String> _sql;
+  private final Map<String, String[]> _reflectedColumns;
+  private final Set<String> _columnNamesUnsupported;
+
+  /**
+   * @param configName The name of the dbconfig the metadata belongs to. If null, a new, unshared cache is returned.
+   */
+  static CrudStatementCache get( String configName, DatabaseMetaData metaData ) throws SQLException
+  {
+    if( configName == null )
+    {
+      return new CrudStatementCache( metaData );
+    }
+
+    CrudStatementCache cache = CACHES.get( configName );
+    if( cache == null )
+    {
+      cache = new CrudStatementCache( metaData );
+      CrudStatementCache existing = CACHES.putIfAbsent( configName, cache );
+      if( existing != null )
+      {
+        cache = existing;
+      }
+    }
+    return cache;
+  }
+
+  /**
+   * Drops the cache for {@code configName}, or all caches if {@code configName} is null. Called when the corresponding
+   * data source closes.
+   */
+  static void clear( String configName )
+  {
+    if( configName == null )
+    {
+      CACHES.clear();
+    }
+    else
+    {
+      CACHES.remove( configName );
+    }
+  }
+
+  private CrudStatementCache( DatabaseMetaData metaData ) throws SQLException
+  {
+    _driver = DriverInfo.lookup( metaData );
+    _quoteString = metaData.getIdentifierQuoteString();
+    _supportsBatchUpdates = metaData.supportsBatchUpdates();
+    _quotedIds = new ConcurrentHashMap<>();
+    _sql = new ConcurrentHashMap<>();
+    _reflectedColumns = new ConcurrentHashMap<>();
+    _columnNamesUnsupported = ConcurrentHashMap.newKeySet();
+  }
+
+  DriverInfo getDriver()
+  {
+    return _driver;
+  }
+
+  boolean supportsBatchUpdates()
+  {
+    return _supportsBatchUpdates;
+  }
+
+  /**
+   * Same as {@link DbUtil#enquoteIdentifier(String, DatabaseMetaData)} without the metadata round trip.
+   */
+  String quote( String id )
+  {
+    return _quotedIds.computeIfAbsent( id, key -> {
+      try
+      {
+        return DbUtil.enquoteIdentifier( key, _quoteString );
+      }
+      catch( SQLException e )
+      {
+        throw ManExceptionUtil.unchecked( e );
+      }
+    } );
+  }
+
+  /**
+   * Provides the statement text corresponding with {@code key}, making it if necessary. The key must determine the
+   * text completely, typically it consists of the statement kind, the table name, and the column names paired with
+   * their parameter expressions.
+   *
+   * @param cacheable False if the key contains values, such as literal parameter expressions inlining column values.
+   *   The text is made but not cached, since values would otherwise add an entry per distinct value.
+   */
+  String getSql( List<String> key, boolean cacheable, Supplier<String> makeSql )
+  {
+    if( !cacheable )
+    {
+      return makeSql.get();
+    }
+
+    String sql = _sql.get( key );
+    if( sql == null )
+    {
+      sql = makeSql.get();
+      if( _sql.size() < MAX_STATEMENTS )
+      {
+        _sql.putIfAbsent( key, sql );
+      }
+    }
+    return sql;
+  }
+
+  String[] getReflectedColumns( String key, Supplier<String[]> makeColumns )
+  {
+    return _reflectedColumns.computeIfAbsent( key, __ -> makeColumns.get() );
+  }
+
+  /**
+   * True if the driver failed {@code prepareStatement(sql, columnNames)} for all columns of {@code ddlTableName}.
+   */
+  boolean isColumnNamesUnsupported( String ddlTableName )
+  {
+    return _columnNamesUnsupported.contains( ddlTableName );
+  }
+
+  void setColumnNamesUnsupported( String ddlTableName )
+  {
+    _columnNamesUnsupported.add( ddlTableName );
+  }
+}
@@ -273,6 +273,13 @@ public class DbConfigImpl implements DbConfig
     return inMemory != null && inMemory;
   }
 
+  @Override
+  public int getBatchSize()
+  {
+    Number batchSize = (Number)_bindings.get( "batchSize" );
+    return batchSize == null ? DEFAULT_BATCH_SIZE : batchSize.intValue();
+  }
+
   @Override
   public boolean equals( Object o )
   {
@@ -18,25 +18,29 @@ package manifold.sql.rt.impl;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
 import manifold.rt.api.util.ServiceUtil;
-import manifold.sql.rt.api.ConnectionProvider;
-import manifold.sql.rt.api.DbConfig;
-import manifold.sql.rt.api.Dependencies;
+import manifold.sql.rt.api.*;
 import manifold.util.ManExceptionUtil;
 
 import java.sql.Connection;
 import java.sql.Driver;
 import java.sql.SQLException;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
+import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import static manifold.sql.rt.api.ExecutionEnv.*;
 
 public class HikariConnectionProvider implements ConnectionProvider
 {
   private final Map<String, HikariDataSource> _dataSources = new ConcurrentHashMap<>();
+  private final Map<String, DbConfig> _runtimeConfigs = new ConcurrentHashMap<>();
+  private final Map<String, PoolMetrics> _poolMetrics = new ConcurrentHashMap<>();
+  /** Physical connections already initialized via {@link DbConfig#init}, weakly held so evicted connections drop out */
+  private final Set<Connection> _initialized = Collections.synchronizedSet( Collections.newSetFromMap( new WeakHashMap<>() ) );
 
   public HikariConnectionProvider()
   {
@@ -48,25 +52,26 @@ public class HikariConnectionProvider implements ConnectionProvider
   @Override
   public Connection getConnection( String configName, Class<?> classContext )
   {
-    DbConfig[] dbConfig = {null};
     //noinspection resource
     HikariDataSource ds = _dataSources.computeIfAbsent( configName, __ -> {
-      dbConfig[0] = Dependencies.instance().getDbConfigProvider().loadDbConfig( configName, classContext );
-      if( dbConfig[0] == null )
+      DbConfig dbConfig = Dependencies.instance().getDbConfigProvider().loadDbConfig( configName, classContext );
+      if( dbConfig == null )
       {
         throw ManExceptionUtil.unchecked(
           new SQLException( "Could not find DbConfig for \"" + configName + "\", " +
             "class context: " + classContext.getTypeName() ) );
       }
 
-      return makeDataSource( dbConfig[0], dbConfig[0].getUrl() );
+      _runtimeConfigs.put( configName, dbConfig );
+      return makeDataSource( dbConfig, dbConfig.getUrl() );
     } );
     try
     {
       Connection connection = ds.getConnection();
-      if( dbConfig[0] != null )
+      DbConfig dbConfig = _runtimeConfigs.get( configName );
+      if( dbConfig != null )
       {
-        dbConfig[0].init( connection, Runtime );
+        init( dbConfig, connection, Runtime );
       }
       return connection;
     }
@@ -83,10 +88,37 @@ public class HikariConnectionProvider implements ConnectionProvider
     HikariDataSource ds = _dataSources.computeIfAbsent( dbConfig.getName(), __ ->
       makeDataSource( dbConfig, dbConfig.getBuildUrlOtherwiseRuntimeUrl() ) );
     Connection connection = ds.getConnection();
-    dbConfig.init( connection, Compiler );
+    init( dbConfig, connection, Compiler );
     return connection;
   }
 
+  /**
+   * Pooled connections are borrowed repeatedly, initialize the physical connection only the first time it is borrowed.
+   */
+  private void init( DbConfig dbConfig, Connection connection, ExecutionEnv env ) throws SQLException
+  {
+    Connection physical = connection.unwrap( Connection.class );
+    if( !_initialized.contains( physical ) )
+    {
+      dbConfig.init( connection, env );
+      _initialized.add( physical );
+    }
+  }
+
+  @Override
+  public PoolStats getPoolStats( String configName )
+  {
+    HikariDataSource ds = _dataSources.get( configName );
+    PoolMetrics metrics = _poolMetrics.get( configName );
+    HikariPoolMXBean pool = ds == null ? null : ds.getHikariPoolMXBean();
+    if( pool == null || metrics == null )
+    {
+      return null;
+    }
+    return new PoolStats( configName, pool.getActiveConnections(), pool.getIdleConnections(),
+      pool.getTotalConnections(), pool.getThreadsAwaitingConnection(), metrics._timeouts.sum(), metrics._acquireTime );
+  }
+
   @Override
   public void closeDataSource( DbConfig dbConfig )
   {
@@ -95,12 +127,18 @@ public class HikariConnectionProvider implements ConnectionProvider
     {
       dropped.close();
     }
+    _runtimeConfigs.remove( dbConfig.getName() );
+    _poolMetrics.remove( dbConfig.getName() );
+    CrudStatementCache.clear( dbConfig.getName() );
   }
 
   private HikariDataSource makeDataSource( DbConfig dbConfig, String url )
   {
     HikariConfig config = new HikariConfig( dbConfig.toProperties() );
     config.setJdbcUrl( url );
+    PoolMetrics metrics = new PoolMetrics();
+    config.setMetricsTrackerFactory( metrics );
+    _poolMetrics.put( dbConfig.getName(), metrics );
     return new HikariDataSource( config );
   }
 
@@ -109,5 +147,37 @@ public class HikariConnectionProvider implements ConnectionProvider
   {
     _dataSources.values().forEach( ds -> ds.close() );
     _dataSources.clear();
+    _runtimeConfigs.clear();
+    _poolMetrics.clear();
+    _initialized.clear();
+    CrudStatementCache.clear( null );
+  }
+
+  /**
+   * Collects connection acquisition time and timeouts reported by a Hikari pool.
+   */
+  private static class PoolMetrics implements MetricsTrackerFactory
+  {
+    private final TimingStats _acquireTime = new TimingStats();
+    private final LongAdder _timeouts = new LongAdder();
+
+    @Override
+    public IMetricsTracker create( String poolName, com.zaxxer.hikari.metrics.PoolStats poolStats )
+    {
+      return new IMetricsTracker()
+      {
+        @Override
+        public void recordConnectionAcquiredNanos( long elapsedAcquiredNanos )
+        {
+          _acquireTime.record( elapsedAcquiredNanos );
+        }
+
+        @Override
+        public void recordConnectionTimeout()
+        {
+          _timeouts.increment();
+        }
+      };
+    }
   }
 }
@@ -83,13 +83,25 @@ public class BitValueAccessor implements ValueAccessor
 
   @Override
   public String getParameterExpression( DatabaseMetaData metaData, Object value, ColumnInfo ci )
+  {
+    try
+    {
+      return getParameterExpression( DriverInfo.lookup( metaData ), metaData, value, ci );
+    }
+    catch( SQLException e )
+    {
+      throw new RuntimeException( e );
+    }
+  }
+
+  @Override
+  public String getParameterExpression( DriverInfo driver, DatabaseMetaData metaData, Object value, ColumnInfo ci )
   {
     // This is a special case for Postgres. It requires casts for some data types such as `bit` :\
     // See OtherValueAccessor for more of the same.
     // Note, SQL cast expr does not work here, hence the literal value expressions.
     try
     {
-      DriverInfo driver = DriverInfo.lookup( metaData );
       if( driver == Postgres || driver == MySQL )
       {
         if( !ci.getSqlType().toLowerCase().contains( "bool" ) )
@@ -66,31 +66,36 @@ public class OtherValueAccessor implements ValueAccessor
   @Override
   public String getParameterExpression( DatabaseMetaData metaData, Object value, ColumnInfo ci )
   {
-    // This is a special case for Postgres. It requires casts for some data types :\
-    // See also BitValueAccessor for more of the same.
     try
     {
-      DriverInfo driver = DriverInfo.lookup( metaData );
-      if( driver == Postgres )
-      {
-        String lcSqlType = ci.getSqlType().toLowerCase();
-        switch( lcSqlType )
-        {
-          case "cidr":
-          case "inet":
-          case "macaddr":
-          case "macaddr8":
-          case "money":
-          case "varbit":
-          case "bit varying":
-            return castParam( value, ci );
-        }
-      }
+      return getParameterExpression( DriverInfo.lookup( metaData ), metaData, value, ci );
     }
     catch( SQLException e )
     {
       throw new RuntimeException( e );
     }
+  }
+
+  @Override
+  public String getParameterExpression( DriverInfo driver, DatabaseMetaData metaData, Object value, ColumnInfo ci )
+  {
+    // This is a special case for Postgres. It requires casts for some data types :\
+    // See also BitValueAccessor for more of the same.
+    if( driver == Postgres )
+    {
+      String lcSqlType = ci.getSqlType().toLowerCase();
+      switch( lcSqlType )
+      {
+        case "cidr":
+        case "inet":
+        case "macaddr":
+        case "macaddr8":
+        case "money":
+        case "varbit":
+        case "bit varying":
+          return castParam( value, ci );
+      }
+    }
     return ValueAccessor.super.getParameterExpression( metaData, value, ci );
   }
 
@@ -28,27 +28,29 @@ import java.util.Set;
 
 public enum DriverInfo
 {
-  H2( "H2", false, false ),
-  MySQL( "MySQL", false, true ),
-  Oracle( "Oracle", true, false ),
-  Postgres( "PostgreSQL", false, false ),
-  SQLite( "SQLite", false, true ),
-  SqlServer( "SQL Server", true, false ),
-  UNTESTED( null, false, false ),
-  ERRANT( null, false, false );
+  H2( "H2", false, false, true ),
+  MySQL( "MySQL", false, true, true ),
+  Oracle( "Oracle", true, false, false ),
+  Postgres( "PostgreSQL", false, false, true ),
+  SQLite( "SQLite", false, true, false ),
+  SqlServer( "SQL Server", true, false, false ),
+  UNTESTED( null, false, false, false ),
+  ERRANT( null, false, false, false );
 
   public static final Logger LOGGER = LoggerFactory.getLogger( DriverInfo.class );
 
   private final String _productName;
   private final boolean _requiresQueryExecForTableName;
   private final boolean _flakyParameterMetadata;
+  private final boolean _batchedGeneratedKeys;
   private final Map<String, Set<String>> _driversInUse;
 
-  DriverInfo( String productName, boolean requiresQueryExecForTableName, boolean flakyParameterMetadata )
+  DriverInfo( String productName, boolean requiresQueryExecForTableName, boolean flakyParameterMetadata, boolean batchedGeneratedKeys )
   {
     _productName = productName;
     _requiresQueryExecForTableName = requiresQueryExecForTableName;
     _flakyParameterMetadata = flakyParameterMetadata;
+    _batchedGeneratedKeys = batchedGeneratedKeys;
     _driversInUse = new LinkedHashMap<>();
   }
 
@@ -103,6 +105,17 @@ public enum DriverInfo
     return _flakyParameterMetadata;
   }
 
+  /**
+   * Some drivers return generated keys for just the last row of a JDBC batch, or none at all, instead of one row per
+   * batched statement. Inserts and updates are batched only with drivers that reliably return one row per statement.
+   * <p/>
+   * Perpetrators: {@link #Oracle}, {@link #SQLite}, {@link #SqlServer}, and untested drivers
+   */
+  public boolean batchedGeneratedKeys()
+  {
+    return _batchedGeneratedKeys;
+  }
+
   public static DriverInfo lookup( DatabaseMetaData metadata ) throws SQLException
   {
     DriverInfo driver = lookup( metadata.getDriverName() );
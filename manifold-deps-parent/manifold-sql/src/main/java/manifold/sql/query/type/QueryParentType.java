@@ -147,6 +147,7 @@ class QueryParentType extends SqlParentType
   {
     addFetchMethods( srcClass, rowType, "fetch", "Iterable<$rowType>" );
     addFetchMethods( srcClass, rowType, "fetchOne", rowType );
+    addFetchMethods( srcClass, rowType, "stream", "ResultStream<$rowType>" );
   }
   private void addFetchMethods( SrcLinkedClass srcClass, @SuppressWarnings( "unused" ) String rowType,
                                 String methodName, @SuppressWarnings( "unused" ) String returnType )
@@ -502,6 +503,7 @@ class QueryParentType extends SqlParentType
     srcClass.addImport( Query.class );
     srcClass.addImport( ResultRow.class );
     srcClass.addImport( Runner.class );
+    srcClass.addImport( ResultStream.class );
     srcClass.addImport( Bindings.class );
     srcClass.addImport( TxScope.class );
     srcClass.addImport( Dependencies.class );
@@ -16,6 +16,7 @@
 
 package manifold.templates.manifold;
 
+import java.util.Collection;
 import javax.tools.DiagnosticListener;
 import javax.tools.JavaFileManager;
 import javax.tools.JavaFileObject;
@@ -69,6 +70,16 @@ public class TemplateManifold extends JavaTypeManifold<TemplateModel>
     return file.getExtension().equals( "mtl" );
   }
 
+  /**
+   * A template's source is generated from its file alone, other templates it includes, nests, extends, or uses as a
+   * layout are referenced by name.
+   */
+  @Override
+  protected Collection<IFile> getCacheDependencies( String topLevelFqn )
+  {
+    return getFilesForType( topLevelFqn );
+  }
+
   @Override
   protected String contribute( JavaFileManager.Location location, String topLevelFqn, boolean genStubs, String existing, TemplateModel model, DiagnosticListener<JavaFileObject> errorHandler )
   {
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2023 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.api.fs;
+
+import junit.framework.TestCase;
+import manifold.api.fs.jar.JarFileDirectoryImpl;
+import manifold.internal.host.RuntimeManifoldHost;
+import manifold.internal.runtime.Bootstrap;
+import manifold.rt.api.util.StreamUtil;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Files;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+public class FileContentTest extends TestCase
+{
+  private File _dir;
+  private IFileSystem _fs;
+
+  @Override
+  protected void setUp() throws Exception
+  {
+    Bootstrap.init();
+    _fs = RuntimeManifoldHost.get().getFileSystem();
+    _dir = Files.createTempDirectory( "filecontent" ).toFile();
+  }
+
+  @Override
+  protected void tearDown()
+  {
+    File[] files = _dir.listFiles();
+    if( files != null )
+    {
+      for( File file : files )
+      {
+        //noinspection ResultOfMethodCallIgnored
+        file.delete();
+      }
+    }
+    //noinspection ResultOfMethodCallIgnored
+    _dir.delete();
+  }
+
+  public void testSmallFileIsReadIntoHeapBuffer() throws IOException
+  {
+    String content = content( 100 );
+    IFile file = write( "small.txt", content );
+
+    ByteBuffer buffer = file.getByteContent();
+    assertFalse( buffer.isDirect() );
+    assertTrue( buffer.isReadOnly() );
+    assertEquals( content, file.getCharContent().toString() );
+  }
+
+  public void testLargeFileIsMapped() throws IOException
+  {
+    // 64KB is the threshold
+    String content = content( 64 * 1024 );
+    IFile file = write( "large.txt", content );
+
+    ByteBuffer buffer = file.getByteContent();
+    if( File.separatorChar == '/' )
+    {
+      assertTrue( buffer instanceof MappedByteBuffer );
+    }
+    assertTrue( buffer.isReadOnly() );
+    assertEquals( content, file.getCharContent().toString() );
+  }
+
+  public void testEmptyFile() throws IOException
+  {
+    IFile file = write( "empty.txt", "" );
+    assertEquals( 0, file.getByteContent().remaining() );
+    assertEquals( "", file.getCharContent().toString() );
+  }
+
+  public void testJarEntryIsInflatedOnce() throws IOException
+  {
+    String content = content( 10_000 );
+    File jar = new File( _dir, "lib.jar" );
+    try( JarOutputStream out = new JarOutputStream( new FileOutputStream( jar ) ) )
+    {
+      out.putNextEntry( new ZipEntry( "a.txt" ) );
+      out.write( content.getBytes( UTF_8 ) );
+      out.closeEntry();
+    }
+
+    IFile entry = new JarFileDirectoryImpl( _fs, jar ).getOrCreateFile( "a.txt" );
+    assertEquals( content, new String( StreamUtil.getContent( entry.openInputStream() ), UTF_8 ) );
+
+    assertEquals( content, entry.getCharContent().toString() );
+    // read again, from the cached bytes
+    assertEquals( content, entry.getCharContent().toString() );
+    InputStream in = entry.openInputStream();
+    assertTrue( in instanceof ByteArrayInputStream );
+    assertEquals( content, new String( StreamUtil.getContent( in ), UTF_8 ) );
+  }
+
+  private IFile write( String name, String content ) throws IOException
+  {
+    File file = new File( _dir, name );
+    Files.write( file.toPath(), content.getBytes( UTF_8 ) );
+    return _fs.getIFile( file );
+  }
+
+  private static String content( int length )
+  {
+    StringBuilder sb = new StringBuilder( length );
+    for( int i = 0; i < length; i++ )
+    {
+      sb.append( (char)('a' + i % 26) );
+    }
+    return sb.toString();
+  }
+}
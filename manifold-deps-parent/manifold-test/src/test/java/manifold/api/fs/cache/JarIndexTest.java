@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2023 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.api.fs.cache;
+
+import junit.framework.TestCase;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+
+public class JarIndexTest extends TestCase
+{
+  private File _dir;
+  private File _jar;
+  private File _indexFile;
+
+  @Override
+  protected void setUp() throws Exception
+  {
+    _dir = Files.createTempDirectory( "jarindex" ).toFile();
+    _jar = new File( _dir, "lib.jar" );
+    writeJar( "a.txt" );
+    _indexFile = new File( _dir, "index/path.idx" );
+  }
+
+  @Override
+  protected void tearDown()
+  {
+    for( File file : new File[] {_jar, _indexFile, _indexFile.getParentFile(), _dir} )
+    {
+      //noinspection ResultOfMethodCallIgnored
+      file.delete();
+    }
+  }
+
+  public void testHitAfterSave()
+  {
+    JarIndex index = new JarIndex( _indexFile );
+    assertNull( index.hasSourceFiles( _jar ) );
+    index.put( _jar, false );
+    assertEquals( Boolean.FALSE, index.hasSourceFiles( _jar ) );
+    index.save();
+
+    JarIndex reloaded = new JarIndex( _indexFile );
+    assertEquals( Boolean.FALSE, reloaded.hasSourceFiles( _jar ) );
+    assertNull( reloaded.hasSourceFiles( new File( _dir, "other.jar" ) ) );
+  }
+
+  public void testInvalidatedBySizeChange() throws IOException
+  {
+    long timestamp = _jar.lastModified();
+    JarIndex index = new JarIndex( _indexFile );
+    index.put( _jar, true );
+    index.save();
+
+    writeJar( "a.txt", "b.txt" );
+    assertTrue( _jar.setLastModified( timestamp ) );
+    assertNull( new JarIndex( _indexFile ).hasSourceFiles( _jar ) );
+  }
+
+  public void testInvalidatedByTimestampChange()
+  {
+    JarIndex index = new JarIndex( _indexFile );
+    index.put( _jar, true );
+    index.save();
+
+    assertTrue( _jar.setLastModified( _jar.lastModified() - 10_000 ) );
+    assertNull( new JarIndex( _indexFile ).hasSourceFiles( _jar ) );
+  }
+
+  public void testCorruptIndexIsEmpty() throws IOException
+  {
+    //noinspection ResultOfMethodCallIgnored
+    _indexFile.getParentFile().mkdirs();
+    Files.write( _indexFile.toPath(), new byte[] {0, 0, 0, 1, 0, 0, 0, 5, 1} );
+    assertNull( new JarIndex( _indexFile ).hasSourceFiles( _jar ) );
+  }
+
+  private void writeJar( String... entries ) throws IOException
+  {
+    try( JarOutputStream out = new JarOutputStream( new FileOutputStream( _jar ) ) )
+    {
+      for( String entry : entries )
+      {
+        out.putNextEntry( new ZipEntry( entry ) );
+        out.write( entry.getBytes() );
+        out.closeEntry();
+      }
+    }
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2023 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.api.fs.cache;
+
+import junit.framework.TestCase;
+import manifold.api.fs.IDirectory;
+import manifold.api.fs.IFile;
+import manifold.api.fs.IFileSystem;
+import manifold.api.host.IModule;
+import manifold.internal.host.RuntimeManifoldHost;
+import manifold.internal.runtime.Bootstrap;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+public class PathCacheTest extends TestCase
+{
+  private static final int ROOTS = 16;
+
+  private File _dir;
+  private List<IDirectory> _roots;
+  private IModule _module;
+
+  @Override
+  protected void setUp() throws Exception
+  {
+    Bootstrap.init();
+    _module = RuntimeManifoldHost.get().getSingleModule();
+    IFileSystem fs = _module.getHost().getFileSystem();
+
+    _dir = Files.createTempDirectory( "pathcache" ).toFile();
+    _roots = new ArrayList<>();
+    for( int i = 0; i < ROOTS; i++ )
+    {
+      File root = new File( _dir, "root" + i );
+      // every root has abc/Shared.txt, each root also has a file of its own
+      write( new File( root, "abc/Shared.txt" ), "root" + i );
+      write( new File( root, "abc/Only" + i + ".txt" ), "root" + i );
+      _roots.add( fs.getIDirectory( root ) );
+    }
+  }
+
+  @Override
+  protected void tearDown() throws IOException
+  {
+    try( Stream<java.nio.file.Path> paths = Files.walk( _dir.toPath() ) )
+    {
+      paths.sorted( Comparator.reverseOrder() ).map( java.nio.file.Path::toFile ).forEach( File::delete );
+    }
+  }
+
+  public void testFirstFileWins()
+  {
+    for( int i = 0; i < 10; i++ )
+    {
+      assertPathOrder( new PathCache( _module, () -> _roots, () -> {} ) );
+    }
+  }
+
+  public void testSequentialScanWhileHoldingLock()
+  {
+    ReentrantLock lock = (ReentrantLock)_module.getHost().getFileSystem().getLock();
+    lock.lock();
+    try
+    {
+      assertPathOrder( new PathCache( _module, () -> _roots, () -> {} ) );
+    }
+    finally
+    {
+      lock.unlock();
+    }
+  }
+
+  private void assertPathOrder( PathCache pathCache )
+  {
+    IFile shared = pathCache.getExtensionCache( "txt" ).get( "abc.Shared" );
+    assertEquals( _roots.get( 0 ).file( "abc/Shared.txt" ), shared );
+    assertEquals( 1, pathCache.findFiles( "abc.Shared" ).size() );
+    assertTrue( pathCache.findFiles( "abc.Shared" ).contains( shared ) );
+    for( int i = 0; i < ROOTS; i++ )
+    {
+      IFile file = _roots.get( i ).file( "abc/Only" + i + ".txt" );
+      assertEquals( file, pathCache.getExtensionCache( "txt" ).get( "abc.Only" + i ) );
+      assertTrue( pathCache.getFqnForFile( file ).contains( "abc.Only" + i ) );
+    }
+  }
+
+  private static void write( File file, String content ) throws IOException
+  {
+    //noinspection ResultOfMethodCallIgnored
+    file.getParentFile().mkdirs();
+    Files.write( file.toPath(), content.getBytes() );
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2023 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.api.type;
+
+import junit.framework.TestCase;
+import manifold.api.fs.IFile;
+import manifold.internal.host.RuntimeManifoldHost;
+import manifold.internal.runtime.Bootstrap;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class GeneratedSourceCacheTest extends TestCase
+{
+  private static final String FQN = "abc.Foo";
+  private static final String OPTIONS = "1.8 -Xplugin:Manifold source-cache";
+
+  private File _dir;
+  private File _cacheDir;
+  private File _resource;
+  private ITypeManifold _tm;
+
+  @Override
+  protected void setUp() throws Exception
+  {
+    Bootstrap.init();
+    _dir = Files.createTempDirectory( "sourcecache" ).toFile();
+    _cacheDir = new File( _dir, "manifold-cache" );
+    _resource = new File( _dir, "abc/Foo.txt" );
+    //noinspection ResultOfMethodCallIgnored
+    _resource.getParentFile().mkdirs();
+    Files.write( _resource.toPath(), "foo".getBytes() );
+    // only the type manifold's class is part of the key
+    _tm = (ITypeManifold)Proxy.newProxyInstance( getClass().getClassLoader(), new Class<?>[] {ITypeManifold.class},
+      ( proxy, method, args ) -> null );
+  }
+
+  @Override
+  protected void tearDown() throws IOException
+  {
+    try( Stream<java.nio.file.Path> paths = Files.walk( _dir.toPath() ) )
+    {
+      paths.sorted( Comparator.reverseOrder() ).map( java.nio.file.Path::toFile ).forEach( File::delete );
+    }
+  }
+
+  public void testMiss()
+  {
+    GeneratedSourceCache cache = new GeneratedSourceCache( null, _cacheDir, OPTIONS );
+    String key = cache.makeKey( _tm, null, FQN, false, dependencies() );
+    assertNotNull( key );
+    assertNull( cache.get( FQN, false, key ) );
+  }
+
+  public void testHit()
+  {
+    GeneratedSourceCache cache = new GeneratedSourceCache( null, _cacheDir, OPTIONS );
+    cache.put( FQN, false, cache.makeKey( _tm, null, FQN, false, dependencies() ), "class Foo {}" );
+
+    // a subsequent build
+    cache = new GeneratedSourceCache( null, _cacheDir, OPTIONS );
+    String key = cache.makeKey( _tm, null, FQN, false, dependencies() );
+    assertEquals( "class Foo {}", cache.get( FQN, false, key ) );
+    // stubs are cached separately
+    assertNull( cache.get( FQN, true, cache.makeKey( _tm, null, FQN, true, dependencies() ) ) );
+  }
+
+  public void testInvalidatedByDependencyChange() throws IOException
+  {
+    GeneratedSourceCache cache = new GeneratedSourceCache( null, _cacheDir, OPTIONS );
+    cache.put( FQN, false, cache.makeKey( _tm, null, FQN, false, dependencies() ), "class Foo {}" );
+
+    Files.write( _resource.toPath(), "bar".getBytes() );
+    cache = new GeneratedSourceCache( null, _cacheDir, OPTIONS );
+    assertNull( cache.get( FQN, false, cache.makeKey( _tm, null, FQN, false, dependencies() ) ) );
+  }
+
+  public void testInvalidatedByCompilerOptionChange()
+  {
+    GeneratedSourceCache cache = new GeneratedSourceCache( null, _cacheDir, OPTIONS );
+    cache.put( FQN, false, cache.makeKey( _tm, null, FQN, false, dependencies() ), "class Foo {}" );
+
+    cache = new GeneratedSourceCache( null, _cacheDir, OPTIONS + " -Akey=value" );
+    assertNull( cache.get( FQN, false, cache.makeKey( _tm, null, FQN, false, dependencies() ) ) );
+  }
+
+  public void testCacheDirIsOutsideOutputDir()
+  {
+    File build = new File( _dir, "build" );
+    assertEquals( new File( build, "manifold-cache/classes/java/main" ),
+      GeneratedSourceCache.cacheDir( new File( build, "classes/java/main" ) ) );
+    File target = new File( _dir, "target" );
+    assertEquals( new File( target, "manifold-cache/classes" ),
+      GeneratedSourceCache.cacheDir( new File( target, "classes" ) ) );
+    assertEquals( new File( target, "manifold-cache/test-classes" ),
+      GeneratedSourceCache.cacheDir( new File( target, "test-classes" ) ) );
+  }
+
+  private List<IFile> dependencies()
+  {
+    return Collections.singletonList(
+      RuntimeManifoldHost.get().getFileSystem().getIFile( _resource ) );
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2023 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.api.util;
+
+import junit.framework.TestCase;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+public class PerfReportTest extends TestCase
+{
+  private File _file;
+
+  @Override
+  protected void setUp() throws IOException
+  {
+    _file = File.createTempFile( "perf", ".json" );
+  }
+
+  @Override
+  protected void tearDown()
+  {
+    PerfReport.start( null );
+    //noinspection ResultOfMethodCallIgnored
+    _file.delete();
+  }
+
+  public void testNotRecording() throws IOException
+  {
+    PerfReport.start( null );
+    assertFalse( PerfReport.isRecording() );
+    assertEquals( 0, PerfReport.startTimer() );
+    PerfReport.record( PerfReport.PHASE_MODEL, String.class, "abc.Foo", 1 );
+    PerfReport.lookup( "pathCache", true );
+    PerfReport.write();
+    assertEquals( 0, Files.size( _file.toPath() ) );
+  }
+
+  public void testToJson() throws IOException
+  {
+    PerfReport.start( _file );
+    assertTrue( PerfReport.isRecording() );
+
+    long twoMillisAgo = System.nanoTime() - 2_000_000;
+    PerfReport.record( PerfReport.PHASE_MODEL, String.class, "abc.Foo", twoMillisAgo );
+    PerfReport.record( PerfReport.PHASE_CODEGEN, String.class, "abc.Foo", twoMillisAgo );
+    PerfReport.record( PerfReport.PHASE_MODEL, Integer.class, "abc.\"Bar\"", twoMillisAgo );
+    PerfReport.lookup( "pathCache", true );
+    PerfReport.lookup( "pathCache", true );
+    PerfReport.lookup( "pathCache", true );
+    PerfReport.lookup( "pathCache", false );
+    PerfReport.lookup( "sourceCache", false );
+    PerfReport.write();
+
+    String json = new String( Files.readAllBytes( _file.toPath() ), UTF_8 );
+    assertBalanced( json );
+    assertTrue( json.startsWith( "{\n  \"elapsedMillis\": " ) );
+    // the model phase totals both type manifolds
+    assertEquals( 1, count( json, "\"model\": \\{\"count\": 2, \"millis\": ([0-9.]+), \"maxMillis\": ([0-9.]+)\\}" ) );
+    assertEquals( 1, count( json, "\"java.lang.String\": \\{\n      \"codegen\": \\{\"count\": 1" ) );
+    assertEquals( 1, count( json, "\"abc.Foo\": \\{\"typeManifold\": \"java.lang.String\", \"codegenMillis\": [0-9.]+, \"modelMillis\": [0-9.]+\\}" ) );
+    assertEquals( 1, count( json, "\"abc.\\\\\"Bar\\\\\"\": \\{\"typeManifold\": \"java.lang.Integer\"" ) );
+    assertEquals( 1, count( json, "\"pathCache\": \\{\"hits\": 3, \"misses\": 1, \"hitRate\": 0.750\\}" ) );
+    assertEquals( 1, count( json, "\"sourceCache\": \\{\"hits\": 0, \"misses\": 1, \"hitRate\": 0.000\\}" ) );
+
+    Matcher modelMillis = Pattern.compile( "\"model\": \\{\"count\": 1, \"millis\": ([0-9.]+)" ).matcher( json );
+    assertTrue( modelMillis.find() );
+    assertTrue( Double.parseDouble( modelMillis.group( 1 ) ) >= 2.0 );
+  }
+
+  public void testEmpty() throws IOException
+  {
+    PerfReport.start( _file );
+    PerfReport.write();
+    String json = new String( Files.readAllBytes( _file.toPath() ), UTF_8 );
+    assertBalanced( json );
+    assertTrue( json.contains( "\"phases\": {},\n" ) );
+    assertTrue( json.contains( "\"caches\": {\n  }\n" ) );
+  }
+
+  private static int count( String json, String regex )
+  {
+    Matcher matcher = Pattern.compile( regex ).matcher( json );
+    int count = 0;
+    while( matcher.find() )
+    {
+      count++;
+    }
+    return count;
+  }
+
+  /**
+   * Checks braces and quotes are balanced, a cheap validity check without a JSON parser on the class path.
+   */
+  private static void assertBalanced( String json )
+  {
+    int depth = 0;
+    boolean inString = false;
+    for( int i = 0; i < json.length(); i++ )
+    {
+      char c = json.charAt( i );
+      if( inString )
+      {
+        if( c == '\\' )
+        {
+          i++;
+        }
+        inString = c != '"';
+      }
+      else if( c == '"' )
+      {
+        inString = true;
+      }
+      else if( c == '{' )
+      {
+        depth++;
+      }
+      else if( c == '}' )
+      {
+        assertTrue( --depth >= 0 );
+      }
+    }
+    assertFalse( inString );
+    assertEquals( 0, depth );
+  }
+}
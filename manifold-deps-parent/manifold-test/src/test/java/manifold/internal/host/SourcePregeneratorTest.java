@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2023 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.internal.host;
+
+import junit.framework.TestCase;
+import manifold.api.type.ContributorKind;
+import manifold.api.type.ITypeManifold;
+import manifold.internal.runtime.Bootstrap;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticListener;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static javax.tools.StandardLocation.CLASS_PATH;
+import static javax.tools.StandardLocation.SOURCE_PATH;
+
+public class SourcePregeneratorTest extends TestCase
+{
+  private Set<ITypeManifold> _typeManifolds;
+  private TestModule _module;
+
+  @Override
+  protected void setUp()
+  {
+    Bootstrap.init();
+    _typeManifolds = new LinkedHashSet<>();
+    _module = new TestModule();
+  }
+
+  public void testTakeOnce()
+  {
+    AtomicInteger calls = new AtomicInteger();
+    addTypeManifold( true, "abc.Foo", fqn -> {
+      calls.incrementAndGet();
+      return "class Foo {}";
+    } );
+    SourcePregenerator pregenerator = new SourcePregenerator( _module );
+    pregenerator.pregenerate( SOURCE_PATH, Collections.singleton( "abc.Foo" ) );
+    assertEquals( "class Foo {}", pregenerator.take( "abc.Foo", SOURCE_PATH, null ) );
+
+    // taken, the source is dropped and is not generated again
+    assertNull( pregenerator.take( "abc.Foo", SOURCE_PATH, null ) );
+    pregenerator.pregenerate( SOURCE_PATH, Collections.singleton( "abc.Foo" ) );
+    assertNull( pregenerator.take( "abc.Foo", SOURCE_PATH, null ) );
+    assertEquals( 1, calls.get() );
+  }
+
+  public void testDiagnosticsReplayedOnTake()
+  {
+    addTypeManifold( true, "abc.Foo", fqn -> "class Foo {}" );
+    SourcePregenerator pregenerator = new SourcePregenerator( _module );
+    pregenerator.pregenerate( SOURCE_PATH, Collections.singleton( "abc.Foo" ) );
+    List<Diagnostic<? extends JavaFileObject>> reported = new ArrayList<>();
+    pregenerator.take( "abc.Foo", SOURCE_PATH, reported::add );
+    assertEquals( 1, reported.size() );
+    assertEquals( "abc.Foo", reported.get( 0 ).getMessage( null ) );
+  }
+
+  public void testTakeWaitsForGeneration() throws InterruptedException
+  {
+    CountDownLatch started = new CountDownLatch( 1 );
+    CountDownLatch proceed = new CountDownLatch( 1 );
+    addTypeManifold( true, "abc.Foo", fqn -> {
+      started.countDown();
+      await( proceed );
+      return "class Foo {}";
+    } );
+    SourcePregenerator pregenerator = new SourcePregenerator( _module );
+    pregenerator.pregenerate( SOURCE_PATH, Collections.singleton( "abc.Foo" ) );
+    assertTrue( started.await( 10, TimeUnit.SECONDS ) );
+
+    AtomicReference<String> taken = new AtomicReference<>();
+    Thread javac = new Thread( () -> taken.set( pregenerator.take( "abc.Foo", SOURCE_PATH, null ) ) );
+    javac.start();
+    proceed.countDown();
+    javac.join( 10_000 );
+    assertEquals( "class Foo {}", taken.get() );
+  }
+
+  public void testServedOnlyForSameLocation()
+  {
+    AtomicReference<JavaFileManager.Location> location = new AtomicReference<>();
+    addTypeManifold( true, "abc.Foo", fqn -> "class Foo {}", location::set );
+    SourcePregenerator pregenerator = new SourcePregenerator( _module );
+    pregenerator.pregenerate( CLASS_PATH, Collections.singleton( "abc.Foo" ) );
+    assertNull( pregenerator.take( "abc.Foo", SOURCE_PATH, null ) );
+    assertNull( pregenerator.take( "abc.Foo", null, null ) );
+    assertEquals( "class Foo {}", pregenerator.take( "abc.Foo", CLASS_PATH, null ) );
+    assertEquals( CLASS_PATH, location.get() );
+  }
+
+  public void testNotParallelSafeTypeIsNotPregenerated()
+  {
+    AtomicInteger calls = new AtomicInteger();
+    addTypeManifold( false, "abc.Foo", fqn -> {
+      calls.incrementAndGet();
+      return "class Foo {}";
+    } );
+    SourcePregenerator pregenerator = new SourcePregenerator( _module );
+    pregenerator.pregenerate( SOURCE_PATH, Collections.singleton( "abc.Foo" ) );
+    assertNull( pregenerator.take( "abc.Foo", SOURCE_PATH, null ) );
+    assertEquals( 0, calls.get() );
+  }
+
+  public void testNotParallelSafeDependencyFallsBackToSerial()
+  {
+    // generating Foo involves Bar, whose type manifold is not parallel safe
+    addTypeManifold( false, "abc.Bar", fqn -> "class Bar {}" );
+    addTypeManifold( true, "abc.Foo", fqn -> {
+      _module.findTypeManifoldsFor( "abc.Bar" );
+      return "class Foo {}";
+    } );
+    SourcePregenerator pregenerator = new SourcePregenerator( _module );
+    pregenerator.pregenerate( SOURCE_PATH, Collections.singleton( "abc.Foo" ) );
+    assertNull( pregenerator.take( "abc.Foo", SOURCE_PATH, null ) );
+
+    // the generating flag belongs to the generating thread, javac's thread generates the source serially
+    Set<ITypeManifold> tms = _module.findTypeManifoldsFor( "abc.Foo" );
+    assertEquals( "class Foo {}", _module.compoundProduce( SOURCE_PATH, tms, "abc.Foo", null ) );
+    // and the flag does not outlive the generation on the pool's threads
+    ForkJoinPool.commonPool().submit( () -> _module.findTypeManifoldsFor( "abc.Bar" ) ).join();
+  }
+
+  public void testClearDropsSources()
+  {
+    addTypeManifold( true, "abc.Foo", fqn -> "class Foo {}" );
+    SourcePregenerator pregenerator = new SourcePregenerator( _module );
+    pregenerator.pregenerate( SOURCE_PATH, Collections.singleton( "abc.Foo" ) );
+    pregenerator.clear();
+    assertNull( pregenerator.take( "abc.Foo", SOURCE_PATH, null ) );
+  }
+
+  private void addTypeManifold( boolean parallelSafe, String type, Function<String, String> contribute )
+  {
+    addTypeManifold( parallelSafe, type, contribute, location -> {} );
+  }
+
+  private void addTypeManifold( boolean parallelSafe, String type, Function<String, String> contribute,
+                                Consumer<JavaFileManager.Location> locations )
+  {
+    _typeManifolds.add( (ITypeManifold)Proxy.newProxyInstance( getClass().getClassLoader(),
+      new Class<?>[] {ITypeManifold.class}, ( proxy, method, args ) -> {
+        switch( method.getName() )
+        {
+          case "isParallelSafe":
+            return parallelSafe;
+          case "isType":
+            return type.equals( args[0] );
+          case "getContributorKind":
+            return ContributorKind.Primary;
+          case "contribute":
+            locations.accept( (JavaFileManager.Location)args[0] );
+            String fqn = (String)args[1];
+            String source = contribute.apply( fqn );
+            //noinspection unchecked
+            DiagnosticListener<JavaFileObject> errorHandler = (DiagnosticListener<JavaFileObject>)args[4];
+            if( errorHandler != null )
+            {
+              errorHandler.report( new TestDiagnostic( fqn ) );
+            }
+            return source;
+          case "hashCode":
+            return System.identityHashCode( proxy );
+          case "equals":
+            return proxy == args[0];
+          case "toString":
+            return type;
+        }
+        throw new UnsupportedOperationException( method.getName() );
+      } ) );
+  }
+
+  private static void await( CountDownLatch latch )
+  {
+    try
+    {
+      assertTrue( latch.await( 10, TimeUnit.SECONDS ) );
+    }
+    catch( InterruptedException e )
+    {
+      throw new RuntimeException( e );
+    }
+  }
+
+  private class TestModule extends SimpleModule
+  {
+    TestModule()
+    {
+      super( RuntimeManifoldHost.get(), Collections.emptyList(), Collections.emptyList(), Collections.emptyList() );
+    }
+
+    @Override
+    public String getName()
+    {
+      return "test";
+    }
+
+    @Override
+    public Set<ITypeManifold> getTypeManifolds()
+    {
+      return _typeManifolds;
+    }
+  }
+
+  private static class TestDiagnostic implements Diagnostic<JavaFileObject>
+  {
+    private final String _message;
+
+    TestDiagnostic( String message )
+    {
+      _message = message;
+    }
+
+    @Override
+    public Kind getKind()
+    {
+      return Kind.WARNING;
+    }
+
+    @Override
+    public JavaFileObject getSource()
+    {
+      return null;
+    }
+
+    @Override
+    public long getPosition()
+    {
+      return NOPOS;
+    }
+
+    @Override
+    public long getStartPosition()
+    {
+      return NOPOS;
+    }
+
+    @Override
+    public long getEndPosition()
+    {
+      return NOPOS;
+    }
+
+    @Override
+    public long getLineNumber()
+    {
+      return NOPOS;
+    }
+
+    @Override
+    public long getColumnNumber()
+    {
+      return NOPOS;
+    }
+
+    @Override
+    public String getCode()
+    {
+      return null;
+    }
+
+    @Override
+    public String getMessage( Locale locale )
+    {
+      return _message;
+    }
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2023 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.internal.javac;
+
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.util.JavacTask;
+import junit.framework.TestCase;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URI;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+public class ReferencedTypeNamesTest extends TestCase
+{
+  public void testCollect() throws IOException
+  {
+    Set<String> names = collect(
+      "package abc;\n" +
+      "import xyz.Imported;\n" +
+      "import def.*;\n" +
+      "public class Main {\n" +
+      "  SamePackage a;\n" +
+      "  Imported.Inner b;\n" +
+      "  OnDemand c;\n" +
+      "  ghi.Qualified d = foo().bar;\n" +
+      "}\n" );
+    assertTrue( names.contains( "abc.SamePackage" ) );
+    assertTrue( names.contains( "xyz.Imported" ) );
+    assertTrue( names.contains( "xyz.Imported.Inner" ) );
+    assertTrue( names.contains( "def.OnDemand" ) );
+    assertTrue( names.contains( "ghi.Qualified" ) );
+    assertFalse( names.contains( "abc.Unreferenced" ) );
+    assertFalse( names.contains( "foo().bar" ) );
+  }
+
+  private static Set<String> collect( String source ) throws IOException
+  {
+    JavaFileObject file = new SimpleJavaFileObject( URI.create( "string:///abc/Main.java" ), JavaFileObject.Kind.SOURCE )
+    {
+      @Override
+      public CharSequence getCharContent( boolean ignoreEncodingErrors )
+      {
+        return source;
+      }
+    };
+    JavaCompiler javac = ToolProvider.getSystemJavaCompiler();
+    JavacTask task = (JavacTask)javac.getTask( null, null, null, null, null, Collections.singletonList( file ) );
+    Set<String> names = new HashSet<>();
+    for( CompilationUnitTree compilationUnit : task.parse() )
+    {
+      ReferencedTypeNames.collect( compilationUnit, names );
+    }
+    return names;
+  }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2023 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.internal.runtime;
+
+import junit.framework.TestCase;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+public class ClassCacheTest extends TestCase
+{
+  private static final String FQN = "abc.Foo";
+
+  private File _dir;
+  private AtomicInteger _compiles;
+
+  @Override
+  protected void setUp() throws Exception
+  {
+    Bootstrap.init();
+    _dir = Files.createTempDirectory( "classcache" ).toFile();
+    _compiles = new AtomicInteger();
+  }
+
+  @Override
+  protected void tearDown() throws IOException
+  {
+    try( Stream<java.nio.file.Path> paths = Files.walk( _dir.toPath() ) )
+    {
+      paths.sorted( Comparator.reverseOrder() ).map( java.nio.file.Path::toFile ).forEach( File::delete );
+    }
+  }
+
+  public void testHit()
+  {
+    byte[] bytes = new ClassCache( _dir ).getOrCompile( FQN, "class Foo {}", compiler( 1 ) );
+    assertEquals( 1, _compiles.get() );
+
+    // a subsequent run
+    byte[] cached = new ClassCache( _dir ).getOrCompile( FQN, "class Foo {}", compiler( 2 ) );
+    assertEquals( 1, _compiles.get() );
+    assertTrue( Arrays.equals( bytes, cached ) );
+  }
+
+  public void testRecompileWhenSourceChanges()
+  {
+    new ClassCache( _dir ).getOrCompile( FQN, "class Foo {}", compiler( 1 ) );
+
+    ClassCache cache = new ClassCache( _dir );
+    byte[] bytes = cache.getOrCompile( FQN, "class Foo { int x; }", compiler( 2 ) );
+    assertEquals( 2, _compiles.get() );
+    assertEquals( 2, bytes[0] );
+    // the recompiled class replaces the stale one
+    assertEquals( 2, cache.getOrCompile( FQN, "class Foo { int x; }", compiler( 3 ) )[0] );
+    assertEquals( 2, _compiles.get() );
+  }
+
+  public void testKeyIncludesName()
+  {
+    ClassCache cache = new ClassCache( _dir );
+    assertEquals( cache.makeKey( FQN, "class Foo {}" ), cache.makeKey( FQN, "class Foo {}" ) );
+    assertFalse( cache.makeKey( FQN, "class Foo {}" ).equals( cache.makeKey( "abc.Bar", "class Foo {}" ) ) );
+  }
+
+  public void testKeyIncludesClassPathEntries() throws IOException
+  {
+    File jar = new File( _dir, "app.jar" );
+    Files.write( jar.toPath(), new byte[] {1} );
+    String classPath = System.getProperty( "java.class.path" );
+    System.setProperty( "java.class.path", jar.getPath() );
+    try
+    {
+      String key = new ClassCache( _dir ).makeKey( FQN, "class Foo {}" );
+      assertEquals( key, new ClassCache( _dir ).makeKey( FQN, "class Foo {}" ) );
+
+      // the jar is rebuilt at the same path
+      Files.write( jar.toPath(), new byte[] {1, 2} );
+      assertFalse( key.equals( new ClassCache( _dir ).makeKey( FQN, "class Foo {}" ) ) );
+    }
+    finally
+    {
+      System.setProperty( "java.class.path", classPath );
+    }
+  }
+
+  public void testConcurrentLoadsCompileOnce() throws Exception
+  {
+    ClassCache cache = new ClassCache( _dir );
+    ExecutorService executor = Executors.newFixedThreadPool( 8 );
+    try
+    {
+      List<Future<byte[]>> results = new ArrayList<>();
+      for( int i = 0; i < 8; i++ )
+      {
+        results.add( executor.submit( () -> cache.getOrCompile( FQN, "class Foo {}", slowCompiler() ) ) );
+      }
+      for( Future<byte[]> result : results )
+      {
+        assertEquals( 1, result.get()[0] );
+      }
+      assertEquals( 1, _compiles.get() );
+    }
+    finally
+    {
+      executor.shutdown();
+    }
+  }
+
+  public void testCorruptFileIsMiss() throws IOException
+  {
+    ClassCache cache = new ClassCache( _dir );
+    cache.getOrCompile( FQN, "class Foo {}", compiler( 1 ) );
+    Files.write( new File( _dir, FQN + ".class" ).toPath(), new byte[] {0, 1} );
+
+    assertNull( cache.get( FQN, cache.makeKey( FQN, "class Foo {}" ) ) );
+    assertEquals( 2, cache.getOrCompile( FQN, "class Foo {}", compiler( 2 ) )[0] );
+  }
+
+  private Supplier<byte[]> slowCompiler()
+  {
+    return () -> {
+      try
+      {
+        Thread.sleep( 100 );
+      }
+      catch( InterruptedException e )
+      {
+        throw new RuntimeException( e );
+      }
+      return compiler( 1 ).get();
+    };
+  }
+
+  private Supplier<byte[]> compiler( int version )
+  {
+    return () -> {
+      _compiles.incrementAndGet();
+      return new byte[] {(byte)version, 0x7f};
+    };
+  }
+}
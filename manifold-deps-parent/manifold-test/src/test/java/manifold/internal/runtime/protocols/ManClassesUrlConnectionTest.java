@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2023 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.internal.runtime.protocols;
+
+import junit.framework.TestCase;
+import manifold.internal.host.RuntimeManifoldHost;
+import manifold.internal.runtime.Bootstrap;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+public class ManClassesUrlConnectionTest extends TestCase
+{
+  private static final String SAMPLE = "manifold.internal.runtime.protocols.warmup.WarmUpSample";
+
+  @Override
+  protected void setUp()
+  {
+    Bootstrap.init();
+  }
+
+  public void testWarmUpCompilesAhead() throws Exception
+  {
+    assertNull( ManClassesUrlConnection.takePrecompiled( SAMPLE ) );
+
+    // compiles on another thread, the classes are handed to the thread loading them
+    RuntimeManifoldHost.warmUp( Collections.singletonList( SAMPLE ) ).get( 60, TimeUnit.SECONDS );
+    assertClassFile( ManClassesUrlConnection.takePrecompiled( SAMPLE ) );
+    assertClassFile( ManClassesUrlConnection.takePrecompiled( SAMPLE + ".Inner" ) );
+
+    // taken
+    assertNull( ManClassesUrlConnection.takePrecompiled( SAMPLE ) );
+  }
+
+  public void testWarmUpSkipsUnknownTypes() throws Exception
+  {
+    RuntimeManifoldHost.warmUp( Arrays.asList( "abc.DoesNotExist", SAMPLE ) ).get( 60, TimeUnit.SECONDS );
+    assertNull( ManClassesUrlConnection.takePrecompiled( "abc.DoesNotExist" ) );
+    assertClassFile( ManClassesUrlConnection.takePrecompiled( SAMPLE ) );
+  }
+
+  private static void assertClassFile( byte[] bytes )
+  {
+    assertNotNull( bytes );
+    assertEquals( 0xCAFEBABE,
+      (bytes[0] & 0xff) << 24 | (bytes[1] & 0xff) << 16 | (bytes[2] & 0xff) << 8 | (bytes[3] & 0xff) );
+  }
+}
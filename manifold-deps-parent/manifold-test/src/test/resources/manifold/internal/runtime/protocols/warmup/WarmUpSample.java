@@ -0,0 +1,9 @@
+package manifold.internal.runtime.protocols.warmup;
+
+// compiled at runtime by ManClassesUrlConnectionTest, this file is a test resource, not a test source
+public class WarmUpSample
+{
+  public static class Inner
+  {
+  }
+}
@@ -170,6 +170,20 @@ public class BasicTest extends TestCase
     assertNotEquals( t1, t3 );
   }
 
+  public void testTupleAsHashKey()
+  {
+    auto t1 = (name: "Scott", age: 20, score: 1.5);
+    assertEquals( Arrays.hashCode( t1.orderedValues().toArray() ), t1.hashCode() );
+    assertEquals( Arrays.asList( 20, "Scott", 1.5 ), t1.orderedValues() );
+    assertEquals( "(age: 20, name: Scott, score: 1.5)", t1.toString() );
+    assertFalse( t1.equals( null ) );
+
+    HashSet<Object> keys = new HashSet<>();
+    keys.add( t1 );
+    assertTrue( keys.contains( (name: "Scott", age: 20, score: 1.5) ) );
+    assertFalse( keys.contains( (name: "Scott", age: 21, score: 1.5) ) );
+  }
+
   public void testIterable()
   {
     auto x = (name: "Scott", age: 20);
@@ -191,10 +191,140 @@ public class TupleTypeManifold extends BaseService implements ITypeManifold
     srcConstructor.body( body );
     srcClass.addConstructor( srcConstructor );
 
-    //todo: generate equals, hashcode, toString instead of the reflection based stuff in the base class
+    // direct field access instead of the reflection based methods in the base class
+    addOrderedValues( srcClass, fieldsMap );
+    addHashCode( srcClass, fieldsMap );
+    addEquals( srcClass, fieldsMap );
+    addToString( srcClass, fieldsMap );
     return srcClass.render().toString();
   }
 
+  private void addOrderedValues( SrcClass srcClass, Map<String, String> fieldsMap )
+  {
+    String values = fieldsMap.keySet().stream()
+      .map( name -> "this." + name )
+      .collect( Collectors.joining( ", " ) );
+    srcClass.addMethod( new SrcMethod()
+      .modifiers( Modifier.PUBLIC )
+      .addAnnotation( new SrcAnnotationExpression( Override.class ) )
+      .name( "orderedValues" )
+      .returns( new SrcType( "List<?>" ) )
+      .body( "return java.util.Arrays.asList( new Object[] {" + values + "} );" ) );
+  }
+
+  /**
+   * Same result as {@code Arrays.hashCode( orderedValues().toArray() )}, so tuples hash consistently with other
+   * {@link manifold.tuple.rt.api.Tuple} implementations, but without boxing primitive fields.
+   */
+  private void addHashCode( SrcClass srcClass, Map<String, String> fieldsMap )
+  {
+    SrcStatementBlock body = new SrcStatementBlock()
+      .addStatement( "int $result = 1;" );
+    for( Map.Entry<String, String> entry: fieldsMap.entrySet() )
+    {
+      String box = getBoxName( entry.getValue() );
+      String hash = box == null
+        ? "java.util.Objects.hashCode( this." + entry.getKey() + " )"
+        : box + ".hashCode( this." + entry.getKey() + " )";
+      body.addStatement( "$result = 31 * $result + " + hash + ";" );
+    }
+    body.addStatement( "return $result;" );
+    srcClass.addMethod( new SrcMethod()
+      .modifiers( Modifier.PUBLIC )
+      .addAnnotation( new SrcAnnotationExpression( Override.class ) )
+      .name( "hashCode" )
+      .returns( int.class )
+      .body( body ) );
+  }
+
+  /**
+   * Compares fields directly when {@code o} is the same tuple class, otherwise defers to the base class, which compares
+   * labels and values of any kind of tuple.
+   */
+  private void addEquals( SrcClass srcClass, Map<String, String> fieldsMap )
+  {
+    String simpleName = srcClass.getSimpleName();
+    List<String> compare = new ArrayList<>();
+    for( Map.Entry<String, String> entry: fieldsMap.entrySet() )
+    {
+      String name = entry.getKey();
+      String box = getBoxName( entry.getValue() );
+      if( box == null )
+      {
+        compare.add( "java.util.Objects.equals( this." + name + ", $that." + name + " )" );
+      }
+      else if( box.endsWith( "Double" ) || box.endsWith( "Float" ) )
+      {
+        // consistent with boxed equals() wrt NaN and -0.0
+        compare.add( box + ".compare( this." + name + ", $that." + name + " ) == 0" );
+      }
+      else
+      {
+        compare.add( "this." + name + " == $that." + name );
+      }
+    }
+    SrcStatementBlock body = new SrcStatementBlock()
+      .addStatement( "if( this == $o ) return true;" )
+      .addStatement( "if( $o == null ) return false;" )
+      .addStatement( "if( $o.getClass() != getClass() ) return super.equals( $o );" )
+      .addStatement( simpleName + " $that = (" + simpleName + ")$o;" )
+      .addStatement( "return " + (compare.isEmpty() ? "true" : String.join( " && ", compare )) + ";" );
+    srcClass.addMethod( new SrcMethod()
+      .modifiers( Modifier.PUBLIC )
+      .addAnnotation( new SrcAnnotationExpression( Override.class ) )
+      .name( "equals" )
+      .addParam( "$o", Object.class )
+      .returns( boolean.class )
+      .body( body ) );
+  }
+
+  private void addToString( SrcClass srcClass, Map<String, String> fieldsMap )
+  {
+    SrcStatementBlock body = new SrcStatementBlock()
+      .addStatement( "StringBuilder $sb = new StringBuilder( \"(\" );" );
+    boolean first = true;
+    for( String name: fieldsMap.keySet() )
+    {
+      body.addStatement( "$sb.append( \"" + (first ? "" : ", ") + name + ": \" ).append( this." + name + " );" );
+      first = false;
+    }
+    body.addStatement( "return $sb.append( ')' ).toString();" );
+    srcClass.addMethod( new SrcMethod()
+      .modifiers( Modifier.PUBLIC )
+      .addAnnotation( new SrcAnnotationExpression( Override.class ) )
+      .name( "toString" )
+      .returns( String.class )
+      .body( body ) );
+  }
+
+  /**
+   * @return The qualified name of the box type if {@code type} is primitive, otherwise null
+   */
+  private static String getBoxName( String type )
+  {
+    switch( type )
+    {
+      case "boolean":
+        return "java.lang.Boolean";
+      case "byte":
+        return "java.lang.Byte";
+      case "char":
+        return "java.lang.Character";
+      case "short":
+        return "java.lang.Short";
+      case "int":
+        return "java.lang.Integer";
+      case "long":
+        return "java.lang.Long";
+      case "float":
+        return "java.lang.Float";
+      case "double":
+        return "java.lang.Double";
+      default:
+        return null;
+    }
+  }
+
   @Override
   public Collection<String> getAllTypeNames()
   {
@@ -18,6 +18,7 @@ package manifold.util;
 
 import java.io.IOException;
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.*;
@@ -60,6 +61,10 @@ public class ReflectUtil
   private static final ConcurrentWeakHashMap<Class, ConcurrentMap<String, Field>> _fieldsByName = new ConcurrentWeakHashMap<>();
   private static final ConcurrentWeakHashMap<Class, Set<Constructor>> _constructorsByClass = new ConcurrentWeakHashMap<>();
   private static final ConcurrentWeakHashMap<Method, ConcurrentMap<Class, Method>> _structuralCall = new ConcurrentWeakHashMap<>();
+  private static final ConcurrentWeakHashMap<Member, MethodHandle> _handles = new ConcurrentWeakHashMap<>();
+  private static final ConcurrentWeakHashMap<Member, MethodHandle> _invokers = new ConcurrentWeakHashMap<>();
+  private static final ConcurrentWeakHashMap<Field, MethodHandle> _setters = new ConcurrentWeakHashMap<>();
+  private static final ConcurrentWeakHashMap<Method, MethodHandle> _defaultInvokers = new ConcurrentWeakHashMap<>();
   private static final LocklessLazyVar<ClassContextSecurityManager> _sm = LocklessLazyVar.make( () -> new ClassContextSecurityManager() );
   private static final String LAMBDA_METHOD = "lambda method";
   private static final Object UNHANDLED = new Object() {};
@@ -552,14 +557,22 @@ public class ReflectUtil
     {
       fakeProxyStructuralArgs( method, args );
 
-      Class declaringInterface = method.getDeclaringClass();
-      //noinspection ConstantConditions
-      MethodHandles.Lookup lookup = (MethodHandles.Lookup)
-        constructor( MethodHandles.Lookup.class, Class.class ).newInstance( declaringInterface );
-      return lookup.in( declaringInterface )
-        .unreflectSpecial( method, declaringInterface )
-        .bindTo( receiver )
-        .invokeWithArguments( args );
+      // the special handle is made once per method, creating the Lookup and unreflecting per call is costly
+      MethodHandle invoker = _defaultInvokers.computeIfAbsent( method, m -> {
+        try
+        {
+          Class declaringInterface = m.getDeclaringClass();
+          //noinspection ConstantConditions
+          MethodHandles.Lookup lookup = (MethodHandles.Lookup)
+            constructor( MethodHandles.Lookup.class, Class.class ).newInstance( declaringInterface );
+          return spread( lookup.in( declaringInterface ).unreflectSpecial( m, declaringInterface ), m.getParameterCount() );
+        }
+        catch( IllegalAccessException e )
+        {
+          throw ManExceptionUtil.unchecked( e );
+        }
+      } );
+      return invoker.invokeWithArguments( receiver, args );
     }
     catch( Throwable t )
     {
@@ -917,6 +930,73 @@ public class ReflectUtil
     }
   }
 
+  /**
+   * Makes a {@link MethodHandle} for {@code member}, which must be accessible. The handle is made once and cached.
+   * Method and constructor handles have fixed arity, a field's handle is its getter.
+   */
+  private static MethodHandle handle( Member member )
+  {
+    return _handles.computeIfAbsent( member, m -> {
+      try
+      {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        if( m instanceof Method )
+        {
+          return lookup.unreflect( (Method)m ).asFixedArity();
+        }
+        if( m instanceof Constructor )
+        {
+          return lookup.unreflectConstructor( (Constructor<?>)m ).asFixedArity();
+        }
+        return lookup.unreflectGetter( (Field)m );
+      }
+      catch( IllegalAccessException e )
+      {
+        throw ManExceptionUtil.unchecked( e );
+      }
+    } );
+  }
+
+  /**
+   * Makes a spread adapter of the handle for {@code member} having type {@code (Object, Object[])Object} for methods
+   * and {@code (Object[])Object} for constructors. The receiver is ignored for static methods.
+   */
+  private static MethodHandle invoker( Member member )
+  {
+    return _invokers.computeIfAbsent( member, m -> {
+      MethodHandle handle = handle( m );
+      if( m instanceof Constructor )
+      {
+        return spread( handle, ((Constructor<?>)m).getParameterCount() );
+      }
+      if( Modifier.isStatic( m.getModifiers() ) )
+      {
+        handle = MethodHandles.dropArguments( handle, 0, Object.class );
+      }
+      return spread( handle, ((Method)m).getParameterCount() );
+    } );
+  }
+
+  private static MethodHandle spread( MethodHandle handle, int paramCount )
+  {
+    return handle.asType( handle.type().generic() ).asSpreader( Object[].class, paramCount );
+  }
+
+  private static MethodHandle setter( Field field )
+  {
+    return _setters.computeIfAbsent( field, f -> {
+      try
+      {
+        return MethodHandles.lookup().unreflectSetter( f );
+      }
+      catch( IllegalAccessException e )
+      {
+        // e.g., a static final field
+        throw ManExceptionUtil.unchecked( e );
+      }
+    } );
+  }
+
 // This class mirrors the layout/structure of the AccessibleObject class so we can get the offset of 'override'
   @SuppressWarnings( "unused" )
   static class FakeAccessibleObject
@@ -939,6 +1019,25 @@ public class ReflectUtil
       return _method;
     }
 
+    /**
+     * @return A cached, fixed arity {@link MethodHandle} to the method. Calling the handle directly avoids the overhead
+     * of {@link #invoke(Object, Object...)}. Note {@code MethodHandle#invokeExact()} is not available in Android before
+     * API level 26.
+     */
+    public MethodHandle getHandle()
+    {
+      return handle( _method );
+    }
+
+    /**
+     * @return A cached spread adapter of {@link #getHandle()} having type {@code (Object, Object[])Object}, suitable for
+     * {@code (Object)invoker.invokeExact(receiver, args)}. The receiver is ignored if the method is static.
+     */
+    public MethodHandle getInvoker()
+    {
+      return invoker( _method );
+    }
+
     public Object invoke( Object receiver, Object... args )
     {
       try
@@ -994,6 +1093,22 @@ public class ReflectUtil
       return _receiver;
     }
 
+    /**
+     * @see MethodRef#getHandle()
+     */
+    public MethodHandle getHandle()
+    {
+      return handle( _method );
+    }
+
+    /**
+     * @see MethodRef#getInvoker()
+     */
+    public MethodHandle getInvoker()
+    {
+      return invoker( _method );
+    }
+
     public Object invoke( Object... args )
     {
       try
@@ -1051,6 +1166,30 @@ public class ReflectUtil
       _field = f;
     }
 
+    public Field getField()
+    {
+      return _field;
+    }
+
+    /**
+     * @return A cached {@link MethodHandle} to get the field's value, having type {@code (Owner)Type} or {@code ()Type}
+     * if the field is static.
+     */
+    public MethodHandle getGetter()
+    {
+      return handle( _field );
+    }
+
+    /**
+     * @return A cached {@link MethodHandle} to set the field's value, having type {@code (Owner, Type)void} or
+     * {@code (Type)void} if the field is static. Throws an unchecked {@link IllegalAccessException} if the field is
+     * final, use {@link #set(Object, Object)} for final fields.
+     */
+    public MethodHandle getSetter()
+    {
+      return setter( _field );
+    }
+
     public Object get( Object receiver )
     {
       try
@@ -1190,6 +1329,23 @@ public class ReflectUtil
     {
       return _constructor;
     }
+
+    /**
+     * @return A cached, fixed arity {@link MethodHandle} to the constructor.
+     */
+    public MethodHandle getHandle()
+    {
+      return handle( _constructor );
+    }
+
+    /**
+     * @return A cached spread adapter of {@link #getHandle()} having type {@code (Object[])Object}, suitable for
+     * {@code invoker.invokeExact(args)}.
+     */
+    public MethodHandle getInvoker()
+    {
+      return invoker( _constructor );
+    }
   }
 
   private static MethodRef addMethodToCache( Class cls, Method m )
@@ -63,6 +63,63 @@ public class ReflectUtilTest extends TestCase
     assertEquals( "two", res );
   }
 
+  public void testMethodHandles() throws Throwable
+  {
+    // private members of a non-public class
+    Object obj = ReflectUtil.constructor( "manifold.util.testClasses.TestClass1" ).getInvoker().invoke( new Object[0] );
+    assertEquals( "manifold.util.testClasses.TestClass1", obj.getClass().getTypeName() );
+    ReflectUtil.MethodRef value = ReflectUtil.method( obj.getClass(), "value" );
+    assertEquals( "hi", (String)value.getHandle().invokeExact() );
+    assertEquals( "hi", (Object)value.getInvoker().invokeExact( (Object)null, new Object[0] ) );
+
+    ReflectUtil.LiveMethodRef callMe = ReflectUtil.method( new Foo(), "callMe", int.class );
+    assertSame( callMe.getInvoker(), ReflectUtil.method( Foo.class, "callMe", int.class ).getInvoker() );
+    assertEquals( "int", (Object)callMe.getInvoker().invokeExact( callMe.getReceiver(), new Object[]{5} ) );
+
+    ReflectUtil.FieldRef field = ReflectUtil.field( Bar.class, "_name" );
+    Bar bar = new Bar();
+    field.getSetter().invoke( bar, "bar" );
+    assertEquals( "bar", field.getGetter().invoke( bar ) );
+  }
+
+  public void testInvokeDefault()
+  {
+    IBaz baz = (IBaz)java.lang.reflect.Proxy.newProxyInstance( IBaz.class.getClassLoader(), new Class[]{IBaz.class},
+      ( proxy, method, args ) -> method.isDefault()
+        ? ReflectUtil.invokeDefault( proxy, method, args )
+        : "baz" );
+    for( int i = 0; i < 2; i++ )
+    {
+      assertEquals( "baz!", baz.shout() );
+      assertEquals( "baz!baz!", baz.repeat( 2 ) );
+    }
+  }
+
+  public interface IBaz
+  {
+    String name();
+
+    default String shout()
+    {
+      return name() + "!";
+    }
+
+    default String repeat( int times )
+    {
+      StringBuilder sb = new StringBuilder();
+      for( int i = 0; i < times; i++ )
+      {
+        sb.append( shout() );
+      }
+      return sb.toString();
+    }
+  }
+
+  static class Bar
+  {
+    private String _name;
+  }
+
   interface IFoo
   {
     String callMe( CharSequence p );